@@ -0,0 +1,79 @@
+package com.aegispulse.application.alert;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 전이 폭주 시 알림 payload 직렬화 비용 비교 벤치마크.
+ * typedWriter는 AlertPayloadWriter(레코드 + 사전 생성 ObjectWriter), mapBaseline은 전이마다 LinkedHashMap을 만들어
+ * ObjectMapper.writeValueAsString으로 직렬화하던 이전 구현을 한 평가 주기의 전이 수만큼 반복 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AlertPayloadSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int transitionCount;
+
+    private ObjectMapper objectMapper;
+    private AlertPayloadWriter alertPayloadWriter;
+    private String[] serviceIds;
+    private String evaluatedAt;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        alertPayloadWriter = new AlertPayloadWriter(objectMapper);
+        serviceIds = new String[transitionCount];
+        for (int index = 0; index < transitionCount; index++) {
+            serviceIds[index] = "svc_" + index;
+        }
+        evaluatedAt = Instant.parse("2026-02-27T02:00:00Z").toString();
+    }
+
+    @Benchmark
+    public void typedWriter(Blackhole blackhole) {
+        for (int index = 0; index < transitionCount; index++) {
+            blackhole.consume(alertPayloadWriter.write(new AlertPayloadWriter.RulePayload(
+                serviceIds[index],
+                "SERVICE_5XX_RATE_HIGH",
+                "5m",
+                2.0,
+                index * 0.01,
+                "OPEN",
+                10,
+                evaluatedAt
+            )));
+        }
+    }
+
+    @Benchmark
+    public void mapBaseline(Blackhole blackhole) throws JsonProcessingException {
+        for (int index = 0; index < transitionCount; index++) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("serviceId", serviceIds[index]);
+            payload.put("alertType", "SERVICE_5XX_RATE_HIGH");
+            payload.put("window", "5m");
+            payload.put("threshold", 2.0);
+            payload.put("observedValue", index * 0.01);
+            payload.put("transition", "OPEN");
+            payload.put("cooldownMinutes", 10L);
+            payload.put("evaluatedAt", evaluatedAt);
+            blackhole.consume(objectMapper.writeValueAsString(payload));
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.aegispulse.application.consumer.key;
+
+import com.aegispulse.application.consumer.key.command.AuthenticateConsumerKeyCommand;
+import com.aegispulse.domain.consumer.key.model.ConsumerKeyStatus;
+import com.aegispulse.domain.consumer.key.model.ManagedConsumerKey;
+import com.aegispulse.domain.consumer.key.repository.ManagedConsumerKeyRepository;
+import com.aegispulse.domain.consumer.model.ConsumerType;
+import com.aegispulse.domain.consumer.model.ManagedConsumer;
+import com.aegispulse.domain.consumer.repository.ManagedConsumerRepository;
+import com.aegispulse.domain.policy.model.PolicyBinding;
+import com.aegispulse.domain.policy.model.TemplateType;
+import com.aegispulse.domain.policy.repository.PolicyBindingRepository;
+import com.aegispulse.domain.service.model.ManagedService;
+import com.aegispulse.domain.service.model.ServiceEnvironment;
+import com.aegispulse.domain.service.model.ServiceStatus;
+import com.aegispulse.domain.service.repository.ManagedServiceRepository;
+import com.aegispulse.infra.security.Pbkdf2ApiKeyHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * API Key 인증 지연 비교 벤치마크.
+ * coldCache는 검증 캐시 ttl 0(매 요청 PBKDF2), warmCache는 검증 캐시 적중 상태의 인증 지연 분포(p50/p99)를 동시 요청 부하로 측정한다.
+ * 저장소는 고정 응답 구현이므로 측정값은 해시 실행기/캐시 비용만 반영한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(ConsumerKeyAuthenticationBenchmark.CONCURRENCY)
+public class ConsumerKeyAuthenticationBenchmark {
+
+    static final int CONCURRENCY = 8;
+
+    private static final String SERVICE_ID = "svc_01";
+    private static final String ROUTE_ID = "rte_01";
+    private static final String CONSUMER_ID = "csm_partner";
+    private static final String API_KEY = "ak_benchmark_plain_key";
+    private static final Instant CREATED_AT = Instant.parse("2026-02-20T12:00:00Z");
+
+    private ApiKeyHashingExecutor hashingExecutor;
+    private ConsumerKeyAuthenticationService coldService;
+    private ConsumerKeyAuthenticationService warmService;
+    private AuthenticateConsumerKeyCommand command;
+
+    @Setup
+    public void setUp() {
+        Pbkdf2ApiKeyHasher hasher = new Pbkdf2ApiKeyHasher();
+        String keyHash = hasher.hash(API_KEY);
+        // 측정 부하가 consumer 하나에 몰리므로 consumer별 동시 한도를 부하 동시성에 맞춘다.
+        ApiKeyHashingProperties hashingProperties = new ApiKeyHashingProperties();
+        hashingProperties.setPerConsumerConcurrency(CONCURRENCY);
+        hashingExecutor = new ApiKeyHashingExecutor(hasher, hashingProperties, new SimpleMeterRegistry());
+
+        ConsumerKeyCacheProperties coldProperties = new ConsumerKeyCacheProperties();
+        coldProperties.setTtl(Duration.ZERO);
+        coldService = newService(keyHash, coldProperties);
+        warmService = newService(keyHash, new ConsumerKeyCacheProperties());
+        command = AuthenticateConsumerKeyCommand.builder()
+            .serviceId(SERVICE_ID)
+            .routeId(ROUTE_ID)
+            .consumerId(CONSUMER_ID)
+            .apiKey(API_KEY)
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Benchmark
+    public Object coldCache() {
+        return coldService.authenticate(command);
+    }
+
+    @Benchmark
+    public Object warmCache() {
+        return warmService.authenticate(command);
+    }
+
+    private ConsumerKeyAuthenticationService newService(String keyHash, ConsumerKeyCacheProperties cacheProperties) {
+        return new ConsumerKeyAuthenticationService(
+            new FixedPolicyBindingRepository(),
+            new FixedConsumerRepository(),
+            new FixedConsumerKeyRepository(keyHash),
+            new FixedServiceRepository(),
+            hashingExecutor,
+            new ConsumerKeyVerificationCache(cacheProperties),
+            new ConsumerKeyFailureGuard(new ConsumerKeyFailureGuardProperties(), new SimpleMeterRegistry()),
+            new ConsumerAuthorizationSnapshotCache(new ConsumerAuthorizationSnapshotProperties())
+        );
+    }
+
+    private static final class FixedServiceRepository implements ManagedServiceRepository {
+
+        private final ManagedService service = ManagedService.restore(
+            SERVICE_ID,
+            "partner-payment-api",
+            "https://payment.internal",
+            ServiceEnvironment.PROD,
+            ServiceStatus.ACTIVE,
+            CREATED_AT,
+            CREATED_AT
+        );
+
+        @Override
+        public boolean existsById(String serviceId) {
+            return SERVICE_ID.equals(serviceId);
+        }
+
+        @Override
+        public boolean existsByEnvironmentAndName(ServiceEnvironment environment, String name) {
+            return false;
+        }
+
+        @Override
+        public Optional<ManagedService> findById(String serviceId) {
+            return SERVICE_ID.equals(serviceId) ? Optional.of(service) : Optional.empty();
+        }
+
+        @Override
+        public ManagedService save(ManagedService managedService) {
+            return managedService;
+        }
+
+        @Override
+        public List<ManagedService> saveAll(List<ManagedService> services) {
+            return services;
+        }
+
+        @Override
+        public List<ManagedService> findAll() {
+            return List.of(service);
+        }
+
+        @Override
+        public List<ManagedService> findAllByIds(List<String> serviceIds) {
+            return serviceIds.contains(SERVICE_ID) ? List.of(service) : List.of();
+        }
+    }
+
+    private static final class FixedPolicyBindingRepository implements PolicyBindingRepository {
+
+        private final PolicyBinding binding = PolicyBinding.restore(
+            "plb_01",
+            SERVICE_ID,
+            ROUTE_ID,
+            TemplateType.PARTNER,
+            "{\"templateType\":\"PARTNER\"}",
+            1,
+            CREATED_AT
+        );
+
+        @Override
+        public PolicyBinding save(PolicyBinding policyBinding) {
+            return policyBinding;
+        }
+
+        @Override
+        public Optional<PolicyBinding> findLatest(String serviceId, String routeId) {
+            return Optional.of(binding);
+        }
+    }
+
+    private static final class FixedConsumerRepository implements ManagedConsumerRepository {
+
+        private final ManagedConsumer consumer = ManagedConsumer.newConsumer(
+            CONSUMER_ID,
+            "partner-client-a",
+            ConsumerType.PARTNER
+        );
+
+        @Override
+        public Optional<ManagedConsumer> findById(String consumerId) {
+            return CONSUMER_ID.equals(consumerId) ? Optional.of(consumer) : Optional.empty();
+        }
+
+        @Override
+        public boolean existsByName(String name) {
+            return false;
+        }
+
+        @Override
+        public ManagedConsumer save(ManagedConsumer managedConsumer) {
+            return managedConsumer;
+        }
+    }
+
+    private static final class FixedConsumerKeyRepository implements ManagedConsumerKeyRepository {
+
+        private final ManagedConsumerKey key;
+
+        private FixedConsumerKeyRepository(String keyHash) {
+            this.key = ManagedConsumerKey.restore("key_01", CONSUMER_ID, keyHash, ConsumerKeyStatus.ACTIVE, CREATED_AT, null);
+        }
+
+        @Override
+        public List<ManagedConsumerKey> findAllByConsumerIdAndStatus(String consumerId, ConsumerKeyStatus status) {
+            return status == ConsumerKeyStatus.ACTIVE ? List.of(key) : List.of();
+        }
+
+        @Override
+        public Optional<ManagedConsumerKey> findById(String keyId) {
+            return key.getId().equals(keyId) ? Optional.of(key) : Optional.empty();
+        }
+
+        @Override
+        public ManagedConsumerKey save(ManagedConsumerKey consumerKey) {
+            return consumerKey;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.aegispulse.application.metric;
+
+import com.aegispulse.application.metric.result.QueryServiceMetricsResult;
+import com.aegispulse.domain.metric.model.MetricPoint;
+import com.aegispulse.domain.metric.model.MetricQueryView;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 조회 집계 비용 비교 벤치마크.
+ * singlePass는 MetricAggregationEngine 한 번 순회, topRoutesOnly는 라우트별 결과 생성을 생략한 순위표 조회, streamBaseline은 축 분리/groupingBy 후 그룹별 스트림 다중 순회(이전 구현)를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MetricAggregationBenchmark {
+
+    private static final String SERVICE_ID = "svc_bench";
+    private static final int ROUTE_COUNT = 50;
+    private static final int CONSUMER_COUNT = 50;
+
+    @Param({"10000", "100000"})
+    private int pointCount;
+
+    private List<MetricPoint> points;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        Instant windowStart = Instant.parse("2026-02-27T00:00:00Z");
+        points = new ArrayList<>(pointCount);
+        for (int index = 0; index < pointCount; index++) {
+            // 서비스/라우트/consumer 축을 1:2:1 비율로 섞는다.
+            int axis = index % 4;
+            String routeId = axis == 1 || axis == 2 ? "rte_" + random.nextInt(ROUTE_COUNT) : null;
+            String consumerId = axis == 3 ? "csm_" + random.nextInt(CONSUMER_COUNT) : null;
+            points.add(MetricPoint.newPoint(
+                SERVICE_ID,
+                routeId,
+                consumerId,
+                windowStart.plusSeconds(60L * (index / 4)),
+                random.nextDouble(0, 500),
+                random.nextDouble(5, 80),
+                random.nextDouble(80, 900),
+                random.nextDouble(0, 3),
+                random.nextDouble(0, 2)
+            ));
+        }
+    }
+
+    @Benchmark
+    public QueryServiceMetricsResult singlePass() {
+        MetricAggregationEngine engine = new MetricAggregationEngine();
+        for (MetricPoint point : points) {
+            engine.add(point);
+        }
+        return engine.toResult(SERVICE_ID, "24h", 5, MetricQueryView.FULL);
+    }
+
+    @Benchmark
+    public QueryServiceMetricsResult topRoutesOnly() {
+        MetricAggregationEngine engine = new MetricAggregationEngine();
+        for (MetricPoint point : points) {
+            engine.add(point);
+        }
+        return engine.toResult(SERVICE_ID, "24h", 5, MetricQueryView.TOP_ROUTES);
+    }
+
+    @Benchmark
+    public void streamBaseline(Blackhole blackhole) {
+        List<MetricPoint> serviceAxis = points.stream()
+            .filter(point -> point.getRouteId() == null && point.getConsumerId() == null)
+            .toList();
+        List<MetricPoint> routeAxis = points.stream()
+            .filter(point -> point.getRouteId() != null && point.getConsumerId() == null)
+            .toList();
+        List<MetricPoint> consumerAxis = points.stream()
+            .filter(point -> point.getRouteId() == null && point.getConsumerId() != null)
+            .toList();
+
+        blackhole.consume(aggregate(serviceAxis.isEmpty() ? routeAxis : serviceAxis));
+        Map<String, List<MetricPoint>> routes = routeAxis.stream().collect(Collectors.groupingBy(MetricPoint::getRouteId));
+        List<double[]> routeMetrics = routes.values().stream().map(this::aggregate).toList();
+        blackhole.consume(routeMetrics.stream()
+            .sorted(Comparator.comparingDouble((double[] metrics) -> metrics[0]).reversed())
+            .limit(5)
+            .toList());
+        consumerAxis.stream()
+            .collect(Collectors.groupingBy(MetricPoint::getConsumerId))
+            .values()
+            .forEach(group -> blackhole.consume(aggregate(group)));
+    }
+
+    private double[] aggregate(List<MetricPoint> group) {
+        return new double[] {
+            group.stream().mapToDouble(MetricPoint::getRps).average().orElse(0),
+            weightedAverage(group, MetricPoint::getStatus4xxRate),
+            weightedAverage(group, MetricPoint::getStatus5xxRate),
+            weightedAverage(group, MetricPoint::getLatencyP50),
+            weightedAverage(group, MetricPoint::getLatencyP95)
+        };
+    }
+
+    private double weightedAverage(List<MetricPoint> group, ToDoubleFunction<MetricPoint> extractor) {
+        double totalWeight = group.stream().mapToDouble(MetricPoint::getRps).sum();
+        if (totalWeight <= 0) {
+            return group.stream().mapToDouble(extractor).average().orElse(0);
+        }
+        return group.stream().mapToDouble(point -> extractor.applyAsDouble(point) * point.getRps()).sum() / totalWeight;
+    }
+}
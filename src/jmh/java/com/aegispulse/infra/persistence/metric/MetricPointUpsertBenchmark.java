@@ -0,0 +1,132 @@
+package com.aegispulse.infra.persistence.metric;
+
+import com.aegispulse.domain.metric.model.MetricPoint;
+import com.aegispulse.domain.metric.repository.MetricPointRepository;
+import com.aegispulse.infra.persistence.metric.entity.MetricPointJpaEntity;
+import com.aegispulse.infra.persistence.metric.repository.MetricPointJpaRepository;
+import com.aegispulse.infra.persistence.metric.repository.MetricPointRepositoryAdapter;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메트릭 upsert 처리량 비교 벤치마크.
+ * legacyUpsert는 행 단위 조회/저장(이전 방식), bulkUpsert는 선조회 + 배치 반영(현재 방식)으로
+ * 신규 insert 1회 + 동일 키 갱신 1회를 한 라운드로 측정한다. 저장소는 application.yml의 H2/JDBC 배치 설정을 그대로 쓴다.
+ * 라운드마다 새 서비스 ID로 행이 쌓이므로 반복 횟수가 고정되는 SingleShotTime으로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MetricPointUpsertBenchmark {
+
+    private static final Instant BASE_WINDOW = Instant.parse("2026-02-27T00:00:00Z");
+    private static final int ROUTES_PER_SERVICE = 50;
+
+    @Param({"100", "1000", "10000"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private MetricPointRepository metricPointRepository;
+    private MetricPointJpaRepository metricPointJpaRepository;
+    private TransactionTemplate transactionTemplate;
+    private int round;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(UpsertBenchmarkContext.class)
+            .web(WebApplicationType.NONE)
+            .run();
+        metricPointRepository = context.getBean(MetricPointRepository.class);
+        metricPointJpaRepository = context.getBean(MetricPointJpaRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void legacyUpsert() {
+        List<MetricPoint> batch = generateBatch("svc_legacy_" + batchSize + "_" + round++);
+        legacyUpsert(batch);
+        legacyUpsert(batch);
+    }
+
+    @Benchmark
+    public void bulkUpsert() {
+        List<MetricPoint> batch = generateBatch("svc_bulk_" + batchSize + "_" + round++);
+        metricPointRepository.upsertAll(batch);
+        metricPointRepository.upsertAll(batch);
+    }
+
+    /**
+     * 변경 전 어댑터 구현(포인트당 SELECT 1회 + save 1회)을 그대로 재현한다.
+     */
+    private void legacyUpsert(List<MetricPoint> points) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (MetricPoint point : points) {
+                String routeId = point.getRouteId() == null ? "" : point.getRouteId();
+                MetricPointJpaEntity entity = metricPointJpaRepository
+                    .findByServiceIdAndRouteIdAndConsumerIdAndWindowStart(
+                        point.getServiceId(),
+                        routeId,
+                        "",
+                        point.getWindowStart()
+                    )
+                    .orElseGet(() -> MetricPointJpaEntity.fromDomain(point));
+                entity.setRps(point.getRps());
+                entity.setLatencyP50(point.getLatencyP50());
+                entity.setLatencyP95(point.getLatencyP95());
+                entity.setStatus4xxRate(point.getStatus4xxRate());
+                entity.setStatus5xxRate(point.getStatus5xxRate());
+                metricPointJpaRepository.save(entity);
+            }
+        });
+    }
+
+    private List<MetricPoint> generateBatch(String servicePrefix) {
+        List<MetricPoint> points = new ArrayList<>(batchSize);
+        for (int index = 0; index < batchSize; index++) {
+            // Collector 배치와 같이 서비스 몇 개 x 라우트 축 x 분 단위 윈도우 조합으로 구성한다.
+            String serviceId = servicePrefix + "_" + (index % 4);
+            String routeId = "rte_" + (index / 4 % ROUTES_PER_SERVICE);
+            Instant windowStart = BASE_WINDOW.plus(index / (4 * ROUTES_PER_SERVICE), ChronoUnit.MINUTES);
+            points.add(MetricPoint.newPoint(serviceId, routeId, null, windowStart, 10 + index % 7, 40, 120, 0.2, 0.1));
+        }
+        return points;
+    }
+
+    /**
+     * 메트릭 JPA 저장소와 어댑터만 올리는 최소 컨텍스트. 스케줄러/웹 등 애플리케이션 빈은 등록하지 않는다.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = MetricPointJpaEntity.class)
+    @EnableJpaRepositories(basePackageClasses = MetricPointJpaRepository.class)
+    @Import(MetricPointRepositoryAdapter.class)
+    static class UpsertBenchmarkContext {
+    }
+}
@@ -152,6 +152,7 @@ public class GlobalExceptionHandler {
             case FORBIDDEN -> ErrorCode.FORBIDDEN.getCode();
             case NOT_FOUND -> ErrorCode.RESOURCE_NOT_FOUND.getCode();
             case CONFLICT -> ErrorCode.CONFLICT.getCode();
+            case TOO_MANY_REQUESTS -> ErrorCode.TOO_MANY_REQUESTS.getCode();
             case INTERNAL_SERVER_ERROR -> ErrorCode.INTERNAL_SERVER_ERROR.getCode();
             default -> status.name();
         };
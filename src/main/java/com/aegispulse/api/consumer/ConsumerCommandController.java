@@ -106,6 +106,7 @@ public class ConsumerCommandController {
                 .routeId(normalizeOptionalId(request.getRouteId()))
                 .consumerId(request.getConsumerId().trim())
                 .apiKey(apiKey.trim())
+                .clientIp(httpServletRequest.getRemoteAddr())
                 .build()
         );
         AuthenticateConsumerKeyResponse response = AuthenticateConsumerKeyResponse.builder()
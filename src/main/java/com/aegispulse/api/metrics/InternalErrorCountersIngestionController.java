@@ -0,0 +1,72 @@
+package com.aegispulse.api.metrics;
+
+import com.aegispulse.api.common.response.ApiResponse;
+import com.aegispulse.api.metrics.dto.IngestErrorCounterRequest;
+import com.aegispulse.api.metrics.dto.IngestErrorCountersRequest;
+import com.aegispulse.api.metrics.dto.IngestErrorCountersResponse;
+import com.aegispulse.application.alert.IsolationFastTripUseCase;
+import com.aegispulse.application.alert.command.ErrorCounterItem;
+import com.aegispulse.application.alert.command.RecordErrorCountersCommand;
+import com.aegispulse.application.alert.result.RecordErrorCountersResult;
+import com.aegispulse.infra.web.trace.TraceIdSupport;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 게이트웨이 오류 카운터 입력 컨트롤러.
+ * 10초 단위 요청/5xx 카운트를 받아 분 단위 집계를 기다리지 않고 격리 발동 여부를 판정한다.
+ */
+@RestController
+@RequestMapping("/api/v1/internal/metrics/error-counters:batch")
+@RequiredArgsConstructor
+public class InternalErrorCountersIngestionController {
+
+    private final IsolationFastTripUseCase isolationFastTripUseCase;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<IngestErrorCountersResponse>> ingest(
+        @Valid @RequestBody IngestErrorCountersRequest request,
+        HttpServletRequest httpServletRequest
+    ) {
+        List<ErrorCounterItem> items = request.getCounters().stream()
+            .map(this::toCommandItem)
+            .toList();
+        RecordErrorCountersResult result = isolationFastTripUseCase.record(
+            RecordErrorCountersCommand.builder()
+                .counters(items)
+                .build()
+        );
+
+        IngestErrorCountersResponse response = IngestErrorCountersResponse.builder()
+            .acceptedCount(result.getAcceptedCount())
+            .isolatedServiceIds(result.getIsolatedServiceIds())
+            .build();
+        return ResponseEntity.ok(ApiResponse.success(response, resolveTraceId(httpServletRequest)));
+    }
+
+    private ErrorCounterItem toCommandItem(IngestErrorCounterRequest counter) {
+        return ErrorCounterItem.builder()
+            .serviceId(counter.getServiceId().trim())
+            .windowStart(counter.getWindowStart())
+            .requestCount(counter.getRequestCount())
+            .status5xxCount(counter.getStatus5xxCount())
+            .build();
+    }
+
+    private String resolveTraceId(HttpServletRequest request) {
+        // 필터 체인이 비정상 동작해도 응답 traceId를 보장해 파이프라인 추적성을 유지한다.
+        Object traceIdAttribute = request.getAttribute(TraceIdSupport.TRACE_ID_ATTRIBUTE);
+        if (traceIdAttribute instanceof String traceId && StringUtils.hasText(traceId)) {
+            return traceId;
+        }
+        return TraceIdSupport.generate();
+    }
+}
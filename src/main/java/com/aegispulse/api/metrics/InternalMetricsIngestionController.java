@@ -13,6 +13,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -47,8 +48,11 @@ public class InternalMetricsIngestionController {
 
         IngestMetricPointsResponse response = IngestMetricPointsResponse.builder()
             .ingestedCount(result.getIngestedCount())
+            .deduplicatedCount(result.getDeduplicatedCount())
             .build();
-        return ResponseEntity.ok(ApiResponse.success(response, resolveTraceId(httpServletRequest)));
+        // 비동기 버퍼에 적재 예약된 경우 저장 완료가 아니므로 202 Accepted로 구분한다.
+        HttpStatus status = result.isQueued() ? HttpStatus.ACCEPTED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(ApiResponse.success(response, resolveTraceId(httpServletRequest)));
     }
 
     private MetricPointIngestItem toCommandItem(IngestMetricPointRequest point) {
@@ -62,6 +66,7 @@ public class InternalMetricsIngestionController {
             .latencyP95(point.getLatencyP95())
             .status4xxRate(point.getStatus4xxRate())
             .status5xxRate(point.getStatus5xxRate())
+            .latencySketch(point.getLatencySketch())
             .build();
     }
 
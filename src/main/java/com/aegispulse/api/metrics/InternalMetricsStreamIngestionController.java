@@ -0,0 +1,80 @@
+package com.aegispulse.api.metrics;
+
+import com.aegispulse.api.common.response.ApiResponse;
+import com.aegispulse.api.metrics.dto.IngestMetricPointsResponse;
+import com.aegispulse.api.metrics.stream.BinaryMetricPointSource;
+import com.aegispulse.api.metrics.stream.NdjsonMetricPointSource;
+import com.aegispulse.application.metric.MetricIngestionUseCase;
+import com.aegispulse.application.metric.MetricPointIngestSource;
+import com.aegispulse.application.metric.result.IngestMetricPointsResult;
+import com.aegispulse.infra.web.trace.TraceIdSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 대용량 메트릭 배치 스트리밍 수집 컨트롤러.
+ * 요청 본문을 DTO로 역직렬화하지 않고 파서가 점진적으로 읽어 청크 단위로 적재하므로 배치 크기와 무관하게 힙 사용량이 일정하다.
+ * 청크마다 독립 커밋되므로 중간 포인트 오류로 400이 반환되어도 앞선 청크는 반영되며, 재전송해도 upsert로 멱등하다.
+ */
+@RestController
+@RequestMapping("/api/v1/internal/metrics/points:stream")
+@RequiredArgsConstructor
+public class InternalMetricsStreamIngestionController {
+
+    public static final String BINARY_MEDIA_TYPE = "application/vnd.aegispulse.metric-points+binary";
+
+    private final MetricIngestionUseCase metricIngestionUseCase;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ApiResponse<IngestMetricPointsResponse>> ingestNdjson(
+        HttpServletRequest httpServletRequest
+    ) throws IOException {
+        try (InputStream inputStream = httpServletRequest.getInputStream()) {
+            return ingest(new NdjsonMetricPointSource(objectMapper.getFactory(), inputStream), httpServletRequest);
+        }
+    }
+
+    @PostMapping(consumes = BINARY_MEDIA_TYPE)
+    public ResponseEntity<ApiResponse<IngestMetricPointsResponse>> ingestBinary(
+        HttpServletRequest httpServletRequest
+    ) throws IOException {
+        try (InputStream inputStream = httpServletRequest.getInputStream()) {
+            return ingest(new BinaryMetricPointSource(inputStream), httpServletRequest);
+        }
+    }
+
+    private ResponseEntity<ApiResponse<IngestMetricPointsResponse>> ingest(
+        MetricPointIngestSource source,
+        HttpServletRequest httpServletRequest
+    ) {
+        IngestMetricPointsResult result = metricIngestionUseCase.ingestStream(source);
+
+        IngestMetricPointsResponse response = IngestMetricPointsResponse.builder()
+            .ingestedCount(result.getIngestedCount())
+            .deduplicatedCount(result.getDeduplicatedCount())
+            .build();
+        // 비동기 버퍼에 적재 예약된 경우 저장 완료가 아니므로 202 Accepted로 구분한다.
+        HttpStatus status = result.isQueued() ? HttpStatus.ACCEPTED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(ApiResponse.success(response, resolveTraceId(httpServletRequest)));
+    }
+
+    private String resolveTraceId(HttpServletRequest request) {
+        // 필터 체인이 비정상 동작해도 응답 traceId를 보장해 파이프라인 추적성을 유지한다.
+        Object traceIdAttribute = request.getAttribute(TraceIdSupport.TRACE_ID_ATTRIBUTE);
+        if (traceIdAttribute instanceof String traceId && StringUtils.hasText(traceId)) {
+            return traceId;
+        }
+        return TraceIdSupport.generate();
+    }
+}
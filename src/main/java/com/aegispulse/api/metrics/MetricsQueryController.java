@@ -15,6 +15,7 @@ import com.aegispulse.application.metric.result.MetricAggregateResult;
 import com.aegispulse.application.metric.result.QueryServiceMetricsResult;
 import com.aegispulse.application.metric.result.RouteMetricResult;
 import com.aegispulse.application.metric.result.TopRouteMetricResult;
+import com.aegispulse.domain.metric.model.MetricQueryView;
 import com.aegispulse.domain.metric.model.MetricWindow;
 import com.aegispulse.infra.web.trace.TraceIdSupport;
 import jakarta.servlet.http.HttpServletRequest;
@@ -36,23 +37,34 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MetricsQueryController {
 
+    private static final int MAX_TOP_K = 100;
+
     private final MetricQueryUseCase metricQueryUseCase;
 
     @GetMapping("/{serviceId}")
     public ResponseEntity<ApiResponse<QueryServiceMetricsResponse>> getServiceMetrics(
         @PathVariable String serviceId,
         @RequestParam(required = false) String window,
+        @RequestParam(required = false) Integer topK,
+        @RequestParam(required = false) String view,
         HttpServletRequest httpServletRequest
     ) {
         if (!StringUtils.hasText(serviceId)) {
             throw new AegisPulseException(ErrorCode.INVALID_REQUEST, "serviceId는 필수입니다.");
         }
 
+        if (topK != null && (topK < 1 || topK > MAX_TOP_K)) {
+            throw new AegisPulseException(ErrorCode.INVALID_REQUEST, "topK는 1 이상 " + MAX_TOP_K + " 이하여야 합니다.");
+        }
+
         MetricWindow metricWindow = MetricWindow.fromQuery(window);
+        MetricQueryView metricQueryView = MetricQueryView.fromQuery(view);
         QueryServiceMetricsResult result = metricQueryUseCase.queryServiceMetrics(
             QueryServiceMetricsCommand.builder()
                 .serviceId(serviceId.trim())
                 .window(metricWindow)
+                .topK(topK)
+                .view(metricQueryView)
                 .build()
         );
 
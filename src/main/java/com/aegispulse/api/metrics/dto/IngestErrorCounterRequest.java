@@ -0,0 +1,30 @@
+package com.aegispulse.api.metrics.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 서비스 하나의 10초 구간 오류 카운터 입력 DTO.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class IngestErrorCounterRequest {
+
+    @NotBlank(message = "serviceId는 필수입니다.")
+    private String serviceId;
+
+    @NotNull(message = "windowStart는 필수입니다.")
+    private Instant windowStart;
+
+    @PositiveOrZero(message = "requestCount는 0 이상이어야 합니다.")
+    private long requestCount;
+
+    @PositiveOrZero(message = "status5xxCount는 0 이상이어야 합니다.")
+    private long status5xxCount;
+}
@@ -0,0 +1,20 @@
+package com.aegispulse.api.metrics.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 게이트웨이 오류 카운터 배치 입력 DTO.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class IngestErrorCountersRequest {
+
+    @NotEmpty(message = "counters는 최소 1개 이상이어야 합니다.")
+    private List<@Valid IngestErrorCounterRequest> counters;
+}
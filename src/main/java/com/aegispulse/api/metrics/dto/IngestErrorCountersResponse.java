@@ -0,0 +1,16 @@
+package com.aegispulse.api.metrics.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 게이트웨이 오류 카운터 수집 응답 DTO.
+ */
+@Getter
+@Builder
+public class IngestErrorCountersResponse {
+
+    private final int acceptedCount;
+    private final List<String> isolatedServiceIds;
+}
@@ -40,4 +40,9 @@ public class IngestMetricPointRequest {
 
     @PositiveOrZero(message = "status5xxRate는 0 이상이어야 합니다.")
     private double status5xxRate;
+
+    /**
+     * 선택 입력. 지연 분포 스케치 인코딩 바이트이며 JSON에서는 base64 문자열로 전달한다.
+     */
+    private byte[] latencySketch;
 }
@@ -11,4 +11,5 @@ import lombok.Getter;
 public class IngestMetricPointsResponse {
 
     private final int ingestedCount;
+    private final int deduplicatedCount;
 }
@@ -0,0 +1,136 @@
+package com.aegispulse.api.metrics.stream;
+
+import com.aegispulse.api.common.exception.AegisPulseException;
+import com.aegispulse.api.common.exception.ErrorCode;
+import com.aegispulse.application.metric.MetricPointIngestSource;
+import com.aegispulse.application.metric.command.MetricPointIngestItem;
+import com.aegispulse.domain.metric.model.LatencySketch;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * 길이 접두 바이너리 본문을 한 레코드씩 읽는 소스.
+ *
+ * <pre>
+ * record := length:int32 body[length]
+ * body   := serviceId:str routeId:str consumerId:str windowStartEpochMillis:int64
+ *           rps:float64 latencyP50:float64 latencyP95:float64 status4xxRate:float64 status5xxRate:float64
+ *           [latencySketch:bytes]
+ * str    := byteLength:uint16 utf8[byteLength]   (byteLength 0은 미설정)
+ * bytes  := byteLength:uint16 raw[byteLength]
+ * </pre>
+ * latencySketch는 선택 필드로, 레코드 본문이 status5xxRate에서 끝나면 스케치 없이 처리한다.
+ * 레코드 길이 상한은 식별자/고정 필드 4KiB에 JSON/NDJSON 본문과 같은 스케치 상한({@link LatencySketch#MAX_ENCODED_BYTES})을 더한 값이다.
+ * 모든 정수/실수는 big-endian이며, 레코드 본문은 재사용 버퍼 하나로 읽어 포인트당 버퍼 할당이 없다.
+ */
+public class BinaryMetricPointSource implements MetricPointIngestSource {
+
+    // 식별자 3개와 고정 필드에 허용하는 크기. 스케치는 형식과 무관하게 같은 상한을 따로 허용한다.
+    private static final int MAX_FIELD_BYTES = 4 * 1024;
+    public static final int MAX_RECORD_BYTES = MAX_FIELD_BYTES + Short.BYTES + LatencySketch.MAX_ENCODED_BYTES;
+
+    private final InputStream inputStream;
+    private final byte[] recordBuffer = new byte[MAX_RECORD_BYTES];
+    private final ByteBuffer record = ByteBuffer.wrap(recordBuffer);
+    private int pointIndex;
+
+    public BinaryMetricPointSource(InputStream inputStream) {
+        this.inputStream = inputStream;
+    }
+
+    @Override
+    public MetricPointIngestItem next() {
+        try {
+            int first = inputStream.read();
+            if (first < 0) {
+                return null;
+            }
+            pointIndex++;
+            int length = (first << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+            if (length <= 0 || length > MAX_RECORD_BYTES) {
+                throw invalid("레코드 길이가 허용 범위를 벗어났습니다. length=" + length);
+            }
+            readFully(length);
+            record.clear().limit(length);
+            return readPoint();
+        } catch (EOFException | BufferUnderflowException exception) {
+            throw invalid("레코드가 선언된 길이보다 짧습니다.");
+        } catch (IOException exception) {
+            throw invalid("바이너리 본문을 읽을 수 없습니다.");
+        }
+    }
+
+    private MetricPointIngestItem readPoint() {
+        StreamedMetricPointBuilder point = new StreamedMetricPointBuilder(pointIndex)
+            .serviceId(readString())
+            .routeId(readString())
+            .consumerId(readString())
+            .windowStart(Instant.ofEpochMilli(record.getLong()))
+            .rps(record.getDouble())
+            .latencyP50(record.getDouble())
+            .latencyP95(record.getDouble())
+            .status4xxRate(record.getDouble())
+            .status5xxRate(record.getDouble());
+        if (record.hasRemaining()) {
+            point.latencySketch(readBytes());
+        }
+        if (record.hasRemaining()) {
+            throw invalid("레코드 길이와 본문 크기가 일치하지 않습니다.");
+        }
+        return point.build();
+    }
+
+    private String readString() {
+        int byteLength = Short.toUnsignedInt(record.getShort());
+        if (byteLength == 0) {
+            return null;
+        }
+        if (byteLength > record.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(recordBuffer, record.position(), byteLength, StandardCharsets.UTF_8);
+        record.position(record.position() + byteLength);
+        return value;
+    }
+
+    private byte[] readBytes() {
+        int byteLength = Short.toUnsignedInt(record.getShort());
+        if (byteLength == 0) {
+            return null;
+        }
+        if (byteLength > record.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] value = new byte[byteLength];
+        record.get(value);
+        return value;
+    }
+
+    private int readByte() throws IOException {
+        int value = inputStream.read();
+        if (value < 0) {
+            throw new EOFException();
+        }
+        return value;
+    }
+
+    private void readFully(int length) throws IOException {
+        int offset = 0;
+        while (offset < length) {
+            int read = inputStream.read(recordBuffer, offset, length - offset);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            offset += read;
+        }
+    }
+
+    private AegisPulseException invalid(String reason) {
+        return new AegisPulseException(ErrorCode.INVALID_REQUEST, pointIndex + "번째 레코드: " + reason);
+    }
+}
@@ -0,0 +1,120 @@
+package com.aegispulse.api.metrics.stream;
+
+import com.aegispulse.api.common.exception.AegisPulseException;
+import com.aegispulse.api.common.exception.ErrorCode;
+import com.aegispulse.application.metric.MetricPointIngestSource;
+import com.aegispulse.application.metric.command.MetricPointIngestItem;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 줄 단위 JSON(NDJSON) 본문을 Jackson 스트리밍 파서로 한 포인트씩 읽는 소스.
+ * 트리/DTO 바인딩 없이 토큰을 직접 읽으므로 본문 크기와 무관하게 현재 포인트만 메모리에 유지한다.
+ */
+public class NdjsonMetricPointSource implements MetricPointIngestSource {
+
+    private final JsonParser parser;
+    private int pointIndex;
+
+    public NdjsonMetricPointSource(JsonFactory jsonFactory, InputStream inputStream) {
+        try {
+            this.parser = jsonFactory.createParser(inputStream);
+        } catch (IOException exception) {
+            throw new AegisPulseException(ErrorCode.INVALID_REQUEST, "NDJSON 본문을 읽을 수 없습니다.");
+        }
+    }
+
+    @Override
+    public MetricPointIngestItem next() {
+        try {
+            // 루트 값 사이의 줄바꿈은 공백으로 처리되므로 다음 루트 객체 시작 토큰만 확인하면 된다.
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return null;
+            }
+            pointIndex++;
+            if (token != JsonToken.START_OBJECT) {
+                throw invalid("JSON 객체가 아닙니다.");
+            }
+            return readPoint();
+        } catch (IOException exception) {
+            throw invalid("JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private MetricPointIngestItem readPoint() throws IOException {
+        StreamedMetricPointBuilder point = new StreamedMetricPointBuilder(pointIndex);
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            JsonToken valueToken = parser.nextToken();
+            switch (fieldName) {
+                case "serviceId" -> point.serviceId(readText(valueToken));
+                case "routeId" -> point.routeId(readText(valueToken));
+                case "consumerId" -> point.consumerId(readText(valueToken));
+                case "windowStart" -> point.windowStart(readInstant(valueToken));
+                case "rps" -> point.rps(readDouble(valueToken, fieldName));
+                case "latencyP50" -> point.latencyP50(readDouble(valueToken, fieldName));
+                case "latencyP95" -> point.latencyP95(readDouble(valueToken, fieldName));
+                case "status4xxRate" -> point.status4xxRate(readDouble(valueToken, fieldName));
+                case "status5xxRate" -> point.status5xxRate(readDouble(valueToken, fieldName));
+                case "latencySketch" -> point.latencySketch(readBinary(valueToken));
+                // 알 수 없는 필드는 하위 구조까지 건너뛰어 Collector 스키마 확장과 호환한다.
+                default -> parser.skipChildren();
+            }
+        }
+        return point.build();
+    }
+
+    private String readText(JsonToken valueToken) throws IOException {
+        if (valueToken == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (valueToken != JsonToken.VALUE_STRING) {
+            throw invalid("문자열 필드 형식이 올바르지 않습니다.");
+        }
+        return parser.getText();
+    }
+
+    private byte[] readBinary(JsonToken valueToken) throws IOException {
+        if (valueToken == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (valueToken != JsonToken.VALUE_STRING) {
+            throw invalid("latencySketch는 base64 문자열이어야 합니다.");
+        }
+        try {
+            return parser.getBinaryValue();
+        } catch (JsonParseException | IllegalArgumentException exception) {
+            throw invalid("latencySketch는 base64 문자열이어야 합니다.");
+        }
+    }
+
+    private Instant readInstant(JsonToken valueToken) throws IOException {
+        String text = readText(valueToken);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(text);
+        } catch (DateTimeParseException exception) {
+            throw invalid("windowStart 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private double readDouble(JsonToken valueToken, String fieldName) throws IOException {
+        if (valueToken != JsonToken.VALUE_NUMBER_INT && valueToken != JsonToken.VALUE_NUMBER_FLOAT) {
+            throw invalid(fieldName + "는 숫자여야 합니다.");
+        }
+        return parser.getDoubleValue();
+    }
+
+    private AegisPulseException invalid(String reason) {
+        return new AegisPulseException(ErrorCode.INVALID_REQUEST, pointIndex + "번째 포인트: " + reason);
+    }
+}
@@ -0,0 +1,120 @@
+package com.aegispulse.api.metrics.stream;
+
+import com.aegispulse.api.common.exception.AegisPulseException;
+import com.aegispulse.api.common.exception.ErrorCode;
+import com.aegispulse.application.metric.command.MetricPointIngestItem;
+import java.time.Instant;
+import org.springframework.util.StringUtils;
+
+/**
+ * 스트리밍 파서가 읽은 필드를 모아 MetricPointIngestItem으로 만든다.
+ * Bean Validation을 거치지 않는 스트리밍 경로에서도 배치 API(IngestMetricPointRequest)와 같은 입력 규칙을 적용한다.
+ */
+final class StreamedMetricPointBuilder {
+
+    private final int pointIndex;
+    private String serviceId;
+    private String routeId;
+    private String consumerId;
+    private Instant windowStart;
+    private double rps;
+    private double latencyP50;
+    private double latencyP95;
+    private double status4xxRate;
+    private double status5xxRate;
+    private byte[] latencySketch;
+
+    StreamedMetricPointBuilder(int pointIndex) {
+        this.pointIndex = pointIndex;
+    }
+
+    StreamedMetricPointBuilder serviceId(String serviceId) {
+        this.serviceId = serviceId;
+        return this;
+    }
+
+    StreamedMetricPointBuilder routeId(String routeId) {
+        this.routeId = routeId;
+        return this;
+    }
+
+    StreamedMetricPointBuilder consumerId(String consumerId) {
+        this.consumerId = consumerId;
+        return this;
+    }
+
+    StreamedMetricPointBuilder windowStart(Instant windowStart) {
+        this.windowStart = windowStart;
+        return this;
+    }
+
+    StreamedMetricPointBuilder rps(double rps) {
+        this.rps = requireNonNegative(rps, "rps는 0 이상이어야 합니다.");
+        return this;
+    }
+
+    StreamedMetricPointBuilder latencyP50(double latencyP50) {
+        this.latencyP50 = requireNonNegative(latencyP50, "latencyP50은 0 이상이어야 합니다.");
+        return this;
+    }
+
+    StreamedMetricPointBuilder latencyP95(double latencyP95) {
+        this.latencyP95 = requireNonNegative(latencyP95, "latencyP95는 0 이상이어야 합니다.");
+        return this;
+    }
+
+    StreamedMetricPointBuilder status4xxRate(double status4xxRate) {
+        this.status4xxRate = requireNonNegative(status4xxRate, "status4xxRate는 0 이상이어야 합니다.");
+        return this;
+    }
+
+    StreamedMetricPointBuilder status5xxRate(double status5xxRate) {
+        this.status5xxRate = requireNonNegative(status5xxRate, "status5xxRate는 0 이상이어야 합니다.");
+        return this;
+    }
+
+    StreamedMetricPointBuilder latencySketch(byte[] latencySketch) {
+        this.latencySketch = latencySketch;
+        return this;
+    }
+
+    MetricPointIngestItem build() {
+        if (!StringUtils.hasText(serviceId)) {
+            throw invalid("serviceId는 필수입니다.");
+        }
+        if (windowStart == null) {
+            throw invalid("windowStart는 필수입니다.");
+        }
+        return MetricPointIngestItem.builder()
+            .serviceId(serviceId.trim())
+            .routeId(normalizeOptional(routeId))
+            .consumerId(normalizeOptional(consumerId))
+            .windowStart(windowStart)
+            .rps(rps)
+            .latencyP50(latencyP50)
+            .latencyP95(latencyP95)
+            .status4xxRate(status4xxRate)
+            .status5xxRate(status5xxRate)
+            .latencySketch(latencySketch)
+            .build();
+    }
+
+    private double requireNonNegative(double value, String message) {
+        // NaN/Infinity는 집계 가중치를 오염시키므로 음수와 함께 거절한다.
+        if (!Double.isFinite(value) || value < 0) {
+            throw invalid(message);
+        }
+        return value;
+    }
+
+    private String normalizeOptional(String raw) {
+        if (!StringUtils.hasText(raw)) {
+            return null;
+        }
+        return raw.trim();
+    }
+
+    private AegisPulseException invalid(String reason) {
+        return new AegisPulseException(ErrorCode.INVALID_REQUEST, pointIndex + "번째 포인트: " + reason);
+    }
+}
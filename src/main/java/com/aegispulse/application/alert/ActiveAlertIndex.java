@@ -0,0 +1,162 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.domain.alert.model.Alert;
+import com.aegispulse.domain.alert.model.AlertState;
+import com.aegispulse.domain.alert.model.AlertType;
+import com.aegispulse.domain.alert.repository.AlertRepository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 평가기용 활성 알림 상태 인덱스.
+ * (타깃, 타입) 키별 활성 알림과 마지막 해제 시각을 메모리에 유지해, 정상 상태의 평가 tick이 알림 테이블을 조회하지 않도록 한다.
+ * 기동 시 저장소에서 한 번 적재하고, 이후에는 평가/ACK 서비스가 커밋한 알림을 반영한다.
+ * 적재가 끝나기 전에는 {@link #isReady()}가 false이므로 평가기는 저장소 조회로 대체한다.
+ * 알림 쓰기가 이 인스턴스의 서비스로만 일어난다는 전제(단일 인스턴스 배포)를 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActiveAlertIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ActiveAlertIndex.class);
+    private static final List<AlertType> INDEXED_ALERT_TYPES = List.of(AlertType.values());
+
+    private final AlertRepository alertRepository;
+
+    private final Map<AlertKey, Alert> activeAlerts = new ConcurrentHashMap<>();
+    private final Map<AlertKey, Instant> lastResolvedAt = new ConcurrentHashMap<>();
+    // 적재 중 커밋된 알림이 적재 결과(더 오래된 상태)로 덮이지 않도록 키를 기록해 둔다.
+    private final Set<AlertKey> keysWrittenBeforeReady = new HashSet<>();
+    private volatile boolean ready;
+
+    /**
+     * 애플리케이션 기동 후 활성 알림과 cooldown 구간 안의 해제 알림을 적재한다.
+     * 실패하면 인덱스를 비활성 상태로 두고 평가기는 계속 저장소를 조회한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        warmUp(Instant.now());
+    }
+
+    void warmUp(Instant now) {
+        List<Alert> loadedActive;
+        List<Alert> loadedResolved;
+        try {
+            loadedActive = alertRepository.findActiveByTypes(INDEXED_ALERT_TYPES);
+            loadedResolved = alertRepository.findResolvedSince(
+                INDEXED_ALERT_TYPES,
+                now.minus(AlertEvaluationService.MAX_COOLDOWN_DURATION)
+            );
+        } catch (RuntimeException exception) {
+            log.error("활성 알림 인덱스 적재에 실패했습니다. 평가기는 저장소 조회를 계속 사용합니다.", exception);
+            return;
+        }
+
+        AlertEvaluationBatch loaded = AlertEvaluationBatch.fromAlerts(loadedActive, loadedResolved);
+        synchronized (this) {
+            loaded.activeAlerts().forEach((key, alert) -> {
+                if (!keysWrittenBeforeReady.contains(key)) {
+                    activeAlerts.put(key, alert);
+                }
+            });
+            loaded.lastResolvedAt().forEach((key, resolvedAt) -> {
+                if (!keysWrittenBeforeReady.contains(key)) {
+                    lastResolvedAt.merge(key, resolvedAt, ActiveAlertIndex::latest);
+                }
+            });
+            keysWrittenBeforeReady.clear();
+            ready = true;
+        }
+        log.info("활성 알림 인덱스를 적재했습니다. active={}, resolved={}", activeAlerts.size(), lastResolvedAt.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 인덱스 전체를 복사한 평가 스냅샷을 만든다.
+     */
+    AlertEvaluationBatch newBatch() {
+        return new AlertEvaluationBatch(new HashMap<>(activeAlerts), new HashMap<>(lastResolvedAt));
+    }
+
+    /**
+     * 지정 타깃의 키만 복사한 평가 스냅샷을 만든다. shard/단일 서비스 평가에서 사용한다.
+     */
+    AlertEvaluationBatch newBatch(Collection<String> targetIds) {
+        Map<AlertKey, Alert> active = new HashMap<>();
+        Map<AlertKey, Instant> resolved = new HashMap<>();
+        for (String targetId : targetIds) {
+            for (AlertType alertType : INDEXED_ALERT_TYPES) {
+                AlertKey key = new AlertKey(targetId, alertType);
+                Alert alert = activeAlerts.get(key);
+                if (alert != null) {
+                    active.put(key, alert);
+                }
+                Instant resolvedAt = lastResolvedAt.get(key);
+                if (resolvedAt != null) {
+                    resolved.put(key, resolvedAt);
+                }
+            }
+        }
+        return new AlertEvaluationBatch(active, resolved);
+    }
+
+    /**
+     * 저장된 알림을 현재 트랜잭션 커밋 후 인덱스에 반영한다. 트랜잭션 밖에서 호출되면 즉시 반영한다.
+     * 롤백된 전이가 인덱스에 남지 않도록 커밋 전에는 반영하지 않는다.
+     */
+    public void recordAfterCommit(List<Alert> savedAlerts) {
+        if (savedAlerts.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(savedAlerts);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(savedAlerts);
+            }
+        });
+    }
+
+    synchronized void record(List<Alert> savedAlerts) {
+        for (Alert alert : savedAlerts) {
+            AlertKey key = AlertKey.of(alert);
+            if (!ready) {
+                keysWrittenBeforeReady.add(key);
+            }
+            if (alert.getState() == AlertState.RESOLVED) {
+                // 해제된 알림이 현재 인덱스의 활성 알림과 같을 때만 지운다. 이미 새 알림이 열렸으면 유지한다.
+                activeAlerts.computeIfPresent(key, (ignored, active) -> Objects.equals(active.getId(), alert.getId()) ? null : active);
+                if (alert.getResolvedAt() != null) {
+                    lastResolvedAt.merge(key, alert.getResolvedAt(), ActiveAlertIndex::latest);
+                }
+                continue;
+            }
+            activeAlerts.put(key, alert);
+        }
+    }
+
+    private static Instant latest(Instant left, Instant right) {
+        return right.isAfter(left) ? right : left;
+    }
+}
@@ -6,6 +6,7 @@ import com.aegispulse.application.alert.command.AcknowledgeAlertCommand;
 import com.aegispulse.application.alert.result.AcknowledgeAlertResult;
 import com.aegispulse.domain.alert.model.Alert;
 import com.aegispulse.domain.alert.repository.AlertRepository;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,24 +19,36 @@ import org.springframework.transaction.annotation.Transactional;
 public class AlertAcknowledgeService implements AlertAcknowledgeUseCase {
 
     private final AlertRepository alertRepository;
+    private final ActiveAlertIndex activeAlertIndex;
+    private final ServiceTransitionLocks serviceTransitionLocks;
 
     @Override
     @Transactional
     public AcknowledgeAlertResult acknowledge(AcknowledgeAlertCommand command) {
-        Alert alert = alertRepository.findById(command.getAlertId())
-            .orElseThrow(() -> new AegisPulseException(ErrorCode.ALERT_NOT_FOUND, "요청한 알림을 찾을 수 없습니다."));
+        String targetId = alertRepository.findTargetIdById(command.getAlertId())
+            .orElseThrow(AlertAcknowledgeService::alertNotFound);
+        // 평가가 같은 알림을 해제하는 중에 ACK가 RESOLVED를 덮어쓰지 않도록 대상 서비스 전이 락을 잡은 뒤에 알림을 처음 읽는다.
+        // 락 전에 알림을 읽으면 같은 트랜잭션의 영속성 컨텍스트가 그 상태를 캐시해, 락 뒤에 다시 읽어도 그 사이 커밋된 해제를 보지 못한다.
+        try (ServiceTransitionLocks.Hold ignored = serviceTransitionLocks.lock(targetId)) {
+            Alert alert = alertRepository.findById(command.getAlertId()).orElseThrow(AlertAcknowledgeService::alertNotFound);
 
-        final Alert acked;
-        try {
-            acked = alert.ack();
-        } catch (IllegalStateException exception) {
-            throw new AegisPulseException(ErrorCode.ALERT_STATE_CONFLICT, exception.getMessage());
+            final Alert acked;
+            try {
+                acked = alert.ack();
+            } catch (IllegalStateException exception) {
+                throw new AegisPulseException(ErrorCode.ALERT_STATE_CONFLICT, exception.getMessage());
+            }
+
+            Alert saved = alertRepository.save(acked);
+            activeAlertIndex.recordAfterCommit(List.of(saved));
+            return AcknowledgeAlertResult.builder()
+                .alertId(saved.getId())
+                .state(saved.getState().name())
+                .build();
         }
+    }
 
-        Alert saved = alertRepository.save(acked);
-        return AcknowledgeAlertResult.builder()
-            .alertId(saved.getId())
-            .state(saved.getState().name())
-            .build();
+    private static AegisPulseException alertNotFound() {
+        return new AegisPulseException(ErrorCode.ALERT_NOT_FOUND, "요청한 알림을 찾을 수 없습니다.");
     }
 }
@@ -0,0 +1,100 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.domain.alert.model.Alert;
+import com.aegispulse.domain.alert.model.AlertType;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 평가 1회(tick) 동안 사용하는 알림 상태 스냅샷과 저장 대기열.
+ * 활성 알림과 최근 해제 시각을 (타깃, 타입) 키로 조회하고,
+ * 평가 중 생성/해제한 알림은 스냅샷에 즉시 반영한 뒤 tick 끝에 일괄 저장한다.
+ * 스레드 안전하지 않으며 평가 호출 범위 안에서만 사용한다.
+ */
+final class AlertEvaluationBatch {
+
+    private final Map<AlertKey, Alert> activeAlerts;
+    private final Map<AlertKey, Instant> lastResolvedAt;
+    private final List<Alert> pendingAlerts = new ArrayList<>();
+
+    /**
+     * @param activeAlerts 키별 OPEN/ACKED 알림. 호출자의 맵을 복사하지 않고 그대로 사용한다.
+     * @param lastResolvedAt 키별 마지막 해제 시각. 호출자의 맵을 복사하지 않고 그대로 사용한다.
+     */
+    AlertEvaluationBatch(Map<AlertKey, Alert> activeAlerts, Map<AlertKey, Instant> lastResolvedAt) {
+        this.activeAlerts = activeAlerts;
+        this.lastResolvedAt = lastResolvedAt;
+    }
+
+    /**
+     * 저장소 조회 결과로 스냅샷을 만든다.
+     *
+     * @param activeAlerts OPEN/ACKED 알림. 같은 키가 여럿이면 가장 최근 발생 알림을 사용한다.
+     * @param recentlyResolvedAlerts cooldown 구간 안에서 해제된 알림. 같은 키가 여럿이면 가장 늦은 해제 시각을 사용한다.
+     */
+    static AlertEvaluationBatch fromAlerts(List<Alert> activeAlerts, List<Alert> recentlyResolvedAlerts) {
+        Map<AlertKey, Alert> activeByKey = new HashMap<>();
+        for (Alert alert : activeAlerts) {
+            activeByKey.merge(AlertKey.of(alert), alert, AlertEvaluationBatch::latestTriggered);
+        }
+        Map<AlertKey, Instant> resolvedAtByKey = new HashMap<>();
+        for (Alert alert : recentlyResolvedAlerts) {
+            if (alert.getResolvedAt() != null) {
+                resolvedAtByKey.merge(AlertKey.of(alert), alert.getResolvedAt(), AlertEvaluationBatch::latest);
+            }
+        }
+        return new AlertEvaluationBatch(activeByKey, resolvedAtByKey);
+    }
+
+    Optional<Alert> findActive(String targetId, AlertType alertType) {
+        return Optional.ofNullable(activeAlerts.get(new AlertKey(targetId, alertType)));
+    }
+
+    /**
+     * 활성 알림이 없는 키의 최신 알림은 해제된 알림이므로, 마지막 해제 시각으로 cooldown을 판정한다.
+     */
+    boolean isInCooldown(String targetId, AlertType alertType, Duration cooldown, Instant evaluatedAt) {
+        Instant resolvedAt = lastResolvedAt.get(new AlertKey(targetId, alertType));
+        if (resolvedAt == null) {
+            return false;
+        }
+        return resolvedAt.plus(cooldown).isAfter(evaluatedAt);
+    }
+
+    void open(Alert alert) {
+        activeAlerts.put(AlertKey.of(alert), alert);
+        pendingAlerts.add(alert);
+    }
+
+    void resolve(Alert resolvedAlert) {
+        AlertKey key = AlertKey.of(resolvedAlert);
+        activeAlerts.remove(key);
+        lastResolvedAt.put(key, resolvedAlert.getResolvedAt());
+        pendingAlerts.add(resolvedAlert);
+    }
+
+    List<Alert> pendingAlerts() {
+        return pendingAlerts;
+    }
+
+    Map<AlertKey, Alert> activeAlerts() {
+        return activeAlerts;
+    }
+
+    Map<AlertKey, Instant> lastResolvedAt() {
+        return lastResolvedAt;
+    }
+
+    private static Alert latestTriggered(Alert left, Alert right) {
+        return right.getTriggeredAt().isAfter(left.getTriggeredAt()) ? right : left;
+    }
+
+    private static Instant latest(Instant left, Instant right) {
+        return right.isAfter(left) ? right : left;
+    }
+}
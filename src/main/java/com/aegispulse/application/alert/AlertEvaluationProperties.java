@@ -0,0 +1,49 @@
+package com.aegispulse.application.alert;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 주기 알림 평가 실행 설정.
+ * BATCHED는 스케줄러 스레드에서 전체 서비스를 한 트랜잭션으로, SHARDED는 서비스를 shard로 나눠
+ * 가상 스레드에서 shard별 짧은 트랜잭션으로 병렬 평가한다.
+ * 스트리밍 평가를 켜면 수집 시점에 규칙을 먼저 평가하고, 주기 평가는 두 모드 모두 정합성 보정으로 계속 실행된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aegispulse.alerts.evaluation")
+public class AlertEvaluationProperties {
+
+    private Mode mode = Mode.BATCHED;
+    // shard 하나에 담을 서비스 수. shard 조회의 IN 조건 크기와 트랜잭션 길이를 함께 결정한다.
+    private int shardSize = 200;
+    // 동시에 평가할 최대 shard 수. DB 커넥션 풀 크기보다 작게 둔다.
+    private int parallelism = 4;
+    // 전체 평가 시간이 이 값을 넘으면 경고 로그를 남긴다. 평가 주기(기본 60초)보다 충분히 작게 둔다.
+    private Duration sweepWarnThreshold = Duration.ofSeconds(30);
+    // true면 수집된 서비스 축 포인트마다 누적 합계로 규칙을 즉시 재평가하고, 주기 평가는 정합성 보정으로 동작한다.
+    private boolean streamingEnabled;
+    private FastTrip fastTrip = new FastTrip();
+
+    /**
+     * 게이트웨이 10초 오류 카운터 기반 격리 빠른 발동 설정.
+     */
+    @Getter
+    @Setter
+    public static class FastTrip {
+
+        private boolean enabled;
+        // 발동 판정 구간. 10초 단위로 내림하며, 짧을수록 빨리 발동하지만 최소 요청 수를 채우기 어렵다.
+        private Duration window = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 알림 평가 실행 모드.
+     */
+    public enum Mode {
+        BATCHED,
+        SHARDED
+    }
+}
@@ -12,12 +12,18 @@ import org.springframework.stereotype.Component;
 public class AlertEvaluationScheduler {
 
     private final AlertEvaluationService alertEvaluationService;
+    private final ShardedAlertEvaluator shardedAlertEvaluator;
+    private final AlertEvaluationProperties properties;
 
     /**
      * 기본 1분 주기로 평가한다.
      */
     @Scheduled(fixedDelayString = "${aegispulse.alerts.evaluation-interval-ms:60000}")
     public void evaluateAlerts() {
+        if (properties.getMode() == AlertEvaluationProperties.Mode.SHARDED) {
+            shardedAlertEvaluator.evaluate();
+            return;
+        }
         alertEvaluationService.evaluate();
     }
 }
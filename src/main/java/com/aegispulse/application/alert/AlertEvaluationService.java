@@ -2,26 +2,27 @@ package com.aegispulse.application.alert;
 
 import com.aegispulse.api.common.exception.AegisPulseException;
 import com.aegispulse.api.common.exception.ErrorCode;
+import com.aegispulse.application.service.ServiceStatusChangedEvent;
 import com.aegispulse.domain.alert.model.Alert;
-import com.aegispulse.domain.alert.model.AlertState;
+import com.aegispulse.domain.alert.model.AlertRuleMetric;
 import com.aegispulse.domain.alert.model.AlertType;
 import com.aegispulse.domain.alert.repository.AlertRepository;
+import com.aegispulse.domain.metric.model.LatencySketchAccumulator;
 import com.aegispulse.domain.metric.model.MetricPoint;
 import com.aegispulse.domain.metric.repository.MetricPointRepository;
 import com.aegispulse.domain.service.model.ManagedService;
 import com.aegispulse.domain.service.model.ServiceStatus;
 import com.aegispulse.domain.service.repository.ManagedServiceRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.ToDoubleFunction;
+import java.util.OptionalLong;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,21 +33,27 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AlertEvaluationService {
 
-    private static final Duration WINDOW_DURATION = Duration.ofMinutes(5);
-    private static final Duration COOLDOWN_DURATION = Duration.ofMinutes(10);
-    private static final double THRESHOLD_5XX_RATE = 2.0;
-    private static final double THRESHOLD_P95_LATENCY_MS = 800.0;
-    private static final double ISOLATION_TRIGGER_5XX_RATE = 5.0;
-    private static final double ISOLATION_RELEASE_5XX_RATE = 1.0;
-    private static final double ISOLATION_MIN_REQUEST_COUNT = 200.0;
+    // 격리 발동 판정 구간. 임계치 규칙 구간은 규칙마다 설정한다.
+    static final Duration WINDOW_DURATION = Duration.ofMinutes(5);
+    // 규칙 cooldown 상한. 인덱스 적재 전 최근 해제 알림 조회 범위로 사용한다.
+    static final Duration MAX_COOLDOWN_DURATION = Duration.ofHours(1);
+    static final double ISOLATION_TRIGGER_5XX_RATE = 5.0;
+    static final double ISOLATION_MIN_REQUEST_COUNT = 200.0;
     private static final Duration ISOLATION_RECOVERY_WINDOW_DURATION = Duration.ofMinutes(10);
-    private static final Duration METRIC_POINT_INTERVAL = Duration.ofMinutes(1);
-    private static final int ISOLATION_RECOVERY_REQUIRED_POINTS = 10;
+    private static final int ISOLATION_WINDOW_MINUTES = (int) WINDOW_DURATION.toMinutes();
+    private static final String ISOLATION_WINDOW_LABEL = ISOLATION_WINDOW_MINUTES + "m";
+    private static final List<AlertType> EVALUATED_ALERT_TYPES = List.of(AlertType.values());
 
     private final ManagedServiceRepository managedServiceRepository;
     private final MetricPointRepository metricPointRepository;
     private final AlertRepository alertRepository;
-    private final ObjectMapper objectMapper;
+    private final AlertPayloadWriter alertPayloadWriter;
+    private final ActiveAlertIndex activeAlertIndex;
+    private final AlertRulePlanRegistry alertRulePlanRegistry;
+    private final IsolationRecoveryTracker isolationRecoveryTracker;
+    private final AlertNotificationOutbox alertNotificationOutbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ServiceTransitionLocks serviceTransitionLocks;
 
     /**
      * 스케줄러 진입점.
@@ -58,143 +65,356 @@ public class AlertEvaluationService {
 
     /**
      * 테스트/재평가 시각 주입을 위한 내부 진입점.
+     * 서비스 수와 무관하게 조회는 서비스 목록, 전 서비스 서비스 축 포인트 2회로 고정하고(인덱스 적재 전에는 알림 조회 2회 추가),
+     * 상태 전이는 메모리에서 계산한 뒤 서비스/알림을 각각 한 번에 저장한다.
+     * 스트리밍 전이/빠른 격리와 같은 서비스를 동시에 전이하지 않도록 전체 서비스 전이 락을 잡은 뒤 상태를 읽는다.
      */
     void evaluateAt(Instant evaluatedAt) {
-        List<ManagedService> services = managedServiceRepository.findAll();
+        try (ServiceTransitionLocks.Hold ignored = serviceTransitionLocks.lockAll()) {
+            List<ManagedService> services = managedServiceRepository.findAll();
+            if (services.isEmpty()) {
+                return;
+            }
+
+            evaluateServices(
+                services,
+                metricPointRepository.findServiceAxisByWindow(recoveryWindowStart(evaluatedAt), evaluatedAt),
+                loadBatch(evaluatedAt),
+                evaluatedAt
+            );
+        }
+    }
+
+    /**
+     * 서비스 shard 하나를 독립 트랜잭션으로 평가한다. 병렬 평가기가 shard마다 호출한다.
+     * 조회는 shard 서비스 ID로 좁혀 전체 평가와 같은 규칙을 적용하므로, shard 하나가 느려도 다른 shard의 락/커밋을 붙잡지 않는다.
+     * 평가기가 shard를 나눈 뒤 다른 전이가 서비스 상태를 바꿨을 수 있으므로 shard 전이 락을 잡은 뒤 서비스를 다시 읽는다.
+     */
+    @Transactional
+    public void evaluateShard(List<ManagedService> shard, Instant evaluatedAt) {
+        if (shard.isEmpty()) {
+            return;
+        }
+
+        List<String> serviceIds = shard.stream().map(ManagedService::getId).toList();
+        try (ServiceTransitionLocks.Hold ignored = serviceTransitionLocks.lock(serviceIds)) {
+            evaluateServices(
+                managedServiceRepository.findAllByIds(serviceIds),
+                metricPointRepository.findServiceAxisByServiceIds(serviceIds, recoveryWindowStart(evaluatedAt), evaluatedAt),
+                loadBatch(serviceIds, evaluatedAt),
+                evaluatedAt
+            );
+        }
+    }
+
+    /**
+     * 스트리밍 평가기가 유지한 분 슬롯 합계를 서비스 하나에 반영한다. 구간 끝은 가장 최근 포인트의 다음 분이다.
+     * 알림 생성/해제와 격리 발동은 주기 평가와 같은 규칙 계획을 따르고,
+     * 격리 해제는 10분 연속 포인트 판정이 필요하므로 주기 평가(정합성 보정)에 맡긴다.
+     * 주기 평가와 같은 서비스를 동시에 전이하지 않도록 서비스 전이 락을 잡은 뒤 서비스/알림 상태를 읽는다.
+     */
+    @Transactional
+    void evaluateWindow(String serviceId, AlertWindowSums window, Instant evaluatedAt) {
+        try (ServiceTransitionLocks.Hold ignored = serviceTransitionLocks.lock(serviceId)) {
+            Optional<ManagedService> service = managedServiceRepository.findById(serviceId);
+            if (service.isEmpty()) {
+                return;
+            }
+
+            AlertEvaluationBatch batch = loadBatch(List.of(serviceId), evaluatedAt);
+            List<ManagedService> changedServices = new ArrayList<>();
+            applyWindow(
+                batch,
+                service.get(),
+                window,
+                window.headMinute() + 1,
+                null,
+                false,
+                false,
+                changedServices,
+                evaluatedAt
+            );
+            saveTransitions(changedServices, batch);
+        }
+    }
+
+    /**
+     * 초 단위 오류 카운터로 판정된 격리를 즉시 발동한다. 이미 격리된 서비스면 아무것도 하지 않고 false를 반환한다.
+     * 발동 조건(5xx 비율, 최소 요청 수)은 판정 구간만 짧을 뿐 주기 평가와 같다.
+     * 발동한 격리는 미확정으로 표시되어, 발동 분 포인트가 들어온 첫 주기 평가에서 5분 구간이 발동 조건을 넘지 않으면 해제된다.
+     * 확정된 뒤의 해제는 기존 연속 정상 분 판정을 따른다.
+     */
+    @Transactional
+    public boolean isolateFastTrip(
+        String serviceId,
+        double observed5xxRate,
+        double requestCount,
+        Duration window,
+        Instant evaluatedAt
+    ) {
+        if (!shouldActivateIsolation(observed5xxRate, requestCount)) {
+            return false;
+        }
+
+        try (ServiceTransitionLocks.Hold ignored = serviceTransitionLocks.lock(serviceId)) {
+            Optional<ManagedService> service = managedServiceRepository.findById(serviceId);
+            if (service.isEmpty() || service.get().getStatus() != ServiceStatus.ACTIVE) {
+                return false;
+            }
+
+            AlertEvaluationBatch batch = loadBatch(List.of(serviceId), evaluatedAt);
+            List<ManagedService> changedServices = new ArrayList<>();
+            changedServices.add(service.get().isolate(evaluatedAt));
+            isolationRecoveryTracker.trackFastTripAfterCommit(serviceId, evaluatedAt);
+            openIsolationAlert(batch, serviceId, window.toSeconds() + "s", observed5xxRate, requestCount, evaluatedAt);
+            saveTransitions(changedServices, batch);
+            return true;
+        }
+    }
+
+    private void evaluateServices(
+        List<ManagedService> services,
+        List<MetricPoint> serviceAxisPoints,
+        AlertEvaluationBatch batch,
+        Instant evaluatedAt
+    ) {
+        Map<String, List<MetricPoint>> pointsByService = groupByService(serviceAxisPoints);
+        List<ManagedService> changedServices = new ArrayList<>();
+        // 분 슬롯 합계와 스케치 병합 버퍼는 서비스마다 초기화해 재사용한다.
+        AlertWindowSums window = new AlertWindowSums();
+        LatencySketchAccumulator sketchScratch = new LatencySketchAccumulator();
         for (ManagedService service : services) {
-            evaluateService(service, evaluatedAt);
+            List<MetricPoint> recoveryWindowPoints = pointsByService.getOrDefault(service.getId(), List.of());
+            window.reset();
+            for (MetricPoint point : recoveryWindowPoints) {
+                window.add(point);
+            }
+            evaluateService(
+                service,
+                recoveryWindowPoints,
+                window,
+                sketchScratch,
+                batch,
+                changedServices,
+                evaluatedAt
+            );
         }
+
+        saveTransitions(changedServices, batch);
     }
 
-    private void evaluateService(ManagedService service, Instant evaluatedAt) {
-        String serviceId = service.getId();
-        Instant fromInclusive = evaluatedAt.minus(WINDOW_DURATION);
-        List<MetricPoint> serviceAxisPoints = metricPointRepository.findByServiceIdAndWindow(
-            serviceId,
-            fromInclusive,
-            evaluatedAt
-        ).stream()
-            // Stage 5 평가는 서비스 축으로 고정한다.
-            .filter(point -> point.getRouteId() == null && point.getConsumerId() == null)
-            .toList();
+    private void saveTransitions(List<ManagedService> changedServices, AlertEvaluationBatch batch) {
+        if (!changedServices.isEmpty()) {
+            managedServiceRepository.saveAll(changedServices);
+            // 격리 발동/해제는 API Key 인증 가능 여부를 바꾸므로 커밋 후 상태 변경을 알려 인증 스냅샷을 비우게 한다.
+            eventPublisher.publishEvent(
+                new ServiceStatusChangedEvent(changedServices.stream().map(ManagedService::getId).toList())
+            );
+        }
+        if (!batch.pendingAlerts().isEmpty()) {
+            // 신규 알림은 저장 후에야 ID가 정해지므로 저장 결과로 발송 항목을 기록하고 인덱스에 반영한다.
+            List<Alert> savedAlerts = alertRepository.saveAll(batch.pendingAlerts());
+            alertNotificationOutbox.enqueue(savedAlerts);
+            activeAlertIndex.recordAfterCommit(savedAlerts);
+        }
+    }
+
+    /**
+     * 활성 알림 인덱스가 적재되었으면 인덱스 스냅샷을, 아니면 저장소 조회 결과로 알림 상태를 만든다.
+     */
+    private AlertEvaluationBatch loadBatch(Instant evaluatedAt) {
+        if (activeAlertIndex.isReady()) {
+            return activeAlertIndex.newBatch();
+        }
+        return AlertEvaluationBatch.fromAlerts(
+            alertRepository.findActiveByTypes(EVALUATED_ALERT_TYPES),
+            alertRepository.findResolvedSince(EVALUATED_ALERT_TYPES, evaluatedAt.minus(MAX_COOLDOWN_DURATION))
+        );
+    }
+
+    private AlertEvaluationBatch loadBatch(List<String> serviceIds, Instant evaluatedAt) {
+        if (activeAlertIndex.isReady()) {
+            return activeAlertIndex.newBatch(serviceIds);
+        }
+        return AlertEvaluationBatch.fromAlerts(
+            alertRepository.findActiveByTargets(serviceIds, EVALUATED_ALERT_TYPES),
+            alertRepository.findResolvedSince(serviceIds, EVALUATED_ALERT_TYPES, evaluatedAt.minus(MAX_COOLDOWN_DURATION))
+        );
+    }
 
+    /**
+     * 격리 해제 판정 구간(10분)이 평가 구간(5분)을 포함하므로 한 번의 조회로 두 구간을 모두 채운다.
+     */
+    private static Instant recoveryWindowStart(Instant evaluatedAt) {
+        return evaluatedAt.minus(ISOLATION_RECOVERY_WINDOW_DURATION);
+    }
+
+    private void evaluateService(
+        ManagedService service,
+        List<MetricPoint> recoveryWindowPoints,
+        AlertWindowSums window,
+        LatencySketchAccumulator sketchScratch,
+        AlertEvaluationBatch batch,
+        List<ManagedService> changedServices,
+        Instant evaluatedAt
+    ) {
+        long endMinute = AlertWindowSums.endMinuteOf(evaluatedAt);
         // 수집 공백 구간에서는 상태를 강제로 바꾸지 않는다.
-        if (serviceAxisPoints.isEmpty()) {
+        if (window.count(endMinute - ISOLATION_WINDOW_MINUTES) == 0) {
             return;
         }
 
-        double observed5xxRate = weightedAverage(serviceAxisPoints, MetricPoint::getStatus5xxRate);
-        double observedP95Latency = weightedAverage(serviceAxisPoints, MetricPoint::getLatencyP95);
-
-        evaluateRule(
-            serviceId,
-            AlertType.SERVICE_5XX_RATE_HIGH,
-            observed5xxRate > THRESHOLD_5XX_RATE,
-            observed5xxRate,
-            THRESHOLD_5XX_RATE,
+        boolean recoveryReady = isRecoveryReady(service, recoveryWindowPoints, endMinute);
+        applyWindow(
+            batch,
+            service,
+            window,
+            endMinute,
+            sketchScratch,
+            recoveryReady,
+            isFastTripConfirmationDue(service, window),
+            changedServices,
             evaluatedAt
         );
-        evaluateRule(
-            serviceId,
-            AlertType.SERVICE_P95_LATENCY_HIGH,
-            observedP95Latency > THRESHOLD_P95_LATENCY_MS,
-            observedP95Latency,
-            THRESHOLD_P95_LATENCY_MS,
+    }
+
+    /**
+     * 서비스에 맞는 규칙 계획을 분 슬롯 합계에 적용하고 격리 발동/해제를 판정한다.
+     * Stage 5 평가는 서비스 축으로 고정한다. 규칙 구간에 포인트가 없거나 최소 요청 수에 못 미치면 그 규칙은 건너뛴다.
+     */
+    private void applyWindow(
+        AlertEvaluationBatch batch,
+        ManagedService service,
+        AlertWindowSums window,
+        long endMinute,
+        LatencySketchAccumulator sketchScratch,
+        boolean recoveryReady,
+        boolean fastTripConfirmationDue,
+        List<ManagedService> changedServices,
+        Instant evaluatedAt
+    ) {
+        AlertRulePlan plan = alertRulePlanRegistry.planFor(service);
+        for (int index = 0; index < plan.size(); index++) {
+            if (!plan.isEvaluable(index, window, endMinute)) {
+                continue;
+            }
+            double observedValue = plan.observe(index, window, endMinute, sketchScratch);
+            evaluateRule(
+                batch,
+                service.getId(),
+                plan,
+                index,
+                plan.breached(index, observedValue),
+                observedValue,
+                evaluatedAt
+            );
+        }
+
+        long isolationFromMinute = endMinute - ISOLATION_WINDOW_MINUTES;
+        evaluateIsolationMode(
+            batch,
+            service,
+            window.value(AlertRuleMetric.STATUS_5XX_RATE, isolationFromMinute, null),
+            window.requestCount(isolationFromMinute),
+            recoveryReady,
+            fastTripConfirmationDue,
+            changedServices,
             evaluatedAt
         );
-
-        evaluateIsolationMode(service, serviceAxisPoints, observed5xxRate, evaluatedAt);
     }
 
     private void evaluateIsolationMode(
+        AlertEvaluationBatch batch,
         ManagedService service,
-        List<MetricPoint> serviceAxisPoints,
         double observed5xxRate,
+        double estimatedRequestCount,
+        boolean recoveryReady,
+        boolean fastTripConfirmationDue,
+        List<ManagedService> changedServices,
         Instant evaluatedAt
     ) {
         if (service.getStatus() == ServiceStatus.ACTIVE) {
-            if (!shouldActivateIsolation(serviceAxisPoints, observed5xxRate)) {
+            if (!shouldActivateIsolation(observed5xxRate, estimatedRequestCount)) {
                 return;
             }
 
-            // 격리 발동 시에는 서비스 상태 전이와 전환 이벤트 알림을 함께 기록한다.
-            managedServiceRepository.save(service.isolate(evaluatedAt));
+            // 격리 발동 시에는 서비스 상태 전이와 전환 이벤트 알림을 함께 기록하고 해제 판정 카운터를 시작한다.
+            changedServices.add(service.isolate(evaluatedAt));
+            isolationRecoveryTracker.trackAfterCommit(service.getId());
             openIsolationAlert(
+                batch,
                 service.getId(),
+                ISOLATION_WINDOW_LABEL,
                 observed5xxRate,
-                estimateRequestCount(serviceAxisPoints),
+                estimatedRequestCount,
                 evaluatedAt
             );
             return;
         }
 
-        if (service.getStatus() == ServiceStatus.ISOLATED && shouldRecoverFromIsolation(service.getId(), evaluatedAt)) {
+        if (service.getStatus() == ServiceStatus.ISOLATED && fastTripConfirmationDue) {
+            if (!shouldActivateIsolation(observed5xxRate, estimatedRequestCount)) {
+                // 5분 평가가 확인하지 못한 빠른 발동 격리는 연속 정상 분을 기다리지 않고 되돌린다.
+                changedServices.add(service.recover(evaluatedAt));
+                isolationRecoveryTracker.untrack(service.getId());
+                resolveIsolationAlert(batch, service.getId(), evaluatedAt);
+                return;
+            }
+            isolationRecoveryTracker.confirmFastTrip(service.getId());
+        }
+
+        if (service.getStatus() == ServiceStatus.ISOLATED && recoveryReady) {
             // 해제 조건 충족 시 자동 복구하고 격리 이벤트 알림을 RESOLVED로 전이한다.
-            managedServiceRepository.save(service.recover(evaluatedAt));
-            resolveIsolationAlert(service.getId(), evaluatedAt);
+            changedServices.add(service.recover(evaluatedAt));
+            isolationRecoveryTracker.untrack(service.getId());
+            resolveIsolationAlert(batch, service.getId(), evaluatedAt);
         }
     }
 
-    private boolean shouldActivateIsolation(List<MetricPoint> serviceAxisPoints, double observed5xxRate) {
+    private boolean shouldActivateIsolation(double observed5xxRate, double estimatedRequestCount) {
         if (observed5xxRate <= ISOLATION_TRIGGER_5XX_RATE) {
             return false;
         }
 
-        return estimateRequestCount(serviceAxisPoints) >= ISOLATION_MIN_REQUEST_COUNT;
-    }
-
-    private double estimateRequestCount(List<MetricPoint> serviceAxisPoints) {
-        // 1분 포인트의 rps를 실제 요청수로 환산하기 위해 60초를 곱해 누적한다.
-        return serviceAxisPoints.stream()
-            .mapToDouble(point -> point.getRps() * 60)
-            .sum();
+        return estimatedRequestCount >= ISOLATION_MIN_REQUEST_COUNT;
     }
 
-    private boolean shouldRecoverFromIsolation(String serviceId, Instant evaluatedAt) {
-        Instant fromInclusive = evaluatedAt.minus(ISOLATION_RECOVERY_WINDOW_DURATION);
-        List<MetricPoint> recoveryWindowPoints = metricPointRepository.findByServiceIdAndWindow(
-            serviceId,
-            fromInclusive,
-            evaluatedAt
-        ).stream()
-            .filter(point -> point.getRouteId() == null && point.getConsumerId() == null)
-            .sorted(Comparator.comparing(MetricPoint::getWindowStart))
-            .toList();
-
-        if (recoveryWindowPoints.size() < ISOLATION_RECOVERY_REQUIRED_POINTS) {
-            return false;
-        }
-
-        List<MetricPoint> latestTenPoints = recoveryWindowPoints.subList(
-            recoveryWindowPoints.size() - ISOLATION_RECOVERY_REQUIRED_POINTS,
-            recoveryWindowPoints.size()
-        );
-        if (!isContinuousOneMinutePoints(latestTenPoints)) {
+    /**
+     * 격리 서비스의 해제 가능 여부를 연속 정상 분 카운터로 판정한다.
+     * 이번 평가가 이미 읽은 복구 구간 포인트로 카운터를 매 주기 보정하므로 추가 조회 없이 수집 이벤트 누락을 메운다.
+     * 격리 중인 서비스의 updatedAt은 격리 발동 시각이다.
+     */
+    private boolean isRecoveryReady(ManagedService service, List<MetricPoint> recoveryWindowPoints, long endMinute) {
+        if (service.getStatus() != ServiceStatus.ISOLATED) {
+            // 수동 복구 등으로 격리가 풀린 서비스는 추적을 멈춘다.
+            isolationRecoveryTracker.untrack(service.getId());
             return false;
         }
-
-        return latestTenPoints.stream()
-            .allMatch(point -> point.getStatus5xxRate() < ISOLATION_RELEASE_5XX_RATE);
+        isolationRecoveryTracker.reconcile(service.getId(), recoveryWindowPoints, service.getUpdatedAt());
+        return isolationRecoveryTracker.isRecoveryReady(service.getId(), endMinute);
     }
 
-    private boolean isContinuousOneMinutePoints(List<MetricPoint> points) {
-        for (int index = 1; index < points.size(); index++) {
-            Instant previous = points.get(index - 1).getWindowStart();
-            Instant current = points.get(index).getWindowStart();
-            if (!previous.plus(METRIC_POINT_INTERVAL).equals(current)) {
-                return false;
-            }
+    /**
+     * 미확정 빠른 발동 격리의 발동 분 이후 포인트가 평가 구간에 들어왔으면 이번 주기에 확정 여부를 판정한다.
+     * 발동 분 포인트가 아직 수집되지 않았으면 버스트가 빠진 구간으로 판정하지 않도록 다음 주기로 미룬다.
+     */
+    private boolean isFastTripConfirmationDue(ManagedService service, AlertWindowSums window) {
+        if (service.getStatus() != ServiceStatus.ISOLATED) {
+            return false;
         }
-        return true;
+        OptionalLong isolatedMinute = isolationRecoveryTracker.unconfirmedFastTripMinute(service.getId());
+        return isolatedMinute.isPresent() && window.count(isolatedMinute.getAsLong()) > 0;
     }
 
     private void openIsolationAlert(
+        AlertEvaluationBatch batch,
         String serviceId,
+        String windowLabel,
         double observed5xxRate,
         double estimatedRequestCount,
         Instant evaluatedAt
     ) {
-        if (alertRepository.findActiveByTargetAndType(serviceId, AlertType.SERVICE_ISOLATION_MODE).isPresent()) {
+        if (batch.findActive(serviceId, AlertType.SERVICE_ISOLATION_MODE).isPresent()) {
             return;
         }
 
@@ -203,16 +423,20 @@ public class AlertEvaluationService {
             AlertType.SERVICE_ISOLATION_MODE,
             serviceId,
             evaluatedAt,
-            buildIsolationPayloadJson(serviceId, "OPEN", observed5xxRate, estimatedRequestCount, evaluatedAt)
+            buildIsolationPayloadJson(
+                serviceId,
+                windowLabel,
+                "OPEN",
+                observed5xxRate,
+                estimatedRequestCount,
+                evaluatedAt
+            )
         );
-        alertRepository.save(openAlert);
+        batch.open(openAlert);
     }
 
-    private void resolveIsolationAlert(String serviceId, Instant evaluatedAt) {
-        Optional<Alert> activeIsolationAlert = alertRepository.findActiveByTargetAndType(
-            serviceId,
-            AlertType.SERVICE_ISOLATION_MODE
-        );
+    private void resolveIsolationAlert(AlertEvaluationBatch batch, String serviceId, Instant evaluatedAt) {
+        Optional<Alert> activeIsolationAlert = batch.findActive(serviceId, AlertType.SERVICE_ISOLATION_MODE);
         if (activeIsolationAlert.isEmpty()) {
             return;
         }
@@ -221,30 +445,33 @@ public class AlertEvaluationService {
         try {
             resolvedAlert = activeIsolationAlert.get().resolve(
                 evaluatedAt,
-                buildIsolationPayloadJson(serviceId, "RESOLVED", null, null, evaluatedAt)
+                buildIsolationPayloadJson(serviceId, ISOLATION_WINDOW_LABEL, "RESOLVED", null, null, evaluatedAt)
             );
         } catch (IllegalStateException exception) {
             throw new AegisPulseException(ErrorCode.ALERT_STATE_CONFLICT, exception.getMessage());
         }
-        alertRepository.save(resolvedAlert);
+        batch.resolve(resolvedAlert);
     }
 
     private void evaluateRule(
+        AlertEvaluationBatch batch,
         String serviceId,
-        AlertType alertType,
+        AlertRulePlan plan,
+        int ruleIndex,
         boolean breached,
         double observedValue,
-        double threshold,
         Instant evaluatedAt
     ) {
-        Optional<Alert> activeAlert = alertRepository.findActiveByTargetAndType(serviceId, alertType);
+        AlertType alertType = plan.alertType(ruleIndex);
+        Optional<Alert> activeAlert = batch.findActive(serviceId, alertType);
 
         if (breached) {
             if (activeAlert.isPresent()) {
                 return;
             }
 
-            if (isInCooldown(serviceId, alertType, evaluatedAt)) {
+            Duration cooldown = Duration.ofSeconds(plan.cooldownSeconds(ruleIndex));
+            if (batch.isInCooldown(serviceId, alertType, cooldown, evaluatedAt)) {
                 return;
             }
 
@@ -253,9 +480,9 @@ public class AlertEvaluationService {
                 alertType,
                 serviceId,
                 evaluatedAt,
-                buildPayloadJson(serviceId, alertType, observedValue, threshold, "OPEN", evaluatedAt)
+                buildPayloadJson(serviceId, plan, ruleIndex, observedValue, "OPEN", evaluatedAt)
             );
-            alertRepository.save(openAlert);
+            batch.open(openAlert);
             return;
         }
 
@@ -264,95 +491,63 @@ public class AlertEvaluationService {
             try {
                 resolvedAlert = activeAlert.get().resolve(
                     evaluatedAt,
-                    buildPayloadJson(serviceId, alertType, observedValue, threshold, "RESOLVED", evaluatedAt)
+                    buildPayloadJson(serviceId, plan, ruleIndex, observedValue, "RESOLVED", evaluatedAt)
                 );
             } catch (IllegalStateException exception) {
                 throw new AegisPulseException(ErrorCode.ALERT_STATE_CONFLICT, exception.getMessage());
             }
-            alertRepository.save(resolvedAlert);
+            batch.resolve(resolvedAlert);
         }
     }
 
-    private boolean isInCooldown(String serviceId, AlertType alertType, Instant evaluatedAt) {
-        Optional<Alert> latestAlert = alertRepository.findLatestByTargetAndType(serviceId, alertType);
-        if (latestAlert.isEmpty()) {
-            return false;
+    private static Map<String, List<MetricPoint>> groupByService(List<MetricPoint> serviceAxisPoints) {
+        Map<String, List<MetricPoint>> pointsByService = new HashMap<>();
+        for (MetricPoint point : serviceAxisPoints) {
+            pointsByService.computeIfAbsent(point.getServiceId(), ignored -> new ArrayList<>()).add(point);
         }
-
-        Alert latest = latestAlert.get();
-        if (latest.getState() != AlertState.RESOLVED || latest.getResolvedAt() == null) {
-            return false;
-        }
-
-        return latest.getResolvedAt().plus(COOLDOWN_DURATION).isAfter(evaluatedAt);
-    }
-
-    private double weightedAverage(List<MetricPoint> points, ToDoubleFunction<MetricPoint> extractor) {
-        double totalWeight = points.stream().mapToDouble(MetricPoint::getRps).sum();
-        if (totalWeight <= 0) {
-            return points.stream().mapToDouble(extractor).average().orElse(0);
-        }
-        double weightedSum = points.stream()
-            .mapToDouble(point -> extractor.applyAsDouble(point) * point.getRps())
-            .sum();
-        return weightedSum / totalWeight;
+        return pointsByService;
     }
 
     private String buildPayloadJson(
         String serviceId,
-        AlertType alertType,
+        AlertRulePlan plan,
+        int ruleIndex,
         double observedValue,
-        double threshold,
         String transition,
         Instant evaluatedAt
     ) {
-        Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put("serviceId", serviceId);
-        payload.put("alertType", alertType.name());
-        payload.put("window", "5m");
-        payload.put("threshold", threshold);
-        payload.put("observedValue", observedValue);
-        payload.put("transition", transition);
-        payload.put("cooldownMinutes", COOLDOWN_DURATION.toMinutes());
-        payload.put("evaluatedAt", evaluatedAt.toString());
-
-        try {
-            return objectMapper.writeValueAsString(payload);
-        } catch (JsonProcessingException exception) {
-            throw new AegisPulseException(
-                ErrorCode.INTERNAL_SERVER_ERROR,
-                "알림 payload 직렬화에 실패했습니다."
-            );
-        }
+        return alertPayloadWriter.write(new AlertPayloadWriter.RulePayload(
+            serviceId,
+            plan.alertType(ruleIndex).name(),
+            plan.windowMinutes(ruleIndex) + "m",
+            plan.threshold(ruleIndex),
+            observedValue,
+            transition,
+            Duration.ofSeconds(plan.cooldownSeconds(ruleIndex)).toMinutes(),
+            evaluatedAt.toString()
+        ));
     }
 
     private String buildIsolationPayloadJson(
         String serviceId,
+        String windowLabel,
         String transition,
         Double observedValue,
         Double estimatedRequestCount,
         Instant evaluatedAt
     ) {
-        Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put("serviceId", serviceId);
-        payload.put("alertType", AlertType.SERVICE_ISOLATION_MODE.name());
-        payload.put("window", "5m");
-        payload.put("transition", transition);
-        payload.put("triggerThreshold", ISOLATION_TRIGGER_5XX_RATE);
-        payload.put("releaseThreshold", ISOLATION_RELEASE_5XX_RATE);
-        payload.put("minimumRequestCount", ISOLATION_MIN_REQUEST_COUNT);
-        payload.put("recoveryWindowMinutes", ISOLATION_RECOVERY_WINDOW_DURATION.toMinutes());
-        payload.put("observedValue", observedValue);
-        payload.put("estimatedRequestCount", estimatedRequestCount);
-        payload.put("evaluatedAt", evaluatedAt.toString());
-
-        try {
-            return objectMapper.writeValueAsString(payload);
-        } catch (JsonProcessingException exception) {
-            throw new AegisPulseException(
-                ErrorCode.INTERNAL_SERVER_ERROR,
-                "격리 모드 payload 직렬화에 실패했습니다."
-            );
-        }
+        return alertPayloadWriter.write(new AlertPayloadWriter.IsolationPayload(
+            serviceId,
+            AlertType.SERVICE_ISOLATION_MODE.name(),
+            windowLabel,
+            transition,
+            ISOLATION_TRIGGER_5XX_RATE,
+            IsolationRecoveryTracker.RELEASE_5XX_RATE,
+            ISOLATION_MIN_REQUEST_COUNT,
+            ISOLATION_RECOVERY_WINDOW_DURATION.toMinutes(),
+            observedValue,
+            estimatedRequestCount,
+            evaluatedAt.toString()
+        ));
     }
 }
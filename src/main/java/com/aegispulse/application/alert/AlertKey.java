@@ -0,0 +1,14 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.domain.alert.model.Alert;
+import com.aegispulse.domain.alert.model.AlertType;
+
+/**
+ * 평가 규칙 하나의 알림 상태를 가리키는 (타깃, 타입) 키.
+ */
+record AlertKey(String targetId, AlertType alertType) {
+
+    static AlertKey of(Alert alert) {
+        return new AlertKey(alert.getTargetId(), alert.getAlertType());
+    }
+}
@@ -0,0 +1,185 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.domain.alert.model.AlertNotification;
+import com.aegispulse.domain.alert.model.AlertNotificationStatus;
+import com.aegispulse.domain.alert.repository.AlertNotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 outbox 발송기.
+ * 발송 시각이 된 PENDING 항목을 꺼내 채널별로 묶어 보내고, 실패한 묶음은 지수 백오프로 다시 시도한다.
+ * 발송은 전용 가상 스레드에서 실행하므로, 느린 웹훅이 스케줄러 스레드를 공유하는 알림 평가를 지연시키지 않는다.
+ * 여러 인스턴스가 같은 항목을 동시에 보낼 수 있으므로 수신 측은 notificationId로 중복을 제거해야 한다(최소 1회 전달).
+ * 발송이 끝난(SENT/DEAD) 항목은 보존 기간이 지나면 별도 주기로 삭제한다.
+ */
+@Component
+public class AlertNotificationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(AlertNotificationDispatcher.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    private final AlertNotificationRepository alertNotificationRepository;
+    private final AlertNotificationProperties properties;
+    private final Map<String, AlertNotificationSender> sendersByChannel = new LinkedHashMap<>();
+    private final ExecutorService dispatchExecutor = Executors.newSingleThreadExecutor(
+        Thread.ofVirtual().name("alert-notification-dispatch").factory()
+    );
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+    private final Counter sentNotifications;
+    private final Counter failedNotifications;
+    private final Counter deadNotifications;
+
+    public AlertNotificationDispatcher(
+        AlertNotificationRepository alertNotificationRepository,
+        AlertNotificationProperties properties,
+        List<AlertNotificationSender> senders,
+        MeterRegistry meterRegistry
+    ) {
+        this.alertNotificationRepository = alertNotificationRepository;
+        this.properties = properties;
+        for (AlertNotificationSender sender : senders) {
+            sendersByChannel.putIfAbsent(sender.channel(), sender);
+        }
+        this.sentNotifications = Counter.builder("aegispulse.alerts.notifications.sent").register(meterRegistry);
+        this.failedNotifications = Counter.builder("aegispulse.alerts.notifications.failed").register(meterRegistry);
+        this.deadNotifications = Counter.builder("aegispulse.alerts.notifications.dead").register(meterRegistry);
+    }
+
+    /**
+     * 주기마다 발송 작업을 예약한다. 직전 발송이 아직 끝나지 않았으면 이번 주기는 건너뛴다.
+     */
+    @Scheduled(fixedDelayString = "${aegispulse.alerts.notifications.dispatch-interval-ms:5000}")
+    public void scheduleDispatch() {
+        if (sendersByChannel.isEmpty() || !dispatching.compareAndSet(false, true)) {
+            return;
+        }
+        dispatchExecutor.execute(() -> {
+            try {
+                dispatchDue(Instant.now());
+            } catch (RuntimeException exception) {
+                log.error("알림 발송 처리에 실패했습니다.", exception);
+            } finally {
+                dispatching.set(false);
+            }
+        });
+    }
+
+    /**
+     * 보존 기간이 지난 SENT/DEAD 항목을 삭제한다. 채널 설정과 무관하게 실행해 채널을 뺀 뒤 남은 항목도 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${aegispulse.alerts.notifications.purge-interval-ms:3600000}")
+    public void purgeFinished() {
+        purgeFinished(Instant.now());
+    }
+
+    int purgeFinished(Instant now) {
+        Instant cutoff = now.minus(properties.getRetention());
+        int deleted = alertNotificationRepository.deleteFinishedCreatedBefore(cutoff);
+        if (deleted > 0) {
+            log.info("보존 기간이 지난 알림 발송 항목을 삭제했습니다. before={}, deleted={}", cutoff, deleted);
+        }
+        return deleted;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatchExecutor.shutdown();
+        try {
+            if (!dispatchExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                dispatchExecutor.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            dispatchExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 발송 시각이 된 항목이 남지 않을 때까지 batchSize 단위로 보낸다. 처리한 항목 수를 반환한다.
+     * 실패한 항목은 다음 시도 시각이 now 이후로 밀리므로 같은 호출 안에서 다시 꺼내지 않는다.
+     */
+    int dispatchDue(Instant now) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int processed = 0;
+        while (true) {
+            List<AlertNotification> due = alertNotificationRepository.findDue(now, batchSize);
+            if (due.isEmpty()) {
+                return processed;
+            }
+
+            Map<String, List<AlertNotification>> byChannel = new LinkedHashMap<>();
+            for (AlertNotification notification : due) {
+                byChannel.computeIfAbsent(notification.getChannel(), ignored -> new ArrayList<>()).add(notification);
+            }
+            List<AlertNotification> results = new ArrayList<>(due.size());
+            byChannel.forEach((channel, notifications) -> results.addAll(sendChannel(channel, notifications, now)));
+            alertNotificationRepository.saveAll(results);
+
+            processed += due.size();
+            if (due.size() < batchSize) {
+                return processed;
+            }
+        }
+    }
+
+    private List<AlertNotification> sendChannel(String channel, List<AlertNotification> notifications, Instant now) {
+        AlertNotificationSender sender = sendersByChannel.get(channel);
+        String error;
+        if (sender == null) {
+            // 설정에서 채널이 빠진 뒤 남은 항목은 재시도 횟수를 소진해 DEAD로 정리한다.
+            error = "등록되지 않은 알림 채널입니다: " + channel;
+        } else {
+            try {
+                sender.send(notifications);
+                sentNotifications.increment(notifications.size());
+                return notifications.stream().map(notification -> notification.markSent(now)).toList();
+            } catch (RuntimeException exception) {
+                log.warn("알림 발송에 실패했습니다. channel={}, size={}", channel, notifications.size(), exception);
+                error = String.valueOf(exception.getMessage());
+            }
+        }
+
+        failedNotifications.increment(notifications.size());
+        String truncatedError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        List<AlertNotification> failed = new ArrayList<>(notifications.size());
+        for (AlertNotification notification : notifications) {
+            AlertNotification result = notification.markFailed(
+                truncatedError,
+                now.plus(backoff(notification.getAttempts())),
+                properties.getMaxAttempts()
+            );
+            if (result.getStatus() == AlertNotificationStatus.DEAD) {
+                deadNotifications.increment();
+            }
+            failed.add(result);
+        }
+        return failed;
+    }
+
+    /**
+     * 이전 시도 횟수만큼 초기 간격을 두 배씩 늘리고 maxBackoff로 자른다.
+     */
+    Duration backoff(int previousAttempts) {
+        Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(previousAttempts, MAX_BACKOFF_SHIFT));
+        return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+    }
+}
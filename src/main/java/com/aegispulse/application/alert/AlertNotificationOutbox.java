@@ -0,0 +1,46 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.domain.alert.model.Alert;
+import com.aegispulse.domain.alert.model.AlertNotification;
+import com.aegispulse.domain.alert.repository.AlertNotificationRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 전이 발송 outbox 기록기.
+ * 호출자의 트랜잭션 안에서 알림 저장과 함께 채널별 발송 항목을 기록하므로, 롤백된 전이는 발송되지 않고
+ * 커밋된 전이는 발송기가 재기동 후에도 이어서 보낸다. 등록된 채널이 없으면 아무것도 기록하지 않는다.
+ */
+@Component
+public class AlertNotificationOutbox {
+
+    private final AlertNotificationRepository alertNotificationRepository;
+    private final List<String> channels;
+
+    public AlertNotificationOutbox(
+        AlertNotificationRepository alertNotificationRepository,
+        List<AlertNotificationSender> senders
+    ) {
+        this.alertNotificationRepository = alertNotificationRepository;
+        this.channels = senders.stream().map(AlertNotificationSender::channel).distinct().toList();
+    }
+
+    /**
+     * 저장된(ID가 정해진) 알림 전이를 채널마다 발송 대기 항목으로 기록한다.
+     */
+    void enqueue(List<Alert> savedAlerts) {
+        if (channels.isEmpty() || savedAlerts.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<AlertNotification> notifications = new ArrayList<>(savedAlerts.size() * channels.size());
+        for (Alert alert : savedAlerts) {
+            for (String channel : channels) {
+                notifications.add(AlertNotification.newPending(alert, channel, now));
+            }
+        }
+        alertNotificationRepository.saveAll(notifications);
+    }
+}
@@ -0,0 +1,37 @@
+package com.aegispulse.application.alert;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 알림 외부 발송 설정.
+ * 실패한 항목은 initialBackoff부터 두 배씩 늘린 간격(maxBackoff 상한)으로 재시도하고, maxAttempts회 실패하면 DEAD로 남긴다.
+ * SENT/DEAD 항목은 retention이 지나면 삭제한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aegispulse.alerts.notifications")
+public class AlertNotificationProperties {
+
+    // 한 번에 꺼내 채널별로 묶어 보낼 최대 항목 수.
+    private int batchSize = 100;
+    private int maxAttempts = 8;
+    private Duration initialBackoff = Duration.ofSeconds(5);
+    private Duration maxBackoff = Duration.ofMinutes(10);
+    // 발송이 끝난(SENT/DEAD) 항목을 생성 시각 기준으로 남겨 두는 기간. 지나면 주기적으로 삭제한다.
+    private Duration retention = Duration.ofDays(7);
+    private Webhook webhook = new Webhook();
+
+    /**
+     * 웹훅 채널 설정. url을 지정하면 웹훅 채널이 활성화된다.
+     */
+    @Getter
+    @Setter
+    public static class Webhook {
+
+        private String url;
+        private Duration timeout = Duration.ofSeconds(3);
+    }
+}
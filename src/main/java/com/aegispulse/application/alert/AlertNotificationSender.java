@@ -0,0 +1,21 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.domain.alert.model.AlertNotification;
+import java.util.List;
+
+/**
+ * 알림 외부 발송 채널 확장점.
+ * 채널 구현을 빈으로 등록하면 outbox가 알림 전이마다 채널별 발송 항목을 기록하고, 발송기가 채널 단위 배치로 전달한다.
+ */
+public interface AlertNotificationSender {
+
+    /**
+     * outbox 항목에 기록되는 채널 이름. 재기동 후에도 같은 값이어야 대기 항목을 이어서 보낸다.
+     */
+    String channel();
+
+    /**
+     * 같은 채널 항목 묶음을 한 번에 보낸다. 예외를 던지면 묶음 전체를 실패로 보고 재시도한다.
+     */
+    void send(List<AlertNotification> notifications);
+}
@@ -0,0 +1,81 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.api.common.exception.AegisPulseException;
+import com.aegispulse.api.common.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 payload JSON 직렬화기.
+ * payload 구조를 레코드로 고정하고 타입별 ObjectWriter를 기동 시 한 번 만들어 재사용하므로,
+ * 장애 시 한 평가 주기에 수백 건의 전이가 몰려도 전이마다 Map 할당과 직렬화기 탐색을 반복하지 않는다.
+ * ObjectWriter는 불변이라 평가 스레드 간에 공유한다.
+ */
+@Component
+public class AlertPayloadWriter {
+
+    private final ObjectWriter rulePayloadWriter;
+    private final ObjectWriter isolationPayloadWriter;
+
+    public AlertPayloadWriter(ObjectMapper objectMapper) {
+        this.rulePayloadWriter = objectMapper.writerFor(RulePayload.class);
+        this.isolationPayloadWriter = objectMapper.writerFor(IsolationPayload.class);
+    }
+
+    String write(RulePayload payload) {
+        try {
+            return rulePayloadWriter.writeValueAsString(payload);
+        } catch (JsonProcessingException exception) {
+            throw new AegisPulseException(
+                ErrorCode.INTERNAL_SERVER_ERROR,
+                "알림 payload 직렬화에 실패했습니다."
+            );
+        }
+    }
+
+    String write(IsolationPayload payload) {
+        try {
+            return isolationPayloadWriter.writeValueAsString(payload);
+        } catch (JsonProcessingException exception) {
+            throw new AegisPulseException(
+                ErrorCode.INTERNAL_SERVER_ERROR,
+                "격리 모드 payload 직렬화에 실패했습니다."
+            );
+        }
+    }
+
+    /**
+     * 임계치 규칙 알림 payload. 필드 선언 순서가 JSON 필드 순서다.
+     */
+    public record RulePayload(
+        String serviceId,
+        String alertType,
+        String window,
+        double threshold,
+        double observedValue,
+        String transition,
+        long cooldownMinutes,
+        String evaluatedAt
+    ) {
+    }
+
+    /**
+     * 격리 모드 전환 알림 payload. 해제 전이에는 관측값이 없으므로 null로 기록한다.
+     */
+    public record IsolationPayload(
+        String serviceId,
+        String alertType,
+        String window,
+        String transition,
+        double triggerThreshold,
+        double releaseThreshold,
+        double minimumRequestCount,
+        long recoveryWindowMinutes,
+        Double observedValue,
+        Double estimatedRequestCount,
+        String evaluatedAt
+    ) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.domain.alert.model.AlertRule;
+import com.aegispulse.domain.alert.model.AlertRuleComparator;
+import com.aegispulse.domain.alert.model.AlertRuleMetric;
+import com.aegispulse.domain.alert.model.AlertType;
+import com.aegispulse.domain.metric.model.LatencySketchAccumulator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 규칙 집합을 평가 순서대로 펼친 컴파일 결과.
+ * 규칙 속성을 인덱스별 배열로 보관해, 평가기는 서비스마다 배열을 순회하며 분 슬롯 합계만 읽고 객체를 만들지 않는다.
+ * 생성 후 변경되지 않으므로 여러 평가 스레드가 공유한다.
+ */
+final class AlertRulePlan {
+
+    // 스트리밍 평가의 위반 서명을 long 비트마스크로 표현하므로 규칙 수 상한을 둔다.
+    static final int MAX_RULES = 32;
+
+    private final AlertType[] alertTypes;
+    private final AlertRuleMetric[] metrics;
+    private final AlertRuleComparator[] comparators;
+    private final double[] thresholds;
+    private final int[] windowMinutes;
+    private final long[] cooldownSeconds;
+    private final double[] minRequestCounts;
+
+    private AlertRulePlan(int size) {
+        alertTypes = new AlertType[size];
+        metrics = new AlertRuleMetric[size];
+        comparators = new AlertRuleComparator[size];
+        thresholds = new double[size];
+        windowMinutes = new int[size];
+        cooldownSeconds = new long[size];
+        minRequestCounts = new double[size];
+    }
+
+    /**
+     * 규칙 집합을 컴파일한다. 알림 상태가 (타깃, 타입) 단위이므로 한 집합 안에서 alertType은 중복될 수 없다.
+     */
+    static AlertRulePlan compile(List<AlertRule> rules) {
+        if (rules.size() > MAX_RULES) {
+            throw new IllegalArgumentException("서비스 하나에 적용할 알림 규칙은 " + MAX_RULES + "개 이하여야 합니다.");
+        }
+        Set<AlertType> seenTypes = EnumSet.noneOf(AlertType.class);
+        AlertRulePlan plan = new AlertRulePlan(rules.size());
+        for (int index = 0; index < rules.size(); index++) {
+            AlertRule rule = rules.get(index);
+            if (!seenTypes.add(rule.getAlertType())) {
+                throw new IllegalArgumentException("알림 규칙 alertType이 중복되었습니다: " + rule.getAlertType());
+            }
+            if (rule.getWindow().toMinutes() > AlertWindowSums.CAPACITY_MINUTES) {
+                throw new IllegalArgumentException(
+                    "알림 규칙 구간은 " + AlertWindowSums.CAPACITY_MINUTES + "분 이하여야 합니다: " + rule.getAlertType()
+                );
+            }
+            if (rule.getCooldown().compareTo(AlertEvaluationService.MAX_COOLDOWN_DURATION) > 0) {
+                throw new IllegalArgumentException(
+                    "알림 규칙 cooldown은 " + AlertEvaluationService.MAX_COOLDOWN_DURATION.toMinutes() + "분 이하여야 합니다: "
+                        + rule.getAlertType()
+                );
+            }
+            plan.alertTypes[index] = rule.getAlertType();
+            plan.metrics[index] = rule.getMetric();
+            plan.comparators[index] = rule.getComparator();
+            plan.thresholds[index] = rule.getThreshold();
+            plan.windowMinutes[index] = (int) rule.getWindow().toMinutes();
+            plan.cooldownSeconds[index] = rule.getCooldown().getSeconds();
+            plan.minRequestCounts[index] = rule.getMinRequestCount();
+        }
+        return plan;
+    }
+
+    int size() {
+        return alertTypes.length;
+    }
+
+    AlertType alertType(int index) {
+        return alertTypes[index];
+    }
+
+    double threshold(int index) {
+        return thresholds[index];
+    }
+
+    int windowMinutes(int index) {
+        return windowMinutes[index];
+    }
+
+    long cooldownSeconds(int index) {
+        return cooldownSeconds[index];
+    }
+
+    /**
+     * 규칙 구간 [endMinute - window, endMinute)의 시작 분.
+     */
+    long fromMinute(int index, long endMinute) {
+        return endMinute - windowMinutes[index];
+    }
+
+    /**
+     * 구간에 포인트가 있고 최소 요청 수를 만족해 판정 가능한지 확인한다. 판정 불가 규칙은 상태를 바꾸지 않는다.
+     */
+    boolean isEvaluable(int index, AlertWindowSums sums, long endMinute) {
+        long fromMinute = fromMinute(index, endMinute);
+        if (sums.count(fromMinute) == 0) {
+            return false;
+        }
+        return minRequestCounts[index] <= 0 || sums.requestCount(fromMinute) >= minRequestCounts[index];
+    }
+
+    double observe(int index, AlertWindowSums sums, long endMinute, LatencySketchAccumulator sketchScratch) {
+        return sums.value(metrics[index], fromMinute(index, endMinute), sketchScratch);
+    }
+
+    boolean breached(int index, double observedValue) {
+        return comparators[index].breached(observedValue, thresholds[index]);
+    }
+
+    /**
+     * 판정 가능한 규칙 중 위반 규칙을 비트로 표시한다. 스트리밍 평가기가 전이 여부를 빠르게 판단할 때 사용한다.
+     */
+    long breachSignature(AlertWindowSums sums, long endMinute, LatencySketchAccumulator sketchScratch) {
+        long signature = 0;
+        for (int index = 0; index < alertTypes.length; index++) {
+            if (isEvaluable(index, sums, endMinute) && breached(index, observe(index, sums, endMinute, sketchScratch))) {
+                signature |= 1L << index;
+            }
+        }
+        return signature;
+    }
+}
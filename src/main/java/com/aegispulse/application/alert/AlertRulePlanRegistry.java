@@ -0,0 +1,63 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.domain.alert.model.AlertRule;
+import com.aegispulse.domain.service.model.ManagedService;
+import com.aegispulse.domain.service.model.ServiceEnvironment;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스별 컴파일된 알림 규칙 계획 조회기.
+ * 설정의 규칙 집합을 기동 시 한 번 컴파일하고, 평가 시에는 serviceId → 환경 → 기본값 순으로 계획을 고른다.
+ * 잘못된 규칙 설정은 기동 시점에 실패시킨다.
+ */
+@Component
+public class AlertRulePlanRegistry {
+
+    private final AlertRulePlan defaultPlan;
+    private final Map<ServiceEnvironment, AlertRulePlan> environmentPlans = new EnumMap<>(ServiceEnvironment.class);
+    private final Map<String, AlertRulePlan> servicePlans = new HashMap<>();
+    // 수집 경로는 serviceId만 알므로, 평가 중 확인한 서비스 환경을 기억해 환경별 계획을 고른다.
+    private final Map<String, ServiceEnvironment> knownEnvironments = new ConcurrentHashMap<>();
+
+    public AlertRulePlanRegistry(AlertRuleProperties properties) {
+        this.defaultPlan = compile(properties.getDefaults());
+        properties.getEnvironments().forEach((environment, specs) -> environmentPlans.put(environment, compile(specs)));
+        properties.getServices().forEach((serviceId, specs) -> servicePlans.put(serviceId, compile(specs)));
+    }
+
+    AlertRulePlan planFor(ManagedService service) {
+        knownEnvironments.put(service.getId(), service.getEnvironment());
+        return resolve(service.getId(), service.getEnvironment());
+    }
+
+    /**
+     * serviceId만으로 계획을 고른다. 환경을 아직 모르는 서비스는 기본 계획을 사용한다.
+     */
+    AlertRulePlan planFor(String serviceId) {
+        return resolve(serviceId, knownEnvironments.get(serviceId));
+    }
+
+    private AlertRulePlan resolve(String serviceId, ServiceEnvironment environment) {
+        AlertRulePlan servicePlan = servicePlans.get(serviceId);
+        if (servicePlan != null) {
+            return servicePlan;
+        }
+        if (environment != null) {
+            AlertRulePlan environmentPlan = environmentPlans.get(environment);
+            if (environmentPlan != null) {
+                return environmentPlan;
+            }
+        }
+        return defaultPlan;
+    }
+
+    private static AlertRulePlan compile(List<AlertRuleProperties.RuleSpec> specs) {
+        List<AlertRule> rules = specs.stream().map(AlertRuleProperties.RuleSpec::toRule).toList();
+        return AlertRulePlan.compile(rules);
+    }
+}
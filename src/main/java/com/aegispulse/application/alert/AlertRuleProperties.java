@@ -0,0 +1,63 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.domain.alert.model.AlertRule;
+import com.aegispulse.domain.alert.model.AlertRuleComparator;
+import com.aegispulse.domain.alert.model.AlertRuleMetric;
+import com.aegispulse.domain.alert.model.AlertType;
+import com.aegispulse.domain.service.model.ServiceEnvironment;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 서비스/환경별 임계치 알림 규칙 설정.
+ * 규칙 집합은 serviceId 지정 → 환경 지정 → 기본값 순으로 하나만 선택되며, 선택된 집합이 하위 집합을 통째로 대체한다.
+ * 기본값은 FR-007 기본 규칙(5xx 2% 초과, p95 800ms 초과, 5분 구간, cooldown 10분)이다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aegispulse.alerts.rules")
+public class AlertRuleProperties {
+
+    private List<RuleSpec> defaults = new ArrayList<>(List.of(
+        RuleSpec.of(AlertType.SERVICE_5XX_RATE_HIGH, AlertRuleMetric.STATUS_5XX_RATE, 2.0),
+        RuleSpec.of(AlertType.SERVICE_P95_LATENCY_HIGH, AlertRuleMetric.LATENCY_P95, 800.0)
+    ));
+    private Map<ServiceEnvironment, List<RuleSpec>> environments = new EnumMap<>(ServiceEnvironment.class);
+    private Map<String, List<RuleSpec>> services = new HashMap<>();
+
+    /**
+     * 규칙 하나의 설정값.
+     */
+    @Getter
+    @Setter
+    public static class RuleSpec {
+
+        private AlertType alertType;
+        private AlertRuleMetric metric;
+        private AlertRuleComparator comparator = AlertRuleComparator.GREATER_THAN;
+        private double threshold;
+        private Duration window = Duration.ofMinutes(5);
+        private Duration cooldown = Duration.ofMinutes(10);
+        // 구간 요청 수가 이 값 미만이면 표본 부족으로 보고 상태를 바꾸지 않는다.
+        private double minRequestCount;
+
+        static RuleSpec of(AlertType alertType, AlertRuleMetric metric, double threshold) {
+            RuleSpec spec = new RuleSpec();
+            spec.setAlertType(alertType);
+            spec.setMetric(metric);
+            spec.setThreshold(threshold);
+            return spec;
+        }
+
+        AlertRule toRule() {
+            return AlertRule.of(alertType, metric, comparator, threshold, window, cooldown, minRequestCount);
+        }
+    }
+}
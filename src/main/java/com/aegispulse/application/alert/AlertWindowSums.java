@@ -0,0 +1,190 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.domain.alert.model.AlertRuleMetric;
+import com.aegispulse.domain.metric.model.LatencySketch;
+import com.aegispulse.domain.metric.model.LatencySketchAccumulator;
+import com.aegispulse.domain.metric.model.MetricPoint;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * 서비스 하나의 최근 서비스 축 분 단위 슬롯(최대 10분).
+ * 슬롯마다 rps와 rps 가중 합계를 미리 계산해 두고, 규칙 평가는 구간에 속한 슬롯만 합산하므로
+ * 규칙 수·구간 길이와 무관하게 객체를 할당하지 않는다.
+ * 주기 평가는 서비스마다 reset 후 재사용하고, 스트리밍 평가는 서비스별로 유지한다. 스레드 안전하지 않다.
+ */
+final class AlertWindowSums {
+
+    // 격리 해제 판정 구간(10분)과 같으며, 규칙 구간의 상한이다.
+    static final int CAPACITY_MINUTES = 10;
+    static final long SECONDS_PER_MINUTE = 60L;
+    private static final long EMPTY_MINUTE = Long.MIN_VALUE;
+
+    private final long[] minutes = new long[CAPACITY_MINUTES];
+    private final double[] rps = new double[CAPACITY_MINUTES];
+    private final double[] status5xxRate = new double[CAPACITY_MINUTES];
+    private final double[] status4xxRate = new double[CAPACITY_MINUTES];
+    private final double[] latencyP95 = new double[CAPACITY_MINUTES];
+    private final double[] latencyP50 = new double[CAPACITY_MINUTES];
+    private final LatencySketch[] latencySketches = new LatencySketch[CAPACITY_MINUTES];
+    private long headMinute = EMPTY_MINUTE;
+
+    AlertWindowSums() {
+        Arrays.fill(minutes, EMPTY_MINUTE);
+    }
+
+    /**
+     * 평가 시각 기준 구간 끝(배타) 분. 조회 구간이 [evaluatedAt - window, evaluatedAt)이므로 분 단위로 올림한다.
+     */
+    static long endMinuteOf(Instant evaluatedAt) {
+        return -Math.floorDiv(-evaluatedAt.getEpochSecond(), SECONDS_PER_MINUTE);
+    }
+
+    void reset() {
+        Arrays.fill(minutes, EMPTY_MINUTE);
+        Arrays.fill(latencySketches, null);
+        headMinute = EMPTY_MINUTE;
+    }
+
+    /**
+     * 포인트를 분 슬롯에 반영한다. 같은 분이 다시 오면 마지막 값으로 교체하고, 보관 구간보다 오래된 포인트는 무시한다.
+     */
+    void add(MetricPoint point) {
+        long minute = Math.floorDiv(point.getWindowStart().getEpochSecond(), SECONDS_PER_MINUTE);
+        if (headMinute != EMPTY_MINUTE && minute <= headMinute - CAPACITY_MINUTES) {
+            return;
+        }
+        if (headMinute == EMPTY_MINUTE || minute > headMinute) {
+            headMinute = minute;
+        }
+
+        int slot = Math.floorMod(minute, CAPACITY_MINUTES);
+        minutes[slot] = minute;
+        rps[slot] = point.getRps();
+        status5xxRate[slot] = point.getStatus5xxRate();
+        status4xxRate[slot] = point.getStatus4xxRate();
+        latencyP95[slot] = point.getLatencyP95();
+        latencyP50[slot] = point.getLatencyP50();
+        latencySketches[slot] = point.getLatencySketch();
+    }
+
+    /**
+     * 가장 최근 포인트의 분. 포인트가 없으면 Long.MIN_VALUE.
+     */
+    long headMinute() {
+        return headMinute;
+    }
+
+    /**
+     * [fromMinute, 최신 분] 구간의 포인트 수.
+     */
+    int count(long fromMinute) {
+        int count = 0;
+        for (int slot = 0; slot < CAPACITY_MINUTES; slot++) {
+            if (inWindow(slot, fromMinute)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 구간 요청 수. 1분 포인트의 rps를 실제 요청 수로 환산하기 위해 60초를 곱해 누적한다.
+     */
+    double requestCount(long fromMinute) {
+        double requestCount = 0;
+        for (int slot = 0; slot < CAPACITY_MINUTES; slot++) {
+            if (inWindow(slot, fromMinute)) {
+                requestCount += rps[slot] * SECONDS_PER_MINUTE;
+            }
+        }
+        return requestCount;
+    }
+
+    /**
+     * 구간 관측값을 계산한다. 비율/지연은 rps 가중 평균(총 rps가 0 이하면 단순 평균), RPS는 구간 평균이다.
+     * 지연은 sketchScratch가 주어지고 구간의 모든 포인트가 스케치를 가지면 병합 분위수를 사용한다.
+     * 구간에 포인트가 없으면 0을 반환하므로 호출자가 먼저 {@link #count(long)}로 확인한다.
+     */
+    double value(AlertRuleMetric metric, long fromMinute, LatencySketchAccumulator sketchScratch) {
+        if (metric == AlertRuleMetric.LATENCY_P95 || metric == AlertRuleMetric.LATENCY_P50) {
+            double quantile = metric == AlertRuleMetric.LATENCY_P95 ? 0.95 : 0.5;
+            if (sketchScratch != null && mergeSketches(fromMinute, sketchScratch)) {
+                return sketchScratch.quantile(quantile);
+            }
+        }
+
+        double[] values = switch (metric) {
+            case STATUS_5XX_RATE -> status5xxRate;
+            case STATUS_4XX_RATE -> status4xxRate;
+            case LATENCY_P95 -> latencyP95;
+            case LATENCY_P50 -> latencyP50;
+            case RPS -> rps;
+        };
+        int count = 0;
+        double rpsSum = 0;
+        double weightedSum = 0;
+        double plainSum = 0;
+        for (int slot = 0; slot < CAPACITY_MINUTES; slot++) {
+            if (!inWindow(slot, fromMinute)) {
+                continue;
+            }
+            count++;
+            rpsSum += rps[slot];
+            weightedSum += values[slot] * rps[slot];
+            plainSum += values[slot];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        if (metric == AlertRuleMetric.RPS) {
+            return rpsSum / count;
+        }
+        return rpsSum <= 0 ? plainSum / count : weightedSum / rpsSum;
+    }
+
+    /**
+     * 스트리밍 평가기가 전이 판단 시점의 상태를 평가 스레드로 넘길 때 사용하는 복사본.
+     */
+    AlertWindowSums copy() {
+        AlertWindowSums copy = new AlertWindowSums();
+        System.arraycopy(minutes, 0, copy.minutes, 0, CAPACITY_MINUTES);
+        System.arraycopy(rps, 0, copy.rps, 0, CAPACITY_MINUTES);
+        System.arraycopy(status5xxRate, 0, copy.status5xxRate, 0, CAPACITY_MINUTES);
+        System.arraycopy(status4xxRate, 0, copy.status4xxRate, 0, CAPACITY_MINUTES);
+        System.arraycopy(latencyP95, 0, copy.latencyP95, 0, CAPACITY_MINUTES);
+        System.arraycopy(latencyP50, 0, copy.latencyP50, 0, CAPACITY_MINUTES);
+        System.arraycopy(latencySketches, 0, copy.latencySketches, 0, CAPACITY_MINUTES);
+        copy.headMinute = headMinute;
+        return copy;
+    }
+
+    private boolean mergeSketches(long fromMinute, LatencySketchAccumulator sketchScratch) {
+        boolean any = false;
+        for (int slot = 0; slot < CAPACITY_MINUTES; slot++) {
+            if (!inWindow(slot, fromMinute)) {
+                continue;
+            }
+            if (latencySketches[slot] == null) {
+                return false;
+            }
+            any = true;
+        }
+        if (!any) {
+            return false;
+        }
+        sketchScratch.reset();
+        for (int slot = 0; slot < CAPACITY_MINUTES; slot++) {
+            if (inWindow(slot, fromMinute)) {
+                sketchScratch.add(latencySketches[slot]);
+            }
+        }
+        return true;
+    }
+
+    private boolean inWindow(int slot, long fromMinute) {
+        long minute = minutes[slot];
+        // 슬롯은 재사용되므로 보관 구간을 벗어난 분은 head 기준으로 걸러낸다.
+        return minute != EMPTY_MINUTE && minute >= fromMinute && minute > headMinute - CAPACITY_MINUTES;
+    }
+}
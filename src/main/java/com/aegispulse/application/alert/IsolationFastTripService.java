@@ -0,0 +1,258 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.api.common.exception.AegisPulseException;
+import com.aegispulse.api.common.exception.ErrorCode;
+import com.aegispulse.application.alert.command.ErrorCounterItem;
+import com.aegispulse.application.alert.command.RecordErrorCountersCommand;
+import com.aegispulse.application.alert.result.RecordErrorCountersResult;
+import com.aegispulse.application.service.KnownServiceCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게이트웨이 10초 오류 카운터 기반 격리 빠른 발동 서비스.
+ * 서비스별로 최근 판정 구간의 10초 버킷 요청/5xx 수를 합산하고, 구간 합계가 5분 평가와 같은 발동 조건
+ * (5xx 비율 5% 초과, 요청 200건 이상)을 넘으면 주기 평가를 기다리지 않고 즉시 격리한다.
+ * 카운터는 저장하지 않는 프로세스 로컬 상태이다. 빠른 발동 격리는 다음 5분 평가가 발동 조건을 확인해야 유지되고,
+ * 확인되지 않으면 그 평가에서 해제된다. 확정 뒤의 해제는 기존 분 단위 평가가 그대로 담당한다.
+ */
+@Service
+public class IsolationFastTripService implements IsolationFastTripUseCase {
+
+    static final long BUCKET_SECONDS = 10L;
+    // 게이트웨이 노드와의 시계 차이로 허용하는 미래 버킷 수(10초).
+    static final long MAX_FUTURE_SKEW_BUCKETS = 1L;
+
+    private static final Logger log = LoggerFactory.getLogger(IsolationFastTripService.class);
+
+    private final AlertEvaluationService alertEvaluationService;
+    private final KnownServiceCache knownServiceCache;
+    private final AlertEvaluationProperties alertEvaluationProperties;
+    private final Map<String, CounterRing> rings = new ConcurrentHashMap<>();
+    private final Counter trippedServices;
+
+    public IsolationFastTripService(
+        AlertEvaluationService alertEvaluationService,
+        KnownServiceCache knownServiceCache,
+        AlertEvaluationProperties alertEvaluationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.alertEvaluationService = alertEvaluationService;
+        this.knownServiceCache = knownServiceCache;
+        this.alertEvaluationProperties = alertEvaluationProperties;
+        this.trippedServices = Counter.builder("aegispulse.alerts.isolation.fast-trip.tripped")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public RecordErrorCountersResult record(RecordErrorCountersCommand command) {
+        return record(command, Instant.now());
+    }
+
+    /**
+     * 테스트 시각 주입을 위한 내부 진입점.
+     * 비활성화 상태에서는 카운터를 검증만 하고 반영하지 않으므로, 게이트웨이는 설정과 무관하게 카운터를 보낼 수 있다.
+     */
+    RecordErrorCountersResult record(RecordErrorCountersCommand command, Instant now) {
+        List<ErrorCounterItem> counters = command.getCounters();
+        validateCounters(counters);
+
+        AlertEvaluationProperties.FastTrip fastTrip = alertEvaluationProperties.getFastTrip();
+        if (!fastTrip.isEnabled()) {
+            return RecordErrorCountersResult.builder()
+                .acceptedCount(0)
+                .isolatedServiceIds(List.of())
+                .build();
+        }
+
+        int bucketCount = bucketCount(fastTrip.getWindow());
+        long nowBucket = bucketOf(now);
+        int acceptedCount = 0;
+        Set<String> breachedServiceIds = new LinkedHashSet<>();
+        for (ErrorCounterItem counter : counters) {
+            long bucket = bucketOf(counter.getWindowStart());
+            // 구간을 벗어난 지연 카운터는 이미 판정 시점이 지났으므로 반영하지 않는다.
+            if (bucket <= nowBucket - bucketCount) {
+                continue;
+            }
+            // 허용 오차를 넘는 미래 카운터는 링 구간을 앞당겨 실제 카운터를 모두 밀어내므로 반영하지 않는다.
+            if (bucket > nowBucket + MAX_FUTURE_SKEW_BUCKETS) {
+                continue;
+            }
+            CounterRing ring = rings.computeIfAbsent(counter.getServiceId(), ignored -> new CounterRing(bucketCount));
+            synchronized (ring) {
+                ring.add(bucket, counter.getRequestCount(), counter.getStatus5xxCount());
+                if (ring.checkTrip(nowBucket)) {
+                    breachedServiceIds.add(counter.getServiceId());
+                }
+            }
+            acceptedCount++;
+        }
+
+        List<String> isolatedServiceIds = new ArrayList<>();
+        for (String serviceId : breachedServiceIds) {
+            CounterRing ring = rings.get(serviceId);
+            double requestCount;
+            double status5xxRate;
+            synchronized (ring) {
+                requestCount = ring.requestCount(nowBucket);
+                status5xxRate = ring.status5xxRate(nowBucket);
+            }
+            // 서비스 상태 전이는 트랜잭션이 필요하므로 링 잠금 밖에서 수행한다.
+            boolean isolated;
+            try {
+                isolated = alertEvaluationService.isolateFastTrip(
+                    serviceId,
+                    status5xxRate,
+                    requestCount,
+                    Duration.ofSeconds(bucketCount * BUCKET_SECONDS),
+                    now
+                );
+            } catch (RuntimeException exception) {
+                // 발동에 실패하면 같은 위반 구간에서도 다음 카운터로 다시 시도하도록 발동 표시를 되돌린다.
+                synchronized (ring) {
+                    ring.clearTrip();
+                }
+                log.error("격리 빠른 발동 반영에 실패했습니다. serviceId={}", serviceId, exception);
+                continue;
+            }
+            if (isolated) {
+                trippedServices.increment();
+                isolatedServiceIds.add(serviceId);
+            }
+        }
+
+        return RecordErrorCountersResult.builder()
+            .acceptedCount(acceptedCount)
+            .isolatedServiceIds(isolatedServiceIds)
+            .build();
+    }
+
+    private void validateCounters(List<ErrorCounterItem> counters) {
+        Set<String> verifiedServiceIds = new HashSet<>();
+        for (ErrorCounterItem counter : counters) {
+            if (counter.getStatus5xxCount() > counter.getRequestCount()) {
+                throw new AegisPulseException(ErrorCode.INVALID_REQUEST, "status5xxCount는 requestCount 이하여야 합니다.");
+            }
+            if (verifiedServiceIds.add(counter.getServiceId()) && !knownServiceCache.exists(counter.getServiceId())) {
+                throw new AegisPulseException(ErrorCode.RESOURCE_NOT_FOUND, "요청한 서비스를 찾을 수 없습니다.");
+            }
+        }
+    }
+
+    private static int bucketCount(Duration window) {
+        return (int) Math.max(1L, window.toSeconds() / BUCKET_SECONDS);
+    }
+
+    private static long bucketOf(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), BUCKET_SECONDS);
+    }
+
+    /**
+     * 서비스 하나의 최근 10초 버킷 카운터 링. 소유 서비스가 인스턴스 단위로 동기화한다.
+     * 판정 구간은 마지막으로 받은 버킷이 아니라 현재 시각 기준이므로, 카운터가 끊긴 서비스의 지난 버킷은 시간이 지나면 구간에서 빠진다.
+     */
+    static final class CounterRing {
+
+        private static final long EMPTY_BUCKET = Long.MIN_VALUE;
+
+        private final long[] buckets;
+        private final long[] requestCounts;
+        private final long[] status5xxCounts;
+        private long headBucket = EMPTY_BUCKET;
+        // 발동 조건을 넘은 구간에서는 한 번만 격리를 시도하고, 조건 아래로 내려가면 다시 시도할 수 있다.
+        private boolean tripped;
+        // 마지막으로 조건을 넘은 판정 시점 버킷. 판정 없이 구간이 한 바퀴 지나면 발동 표시를 되돌린다.
+        private long lastBreachedBucket = EMPTY_BUCKET;
+
+        CounterRing(int bucketCount) {
+            buckets = new long[bucketCount];
+            requestCounts = new long[bucketCount];
+            status5xxCounts = new long[bucketCount];
+            Arrays.fill(buckets, EMPTY_BUCKET);
+        }
+
+        /**
+         * 같은 버킷 카운터는 합산한다. 여러 게이트웨이 노드가 같은 10초 구간을 나눠 보고하기 때문이다.
+         */
+        void add(long bucket, long requestCount, long status5xxCount) {
+            if (headBucket != EMPTY_BUCKET && bucket <= headBucket - buckets.length) {
+                return;
+            }
+            int slot = (int) Math.floorMod(bucket, (long) buckets.length);
+            if (buckets[slot] != bucket) {
+                buckets[slot] = bucket;
+                requestCounts[slot] = 0;
+                status5xxCounts[slot] = 0;
+            }
+            requestCounts[slot] += requestCount;
+            status5xxCounts[slot] += status5xxCount;
+            headBucket = Math.max(headBucket, bucket);
+        }
+
+        /**
+         * 현재 버킷까지의 구간이 발동 조건을 새로 넘었으면 true를 반환한다.
+         * 카운터가 끊겼다가 구간이 한 바퀴 지난 뒤 다시 조건을 넘으면 새 위반으로 보고 다시 발동한다.
+         */
+        boolean checkTrip(long nowBucket) {
+            if (tripped && nowBucket - lastBreachedBucket >= buckets.length) {
+                tripped = false;
+            }
+            boolean breached = status5xxRate(nowBucket) > AlertEvaluationService.ISOLATION_TRIGGER_5XX_RATE
+                && requestCount(nowBucket) >= AlertEvaluationService.ISOLATION_MIN_REQUEST_COUNT;
+            if (!breached) {
+                tripped = false;
+                return false;
+            }
+            lastBreachedBucket = nowBucket;
+            if (tripped) {
+                return false;
+            }
+            tripped = true;
+            return true;
+        }
+
+        void clearTrip() {
+            tripped = false;
+        }
+
+        double requestCount(long nowBucket) {
+            long total = 0;
+            for (int slot = 0; slot < buckets.length; slot++) {
+                if (inWindow(slot, nowBucket)) {
+                    total += requestCounts[slot];
+                }
+            }
+            return total;
+        }
+
+        double status5xxRate(long nowBucket) {
+            long requests = 0;
+            long errors = 0;
+            for (int slot = 0; slot < buckets.length; slot++) {
+                if (inWindow(slot, nowBucket)) {
+                    requests += requestCounts[slot];
+                    errors += status5xxCounts[slot];
+                }
+            }
+            return requests == 0 ? 0.0 : errors * 100.0 / requests;
+        }
+
+        private boolean inWindow(int slot, long nowBucket) {
+            return buckets[slot] != EMPTY_BUCKET && buckets[slot] > nowBucket - buckets.length;
+        }
+    }
+}
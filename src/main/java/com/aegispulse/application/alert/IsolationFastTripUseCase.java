@@ -0,0 +1,12 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.application.alert.command.RecordErrorCountersCommand;
+import com.aegispulse.application.alert.result.RecordErrorCountersResult;
+
+/**
+ * 10초 단위 오류 카운터로 격리를 빠르게 발동하는 유스케이스.
+ */
+public interface IsolationFastTripUseCase {
+
+    RecordErrorCountersResult record(RecordErrorCountersCommand command);
+}
@@ -0,0 +1,198 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.application.metric.ServiceAxisPointsAcceptedEvent;
+import com.aegispulse.domain.metric.model.MetricPoint;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 격리 서비스의 자동 해제 판정용 연속 정상 분 카운터.
+ * 격리된 서비스마다 최근 10분의 분 단위 5xx 비율 링과 연속 정상(1% 미만) 분 수를 유지하고, 수집된 서비스 축 포인트로 갱신한다.
+ * 해제 판정은 카운터 비교(O(1))이므로 격리 서비스가 많은 장애 상황에서도 평가 비용이 포인트 수에 비례해 늘지 않는다.
+ * 주기 평가는 매 주기 이미 읽은 복구 구간 포인트로 링을 보정하므로, 다른 인스턴스로 수집된 포인트나 놓친 이벤트도 다음 주기에 반영된다.
+ * 빠른 발동으로 격리된 서비스는 5분 평가가 발동 조건을 확인하기 전까지 미확정으로 표시해 둔다.
+ * 표시는 프로세스 로컬이므로 재시작으로 잃으면 그 격리는 확정된 격리처럼 연속 정상 분 판정으로만 풀린다.
+ */
+@Component
+public class IsolationRecoveryTracker {
+
+    static final int REQUIRED_HEALTHY_MINUTES = 10;
+    static final double RELEASE_5XX_RATE = 1.0;
+
+    private final Map<String, RecoveryRing> rings = new ConcurrentHashMap<>();
+    // 5분 평가 확정을 기다리는 빠른 발동 격리와 발동 분.
+    private final Map<String, Long> unconfirmedFastTrips = new ConcurrentHashMap<>();
+
+    /**
+     * 수집 트랜잭션이 커밋된 뒤(트랜잭션 밖 발행이면 즉시) 추적 중인 서비스의 포인트만 반영한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceAxisPointsAccepted(ServiceAxisPointsAcceptedEvent event) {
+        for (MetricPoint point : event.points()) {
+            RecoveryRing ring = rings.get(point.getServiceId());
+            if (ring == null) {
+                continue;
+            }
+            synchronized (ring) {
+                ring.add(point);
+            }
+        }
+    }
+
+    /**
+     * 격리 발동 트랜잭션이 커밋된 뒤(트랜잭션 밖이면 즉시) 빈 링으로 추적을 시작한다.
+     * 롤백된 격리가 추적 대상으로 남지 않도록 커밋 전에는 등록하지 않는다.
+     */
+    void trackAfterCommit(String serviceId) {
+        afterCommit(() -> track(serviceId));
+    }
+
+    /**
+     * 빠른 발동 격리를 커밋 후 추적하고 5분 평가 확정 대기로 표시한다.
+     */
+    void trackFastTripAfterCommit(String serviceId, Instant isolatedAt) {
+        long isolatedMinute = Math.floorDiv(isolatedAt.getEpochSecond(), AlertWindowSums.SECONDS_PER_MINUTE);
+        afterCommit(() -> {
+            track(serviceId);
+            unconfirmedFastTrips.put(serviceId, isolatedMinute);
+        });
+    }
+
+    /**
+     * 5분 평가 확정을 기다리는 빠른 발동 격리면 발동 분을 반환한다.
+     */
+    OptionalLong unconfirmedFastTripMinute(String serviceId) {
+        Long isolatedMinute = unconfirmedFastTrips.get(serviceId);
+        return isolatedMinute == null ? OptionalLong.empty() : OptionalLong.of(isolatedMinute);
+    }
+
+    /**
+     * 5분 평가가 발동 조건을 확인한 빠른 발동 격리를 확정한다. 이후 해제는 연속 정상 분 판정을 따른다.
+     */
+    void confirmFastTrip(String serviceId) {
+        unconfirmedFastTrips.remove(serviceId);
+    }
+
+    void track(String serviceId) {
+        rings.putIfAbsent(serviceId, new RecoveryRing());
+    }
+
+    void untrack(String serviceId) {
+        rings.remove(serviceId);
+        unconfirmedFastTrips.remove(serviceId);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 주기 평가가 읽은 복구 구간 포인트로 링을 보정한다. 추적 중이 아니면(재시작 직후 등) 이 포인트로 추적을 시작한다.
+     * 같은 분 포인트는 덮어쓰므로 이벤트로 이미 반영된 포인트를 다시 넣어도 결과가 같고, 격리 발동 이전 분 포인트는 쓰지 않는다.
+     */
+    void reconcile(String serviceId, List<MetricPoint> recoveryWindowPoints, Instant isolatedAt) {
+        RecoveryRing ring = rings.computeIfAbsent(serviceId, ignored -> new RecoveryRing());
+        long isolatedMinute = Math.floorDiv(isolatedAt.getEpochSecond(), AlertWindowSums.SECONDS_PER_MINUTE);
+        synchronized (ring) {
+            for (MetricPoint point : recoveryWindowPoints) {
+                if (RecoveryRing.minuteOf(point) >= isolatedMinute) {
+                    ring.add(point);
+                }
+            }
+        }
+    }
+
+    /**
+     * 구간 끝(배타) 직전 분까지 연속 10분이 모두 정상이면 해제 가능하다.
+     */
+    boolean isRecoveryReady(String serviceId, long endMinute) {
+        RecoveryRing ring = rings.get(serviceId);
+        if (ring == null) {
+            return false;
+        }
+        synchronized (ring) {
+            return ring.isRecoveryReady(endMinute);
+        }
+    }
+
+    /**
+     * 서비스 하나의 최근 분 단위 5xx 비율 링. 소유 추적기가 인스턴스 단위로 동기화한다.
+     */
+    static final class RecoveryRing {
+
+        private static final long EMPTY_MINUTE = Long.MIN_VALUE;
+
+        private final long[] minutes = new long[REQUIRED_HEALTHY_MINUTES];
+        private final double[] status5xxRates = new double[REQUIRED_HEALTHY_MINUTES];
+        private long headMinute = EMPTY_MINUTE;
+        private int consecutiveHealthyMinutes;
+
+        RecoveryRing() {
+            Arrays.fill(minutes, EMPTY_MINUTE);
+        }
+
+        static long minuteOf(MetricPoint point) {
+            return Math.floorDiv(point.getWindowStart().getEpochSecond(), AlertWindowSums.SECONDS_PER_MINUTE);
+        }
+
+        void add(MetricPoint point) {
+            long minute = minuteOf(point);
+            if (headMinute != EMPTY_MINUTE && minute <= headMinute - REQUIRED_HEALTHY_MINUTES) {
+                return;
+            }
+
+            int slot = Math.floorMod(minute, REQUIRED_HEALTHY_MINUTES);
+            minutes[slot] = minute;
+            status5xxRates[slot] = point.getStatus5xxRate();
+            boolean healthy = point.getStatus5xxRate() < RELEASE_5XX_RATE;
+            if (headMinute == EMPTY_MINUTE || minute > headMinute) {
+                // 다음 분이면 연속 구간을 잇고, 공백이 있으면 새 분부터 다시 센다.
+                boolean continuous = headMinute != EMPTY_MINUTE && minute == headMinute + 1;
+                if (!healthy) {
+                    consecutiveHealthyMinutes = 0;
+                } else if (continuous) {
+                    consecutiveHealthyMinutes = Math.min(consecutiveHealthyMinutes + 1, REQUIRED_HEALTHY_MINUTES);
+                } else {
+                    consecutiveHealthyMinutes = 1;
+                }
+                headMinute = minute;
+                return;
+            }
+            // 재전송/지연 도착으로 과거 분이 바뀌면 최신 분부터 다시 센다(최대 10칸).
+            consecutiveHealthyMinutes = countHealthyFromHead();
+        }
+
+        boolean isRecoveryReady(long endMinute) {
+            return consecutiveHealthyMinutes >= REQUIRED_HEALTHY_MINUTES && headMinute >= endMinute - 1;
+        }
+
+        private int countHealthyFromHead() {
+            int count = 0;
+            for (long minute = headMinute; count < REQUIRED_HEALTHY_MINUTES; minute--) {
+                int slot = Math.floorMod(minute, REQUIRED_HEALTHY_MINUTES);
+                if (minutes[slot] != minute || status5xxRates[slot] >= RELEASE_5XX_RATE) {
+                    break;
+                }
+                count++;
+            }
+            return count;
+        }
+    }
+}
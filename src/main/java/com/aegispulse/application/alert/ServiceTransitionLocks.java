@@ -0,0 +1,111 @@
+package com.aegispulse.application.alert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 서비스 단위 알림/격리 전이 직렬화 지점.
+ * 주기 평가(전체/shard), 스트리밍 전이, 빠른 격리 발동, ACK는 같은 서비스의 알림과 서비스 상태를 읽고 다시 쓰므로,
+ * 상태를 읽기 전에 락을 잡아 전이 트랜잭션이 끝날 때(커밋/롤백 후)까지 보유한다.
+ * 알림 인덱스 반영(afterCommit)이 끝난 뒤에 락이 풀리므로 다음 보유자는 직전 전이가 반영된 상태를 읽는다.
+ * 전체 평가는 전체 쓰기 락을, 나머지는 전체 읽기 락과 서비스별 락을 잡으므로 서로 다른 서비스의 shard/전이는 막지 않는다.
+ * 서비스별 락은 serviceId 오름차순으로 잡아 교착을 피한다. 락은 프로세스 로컬이므로 {@link ActiveAlertIndex}와 같이 단일 인스턴스 배포를 전제로 한다.
+ */
+@Component
+public class ServiceTransitionLocks {
+
+    private final ReentrantReadWriteLock fleetLock = new ReentrantReadWriteLock();
+    // 서비스 수만큼만 생기므로 별도로 제거하지 않는다.
+    private final Map<String, ReentrantLock> serviceLocks = new ConcurrentHashMap<>();
+
+    /**
+     * 서비스 하나의 전이 락을 잡는다.
+     */
+    Hold lock(String serviceId) {
+        return lock(List.of(serviceId));
+    }
+
+    /**
+     * 여러 서비스의 전이 락을 잡는다. shard 평가에서 사용한다.
+     */
+    Hold lock(Collection<String> serviceIds) {
+        List<Lock> locks = new ArrayList<>();
+        locks.add(fleetLock.readLock());
+        for (String serviceId : new TreeSet<>(serviceIds)) {
+            locks.add(serviceLock(serviceId));
+        }
+        return acquire(locks);
+    }
+
+    /**
+     * 모든 서비스의 전이 락을 잡는다. 전체 서비스를 한 트랜잭션으로 평가하는 주기 평가에서 사용한다.
+     */
+    Hold lockAll() {
+        return acquire(List.of(fleetLock.writeLock()));
+    }
+
+    /**
+     * 다른 스레드가 서비스의 전이 락을 기다리는지 확인한다. 테스트에서 동시 전이 대기 여부를 확인하는 데 사용한다.
+     */
+    boolean hasQueuedThreads(String serviceId) {
+        return fleetLock.hasQueuedThreads() || serviceLock(serviceId).hasQueuedThreads();
+    }
+
+    private ReentrantLock serviceLock(String serviceId) {
+        return serviceLocks.computeIfAbsent(serviceId, ignored -> new ReentrantLock());
+    }
+
+    private Hold acquire(List<Lock> locks) {
+        for (Lock lock : locks) {
+            lock.lock();
+        }
+        Hold hold = new Hold(locks);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 후 인덱스 반영까지 끝난 뒤 풀도록 트랜잭션 완료 시점으로 해제를 미룬다.
+            hold.deferred = true;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    hold.release();
+                }
+            });
+        }
+        return hold;
+    }
+
+    /**
+     * 보유 중인 전이 락. 트랜잭션 안에서 잡았으면 close는 아무것도 하지 않고 트랜잭션 완료 시 풀린다.
+     */
+    static final class Hold implements AutoCloseable {
+
+        private final List<Lock> locks;
+        private boolean deferred;
+
+        private Hold(List<Lock> locks) {
+            this.locks = locks;
+        }
+
+        @Override
+        public void close() {
+            if (!deferred) {
+                release();
+            }
+        }
+
+        private void release() {
+            for (int index = locks.size() - 1; index >= 0; index--) {
+                locks.get(index).unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.domain.service.model.ManagedService;
+import com.aegispulse.domain.service.repository.ManagedServiceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * SHARDED 모드 알림 평가기.
+ * 서비스 목록을 shard로 나눠 shard마다 가상 스레드 하나에서 AlertEvaluationService.evaluateShard(독립 트랜잭션)를 호출한다.
+ * 동시 실행 shard 수는 세마포어로 parallelism 이하로 제한해 DB 커넥션 풀을 고갈시키지 않는다.
+ * 한 shard의 실패/지연은 해당 shard에만 머물고, shard별 소요 시간은 타이머로 노출한다.
+ */
+@Component
+public class ShardedAlertEvaluator {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedAlertEvaluator.class);
+
+    private final AlertEvaluationService alertEvaluationService;
+    private final ManagedServiceRepository managedServiceRepository;
+    private final AlertEvaluationProperties properties;
+    private final Timer shardDuration;
+    private final Timer sweepDuration;
+    private final Counter failedShards;
+
+    public ShardedAlertEvaluator(
+        AlertEvaluationService alertEvaluationService,
+        ManagedServiceRepository managedServiceRepository,
+        AlertEvaluationProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.alertEvaluationService = alertEvaluationService;
+        this.managedServiceRepository = managedServiceRepository;
+        this.properties = properties;
+        this.shardDuration = Timer.builder("aegispulse.alerts.evaluation.shard.duration")
+            .description("알림 평가 shard 하나를 평가/커밋하는 데 걸린 시간")
+            .register(meterRegistry);
+        this.sweepDuration = Timer.builder("aegispulse.alerts.evaluation.sweep.duration")
+            .description("전체 서비스 알림 평가 1회에 걸린 시간")
+            .register(meterRegistry);
+        this.failedShards = Counter.builder("aegispulse.alerts.evaluation.shard.failed").register(meterRegistry);
+    }
+
+    public void evaluate() {
+        evaluateAt(Instant.now());
+    }
+
+    void evaluateAt(Instant evaluatedAt) {
+        long sweepStartedAt = System.nanoTime();
+        List<List<ManagedService>> shards = partition(managedServiceRepository.findAll(), Math.max(1, properties.getShardSize()));
+        Semaphore permits = new Semaphore(Math.max(1, properties.getParallelism()));
+
+        // close()가 제출한 shard 작업이 모두 끝날 때까지 기다린다.
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("alert-eval-shard-", 0).factory()
+        )) {
+            for (int index = 0; index < shards.size(); index++) {
+                int shardIndex = index;
+                List<ManagedService> shard = shards.get(index);
+                executor.execute(() -> evaluateShard(shardIndex, shard, evaluatedAt, permits));
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - sweepStartedAt;
+        sweepDuration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Duration elapsed = Duration.ofNanos(elapsedNanos);
+        if (elapsed.compareTo(properties.getSweepWarnThreshold()) > 0) {
+            log.warn(
+                "알림 평가가 경고 기준을 초과했습니다. shardCount={}, elapsedMs={}, thresholdMs={}",
+                shards.size(),
+                elapsed.toMillis(),
+                properties.getSweepWarnThreshold().toMillis()
+            );
+        }
+    }
+
+    private void evaluateShard(int shardIndex, List<ManagedService> shard, Instant evaluatedAt, Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            alertEvaluationService.evaluateShard(shard, evaluatedAt);
+        } catch (RuntimeException exception) {
+            // 실패한 shard는 롤백되고 다음 주기에 다시 평가된다. 다른 shard 평가는 계속한다.
+            failedShards.increment();
+            log.error("알림 평가 shard 처리에 실패했습니다. shard={}, serviceCount={}", shardIndex, shard.size(), exception);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            permits.release();
+            shardDuration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            log.debug(
+                "알림 평가 shard 완료. shard={}, serviceCount={}, elapsedMs={}",
+                shardIndex,
+                shard.size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos)
+            );
+        }
+    }
+
+    private static List<List<ManagedService>> partition(List<ManagedService> services, int shardSize) {
+        List<List<ManagedService>> shards = new ArrayList<>((services.size() + shardSize - 1) / shardSize);
+        for (int from = 0; from < services.size(); from += shardSize) {
+            shards.add(services.subList(from, Math.min(services.size(), from + shardSize)));
+        }
+        return shards;
+    }
+}
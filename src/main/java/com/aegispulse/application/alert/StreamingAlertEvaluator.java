@@ -0,0 +1,143 @@
+package com.aegispulse.application.alert;
+
+import com.aegispulse.application.metric.ServiceAxisPointsAcceptedEvent;
+import com.aegispulse.domain.alert.model.AlertRuleMetric;
+import com.aegispulse.domain.metric.model.MetricPoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 수집 시점 스트리밍 알림 평가기.
+ * 서비스별 최근 10분 분 슬롯 합계를 유지하고, 포인트 하나마다 서비스의 규칙 계획과 격리 발동 조건을 다시 판정한다.
+ * 위반 여부 조합이 바뀐 경우에만 상태 전이를 전이 전용 스레드에 넘기므로, 정상 구간에서는 알림 저장소를 조회하지 않는다.
+ * 지연 지표는 분 단위 값의 rps 가중 평균으로 근사하며, 스케치 기반 지연과 격리 해제는 주기 평가가 정합성 보정으로 처리한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "aegispulse.alerts.evaluation", name = "streaming-enabled", havingValue = "true")
+public class StreamingAlertEvaluator {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingAlertEvaluator.class);
+
+    private static final int ISOLATION_WINDOW_MINUTES = (int) AlertEvaluationService.WINDOW_DURATION.toMinutes();
+    // 규칙 비트(최대 32개) 뒤에 격리 발동 여부를 기록한다.
+    private static final long ISOLATION_SIGNATURE_BIT = 1L << AlertRulePlan.MAX_RULES;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    private final AlertEvaluationService alertEvaluationService;
+    private final AlertRulePlanRegistry alertRulePlanRegistry;
+    private final Map<String, ServiceWindow> windows = new ConcurrentHashMap<>();
+    // 스트리밍 전이끼리는 한 스레드에서 제출 순서대로 반영한다.
+    // 주기 평가/빠른 격리와의 직렬화는 AlertEvaluationService가 ServiceTransitionLocks로 보장한다.
+    private final ExecutorService transitionExecutor = Executors.newSingleThreadExecutor(
+        Thread.ofVirtual().name("alert-stream-transition").factory()
+    );
+    private final Counter submittedTransitions;
+    private final Counter failedTransitions;
+
+    public StreamingAlertEvaluator(
+        AlertEvaluationService alertEvaluationService,
+        AlertRulePlanRegistry alertRulePlanRegistry,
+        MeterRegistry meterRegistry
+    ) {
+        this.alertEvaluationService = alertEvaluationService;
+        this.alertRulePlanRegistry = alertRulePlanRegistry;
+        this.submittedTransitions = Counter.builder("aegispulse.alerts.streaming.transitions.submitted")
+            .register(meterRegistry);
+        this.failedTransitions = Counter.builder("aegispulse.alerts.streaming.transitions.failed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 수집 트랜잭션이 커밋된 뒤(트랜잭션 밖 발행이면 즉시) 서비스 축 포인트를 반영한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceAxisPointsAccepted(ServiceAxisPointsAcceptedEvent event) {
+        for (MetricPoint point : event.points()) {
+            accept(point);
+        }
+    }
+
+    void accept(MetricPoint point) {
+        String serviceId = point.getServiceId();
+        ServiceWindow window = windows.computeIfAbsent(serviceId, ignored -> new ServiceWindow());
+        AlertWindowSums changedWindow;
+        synchronized (window) {
+            changedWindow = window.add(point, alertRulePlanRegistry.planFor(serviceId));
+        }
+        if (changedWindow != null) {
+            submitTransition(serviceId, changedWindow);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        transitionExecutor.shutdown();
+        try {
+            if (!transitionExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                transitionExecutor.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            transitionExecutor.shutdownNow();
+        }
+    }
+
+    private void submitTransition(String serviceId, AlertWindowSums window) {
+        submittedTransitions.increment();
+        transitionExecutor.execute(() -> {
+            try {
+                alertEvaluationService.evaluateWindow(serviceId, window, Instant.now());
+            } catch (RuntimeException exception) {
+                // 반영하지 못한 전이는 다음 주기 평가가 보정한다.
+                failedTransitions.increment();
+                log.error("스트리밍 알림 전이 반영에 실패했습니다. serviceId={}", serviceId, exception);
+            }
+        });
+    }
+
+    /**
+     * 서비스 하나의 분 슬롯 합계와 직전 위반 서명. 소유 평가기가 인스턴스 단위로 동기화한다.
+     */
+    static final class ServiceWindow {
+
+        // 시작 시점에는 위반 없음으로 간주해, 재시작 직후 모든 서비스가 한꺼번에 전이 확인을 요청하지 않도록 한다.
+        private static final long HEALTHY_SIGNATURE = 0L;
+
+        private final AlertWindowSums sums = new AlertWindowSums();
+        private long lastSignature = HEALTHY_SIGNATURE;
+
+        /**
+         * 포인트를 반영하고, 위반 조합이 직전과 달라졌으면 전이 평가에 넘길 슬롯 합계 복사본을 반환한다.
+         */
+        AlertWindowSums add(MetricPoint point, AlertRulePlan plan) {
+            sums.add(point);
+            long endMinute = sums.headMinute() + 1;
+            long signature = plan.breachSignature(sums, endMinute, null);
+            if (triggersIsolation(endMinute - ISOLATION_WINDOW_MINUTES)) {
+                signature |= ISOLATION_SIGNATURE_BIT;
+            }
+            if (signature == lastSignature) {
+                return null;
+            }
+            lastSignature = signature;
+            return sums.copy();
+        }
+
+        private boolean triggersIsolation(long fromMinute) {
+            return sums.value(AlertRuleMetric.STATUS_5XX_RATE, fromMinute, null) > AlertEvaluationService.ISOLATION_TRIGGER_5XX_RATE
+                && sums.requestCount(fromMinute) >= AlertEvaluationService.ISOLATION_MIN_REQUEST_COUNT;
+        }
+    }
+}
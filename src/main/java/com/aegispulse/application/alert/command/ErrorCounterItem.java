@@ -0,0 +1,19 @@
+package com.aegispulse.application.alert.command;
+
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 서비스 하나의 10초 구간 요청/5xx 카운트.
+ * 같은 구간 카운트가 여러 게이트웨이 노드에서 오면 합산한다.
+ */
+@Getter
+@Builder
+public class ErrorCounterItem {
+
+    private final String serviceId;
+    private final Instant windowStart;
+    private final long requestCount;
+    private final long status5xxCount;
+}
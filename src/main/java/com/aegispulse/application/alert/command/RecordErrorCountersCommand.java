@@ -0,0 +1,15 @@
+package com.aegispulse.application.alert.command;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 게이트웨이 오류 카운터 일괄 기록 커맨드.
+ */
+@Getter
+@Builder
+public class RecordErrorCountersCommand {
+
+    private final List<ErrorCounterItem> counters;
+}
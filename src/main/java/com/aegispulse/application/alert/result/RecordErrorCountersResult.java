@@ -0,0 +1,18 @@
+package com.aegispulse.application.alert.result;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 오류 카운터 기록 결과.
+ */
+@Getter
+@Builder
+public class RecordErrorCountersResult {
+
+    // 반영된 카운터 수. 빠른 판정 구간보다 오래된 카운터는 제외된다.
+    private final int acceptedCount;
+    // 이번 요청으로 격리 모드로 전환된 서비스 ID 목록.
+    private final List<String> isolatedServiceIds;
+}
@@ -0,0 +1,45 @@
+package com.aegispulse.application.consumer.key;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * (consumerId, 평문 키) 조합의 메모리 캐시용 지문.
+ * 인스턴스마다 새로 만드는 비밀값으로 계산한 HMAC-SHA256이므로 평문 키나 재사용 가능한 해시를 메모리에 남기지 않는다.
+ */
+final class ApiKeyFingerprint {
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int SECRET_BYTE_LENGTH = 32;
+
+    private final SecretKeySpec secret;
+
+    private ApiKeyFingerprint(SecretKeySpec secret) {
+        this.secret = secret;
+    }
+
+    static ApiKeyFingerprint withRandomSecret() {
+        byte[] secretBytes = new byte[SECRET_BYTE_LENGTH];
+        new SecureRandom().nextBytes(secretBytes);
+        return new ApiKeyFingerprint(new SecretKeySpec(secretBytes, MAC_ALGORITHM));
+    }
+
+    String of(String consumerId, String apiKey) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(secret);
+            mac.update(consumerId.getBytes(StandardCharsets.UTF_8));
+            // consumerId와 키 경계를 구분해 ("ab", "c")와 ("a", "bc")가 같은 지문이 되지 않게 한다.
+            mac.update((byte) 0);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                mac.doFinal(apiKey.getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("API Key 지문 생성에 실패했습니다.", exception);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.aegispulse.application.consumer.key;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * API Key 원문 형식.
+ * 원문은 ak_&lt;조회 ID&gt;_&lt;비밀값&gt;이며, 조회 ID는 키 ID(key_&lt;32자리 hex&gt;)의 hex 부분이다.
+ * 인증 시 조회 ID로 키 한 건만 읽어 해시를 한 번만 검증한다.
+ * 조회 ID가 없는 이전 형식(ak_&lt;비밀값&gt;)은 {@link #keyIdOf}가 빈 결과를 반환하므로 기존 전체 매칭으로 처리한다.
+ */
+public final class ApiKeyFormat {
+
+    private static final String KEY_ID_PREFIX = "key_";
+    private static final String PLAIN_KEY_PREFIX = "ak_";
+    private static final Pattern KEY_ID_PATTERN = Pattern.compile("key_([0-9a-f]{32})");
+    private static final Pattern PLAIN_KEY_PATTERN = Pattern.compile("ak_([0-9a-f]{32})_.+");
+
+    private ApiKeyFormat() {
+    }
+
+    public static String newKeyId() {
+        return KEY_ID_PREFIX + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    /**
+     * 키 ID와 비밀값으로 원문을 만든다.
+     */
+    public static String compose(String keyId, String secret) {
+        Matcher matcher = KEY_ID_PATTERN.matcher(keyId);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("keyId 형식이 올바르지 않습니다: " + keyId);
+        }
+        return PLAIN_KEY_PREFIX + matcher.group(1) + "_" + secret;
+    }
+
+    /**
+     * 원문에 포함된 키 ID를 반환한다. 이전 형식이거나 형식이 맞지 않으면 빈 결과를 반환한다.
+     */
+    public static Optional<String> keyIdOf(String plainKey) {
+        Matcher matcher = PLAIN_KEY_PATTERN.matcher(plainKey);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(KEY_ID_PREFIX + matcher.group(1));
+    }
+}
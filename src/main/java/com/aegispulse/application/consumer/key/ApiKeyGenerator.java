@@ -5,5 +5,8 @@ package com.aegispulse.application.consumer.key;
  */
 public interface ApiKeyGenerator {
 
-    String generate();
+    /**
+     * 키 ID를 조회 식별자로 포함한 원문을 생성한다. 형식은 {@link ApiKeyFormat}을 따른다.
+     */
+    String generate(String keyId);
 }
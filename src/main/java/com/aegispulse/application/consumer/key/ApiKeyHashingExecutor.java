@@ -0,0 +1,156 @@
+package com.aegispulse.application.consumer.key;
+
+import com.aegispulse.api.common.exception.AegisPulseException;
+import com.aegispulse.api.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.stereotype.Component;
+
+/**
+ * API Key 해시/검증 전용 실행기.
+ * PBKDF2 연산을 코어 수 크기의 전용 스레드 풀에서 수행해, 인증 요청이 몰려도 서블릿 스레드의 CPU를 해시 연산이 독점하지 않게 한다.
+ * 요청 스레드는 결과를 기다리기만 하고, 대기열이 가득 차거나 consumer별 동시 한도를 넘으면 대기 없이 TOO_MANY_REQUESTS로 거절한다.
+ * 결과 대기는 wait-timeout으로 제한하므로, 대기열이 밀려도 요청 스레드가 무기한 붙잡히지 않는다.
+ */
+@Component
+public class ApiKeyHashingExecutor {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5L;
+
+    private final ApiKeyHasher apiKeyHasher;
+    private final int perConsumerConcurrency;
+    private final long waitTimeoutNanos;
+    private final ThreadPoolExecutor hashingExecutor;
+    // consumer는 관리 API로만 생성되므로 consumer 수만큼만 늘어난다.
+    private final Map<String, Semaphore> consumerPermits = new ConcurrentHashMap<>();
+    private final Timer queueWait;
+    private final Timer hashingDuration;
+    private final Counter rejectedByQueue;
+    private final Counter rejectedByConsumer;
+    private final Counter rejectedByTimeout;
+
+    public ApiKeyHashingExecutor(
+        ApiKeyHasher apiKeyHasher,
+        ApiKeyHashingProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.apiKeyHasher = apiKeyHasher;
+        this.perConsumerConcurrency = Math.max(1, properties.getPerConsumerConcurrency());
+        this.waitTimeoutNanos = properties.getWaitTimeout().toNanos();
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        this.hashingExecutor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+            Thread.ofPlatform().name("api-key-hash-", 0).daemon(true).factory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("aegispulse.consumers.key-hashing.queue.depth", this, ApiKeyHashingExecutor::queueDepth)
+            .description("API Key 해시 실행기 대기열에 쌓인 작업 수")
+            .register(meterRegistry);
+        Gauge.builder("aegispulse.consumers.key-hashing.active", hashingExecutor, ThreadPoolExecutor::getActiveCount)
+            .description("API Key 해시 실행기에서 수행 중인 작업 수")
+            .register(meterRegistry);
+        this.queueWait = Timer.builder("aegispulse.consumers.key-hashing.queue.wait")
+            .description("해시 작업이 대기열에서 실행되기까지 기다린 시간")
+            .register(meterRegistry);
+        this.hashingDuration = Timer.builder("aegispulse.consumers.key-hashing.duration")
+            .description("해시 작업 하나를 수행하는 데 걸린 시간")
+            .register(meterRegistry);
+        this.rejectedByQueue = Counter.builder("aegispulse.consumers.key-hashing.rejected")
+            .tag("reason", "queue-full")
+            .register(meterRegistry);
+        this.rejectedByConsumer = Counter.builder("aegispulse.consumers.key-hashing.rejected")
+            .tag("reason", "consumer-limit")
+            .register(meterRegistry);
+        this.rejectedByTimeout = Counter.builder("aegispulse.consumers.key-hashing.rejected")
+            .tag("reason", "timeout")
+            .register(meterRegistry);
+    }
+
+    public String hash(String consumerId, String plainKey) {
+        return execute(consumerId, () -> apiKeyHasher.hash(plainKey));
+    }
+
+    public boolean matches(String consumerId, String plainKey, String hashedKey) {
+        return execute(consumerId, () -> apiKeyHasher.matches(plainKey, hashedKey));
+    }
+
+    private <T> T execute(String consumerId, Callable<T> task) {
+        Semaphore permits = consumerPermits.computeIfAbsent(consumerId, ignored -> new Semaphore(perConsumerConcurrency));
+        if (!permits.tryAcquire()) {
+            rejectedByConsumer.increment();
+            throw new AegisPulseException(ErrorCode.TOO_MANY_REQUESTS, "consumer의 동시 API Key 검증 요청이 너무 많습니다.");
+        }
+        try {
+            long submittedAt = System.nanoTime();
+            Future<T> future;
+            try {
+                future = hashingExecutor.submit(() -> {
+                    queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                    return hashingDuration.recordCallable(task);
+                });
+            } catch (RejectedExecutionException exception) {
+                rejectedByQueue.increment();
+                throw new AegisPulseException(ErrorCode.TOO_MANY_REQUESTS, "API Key 검증 요청이 많아 처리할 수 없습니다.");
+            }
+            return await(future);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException exception) {
+            // 아직 대기열에 있으면 실행되지 않도록 취소한다. 이미 실행 중인 해시는 끝까지 수행되고 결과만 버린다.
+            future.cancel(true);
+            rejectedByTimeout.increment();
+            throw new AegisPulseException(ErrorCode.TOO_MANY_REQUESTS, "API Key 검증 요청이 많아 처리할 수 없습니다.");
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("API Key 해시 작업 대기 중 인터럽트되었습니다.", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("API Key 해시 작업에 실패했습니다.", exception.getCause());
+        }
+    }
+
+    int queueDepth() {
+        return hashingExecutor.getQueue().size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashingExecutor.shutdown();
+        try {
+            if (!hashingExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                hashingExecutor.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            hashingExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.aegispulse.application.consumer.key;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * API Key 해시 전용 실행기 설정.
+ * 해시 연산은 CPU 바운드이므로 스레드 수는 코어 수를 넘기지 않고, 대기열이 차거나 결과 대기가 wait-timeout을 넘으면 TOO_MANY_REQUESTS로 거절한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aegispulse.consumers.key-hashing")
+public class ApiKeyHashingProperties {
+
+    // 0 이하이면 가용 코어 수를 사용한다.
+    private int threads;
+    private int queueCapacity = 64;
+    // consumer 하나가 동시에 점유할 수 있는 해시 작업 수(대기 포함).
+    private int perConsumerConcurrency = 4;
+    // 요청 스레드가 대기열 대기와 해시 연산을 합쳐 기다리는 최대 시간.
+    private Duration waitTimeout = Duration.ofSeconds(2);
+}
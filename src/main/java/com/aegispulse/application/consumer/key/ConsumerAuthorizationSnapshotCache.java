@@ -0,0 +1,140 @@
+package com.aegispulse.application.consumer.key;
+
+import com.aegispulse.application.service.ServiceStatusChangedEvent;
+import com.aegispulse.domain.consumer.key.model.ManagedConsumerKey;
+import com.aegispulse.domain.consumer.model.ConsumerType;
+import com.aegispulse.domain.policy.model.TemplateType;
+import com.aegispulse.domain.service.model.ServiceStatus;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * API Key 인증 컨텍스트 스냅샷 캐시.
+ * (serviceId, routeId, consumerId)별로 서비스 상태, 최신 정책 템플릿, consumer 타입, ACTIVE 키 목록을 ttl 동안 보관해
+ * 인증 요청마다 반복되던 서비스/정책/consumer/키 조회를 건너뛴다.
+ * 서비스 등록, 템플릿 적용, 키 발급 트랜잭션과 서비스 상태 변경 이벤트가 커밋되면 관련 스냅샷을 비운다.
+ * 조회는 잠금 없이 처리하고, 스냅샷은 서비스와 consumer로 색인해 무효화가 해당 항목만 지운다. 항목 수는 maxEntries로 제한한다.
+ */
+@Component
+public class ConsumerAuthorizationSnapshotCache {
+
+    private final IndexedExpiringEntries<SnapshotKey, AuthorizationSnapshot> entries;
+    // 무효화와 동시에 진행된 조회가 무효화 이전 값을 다시 넣지 않도록 세대를 비교한다. 쓰기가 드물어 전역 세대 하나로 충분하다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public ConsumerAuthorizationSnapshotCache(ConsumerAuthorizationSnapshotProperties properties) {
+        this.entries = new IndexedExpiringEntries<>(properties.getTtl(), properties.getMaxEntries());
+    }
+
+    /**
+     * 캐시된 스냅샷을 조회한다. 만료된 항목은 제거하고 빈 결과를 반환한다.
+     */
+    public Optional<AuthorizationSnapshot> find(String serviceId, String routeId, String consumerId) {
+        return entries.find(new SnapshotKey(serviceId, routeId, consumerId));
+    }
+
+    /**
+     * 저장소 조회 전에 현재 세대를 읽어 둔다. put에 같은 값을 넘겨야 한다.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 스냅샷을 기록한다. 조회 이후 무효화가 있었으면 기록하지 않는다.
+     * 기록 직후 세대를 다시 확인해, 기록과 겹친 무효화가 놓친 항목은 스스로 되돌린다.
+     */
+    public void put(AuthorizationSnapshot snapshot, long observedGeneration) {
+        if (generation.get() != observedGeneration) {
+            return;
+        }
+        SnapshotKey key = new SnapshotKey(snapshot.serviceId(), snapshot.routeId(), snapshot.consumerId());
+        Object written = entries.put(
+            key,
+            snapshot,
+            List.of(new ServiceGroup(snapshot.serviceId()), new ConsumerGroup(snapshot.consumerId()))
+        );
+        if (generation.get() != observedGeneration) {
+            entries.remove(key, written);
+        }
+    }
+
+    /**
+     * 서비스 상태나 정책이 바뀌는 트랜잭션이 커밋된 뒤 해당 서비스의 스냅샷을 모두 비운다.
+     */
+    public void invalidateServiceAfterCommit(String serviceId) {
+        invalidateAfterCommit(new ServiceGroup(serviceId));
+    }
+
+    /**
+     * consumer의 키가 바뀌는 트랜잭션이 커밋된 뒤 해당 consumer의 스냅샷을 모두 비운다.
+     */
+    public void invalidateConsumerAfterCommit(String consumerId) {
+        invalidateAfterCommit(new ConsumerGroup(consumerId));
+    }
+
+    /**
+     * 서비스 상태 전이 트랜잭션이 커밋된 뒤(트랜잭션 밖 발행이면 즉시) 해당 서비스의 스냅샷을 비운다.
+     * 커밋 전 조회가 읽은 이전 상태는 세대 비교로 걸러지므로 커밋 후 한 번 비우는 것으로 충분하다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceStatusChanged(ServiceStatusChangedEvent event) {
+        for (String serviceId : event.serviceIds()) {
+            invalidate(new ServiceGroup(serviceId));
+        }
+    }
+
+    private void invalidateAfterCommit(Object group) {
+        // 커밋 전 구간에도 이전 값이 다시 들어오지 않도록 세대를 먼저 올린다. 트랜잭션 밖이면 이것으로 끝난다.
+        invalidate(group);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(group);
+            }
+        });
+    }
+
+    /**
+     * 세대를 올린 뒤 항목을 지운다. 순서를 바꾸면 지운 직후 이전 세대 기록이 다시 들어올 수 있다.
+     */
+    private void invalidate(Object group) {
+        generation.incrementAndGet();
+        entries.invalidateGroup(group);
+    }
+
+    /**
+     * 인증 판정에 필요한 서비스/정책/consumer/키 상태. templateType은 적용된 정책이 없으면 null이다.
+     */
+    public record AuthorizationSnapshot(
+        String serviceId,
+        String routeId,
+        String consumerId,
+        ServiceStatus serviceStatus,
+        TemplateType templateType,
+        ConsumerType consumerType,
+        List<ManagedConsumerKey> activeKeys
+    ) {
+
+        public AuthorizationSnapshot {
+            activeKeys = List.copyOf(activeKeys);
+        }
+    }
+
+    private record SnapshotKey(String serviceId, String routeId, String consumerId) {
+    }
+
+    private record ServiceGroup(String serviceId) {
+    }
+
+    private record ConsumerGroup(String consumerId) {
+    }
+}
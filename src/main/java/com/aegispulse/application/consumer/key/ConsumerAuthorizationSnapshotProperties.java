@@ -0,0 +1,19 @@
+package com.aegispulse.application.consumer.key;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * API Key 인증 컨텍스트 스냅샷 캐시 설정.
+ * 서비스/정책/consumer/키 변경은 같은 인스턴스에는 커밋 직후, 다른 인스턴스에는 최대 ttl 뒤에 반영된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aegispulse.consumers.authorization-snapshot")
+public class ConsumerAuthorizationSnapshotProperties {
+
+    private Duration ttl = Duration.ofSeconds(30);
+    private int maxEntries = 10_000;
+}
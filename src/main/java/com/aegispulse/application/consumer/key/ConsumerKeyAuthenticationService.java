@@ -2,6 +2,7 @@ package com.aegispulse.application.consumer.key;
 
 import com.aegispulse.api.common.exception.AegisPulseException;
 import com.aegispulse.api.common.exception.ErrorCode;
+import com.aegispulse.application.consumer.key.ConsumerAuthorizationSnapshotCache.AuthorizationSnapshot;
 import com.aegispulse.application.consumer.key.command.AuthenticateConsumerKeyCommand;
 import com.aegispulse.application.consumer.key.result.AuthenticateConsumerKeyResult;
 import com.aegispulse.domain.consumer.key.model.ConsumerKeyStatus;
@@ -17,14 +18,19 @@ import com.aegispulse.domain.service.model.ManagedService;
 import com.aegispulse.domain.service.model.ServiceStatus;
 import com.aegispulse.domain.service.repository.ManagedServiceRepository;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 /**
  * Consumer API Key 인증 유스케이스 구현체.
  * partner 템플릿 연동 상태를 확인한 뒤 키 해시 매칭으로 인증 성공/실패를 판정한다.
+ * 서비스 상태/정책 템플릿/consumer 타입/ACTIVE 키는 인증 컨텍스트 스냅샷 캐시에서 읽어, 캐시 적중 시 저장소를 조회하지 않는다.
+ * 키 ID가 포함된 원문은 해당 키 한 건만 검증하고, 이전 형식 원문은 consumer의 키 전체와 매칭한다.
+ * 매칭 결과는 검증 캐시에 기록해 같은 키의 반복 인증은 해시 연산 없이 판정한다.
+ * 일치하는 키가 없는 실패는 실패 차단기에 기록해, 같은 키 재시도와 실패가 잦은 consumer/IP는 해시 연산 전에 거절한다.
+ * 스냅샷 적중 경로가 DB 커넥션을 잡지 않도록 트랜잭션을 열지 않으며, 미적중 시 조회 사이의 변경은 스냅샷 캐시 세대 비교로 걸러낸다.
  */
 @Service
 @RequiredArgsConstructor
@@ -34,50 +40,169 @@ public class ConsumerKeyAuthenticationService implements AuthenticateConsumerKey
     private final ManagedConsumerRepository managedConsumerRepository;
     private final ManagedConsumerKeyRepository managedConsumerKeyRepository;
     private final ManagedServiceRepository managedServiceRepository;
-    private final ApiKeyHasher apiKeyHasher;
+    private final ApiKeyHashingExecutor apiKeyHashingExecutor;
+    private final ConsumerKeyVerificationCache consumerKeyVerificationCache;
+    private final ConsumerKeyFailureGuard consumerKeyFailureGuard;
+    private final ConsumerAuthorizationSnapshotCache consumerAuthorizationSnapshotCache;
 
     @Override
-    @Transactional(readOnly = true)
     public AuthenticateConsumerKeyResult authenticate(AuthenticateConsumerKeyCommand command) {
-        // FR-009 우선순위에 따라 인증 로직보다 먼저 격리 모드 여부를 검사한다.
-        validateServiceIsNotIsolated(command.getServiceId());
-        validatePartnerTemplateBinding(command.getServiceId(), command.getRouteId());
-        ManagedConsumer consumer = loadPartnerConsumer(command.getConsumerId());
+        // ACTIVE 키 목록이 스냅샷에서 오므로 검증 캐시 세대는 스냅샷보다 먼저 읽는다.
+        // 스냅샷을 읽은 뒤 세대를 읽으면, 그 사이 폐기된 키가 이전 스냅샷으로 매칭되어 ACTIVE로 기록될 수 있다.
+        long generation = consumerKeyVerificationCache.generation(command.getConsumerId());
+        AuthorizationSnapshot snapshot = loadAuthorizationSnapshot(command);
+        String consumerId = snapshot.consumerId();
 
         if (!StringUtils.hasText(command.getApiKey())) {
             throw new AegisPulseException(ErrorCode.UNAUTHORIZED, "X-API-Key 헤더가 필요합니다.");
         }
 
-        List<ManagedConsumerKey> activeKeys = managedConsumerKeyRepository.findAllByConsumerIdAndStatus(
-            consumer.getId(),
-            ConsumerKeyStatus.ACTIVE
+        // 최근 검증된 키는 PBKDF2 매칭 없이 캐시 결과로 판정한다.
+        Optional<ConsumerKeyVerificationCache.VerifiedKey> cached = consumerKeyVerificationCache.find(
+            consumerId,
+            command.getApiKey()
         );
-        for (ManagedConsumerKey activeKey : activeKeys) {
-            if (apiKeyHasher.matches(command.getApiKey(), activeKey.getKeyHash())) {
-                return AuthenticateConsumerKeyResult.builder()
-                    .authenticated(true)
-                    .consumerId(consumer.getId())
-                    .keyId(activeKey.getId())
-                    .build();
+        if (cached.isPresent()) {
+            return toResult(consumerId, cached.get());
+        }
+
+        // 유효한 키는 위 캐시에서 먼저 통과시키므로, 실패 차단이 정상 호출자까지 막지 않는다.
+        consumerKeyFailureGuard.checkAdmission(consumerId, command.getClientIp());
+        if (consumerKeyFailureGuard.isRecentlyRejected(consumerId, command.getApiKey())) {
+            throw authenticationFailed(consumerId, command);
+        }
+
+        Optional<String> keyId = ApiKeyFormat.keyIdOf(command.getApiKey());
+        if (keyId.isPresent()) {
+            return authenticateByKeyId(snapshot, command, keyId.get(), generation);
+        }
+
+        // 키 ID가 없는 이전 형식 키는 consumer의 키 전체와 매칭한다.
+        for (ManagedConsumerKey activeKey : snapshot.activeKeys()) {
+            if (apiKeyHashingExecutor.matches(consumerId, command.getApiKey(), activeKey.getKeyHash())) {
+                return toResult(consumerId, remember(consumerId, command.getApiKey(), activeKey, generation));
             }
         }
 
-        boolean matchedRevokedKey = managedConsumerKeyRepository.findAllByConsumerIdAndStatus(
-            consumer.getId(),
+        Optional<ManagedConsumerKey> matchedRevokedKey = managedConsumerKeyRepository.findAllByConsumerIdAndStatus(
+            consumerId,
             ConsumerKeyStatus.REVOKED
-        ).stream().anyMatch(revokedKey -> apiKeyHasher.matches(command.getApiKey(), revokedKey.getKeyHash()));
-        if (matchedRevokedKey) {
+        ).stream()
+            .filter(revokedKey -> apiKeyHashingExecutor.matches(consumerId, command.getApiKey(), revokedKey.getKeyHash()))
+            .findFirst();
+        if (matchedRevokedKey.isPresent()) {
+            remember(consumerId, command.getApiKey(), matchedRevokedKey.get(), generation);
             throw new AegisPulseException(ErrorCode.FORBIDDEN, "폐기된 API Key입니다.");
         }
 
-        throw new AegisPulseException(ErrorCode.UNAUTHORIZED, "API Key 인증에 실패했습니다.");
+        throw authenticationFailed(consumerId, command);
     }
 
-    private void validateServiceIsNotIsolated(String serviceId) {
-        ManagedService service = managedServiceRepository.findById(serviceId)
+    /**
+     * 인증 컨텍스트를 스냅샷 캐시에서 읽는다. 없으면 검증 순서대로 저장소를 조회하고, 모든 검증을 통과한 컨텍스트만 캐시에 넣는다.
+     */
+    private AuthorizationSnapshot loadAuthorizationSnapshot(AuthenticateConsumerKeyCommand command) {
+        Optional<AuthorizationSnapshot> cached = consumerAuthorizationSnapshotCache.find(
+            command.getServiceId(),
+            command.getRouteId(),
+            command.getConsumerId()
+        );
+        if (cached.isPresent()) {
+            AuthorizationSnapshot snapshot = cached.get();
+            validateServiceIsNotIsolated(snapshot.serviceStatus());
+            validatePartnerTemplate(snapshot.templateType());
+            validatePartnerConsumer(snapshot.consumerType());
+            return snapshot;
+        }
+
+        long generation = consumerAuthorizationSnapshotCache.generation();
+        // FR-009 우선순위에 따라 인증 로직보다 먼저 격리 모드 여부를 검사한다.
+        ManagedService service = managedServiceRepository.findById(command.getServiceId())
             .orElseThrow(() -> new AegisPulseException(ErrorCode.RESOURCE_NOT_FOUND, "요청한 서비스를 찾을 수 없습니다."));
+        validateServiceIsNotIsolated(service.getStatus());
+
+        TemplateType templateType = policyBindingRepository.findLatest(command.getServiceId(), command.getRouteId())
+            .map(PolicyBinding::getTemplateType)
+            .orElse(null);
+        validatePartnerTemplate(templateType);
+
+        ManagedConsumer consumer = managedConsumerRepository.findById(command.getConsumerId())
+            .orElseThrow(() -> new AegisPulseException(ErrorCode.RESOURCE_NOT_FOUND, "요청한 consumer를 찾을 수 없습니다."));
+        validatePartnerConsumer(consumer.getType());
+
+        List<ManagedConsumerKey> activeKeys = managedConsumerKeyRepository.findAllByConsumerIdAndStatus(
+            consumer.getId(),
+            ConsumerKeyStatus.ACTIVE
+        );
+        AuthorizationSnapshot snapshot = new AuthorizationSnapshot(
+            service.getId(),
+            command.getRouteId(),
+            consumer.getId(),
+            service.getStatus(),
+            templateType,
+            consumer.getType(),
+            activeKeys
+        );
+        consumerAuthorizationSnapshotCache.put(snapshot, generation);
+        return snapshot;
+    }
+
+    /**
+     * 원문의 키 ID로 키 한 건만 골라 해시를 한 번만 검증한다. ACTIVE 키는 스냅샷에서 찾고, 없으면(폐기된 키 등) 저장소에서 조회한다.
+     * 다른 consumer의 키 ID이거나 해시가 일치하지 않으면 존재 여부를 드러내지 않도록 같은 인증 실패로 응답한다.
+     */
+    private AuthenticateConsumerKeyResult authenticateByKeyId(
+        AuthorizationSnapshot snapshot,
+        AuthenticateConsumerKeyCommand command,
+        String keyId,
+        long generation
+    ) {
+        String consumerId = snapshot.consumerId();
+        ManagedConsumerKey key = snapshot.activeKeys().stream()
+            .filter(activeKey -> activeKey.getId().equals(keyId))
+            .findFirst()
+            .or(() -> managedConsumerKeyRepository.findById(keyId))
+            .filter(found -> found.getConsumerId().equals(consumerId))
+            .filter(found -> apiKeyHashingExecutor.matches(consumerId, command.getApiKey(), found.getKeyHash()))
+            .orElseThrow(() -> authenticationFailed(consumerId, command));
+        return toResult(consumerId, remember(consumerId, command.getApiKey(), key, generation));
+    }
+
+    private AegisPulseException authenticationFailed(String consumerId, AuthenticateConsumerKeyCommand command) {
+        consumerKeyFailureGuard.recordFailure(consumerId, command.getClientIp(), command.getApiKey());
+        return new AegisPulseException(ErrorCode.UNAUTHORIZED, "API Key 인증에 실패했습니다.");
+    }
 
-        if (service.getStatus() == ServiceStatus.ISOLATED) {
+    private ConsumerKeyVerificationCache.VerifiedKey remember(
+        String consumerId,
+        String apiKey,
+        ManagedConsumerKey matchedKey,
+        long generation
+    ) {
+        ConsumerKeyVerificationCache.VerifiedKey verifiedKey = new ConsumerKeyVerificationCache.VerifiedKey(
+            matchedKey.getId(),
+            matchedKey.getStatus()
+        );
+        consumerKeyVerificationCache.put(consumerId, apiKey, verifiedKey, generation);
+        return verifiedKey;
+    }
+
+    private AuthenticateConsumerKeyResult toResult(
+        String consumerId,
+        ConsumerKeyVerificationCache.VerifiedKey verifiedKey
+    ) {
+        if (verifiedKey.status() != ConsumerKeyStatus.ACTIVE) {
+            throw new AegisPulseException(ErrorCode.FORBIDDEN, "폐기된 API Key입니다.");
+        }
+        return AuthenticateConsumerKeyResult.builder()
+            .authenticated(true)
+            .consumerId(consumerId)
+            .keyId(verifiedKey.keyId())
+            .build();
+    }
+
+    private void validateServiceIsNotIsolated(ServiceStatus serviceStatus) {
+        if (serviceStatus == ServiceStatus.ISOLATED) {
             throw new AegisPulseException(
                 ErrorCode.SERVICE_ISOLATED,
                 "현재 서비스가 격리 모드로 차단되어 인증 요청을 처리할 수 없습니다."
@@ -85,22 +210,15 @@ public class ConsumerKeyAuthenticationService implements AuthenticateConsumerKey
         }
     }
 
-    private void validatePartnerTemplateBinding(String serviceId, String routeId) {
-        PolicyBinding binding = policyBindingRepository.findLatest(serviceId, routeId)
-            .orElseThrow(() -> new AegisPulseException(ErrorCode.FORBIDDEN, "partner 템플릿이 적용된 정책이 없습니다."));
-
-        if (binding.getTemplateType() != TemplateType.PARTNER) {
+    private void validatePartnerTemplate(TemplateType templateType) {
+        if (templateType != TemplateType.PARTNER) {
             throw new AegisPulseException(ErrorCode.FORBIDDEN, "partner 템플릿이 적용된 정책이 없습니다.");
         }
     }
 
-    private ManagedConsumer loadPartnerConsumer(String consumerId) {
-        ManagedConsumer consumer = managedConsumerRepository.findById(consumerId)
-            .orElseThrow(() -> new AegisPulseException(ErrorCode.RESOURCE_NOT_FOUND, "요청한 consumer를 찾을 수 없습니다."));
-
-        if (consumer.getType() != ConsumerType.PARTNER) {
+    private void validatePartnerConsumer(ConsumerType consumerType) {
+        if (consumerType != ConsumerType.PARTNER) {
             throw new AegisPulseException(ErrorCode.FORBIDDEN, "partner 타입 consumer만 API Key 인증을 수행할 수 있습니다.");
         }
-        return consumer;
     }
 }
@@ -0,0 +1,19 @@
+package com.aegispulse.application.consumer.key;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * API Key 검증 결과 캐시 설정.
+ * 키 폐기/재발급은 같은 인스턴스에서는 즉시 반영되고, 다른 인스턴스에는 최대 ttl 뒤에 반영된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aegispulse.consumers.key-cache")
+public class ConsumerKeyCacheProperties {
+
+    private Duration ttl = Duration.ofMinutes(1);
+    private int maxEntries = 10_000;
+}
@@ -0,0 +1,175 @@
+package com.aegispulse.application.consumer.key;
+
+import com.aegispulse.api.common.exception.AegisPulseException;
+import com.aegispulse.api.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * API Key 인증 실패 차단기.
+ * 일치하는 키가 없어 실패한 (consumerId, 평문 키) 지문을 짧게 기억해 같은 키의 재시도는 해시 연산 없이 실패시키고,
+ * 실패 횟수를 consumer/클라이언트 IP별 토큰 버킷으로 세어 버킷이 비면 PBKDF2 연산 전에 TOO_MANY_REQUESTS로 거절한다.
+ * 새로 발급되는 키는 무작위 값이므로 한 번 실패한 지문이 이후 유효해지는 경우는 없다.
+ */
+@Component
+public class ConsumerKeyFailureGuard {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final ConsumerKeyFailureGuardProperties properties;
+    private final ApiKeyFingerprint fingerprint = ApiKeyFingerprint.withRandomSecret();
+    private final long negativeTtlNanos;
+    private final Map<String, Long> rejectedAtNanos;
+    // consumer는 관리 API로만 생성되므로 consumer 수만큼만 늘어난다.
+    private final Map<String, TokenBucket> consumerBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> clientIpBuckets;
+    private final Counter negativeHits;
+    private final Counter recordedFailures;
+    private final Counter throttledByConsumer;
+    private final Counter throttledByClientIp;
+
+    public ConsumerKeyFailureGuard(ConsumerKeyFailureGuardProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.negativeTtlNanos = properties.getNegativeTtl().toNanos();
+        int negativeMaxEntries = Math.max(1, properties.getNegativeMaxEntries());
+        this.rejectedAtNanos = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > negativeMaxEntries;
+            }
+        };
+        int maxTrackedClients = Math.max(1, properties.getMaxTrackedClients());
+        this.clientIpBuckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                return size() > maxTrackedClients;
+            }
+        };
+
+        this.negativeHits = Counter.builder("aegispulse.consumers.key-failure.negative-cache.hits")
+            .description("최근 실패한 키 지문과 일치해 해시 연산 없이 실패 처리한 인증 수")
+            .register(meterRegistry);
+        this.recordedFailures = Counter.builder("aegispulse.consumers.key-failure.recorded")
+            .description("일치하는 키가 없어 실패한 인증 수")
+            .register(meterRegistry);
+        this.throttledByConsumer = Counter.builder("aegispulse.consumers.key-failure.throttled")
+            .tag("scope", "consumer")
+            .register(meterRegistry);
+        this.throttledByClientIp = Counter.builder("aegispulse.consumers.key-failure.throttled")
+            .tag("scope", "client-ip")
+            .register(meterRegistry);
+    }
+
+    /**
+     * consumer 또는 클라이언트 IP의 실패 버킷이 비어 있으면 해시 연산 전에 거절한다.
+     * 버킷은 실패 시에만 차감하므로, 동시에 들어온 요청은 버킷이 비기 직전 몇 건 더 통과할 수 있다.
+     */
+    public void checkAdmission(String consumerId, String clientIp) {
+        long now = System.nanoTime();
+        TokenBucket consumerBucket = consumerBuckets.get(consumerId);
+        if (consumerBucket != null && !consumerBucket.hasToken(now)) {
+            throttledByConsumer.increment();
+            throw new AegisPulseException(
+                ErrorCode.TOO_MANY_REQUESTS,
+                "consumer의 API Key 인증 실패가 너무 많습니다. 잠시 후 다시 시도해 주세요."
+            );
+        }
+        TokenBucket clientIpBucket = clientIpBucket(clientIp, false);
+        if (clientIpBucket != null && !clientIpBucket.hasToken(now)) {
+            throttledByClientIp.increment();
+            throw new AegisPulseException(ErrorCode.TOO_MANY_REQUESTS, "API Key 인증 실패가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    /**
+     * 최근 실패한 키인지 확인한다. 만료된 항목은 제거하고 false를 반환한다.
+     */
+    public boolean isRecentlyRejected(String consumerId, String apiKey) {
+        String key = fingerprint.of(consumerId, apiKey);
+        long now = System.nanoTime();
+        synchronized (rejectedAtNanos) {
+            Long rejectedAt = rejectedAtNanos.get(key);
+            if (rejectedAt == null) {
+                return false;
+            }
+            if (now - rejectedAt >= negativeTtlNanos) {
+                rejectedAtNanos.remove(key);
+                return false;
+            }
+        }
+        negativeHits.increment();
+        return true;
+    }
+
+    /**
+     * 인증 실패를 기록한다. 키 지문을 기억하고 consumer/클라이언트 IP 버킷에서 토큰을 하나씩 차감한다.
+     */
+    public void recordFailure(String consumerId, String clientIp, String apiKey) {
+        long now = System.nanoTime();
+        String key = fingerprint.of(consumerId, apiKey);
+        synchronized (rejectedAtNanos) {
+            rejectedAtNanos.put(key, now);
+        }
+        consumerBuckets.computeIfAbsent(consumerId, ignored -> new TokenBucket(properties.getConsumer(), now)).consume(now);
+        TokenBucket clientIpBucket = clientIpBucket(clientIp, true);
+        if (clientIpBucket != null) {
+            clientIpBucket.consume(now);
+        }
+        recordedFailures.increment();
+    }
+
+    private TokenBucket clientIpBucket(String clientIp, boolean create) {
+        if (clientIp == null) {
+            return null;
+        }
+        synchronized (clientIpBuckets) {
+            TokenBucket bucket = clientIpBuckets.get(clientIp);
+            if (bucket == null && create) {
+                bucket = new TokenBucket(properties.getClientIp(), System.nanoTime());
+                clientIpBuckets.put(clientIp, bucket);
+            }
+            return bucket;
+        }
+    }
+
+    /**
+     * 실패 토큰 버킷. 마지막 갱신 이후 경과 시간만큼 토큰을 채운 뒤 판단한다.
+     */
+    static final class TokenBucket {
+
+        private final double capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long refilledAtNanos;
+
+        TokenBucket(ConsumerKeyFailureGuardProperties.Bucket spec, long nowNanos) {
+            this.capacity = Math.max(1, spec.getCapacity());
+            this.refillPerNano = Math.max(0, spec.getRefillPerMinute()) / (double) NANOS_PER_MINUTE;
+            this.tokens = capacity;
+            this.refilledAtNanos = nowNanos;
+        }
+
+        synchronized boolean hasToken(long nowNanos) {
+            refill(nowNanos);
+            return tokens >= 1.0;
+        }
+
+        synchronized void consume(long nowNanos) {
+            refill(nowNanos);
+            tokens = Math.max(0.0, tokens - 1.0);
+        }
+
+        private void refill(long nowNanos) {
+            long elapsed = nowNanos - refilledAtNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+                refilledAtNanos = nowNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.aegispulse.application.consumer.key;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * API Key 인증 실패 차단 설정.
+ * 실패한 키 지문은 negative-ttl 동안 기억하고, 실패 횟수는 consumer/클라이언트 IP별 토큰 버킷으로 제한한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aegispulse.consumers.key-failure")
+public class ConsumerKeyFailureGuardProperties {
+
+    private Duration negativeTtl = Duration.ofSeconds(30);
+    private int negativeMaxEntries = 10_000;
+    private Bucket consumer = Bucket.of(20, 20);
+    private Bucket clientIp = Bucket.of(10, 10);
+    // 추적하는 클라이언트 IP 버킷 수 상한. 넘으면 가장 오래 쓰이지 않은 버킷부터 버린다.
+    private int maxTrackedClients = 10_000;
+
+    /**
+     * 실패 토큰 버킷 설정. 실패마다 토큰 하나를 쓰고, 분당 refillPerMinute개씩 capacity까지 다시 채운다.
+     */
+    @Getter
+    @Setter
+    public static class Bucket {
+
+        private int capacity;
+        private int refillPerMinute;
+
+        static Bucket of(int capacity, int refillPerMinute) {
+            Bucket bucket = new Bucket();
+            bucket.setCapacity(capacity);
+            bucket.setRefillPerMinute(refillPerMinute);
+            return bucket;
+        }
+    }
+}
@@ -10,10 +10,9 @@ import com.aegispulse.domain.consumer.key.repository.ManagedConsumerKeyRepositor
 import com.aegispulse.domain.consumer.model.ConsumerType;
 import com.aegispulse.domain.consumer.model.ManagedConsumer;
 import com.aegispulse.domain.consumer.repository.ManagedConsumerRepository;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * Consumer API Key 발급 유스케이스 구현체.
@@ -26,10 +25,12 @@ public class ConsumerKeyIssueService implements IssueConsumerKeyUseCase {
     private final ManagedConsumerRepository managedConsumerRepository;
     private final ManagedConsumerKeyRepository managedConsumerKeyRepository;
     private final ApiKeyGenerator apiKeyGenerator;
-    private final ApiKeyHasher apiKeyHasher;
+    private final ApiKeyHashingExecutor apiKeyHashingExecutor;
+    private final ConsumerKeyVerificationCache consumerKeyVerificationCache;
+    private final ConsumerAuthorizationSnapshotCache consumerAuthorizationSnapshotCache;
+    private final TransactionOperations transactionOperations;
 
     @Override
-    @Transactional
     public IssueConsumerKeyResult issue(IssueConsumerKeyCommand command) {
         ManagedConsumer consumer = managedConsumerRepository.findById(command.getConsumerId())
             .orElseThrow(() -> new AegisPulseException(ErrorCode.RESOURCE_NOT_FOUND, "요청한 consumer를 찾을 수 없습니다."));
@@ -41,16 +42,12 @@ public class ConsumerKeyIssueService implements IssueConsumerKeyUseCase {
             );
         }
 
-        managedConsumerKeyRepository.findAllByConsumerIdAndStatus(command.getConsumerId(), ConsumerKeyStatus.ACTIVE)
-            .stream()
-            .map(ManagedConsumerKey::revoke)
-            .forEach(managedConsumerKeyRepository::save);
-
-        String plainKey = apiKeyGenerator.generate();
-        String keyHash = apiKeyHasher.hash(plainKey);
-        ManagedConsumerKey saved = managedConsumerKeyRepository.save(
-            ManagedConsumerKey.newActiveKey(generateKeyId(), consumer.getId(), keyHash)
-        );
+        // 원문에 키 ID를 넣어 인증 시 키 한 건만 조회/검증하도록 한다.
+        String keyId = ApiKeyFormat.newKeyId();
+        String plainKey = apiKeyGenerator.generate(keyId);
+        // 해시는 인증과 같은 실행기 대기열을 거치므로 트랜잭션을 열기 전에 끝내, 대기/거절 동안 DB 트랜잭션을 붙잡지 않는다.
+        String keyHash = apiKeyHashingExecutor.hash(consumer.getId(), plainKey);
+        ManagedConsumerKey saved = transactionOperations.execute(status -> replaceActiveKeys(consumer.getId(), keyId, keyHash));
 
         return IssueConsumerKeyResult.builder()
             .keyId(saved.getId())
@@ -58,7 +55,19 @@ public class ConsumerKeyIssueService implements IssueConsumerKeyUseCase {
             .build();
     }
 
-    private String generateKeyId() {
-        return "key_" + UUID.randomUUID().toString().replace("-", "");
+    /**
+     * 기존 ACTIVE 키 폐기와 새 키 저장을 한 트랜잭션에서 수행한다.
+     */
+    private ManagedConsumerKey replaceActiveKeys(String consumerId, String keyId, String keyHash) {
+        managedConsumerKeyRepository.findAllByConsumerIdAndStatus(consumerId, ConsumerKeyStatus.ACTIVE)
+            .stream()
+            .map(ManagedConsumerKey::revoke)
+            .forEach(managedConsumerKeyRepository::save);
+        // 폐기된 키의 ACTIVE 검증 결과와 이전 ACTIVE 키 목록 스냅샷이 남지 않도록 커밋 후 consumer 항목을 비운다.
+        // 커밋 후에는 등록 순서대로 비우므로, 스냅샷을 먼저 비워 올라간 검증 세대를 읽은 인증이 이전 스냅샷을 보지 않게 한다.
+        consumerAuthorizationSnapshotCache.invalidateConsumerAfterCommit(consumerId);
+        consumerKeyVerificationCache.invalidateAfterCommit(consumerId);
+
+        return managedConsumerKeyRepository.save(ManagedConsumerKey.newActiveKey(keyId, consumerId, keyHash));
     }
 }
@@ -0,0 +1,91 @@
+package com.aegispulse.application.consumer.key;
+
+import com.aegispulse.domain.consumer.key.model.ConsumerKeyStatus;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * API Key 검증 결과 캐시.
+ * PBKDF2 매칭에 성공한 (consumerId, 평문 키) 조합을 키 ID/상태와 함께 ttl 동안 기억해, 같은 키의 반복 인증이 해시 연산을 건너뛰게 한다.
+ * 캐시 키는 {@link ApiKeyFingerprint}이므로 평문 키나 재사용 가능한 해시를 메모리에 남기지 않는다.
+ * 조회는 잠금 없이 처리하고, 항목은 consumer별로 색인해 무효화가 해당 consumer 항목만 지운다. 항목 수는 maxEntries로 제한한다.
+ */
+@Component
+public class ConsumerKeyVerificationCache {
+
+    private final ApiKeyFingerprint fingerprint = ApiKeyFingerprint.withRandomSecret();
+    private final IndexedExpiringEntries<String, VerifiedKey> entries;
+    // 폐기/재발급과 동시에 진행된 인증이 폐기 전 결과를 다시 넣지 않도록 consumer별 세대를 비교한다.
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    public ConsumerKeyVerificationCache(ConsumerKeyCacheProperties properties) {
+        this.entries = new IndexedExpiringEntries<>(properties.getTtl(), properties.getMaxEntries());
+    }
+
+    /**
+     * 캐시된 검증 결과를 조회한다. 만료된 항목은 제거하고 빈 결과를 반환한다.
+     */
+    public Optional<VerifiedKey> find(String consumerId, String apiKey) {
+        return entries.find(fingerprint.of(consumerId, apiKey));
+    }
+
+    /**
+     * 키 조회 전에 consumer의 현재 세대를 읽어 둔다. put에 같은 값을 넘겨야 한다.
+     */
+    public long generation(String consumerId) {
+        return generations.getOrDefault(consumerId, 0L);
+    }
+
+    /**
+     * 검증 결과를 기록한다. 조회 이후 해당 consumer의 키가 폐기/재발급되었으면 기록하지 않는다.
+     * 기록 직후 세대를 다시 확인해, 기록과 겹친 무효화가 놓친 항목은 스스로 되돌린다.
+     */
+    public void put(String consumerId, String apiKey, VerifiedKey verifiedKey, long observedGeneration) {
+        if (generation(consumerId) != observedGeneration) {
+            return;
+        }
+        String cacheKey = fingerprint.of(consumerId, apiKey);
+        Object written = entries.put(cacheKey, verifiedKey, List.of(consumerId));
+        if (generation(consumerId) != observedGeneration) {
+            entries.remove(cacheKey, written);
+        }
+    }
+
+    /**
+     * consumer의 키 상태가 바뀌는 트랜잭션이 커밋된 뒤 해당 consumer 항목을 모두 비운다.
+     * 트랜잭션 밖에서 호출되면 즉시 비운다.
+     */
+    public void invalidateAfterCommit(String consumerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(consumerId);
+            return;
+        }
+        // 커밋 전 구간에도 새 결과가 들어오지 않도록 세대를 먼저 올린다.
+        invalidate(consumerId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(consumerId);
+            }
+        });
+    }
+
+    /**
+     * 세대를 올린 뒤 항목을 지운다. 순서를 바꾸면 지운 직후 이전 세대 기록이 다시 들어올 수 있다.
+     */
+    void invalidate(String consumerId) {
+        generations.merge(consumerId, 1L, Long::sum);
+        entries.invalidateGroup(consumerId);
+    }
+
+    /**
+     * 검증된 키 ID와 검증 시점 상태.
+     */
+    public record VerifiedKey(String keyId, ConsumerKeyStatus status) {
+    }
+}
@@ -0,0 +1,164 @@
+package com.aegispulse.application.consumer.key;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인증 캐시가 공유하는 ttl/크기 제한 저장소.
+ * 조회는 잠금 없이 ConcurrentHashMap에서 읽고, 항목마다 소속 그룹(서비스, consumer 등)을 색인해 그룹 무효화가 해당 항목만 지운다.
+ * 항목 수가 maxEntries를 넘으면 기록한 스레드 하나가 만료 항목을 먼저 지우고, 그래도 넘으면 가장 오래 기록된 항목부터 밀어낸다.
+ * 기록은 해시 연산/저장소 조회 뒤에만 일어나므로 밀어내기 비용은 적중 경로에 더해지지 않는다.
+ */
+final class IndexedExpiringEntries<K, V> {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<Object, Set<K>> keysByGroup = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    IndexedExpiringEntries(Duration ttl, int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * 캐시된 값을 조회한다. 만료된 항목은 제거하고 빈 결과를 반환한다.
+     */
+    Optional<V> find(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isExpired(entry, System.nanoTime())) {
+            remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value);
+    }
+
+    /**
+     * 값을 기록하고 그룹 색인에 등록한다. 반환한 항목 토큰으로 이 기록만 되돌릴 수 있다.
+     */
+    Object put(K key, V value, List<?> groups) {
+        Entry<V> entry = new Entry<>(value, System.nanoTime(), List.<Object>copyOf(groups));
+        // 항목 교체와 색인 등록을 키 단위로 원자적으로 수행해, 동시에 지워진 항목의 색인이 남거나 빠지지 않게 한다.
+        entries.compute(key, (ignored, previous) -> {
+            for (Object group : entry.groups) {
+                keysByGroup.compute(group, (groupKey, keys) -> {
+                    Set<K> indexed = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+                    indexed.add(key);
+                    return indexed;
+                });
+            }
+            return entry;
+        });
+        if (entries.size() > maxEntries) {
+            evictOverflow();
+        }
+        return entry;
+    }
+
+    /**
+     * put이 반환한 토큰의 항목이 아직 남아 있으면 제거한다. 그 사이 다시 기록된 항목은 건드리지 않는다.
+     */
+    void remove(K key, Object token) {
+        entries.computeIfPresent(key, (ignored, current) -> {
+            if (current != token) {
+                return current;
+            }
+            unindex(key, current);
+            return null;
+        });
+    }
+
+    /**
+     * 그룹에 속한 항목을 모두 제거한다. 색인된 항목만 방문하므로 비용은 그룹 크기에 비례한다.
+     */
+    void invalidateGroup(Object group) {
+        Set<K> keys = keysByGroup.remove(group);
+        if (keys == null) {
+            return;
+        }
+        for (K key : keys) {
+            entries.computeIfPresent(key, (ignored, current) -> {
+                unindex(key, current);
+                return null;
+            });
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void unindex(K key, Entry<V> entry) {
+        for (Object group : entry.groups) {
+            keysByGroup.computeIfPresent(group, (groupKey, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private void evictOverflow() {
+        // 동시에 넘친 기록 스레드는 한 스레드의 정리를 기다리지 않고 지나간다.
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            entries.forEach((key, entry) -> {
+                if (isExpired(entry, now)) {
+                    remove(key, entry);
+                }
+            });
+            int overflow = entries.size() - maxEntries;
+            if (overflow <= 0) {
+                return;
+            }
+            // 가장 최근 항목이 머리에 오는 힙에 overflow개만 남겨 가장 오래된 항목을 고른다.
+            PriorityQueue<Map.Entry<K, Entry<V>>> oldest = new PriorityQueue<>(
+                Comparator.comparingLong((Map.Entry<K, Entry<V>> candidate) -> candidate.getValue().cachedAtNanos).reversed()
+            );
+            for (Map.Entry<K, Entry<V>> candidate : entries.entrySet()) {
+                oldest.add(Map.entry(candidate.getKey(), candidate.getValue()));
+                if (oldest.size() > overflow) {
+                    oldest.poll();
+                }
+            }
+            for (Map.Entry<K, Entry<V>> evicted : oldest) {
+                remove(evicted.getKey(), evicted.getValue());
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private boolean isExpired(Entry<V> entry, long now) {
+        return now - entry.cachedAtNanos >= ttlNanos;
+    }
+
+    /**
+     * 캐시 항목. 기록마다 새 인스턴스를 만들어 참조 동일성으로 기록 하나를 구분한다.
+     */
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long cachedAtNanos;
+        private final List<Object> groups;
+
+        private Entry(V value, long cachedAtNanos, List<Object> groups) {
+            this.value = value;
+            this.cachedAtNanos = cachedAtNanos;
+            this.groups = groups;
+        }
+    }
+}
@@ -14,4 +14,6 @@ public class AuthenticateConsumerKeyCommand {
     private final String routeId;
     private final String consumerId;
     private final String apiKey;
+    // 인증 실패 차단 버킷 키. 알 수 없으면 null이며 consumer 버킷만 적용한다.
+    private final String clientIp;
 }
@@ -0,0 +1,252 @@
+package com.aegispulse.application.metric;
+
+import com.aegispulse.application.metric.result.ConsumerMetricResult;
+import com.aegispulse.application.metric.result.MetricAggregateResult;
+import com.aegispulse.application.metric.result.QueryServiceMetricsResult;
+import com.aegispulse.application.metric.result.RouteMetricResult;
+import com.aegispulse.application.metric.result.TopRouteMetricResult;
+import com.aegispulse.domain.metric.model.LatencySketch;
+import com.aegispulse.domain.metric.model.LatencySketchAccumulator;
+import com.aegispulse.domain.metric.model.MetricPoint;
+import com.aegispulse.domain.metric.model.MetricQueryView;
+import com.aegispulse.domain.metric.model.MetricRollup;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트/롤업을 한 번 순회하며 축별 원시 합계 누적기에 접어 넣는 단일 패스 집계 엔진.
+ * 라우트/consumer는 ID별 누적기를, 서비스 축은 단일 누적기를 두고, 서비스 축 대체(라우트/consumer 전체)는
+ * 순회가 끝난 뒤 ID별 누적기를 합쳐 계산하므로 포인트를 다시 읽지 않는다.
+ * 원본 포인트와 롤업은 같은 합계 형태로 누적되어 두 조회 경로의 집계 규칙이 항상 일치한다.
+ */
+final class MetricAggregationEngine {
+
+    private static final double LATENCY_P50 = 0.5;
+    private static final double LATENCY_P95 = 0.95;
+
+    private final AxisAccumulator serviceAxis = new AxisAccumulator();
+    private final Map<String, AxisAccumulator> routes = new HashMap<>();
+    private final Map<String, AxisAccumulator> consumers = new HashMap<>();
+
+    void add(MetricPoint point) {
+        AxisAccumulator accumulator = resolve(point.getRouteId(), point.getConsumerId());
+        if (accumulator != null) {
+            accumulator.add(point);
+        }
+    }
+
+    void add(MetricRollup rollup) {
+        AxisAccumulator accumulator = resolve(rollup.getRouteId(), rollup.getConsumerId());
+        if (accumulator != null) {
+            accumulator.add(rollup);
+        }
+    }
+
+    /**
+     * 누적 결과를 조회 결과로 만든다. TOP_ROUTES 조회는 라우트/consumer별 결과를 만들지 않고,
+     * 상위 라우트도 누적기의 원시 합계로 순위를 먼저 고른 뒤 선택된 K개만 결과 객체로 만든다.
+     */
+    QueryServiceMetricsResult toResult(String serviceId, String window, int topRoutesLimit, MetricQueryView view) {
+        boolean full = view == MetricQueryView.FULL;
+        return QueryServiceMetricsResult.builder()
+            .serviceId(serviceId)
+            .window(window)
+            .serviceMetrics(resolveServiceMetrics())
+            .routeMetrics(full ? routeMetrics() : List.of())
+            .consumerMetrics(full ? consumerMetrics() : List.of())
+            .topRoutes(topRoutes(topRoutesLimit))
+            .build();
+    }
+
+    private List<RouteMetricResult> routeMetrics() {
+        List<RouteMetricResult> routeMetrics = new ArrayList<>(routes.size());
+        routes.forEach((routeId, accumulator) -> routeMetrics.add(
+            RouteMetricResult.builder().routeId(routeId).metrics(accumulator.toResult()).build()
+        ));
+        routeMetrics.sort(Comparator.comparing(RouteMetricResult::getRouteId));
+        return routeMetrics;
+    }
+
+    private List<ConsumerMetricResult> consumerMetrics() {
+        List<ConsumerMetricResult> consumerMetrics = new ArrayList<>(consumers.size());
+        consumers.forEach((consumerId, accumulator) -> consumerMetrics.add(
+            ConsumerMetricResult.builder().consumerId(consumerId).metrics(accumulator.toResult()).build()
+        ));
+        consumerMetrics.sort(Comparator.comparing(ConsumerMetricResult::getConsumerId));
+        return consumerMetrics;
+    }
+
+    private AxisAccumulator resolve(String routeId, String consumerId) {
+        if (routeId == null) {
+            return consumerId == null ? serviceAxis : consumers.computeIfAbsent(consumerId, id -> new AxisAccumulator());
+        }
+        // 라우트/consumer 축이 동시에 설정된 포인트는 어느 축 집계에도 포함하지 않는다.
+        return consumerId == null ? routes.computeIfAbsent(routeId, id -> new AxisAccumulator()) : null;
+    }
+
+    /**
+     * 수집 파이프라인이 서비스 축을 아직 보내지 않은 경우 라우트 축, 그다음 consumer 축 전체로 서비스 요약을 대체한다.
+     */
+    private MetricAggregateResult resolveServiceMetrics() {
+        if (serviceAxis.count > 0) {
+            return serviceAxis.toResult();
+        }
+        Map<String, AxisAccumulator> fallback = !routes.isEmpty() ? routes : consumers;
+        AxisAccumulator merged = new AxisAccumulator();
+        for (AxisAccumulator accumulator : fallback.values()) {
+            merged.add(accumulator);
+        }
+        return merged.toResult();
+    }
+
+    private List<TopRouteMetricResult> topRoutes(int limit) {
+        TopRouteSelector<Map.Entry<String, AxisAccumulator>> selector = new TopRouteSelector<>(
+            Math.min(limit, routes.size())
+        );
+        for (Map.Entry<String, AxisAccumulator> route : routes.entrySet()) {
+            AxisAccumulator accumulator = route.getValue();
+            selector.offer(route.getKey(), accumulator.rps(), accumulator.status5xxRate(), route);
+        }
+
+        List<Map.Entry<String, AxisAccumulator>> selected = selector.drainBestFirst();
+        List<TopRouteMetricResult> topRoutes = new ArrayList<>(selected.size());
+        for (Map.Entry<String, AxisAccumulator> route : selected) {
+            MetricAggregateResult metrics = route.getValue().toResult();
+            topRoutes.add(TopRouteMetricResult.builder()
+                .routeId(route.getKey())
+                .rps(metrics.getRps())
+                .status5xxRate(metrics.getStatus5xxRate())
+                .latencyP95(metrics.getLatencyP95())
+                .build());
+        }
+        return topRoutes;
+    }
+
+    /**
+     * 축 하나의 원시 합계. rps 가중 평균은 Σ(x·rps)/Σrps로, 총 rps가 0 이하이면 단순 평균 Σx/n으로 계산한다.
+     * 지연 스케치는 모든 입력이 스케치를 가진 동안에만 누적하고, 하나라도 없으면 버린 뒤 가중 평균으로 대체한다.
+     */
+    private static final class AxisAccumulator {
+
+        private long count;
+        private double rpsSum;
+        private double latencyP50WeightedSum;
+        private double latencyP95WeightedSum;
+        private double status4xxWeightedSum;
+        private double status5xxWeightedSum;
+        private double latencyP50Sum;
+        private double latencyP95Sum;
+        private double status4xxSum;
+        private double status5xxSum;
+        private LatencySketchAccumulator latencySketch;
+        private boolean latencySketchIncomplete;
+
+        void add(MetricPoint point) {
+            double rps = point.getRps();
+            count++;
+            rpsSum += rps;
+            latencyP50WeightedSum += point.getLatencyP50() * rps;
+            latencyP95WeightedSum += point.getLatencyP95() * rps;
+            status4xxWeightedSum += point.getStatus4xxRate() * rps;
+            status5xxWeightedSum += point.getStatus5xxRate() * rps;
+            latencyP50Sum += point.getLatencyP50();
+            latencyP95Sum += point.getLatencyP95();
+            status4xxSum += point.getStatus4xxRate();
+            status5xxSum += point.getStatus5xxRate();
+            addSketch(point.getLatencySketch());
+        }
+
+        void add(MetricRollup rollup) {
+            count += rollup.getPointCount();
+            rpsSum += rollup.getRpsSum();
+            latencyP50WeightedSum += rollup.getLatencyP50WeightedSum();
+            latencyP95WeightedSum += rollup.getLatencyP95WeightedSum();
+            status4xxWeightedSum += rollup.getStatus4xxWeightedSum();
+            status5xxWeightedSum += rollup.getStatus5xxWeightedSum();
+            latencyP50Sum += rollup.getLatencyP50Sum();
+            latencyP95Sum += rollup.getLatencyP95Sum();
+            status4xxSum += rollup.getStatus4xxSum();
+            status5xxSum += rollup.getStatus5xxSum();
+            addSketch(rollup.getLatencySketch());
+        }
+
+        void add(AxisAccumulator other) {
+            count += other.count;
+            rpsSum += other.rpsSum;
+            latencyP50WeightedSum += other.latencyP50WeightedSum;
+            latencyP95WeightedSum += other.latencyP95WeightedSum;
+            status4xxWeightedSum += other.status4xxWeightedSum;
+            status5xxWeightedSum += other.status5xxWeightedSum;
+            latencyP50Sum += other.latencyP50Sum;
+            latencyP95Sum += other.latencyP95Sum;
+            status4xxSum += other.status4xxSum;
+            status5xxSum += other.status5xxSum;
+            if (other.latencySketchIncomplete || other.latencySketch == null) {
+                markLatencySketchIncomplete();
+            } else if (!latencySketchIncomplete) {
+                sketchAccumulator().add(other.latencySketch);
+            }
+        }
+
+        double rps() {
+            return count == 0 ? 0 : rpsSum / count;
+        }
+
+        double status5xxRate() {
+            return count == 0 ? 0 : weightedAverage(status5xxWeightedSum, status5xxSum);
+        }
+
+        MetricAggregateResult toResult() {
+            if (count == 0) {
+                return MetricAggregateResult.builder()
+                    .rps(0)
+                    .status4xxRate(0)
+                    .status5xxRate(0)
+                    .latencyP50(0)
+                    .latencyP95(0)
+                    .build();
+            }
+
+            boolean useSketch = !latencySketchIncomplete && latencySketch != null;
+            return MetricAggregateResult.builder()
+                .rps(rps())
+                .status4xxRate(weightedAverage(status4xxWeightedSum, status4xxSum))
+                .status5xxRate(status5xxRate())
+                .latencyP50(useSketch ? latencySketch.quantile(LATENCY_P50) : weightedAverage(latencyP50WeightedSum, latencyP50Sum))
+                .latencyP95(useSketch ? latencySketch.quantile(LATENCY_P95) : weightedAverage(latencyP95WeightedSum, latencyP95Sum))
+                .build();
+        }
+
+        private void addSketch(LatencySketch sketch) {
+            if (sketch == null) {
+                markLatencySketchIncomplete();
+                return;
+            }
+            if (!latencySketchIncomplete) {
+                sketchAccumulator().add(sketch);
+            }
+        }
+
+        private LatencySketchAccumulator sketchAccumulator() {
+            if (latencySketch == null) {
+                latencySketch = new LatencySketchAccumulator();
+            }
+            return latencySketch;
+        }
+
+        private void markLatencySketchIncomplete() {
+            latencySketchIncomplete = true;
+            latencySketch = null;
+        }
+
+        private double weightedAverage(double weightedSum, double plainSum) {
+            if (rpsSum <= 0) {
+                return plainSum / count;
+            }
+            return weightedSum / rpsSum;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.aegispulse.application.metric;
+
+import com.aegispulse.api.common.exception.AegisPulseException;
+import com.aegispulse.api.common.exception.ErrorCode;
+import com.aegispulse.domain.metric.model.MetricPoint;
+import com.aegispulse.domain.metric.repository.MetricPointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * ASYNC 수집 모드에서 Collector 포인트를 받아두는 bounded 링 버퍼.
+ * writer 스레드별 링(ArrayBlockingQueue)을 두고 serviceId 해시로 분배해 같은 자연키가 동시에 적재되지 않도록 한다.
+ * 전체 용량은 세마포어로 배치 단위 예약해 요청 하나가 부분 적재된 채 거절되지 않도록 보장한다.
+ */
+@Component
+public class MetricIngestionBuffer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(MetricIngestionBuffer.class);
+
+    // 웹 서버 graceful shutdown(요청 유입 종료)보다 늦게 중지되어 잔여 포인트를 모두 비운 뒤 종료한다.
+    private static final int LIFECYCLE_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long POLL_TIMEOUT_MILLIS = 200L;
+
+    private final MetricPointRepository metricPointRepository;
+    private final MetricIngestionProperties properties;
+    private final int capacity;
+    private final Semaphore freeSlots;
+    private final List<ArrayBlockingQueue<MetricPoint>> partitions;
+    private final Timer drainLatency;
+    private final Counter writtenPoints;
+    private final Counter rejectedPoints;
+    private final Counter failedPoints;
+
+    private volatile boolean running;
+    private ExecutorService writerExecutor;
+
+    public MetricIngestionBuffer(
+        MetricPointRepository metricPointRepository,
+        MetricIngestionProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.metricPointRepository = metricPointRepository;
+        this.properties = properties;
+        this.capacity = Math.max(1, properties.getBufferCapacity());
+        this.freeSlots = new Semaphore(capacity);
+
+        // SYNC 모드에서는 링 배열을 최소 크기로만 만들어 불필요한 메모리 점유를 피한다.
+        int partitionCount = isEnabled() ? Math.max(1, properties.getWriterThreads()) : 1;
+        int partitionCapacity = isEnabled() ? capacity : 1;
+        this.partitions = new ArrayList<>(partitionCount);
+        for (int index = 0; index < partitionCount; index++) {
+            partitions.add(new ArrayBlockingQueue<>(partitionCapacity));
+        }
+
+        Gauge.builder("aegispulse.metrics.ingestion.queue.depth", this, MetricIngestionBuffer::queueDepth)
+            .description("비동기 수집 버퍼에 대기 중인 메트릭 포인트 수")
+            .register(meterRegistry);
+        this.drainLatency = Timer.builder("aegispulse.metrics.ingestion.drain.latency")
+            .description("버퍼에서 꺼낸 배치를 저장소에 적재하는 데 걸린 시간")
+            .register(meterRegistry);
+        this.writtenPoints = Counter.builder("aegispulse.metrics.ingestion.points.written").register(meterRegistry);
+        this.rejectedPoints = Counter.builder("aegispulse.metrics.ingestion.points.rejected").register(meterRegistry);
+        this.failedPoints = Counter.builder("aegispulse.metrics.ingestion.points.failed").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.getMode() == MetricIngestionProperties.Mode.ASYNC;
+    }
+
+    /**
+     * 포인트 배치를 버퍼에 적재한다.
+     * 버퍼가 비활성(SYNC 모드) 또는 종료 중이면 false를 반환해 호출자가 동기 적재하도록 한다.
+     * 용량이 부족하면 백프레셔 정책에 따라 즉시 또는 대기 후 TOO_MANY_REQUESTS 예외를 던진다.
+     */
+    public boolean tryEnqueue(List<MetricPoint> points) {
+        if (!running) {
+            return false;
+        }
+        if (points.isEmpty()) {
+            return true;
+        }
+        if (points.size() > capacity) {
+            rejectedPoints.increment(points.size());
+            throw new AegisPulseException(
+                ErrorCode.TOO_MANY_REQUESTS,
+                "배치 크기가 수집 버퍼 용량을 초과합니다. 배치를 나누어 전송해 주세요."
+            );
+        }
+        if (!reserve(points.size())) {
+            rejectedPoints.increment(points.size());
+            throw new AegisPulseException(ErrorCode.TOO_MANY_REQUESTS, "메트릭 수집 버퍼가 가득 찼습니다.");
+        }
+
+        for (MetricPoint point : points) {
+            // 세마포어로 전체 용량을 먼저 예약했으므로 각 파티션 링의 offer는 실패하지 않는다.
+            partitionOf(point).offer(point);
+        }
+        return true;
+    }
+
+    int queueDepth() {
+        int depth = 0;
+        for (ArrayBlockingQueue<MetricPoint> partition : partitions) {
+            depth += partition.size();
+        }
+        return depth;
+    }
+
+    @Override
+    public void start() {
+        if (!isEnabled() || running) {
+            return;
+        }
+        running = true;
+        writerExecutor = Executors.newFixedThreadPool(
+            partitions.size(),
+            Thread.ofPlatform().name("metric-ingest-writer-", 0).factory()
+        );
+        for (ArrayBlockingQueue<MetricPoint> partition : partitions) {
+            writerExecutor.execute(() -> drainLoop(partition));
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writerExecutor.shutdown();
+        try {
+            if (!writerExecutor.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                writerExecutor.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            writerExecutor.shutdownNow();
+        }
+
+        // 종료 직전 경합으로 writer 종료 후 들어온 포인트까지 종료 스레드에서 마저 적재한다.
+        int drainBatchSize = Math.max(1, properties.getDrainBatchSize());
+        for (ArrayBlockingQueue<MetricPoint> partition : partitions) {
+            List<MetricPoint> batch = new ArrayList<>(drainBatchSize);
+            while (partition.drainTo(batch, drainBatchSize) > 0) {
+                freeSlots.release(batch.size());
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return LIFECYCLE_PHASE;
+    }
+
+    private boolean reserve(int pointCount) {
+        if (properties.getBackpressure() == MetricIngestionProperties.Backpressure.REJECT) {
+            return freeSlots.tryAcquire(pointCount);
+        }
+        try {
+            return freeSlots.tryAcquire(pointCount, properties.getBlockTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private ArrayBlockingQueue<MetricPoint> partitionOf(MetricPoint point) {
+        return partitions.get(Math.floorMod(point.getServiceId().hashCode(), partitions.size()));
+    }
+
+    private void drainLoop(ArrayBlockingQueue<MetricPoint> partition) {
+        int drainBatchSize = Math.max(1, properties.getDrainBatchSize());
+        List<MetricPoint> batch = new ArrayList<>(drainBatchSize);
+        while (running || !partition.isEmpty()) {
+            try {
+                MetricPoint first = partition.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                partition.drainTo(batch, drainBatchSize - 1);
+                freeSlots.release(batch.size());
+                write(batch);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<MetricPoint> batch) {
+        long startedAt = System.nanoTime();
+        try {
+            // 서로 다른 요청이 같은 자연키를 보낸 경우도 drain 배치 안에서 한 번 더 합쳐 upsert 건수를 줄인다.
+            List<MetricPoint> uniquePoints = MetricPointBatchCoalescer.coalesce(List.copyOf(batch));
+            metricPointRepository.upsertAll(uniquePoints);
+            writtenPoints.increment(uniquePoints.size());
+        } catch (RuntimeException exception) {
+            // 비동기 적재 실패는 호출자에게 전달할 수 없으므로 유실 건수를 지표/로그로 남긴다.
+            failedPoints.increment(batch.size());
+            log.error("메트릭 버퍼 배치 적재에 실패했습니다. droppedPoints={}", batch.size(), exception);
+        } finally {
+            drainLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
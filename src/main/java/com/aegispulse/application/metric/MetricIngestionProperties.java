@@ -0,0 +1,41 @@
+package com.aegispulse.application.metric;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 메트릭 수집 파이프라인 설정.
+ * 동기 적재(SYNC)와 버퍼 기반 비동기 적재(ASYNC) 모드 및 백프레셔 정책을 정의한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aegispulse.metrics.ingestion")
+public class MetricIngestionProperties {
+
+    private Mode mode = Mode.SYNC;
+    private int bufferCapacity = 50_000;
+    private Backpressure backpressure = Backpressure.REJECT;
+    private Duration blockTimeout = Duration.ofSeconds(2);
+    private int writerThreads = 2;
+    private int drainBatchSize = 2_000;
+    private Duration shutdownTimeout = Duration.ofSeconds(20);
+    private int streamChunkSize = 1_000;
+
+    /**
+     * 수집 적재 모드.
+     */
+    public enum Mode {
+        SYNC,
+        ASYNC
+    }
+
+    /**
+     * 버퍼 포화 시 처리 정책.
+     */
+    public enum Backpressure {
+        REJECT,
+        BLOCK
+    }
+}
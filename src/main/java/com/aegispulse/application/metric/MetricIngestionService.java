@@ -5,12 +5,17 @@ import com.aegispulse.api.common.exception.ErrorCode;
 import com.aegispulse.application.metric.command.IngestMetricPointsCommand;
 import com.aegispulse.application.metric.command.MetricPointIngestItem;
 import com.aegispulse.application.metric.result.IngestMetricPointsResult;
+import com.aegispulse.application.service.KnownServiceCache;
+import com.aegispulse.domain.metric.model.LatencySketch;
 import com.aegispulse.domain.metric.model.MetricPoint;
 import com.aegispulse.domain.metric.repository.MetricPointRepository;
-import com.aegispulse.domain.service.repository.ManagedServiceRepository;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -23,7 +28,10 @@ import org.springframework.util.StringUtils;
 public class MetricIngestionService implements MetricIngestionUseCase {
 
     private final MetricPointRepository metricPointRepository;
-    private final ManagedServiceRepository managedServiceRepository;
+    private final KnownServiceCache knownServiceCache;
+    private final MetricIngestionBuffer metricIngestionBuffer;
+    private final MetricIngestionProperties metricIngestionProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -35,15 +43,101 @@ public class MetricIngestionService implements MetricIngestionUseCase {
         List<MetricPoint> points = command.getPoints().stream()
             .map(this::toDomainPoint)
             .toList();
+        validateServicesExist(points, new HashSet<>());
+        // Collector 재전송으로 같은 자연키가 중복되면 저장소에 닿기 전에 마지막 값 하나로 합친다.
+        List<MetricPoint> uniquePoints = MetricPointBatchCoalescer.coalesce(points);
+        boolean queued = write(uniquePoints);
 
-        metricPointRepository.upsertAll(points);
         return IngestMetricPointsResult.builder()
-            .ingestedCount(points.size())
+            .ingestedCount(uniquePoints.size())
+            .deduplicatedCount(points.size() - uniquePoints.size())
+            .queued(queued)
             .build();
     }
 
+    /**
+     * 외부 트랜잭션 없이 청크마다 저장소 upsert 트랜잭션을 분리해, 배치 크기와 무관하게 청크 하나만 메모리에 유지한다.
+     * 중복 합치기는 청크 단위로 수행되며, 청크 경계를 넘는 중복은 upsert가 마지막 값으로 덮어쓴다.
+     */
+    @Override
+    public IngestMetricPointsResult ingestStream(MetricPointIngestSource source) {
+        int chunkSize = Math.max(1, metricIngestionProperties.getStreamChunkSize());
+        List<MetricPoint> chunk = new ArrayList<>(chunkSize);
+        Set<String> verifiedServiceIds = new HashSet<>();
+        int ingestedCount = 0;
+        int deduplicatedCount = 0;
+        boolean queued = false;
+
+        MetricPointIngestItem item;
+        while ((item = source.next()) != null) {
+            chunk.add(toDomainPoint(item));
+            if (chunk.size() == chunkSize) {
+                IngestMetricPointsResult chunkResult = writeChunk(chunk, verifiedServiceIds);
+                ingestedCount += chunkResult.getIngestedCount();
+                deduplicatedCount += chunkResult.getDeduplicatedCount();
+                queued |= chunkResult.isQueued();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            IngestMetricPointsResult chunkResult = writeChunk(chunk, verifiedServiceIds);
+            ingestedCount += chunkResult.getIngestedCount();
+            deduplicatedCount += chunkResult.getDeduplicatedCount();
+            queued |= chunkResult.isQueued();
+        }
+        if (ingestedCount == 0) {
+            throw new AegisPulseException(ErrorCode.INVALID_REQUEST, "points는 최소 1개 이상이어야 합니다.");
+        }
+
+        return IngestMetricPointsResult.builder()
+            .ingestedCount(ingestedCount)
+            .deduplicatedCount(deduplicatedCount)
+            .queued(queued)
+            .build();
+    }
+
+    private IngestMetricPointsResult writeChunk(List<MetricPoint> chunk, Set<String> verifiedServiceIds) {
+        validateServicesExist(chunk, verifiedServiceIds);
+        // 청크 버퍼는 재사용되므로 버퍼/저장소에는 복사본을 넘긴다.
+        List<MetricPoint> uniquePoints = MetricPointBatchCoalescer.coalesce(List.copyOf(chunk));
+        boolean queued = write(uniquePoints);
+        return IngestMetricPointsResult.builder()
+            .ingestedCount(uniquePoints.size())
+            .deduplicatedCount(chunk.size() - uniquePoints.size())
+            .queued(queued)
+            .build();
+    }
+
+    /**
+     * ASYNC 모드면 검증을 마친 포인트를 버퍼에 넣고 true를 반환하며, 버퍼가 비활성/종료 중이면 동기 적재한다.
+     * 받아들인 서비스 축 포인트는 스트리밍 알림 평가가 바로 반영할 수 있도록 이벤트로 발행한다.
+     */
+    private boolean write(List<MetricPoint> points) {
+        boolean queued = metricIngestionBuffer.tryEnqueue(points);
+        if (!queued) {
+            metricPointRepository.upsertAll(points);
+        }
+        publishServiceAxisPoints(points);
+        return queued;
+    }
+
+    private void publishServiceAxisPoints(List<MetricPoint> points) {
+        List<MetricPoint> serviceAxisPoints = new ArrayList<>();
+        for (MetricPoint point : points) {
+            if (point.getRouteId() == null && point.getConsumerId() == null) {
+                serviceAxisPoints.add(point);
+            }
+        }
+        if (!serviceAxisPoints.isEmpty()) {
+            eventPublisher.publishEvent(new ServiceAxisPointsAcceptedEvent(serviceAxisPoints));
+        }
+    }
+
     private MetricPoint toDomainPoint(MetricPointIngestItem item) {
         String serviceId = normalizeRequired(item.getServiceId(), "serviceId는 필수입니다.");
+        if (item.getWindowStart() == null) {
+            throw new AegisPulseException(ErrorCode.INVALID_REQUEST, "windowStart는 필수입니다.");
+        }
         String routeId = normalizeOptional(item.getRouteId());
         String consumerId = normalizeOptional(item.getConsumerId());
 
@@ -53,9 +147,6 @@ public class MetricIngestionService implements MetricIngestionUseCase {
                 "routeId와 consumerId는 동시에 설정할 수 없습니다."
             );
         }
-        if (!managedServiceRepository.existsById(serviceId)) {
-            throw new AegisPulseException(ErrorCode.RESOURCE_NOT_FOUND, "요청한 서비스를 찾을 수 없습니다.");
-        }
 
         // 초/밀리초 오차를 제거해 동일 분 단위 natural key로 안정적으로 upsert한다.
         return MetricPoint.newPoint(
@@ -67,10 +158,32 @@ public class MetricIngestionService implements MetricIngestionUseCase {
             item.getLatencyP50(),
             item.getLatencyP95(),
             item.getStatus4xxRate(),
-            item.getStatus5xxRate()
+            item.getStatus5xxRate(),
+            toLatencySketch(item.getLatencySketch())
         );
     }
 
+    private LatencySketch toLatencySketch(byte[] encoded) {
+        if (encoded == null || encoded.length == 0) {
+            return null;
+        }
+        try {
+            return LatencySketch.fromBytes(encoded);
+        } catch (IllegalArgumentException exception) {
+            throw new AegisPulseException(ErrorCode.INVALID_REQUEST, exception.getMessage());
+        }
+    }
+
+    private void validateServicesExist(List<MetricPoint> points, Set<String> verifiedServiceIds) {
+        // 배치 내 서비스 수는 포인트 수보다 훨씬 적으므로 서로 다른 serviceId만 한 번씩 확인한다.
+        for (MetricPoint point : points) {
+            String serviceId = point.getServiceId();
+            if (verifiedServiceIds.add(serviceId) && !knownServiceCache.exists(serviceId)) {
+                throw new AegisPulseException(ErrorCode.RESOURCE_NOT_FOUND, "요청한 서비스를 찾을 수 없습니다.");
+            }
+        }
+    }
+
     private String normalizeRequired(String value, String errorMessage) {
         if (!StringUtils.hasText(value)) {
             throw new AegisPulseException(ErrorCode.INVALID_REQUEST, errorMessage);
@@ -9,4 +9,10 @@ import com.aegispulse.application.metric.result.IngestMetricPointsResult;
 public interface MetricIngestionUseCase {
 
     IngestMetricPointsResult ingest(IngestMetricPointsCommand command);
+
+    /**
+     * 스트리밍 입력을 청크 단위로 나누어 적재한다.
+     * 청크마다 독립적으로 커밋되므로 중간 청크에서 실패하면 앞선 청크는 이미 반영된 상태로 남는다.
+     */
+    IngestMetricPointsResult ingestStream(MetricPointIngestSource source);
 }
@@ -0,0 +1,85 @@
+package com.aegispulse.application.metric;
+
+import com.aegispulse.domain.metric.model.MetricPoint;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 수집 배치 안의 중복 자연키(serviceId, routeId, consumerId, windowStart)를 하나로 합친다.
+ * 같은 키가 여러 번 오면 마지막 포인트가 이기고(last-write-wins), 결과 순서는 키가 처음 등장한 순서를 따른다.
+ * 키 객체를 만들지 않도록 String 해시(캐시됨)와 epoch 초를 64비트 해시로 섞어 open addressing 테이블에 둔다.
+ */
+final class MetricPointBatchCoalescer {
+
+    private static final int EMPTY = -1;
+
+    private MetricPointBatchCoalescer() {
+    }
+
+    /**
+     * 중복 키를 합친 포인트 목록을 반환한다.
+     * 중복이 없으면 입력 목록을 그대로 반환해 추가 복사를 하지 않는다.
+     */
+    static List<MetricPoint> coalesce(List<MetricPoint> points) {
+        int size = points.size();
+        if (size < 2) {
+            return points;
+        }
+
+        // 적재율 50% 이하를 유지하도록 2의 거듭제곱 크기로 잡아 선형 탐사 길이를 짧게 둔다.
+        int tableSize = Integer.highestOneBit(size * 2 - 1) << 1;
+        int mask = tableSize - 1;
+        long[] hashes = new long[tableSize];
+        int[] positions = new int[tableSize];
+        Arrays.fill(positions, EMPTY);
+
+        MetricPoint[] unique = new MetricPoint[size];
+        int uniqueCount = 0;
+        for (MetricPoint point : points) {
+            long hash = hash(point);
+            int slot = (int) hash & mask;
+            while (true) {
+                int position = positions[slot];
+                if (position == EMPTY) {
+                    hashes[slot] = hash;
+                    positions[slot] = uniqueCount;
+                    unique[uniqueCount++] = point;
+                    break;
+                }
+                // 해시 충돌 가능성이 있으므로 해시가 같을 때만 실제 키를 비교한다.
+                if (hashes[slot] == hash && sameKey(unique[position], point)) {
+                    unique[position] = point;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        if (uniqueCount == size) {
+            return points;
+        }
+        return Arrays.asList(Arrays.copyOf(unique, uniqueCount));
+    }
+
+    private static long hash(MetricPoint point) {
+        long hash = point.getServiceId().hashCode();
+        hash = hash * 0x9E3779B97F4A7C15L + Objects.hashCode(point.getRouteId());
+        hash = hash * 0x9E3779B97F4A7C15L + Objects.hashCode(point.getConsumerId());
+        hash = hash * 0x9E3779B97F4A7C15L + point.getWindowStart().getEpochSecond();
+        // murmur3 fmix64로 하위 비트까지 고르게 섞어 마스킹 후에도 분포가 치우치지 않게 한다.
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static boolean sameKey(MetricPoint left, MetricPoint right) {
+        return left.getServiceId().equals(right.getServiceId())
+            && Objects.equals(left.getRouteId(), right.getRouteId())
+            && Objects.equals(left.getConsumerId(), right.getConsumerId())
+            && left.getWindowStart().equals(right.getWindowStart());
+    }
+}
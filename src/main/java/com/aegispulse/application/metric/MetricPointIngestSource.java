@@ -0,0 +1,16 @@
+package com.aegispulse.application.metric;
+
+import com.aegispulse.application.metric.command.MetricPointIngestItem;
+
+/**
+ * 스트리밍 수집 입력을 한 포인트씩 꺼내는 소스.
+ * 전체 배치를 메모리에 올리지 않도록 API 계층 파서가 요청 본문을 점진적으로 읽어 제공한다.
+ */
+public interface MetricPointIngestSource {
+
+    /**
+     * 다음 포인트를 반환한다. 더 읽을 포인트가 없으면 null을 반환한다.
+     * 입력 형식 오류는 AegisPulseException(INVALID_REQUEST)으로 전달한다.
+     */
+    MetricPointIngestItem next();
+}
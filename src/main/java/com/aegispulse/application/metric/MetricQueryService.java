@@ -3,18 +3,15 @@ package com.aegispulse.application.metric;
 import com.aegispulse.api.common.exception.AegisPulseException;
 import com.aegispulse.api.common.exception.ErrorCode;
 import com.aegispulse.application.metric.command.QueryServiceMetricsCommand;
-import com.aegispulse.application.metric.result.ConsumerMetricResult;
-import com.aegispulse.application.metric.result.MetricAggregateResult;
 import com.aegispulse.application.metric.result.QueryServiceMetricsResult;
-import com.aegispulse.application.metric.result.RouteMetricResult;
-import com.aegispulse.application.metric.result.TopRouteMetricResult;
 import com.aegispulse.domain.metric.model.MetricPoint;
+import com.aegispulse.domain.metric.model.MetricQueryView;
+import com.aegispulse.domain.metric.model.MetricRollup;
 import com.aegispulse.domain.metric.repository.MetricPointRepository;
 import com.aegispulse.domain.service.repository.ManagedServiceRepository;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,10 +23,13 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MetricQueryService implements MetricQueryUseCase {
 
-    private static final int TOP_ROUTES_LIMIT = 5;
+    private static final int DEFAULT_TOP_ROUTES_LIMIT = 5;
+    // 이 길이를 넘는 윈도우는 원본 분 단위 포인트 대신 롤업 단위 조합으로 집계한다.
+    private static final Duration RAW_WINDOW_LIMIT = Duration.ofHours(1);
 
     private final ManagedServiceRepository managedServiceRepository;
     private final MetricPointRepository metricPointRepository;
+    private final MetricRollupQueryPlanner metricRollupQueryPlanner;
 
     @Override
     @Transactional(readOnly = true)
@@ -41,117 +41,63 @@ public class MetricQueryService implements MetricQueryUseCase {
 
         Instant toExclusive = Instant.now();
         Instant fromInclusive = toExclusive.minus(command.getWindow().getDuration());
-        List<MetricPoint> points = metricPointRepository.findByServiceIdAndWindow(serviceId, fromInclusive, toExclusive);
-
-        List<MetricPoint> serviceAxisPoints = points.stream().filter(this::isServiceAxis).toList();
-        List<MetricPoint> routeAxisPoints = points.stream().filter(this::isRouteAxis).toList();
-        List<MetricPoint> consumerAxisPoints = points.stream().filter(this::isConsumerAxis).toList();
-
-        // 수집 파이프라인이 서비스 축을 아직 보내지 않은 경우 라우트 축으로 서비스 요약을 대체한다.
-        List<MetricPoint> serviceMetricsSource = resolveServiceSource(serviceAxisPoints, routeAxisPoints, consumerAxisPoints);
-
-        Map<String, List<MetricPoint>> routeGroups = routeAxisPoints.stream()
-            .collect(java.util.stream.Collectors.groupingBy(MetricPoint::getRouteId));
-        Map<String, List<MetricPoint>> consumerGroups = consumerAxisPoints.stream()
-            .collect(java.util.stream.Collectors.groupingBy(MetricPoint::getConsumerId));
-
-        List<RouteMetricResult> routeMetrics = routeGroups.entrySet().stream()
-            .map(entry -> RouteMetricResult.builder()
-                .routeId(entry.getKey())
-                .metrics(aggregate(entry.getValue()))
-                .build())
-            .sorted(Comparator.comparing(RouteMetricResult::getRouteId))
-            .toList();
-
-        List<ConsumerMetricResult> consumerMetrics = consumerGroups.entrySet().stream()
-            .map(entry -> ConsumerMetricResult.builder()
-                .consumerId(entry.getKey())
-                .metrics(aggregate(entry.getValue()))
-                .build())
-            .sorted(Comparator.comparing(ConsumerMetricResult::getConsumerId))
-            .toList();
-
-        List<TopRouteMetricResult> topRoutes = routeMetrics.stream()
-            .map(routeMetric -> TopRouteMetricResult.builder()
-                .routeId(routeMetric.getRouteId())
-                .rps(routeMetric.getMetrics().getRps())
-                .status5xxRate(routeMetric.getMetrics().getStatus5xxRate())
-                .latencyP95(routeMetric.getMetrics().getLatencyP95())
-                .build())
-            .sorted(
-                Comparator.comparingDouble(TopRouteMetricResult::getRps).reversed()
-                    .thenComparing(Comparator.comparingDouble(TopRouteMetricResult::getStatus5xxRate).reversed())
-                    .thenComparing(TopRouteMetricResult::getRouteId)
-            )
-            .limit(TOP_ROUTES_LIMIT)
-            .toList();
-
-        return QueryServiceMetricsResult.builder()
-            .serviceId(serviceId)
-            .window(command.getWindow().getQueryValue())
-            .serviceMetrics(aggregate(serviceMetricsSource))
-            .routeMetrics(routeMetrics)
-            .consumerMetrics(consumerMetrics)
-            .topRoutes(topRoutes)
-            .build();
-    }
-
-    private List<MetricPoint> resolveServiceSource(
-        List<MetricPoint> serviceAxisPoints,
-        List<MetricPoint> routeAxisPoints,
-        List<MetricPoint> consumerAxisPoints
-    ) {
-        if (!serviceAxisPoints.isEmpty()) {
-            return serviceAxisPoints;
+        if (command.getWindow().getDuration().compareTo(RAW_WINDOW_LIMIT) > 0) {
+            return queryFromRollups(command, fromInclusive, toExclusive);
         }
-        if (!routeAxisPoints.isEmpty()) {
-            return routeAxisPoints;
+        if (command.getView() == MetricQueryView.TOP_ROUTES) {
+            return queryTopRoutes(command, fromInclusive, toExclusive);
         }
-        return consumerAxisPoints;
+        // 전체 조회는 모든 축을 사용하므로 한 번에 읽고, 포인트 목록은 한 번만 순회하며 축별 원시 합계로 접어 넣는다.
+        MetricAggregationEngine engine = new MetricAggregationEngine();
+        addAll(engine, metricPointRepository.findByServiceIdAndWindow(serviceId, fromInclusive, toExclusive));
+        return toResult(command, engine);
     }
 
-    private MetricAggregateResult aggregate(List<MetricPoint> points) {
-        if (points.isEmpty()) {
-            return MetricAggregateResult.builder()
-                .rps(0)
-                .status4xxRate(0)
-                .status5xxRate(0)
-                .latencyP50(0)
-                .latencyP95(0)
-                .build();
+    /**
+     * 상위 라우트 조회는 consumer 축 결과를 만들지 않으므로 서비스/라우트 축만 읽는다.
+     * consumer 축은 서비스/라우트 축이 모두 비어 서비스 요약을 대체해야 할 때만 조회한다.
+     */
+    private QueryServiceMetricsResult queryTopRoutes(
+        QueryServiceMetricsCommand command,
+        Instant fromInclusive,
+        Instant toExclusive
+    ) {
+        String serviceId = command.getServiceId();
+        List<MetricPoint> serviceAxis = metricPointRepository.findServiceAxis(serviceId, fromInclusive, toExclusive);
+        List<MetricPoint> routeAxis = metricPointRepository.findRouteAxis(serviceId, fromInclusive, toExclusive);
+        MetricAggregationEngine engine = new MetricAggregationEngine();
+        addAll(engine, serviceAxis);
+        addAll(engine, routeAxis);
+        if (serviceAxis.isEmpty() && routeAxis.isEmpty()) {
+            addAll(engine, metricPointRepository.findConsumerAxis(serviceId, fromInclusive, toExclusive));
         }
-
-        double avgRps = points.stream().mapToDouble(MetricPoint::getRps).average().orElse(0);
-        return MetricAggregateResult.builder()
-            .rps(avgRps)
-            .status4xxRate(weightedAverage(points, MetricPoint::getStatus4xxRate))
-            .status5xxRate(weightedAverage(points, MetricPoint::getStatus5xxRate))
-            .latencyP50(weightedAverage(points, MetricPoint::getLatencyP50))
-            .latencyP95(weightedAverage(points, MetricPoint::getLatencyP95))
-            .build();
+        return toResult(command, engine);
     }
 
-    private double weightedAverage(List<MetricPoint> points, java.util.function.ToDoubleFunction<MetricPoint> extractor) {
-        double totalWeight = points.stream().mapToDouble(MetricPoint::getRps).sum();
-        if (totalWeight <= 0) {
-            return points.stream().mapToDouble(extractor).average().orElse(0);
+    private static void addAll(MetricAggregationEngine engine, List<MetricPoint> points) {
+        for (MetricPoint point : points) {
+            engine.add(point);
         }
-
-        double weightedSum = points.stream()
-            .mapToDouble(point -> extractor.applyAsDouble(point) * point.getRps())
-            .sum();
-        return weightedSum / totalWeight;
     }
 
-    private boolean isServiceAxis(MetricPoint point) {
-        return point.getRouteId() == null && point.getConsumerId() == null;
-    }
-
-    private boolean isRouteAxis(MetricPoint point) {
-        return point.getRouteId() != null && point.getConsumerId() == null;
+    /**
+     * 롤업 조각(합계)을 원본 포인트와 같은 누적기에 합쳐 같은 규칙(서비스 축 우선, 없으면 라우트/consumer 축 대체)으로 계산한다.
+     */
+    private QueryServiceMetricsResult queryFromRollups(
+        QueryServiceMetricsCommand command,
+        Instant fromInclusive,
+        Instant toExclusive
+    ) {
+        MetricAggregationEngine engine = new MetricAggregationEngine();
+        for (MetricRollup rollup : metricRollupQueryPlanner.read(command.getServiceId(), fromInclusive, toExclusive)) {
+            engine.add(rollup);
+        }
+        return toResult(command, engine);
     }
 
-    private boolean isConsumerAxis(MetricPoint point) {
-        return point.getRouteId() == null && point.getConsumerId() != null;
+    private QueryServiceMetricsResult toResult(QueryServiceMetricsCommand command, MetricAggregationEngine engine) {
+        int topRoutesLimit = command.getTopK() == null ? DEFAULT_TOP_ROUTES_LIMIT : command.getTopK();
+        MetricQueryView view = command.getView() == null ? MetricQueryView.FULL : command.getView();
+        return engine.toResult(command.getServiceId(), command.getWindow().getQueryValue(), topRoutesLimit, view);
     }
 }
@@ -0,0 +1,24 @@
+package com.aegispulse.application.metric;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 메트릭 롤업/보존 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aegispulse.metrics.rollup")
+public class MetricRollupProperties {
+
+    // 버킷이 닫힌 뒤 Collector 지연 도착을 기다리는 시간. 이 시간이 지난 버킷부터 롤업한다.
+    private Duration lateArrivalGrace = Duration.ofMinutes(2);
+    // 한 번 실행에서 진행할 최대 버킷 수. 최초 실행/장애 복구 시 작업량을 나누어 처리한다.
+    private int maxBucketsPerRun = 288;
+    // 원본 분 단위 포인트 보존 기간. 가장 긴 조회 윈도우(24h)의 경계 구간을 원본으로 계산하므로 24h보다 길어야 한다.
+    private Duration rawRetention = Duration.ofHours(48);
+    // 5분 롤업 보존 기간. 1시간 롤업은 별도로 만료하지 않는다.
+    private Duration fiveMinuteRetention = Duration.ofDays(14);
+}
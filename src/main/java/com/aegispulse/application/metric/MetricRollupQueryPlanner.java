@@ -0,0 +1,83 @@
+package com.aegispulse.application.metric;
+
+import com.aegispulse.domain.metric.model.MetricPoint;
+import com.aegispulse.domain.metric.model.MetricRollup;
+import com.aegispulse.domain.metric.model.MetricRollupTier;
+import com.aegispulse.domain.metric.model.MetricRollupWatermark;
+import com.aegispulse.domain.metric.repository.MetricPointRepository;
+import com.aegispulse.domain.metric.repository.MetricRollupRepository;
+import com.aegispulse.domain.metric.repository.MetricRollupWatermarkRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 긴 조회 구간을 롤업 단위 조합으로 나누어 읽는 플래너.
+ * 구간 안쪽의 정렬된 부분은 롤업이 완료된 가장 굵은 단위로, 남는 앞뒤 경계는 더 세밀한 단위와 원본 포인트로 채운다.
+ * 모든 조각이 합계 형태이므로 합친 결과는 원본 포인트만으로 계산한 집계와 같다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricRollupQueryPlanner {
+
+    private static final MetricRollupTier[] TIERS = MetricRollupTier.values();
+
+    private final MetricPointRepository metricPointRepository;
+    private final MetricRollupRepository metricRollupRepository;
+    private final MetricRollupWatermarkRepository metricRollupWatermarkRepository;
+
+    /**
+     * 조회 구간을 덮는 롤업 조각 목록을 반환한다. 원본 포인트 조각은 tier가 null인 단일 포인트 롤업으로 변환된다.
+     */
+    public List<MetricRollup> read(String serviceId, Instant fromInclusive, Instant toExclusive) {
+        Map<MetricRollupTier, Instant> watermarks = new EnumMap<>(MetricRollupTier.class);
+        for (MetricRollupTier tier : TIERS) {
+            metricRollupWatermarkRepository.findByTier(tier)
+                .map(MetricRollupWatermark::getWatermark)
+                .ifPresent(watermark -> watermarks.put(tier, watermark));
+        }
+
+        List<MetricRollup> rollups = new ArrayList<>();
+        collect(serviceId, fromInclusive, toExclusive, TIERS.length - 1, watermarks, rollups);
+        return rollups;
+    }
+
+    private void collect(
+        String serviceId,
+        Instant fromInclusive,
+        Instant toExclusive,
+        int tierIndex,
+        Map<MetricRollupTier, Instant> watermarks,
+        List<MetricRollup> rollups
+    ) {
+        if (!fromInclusive.isBefore(toExclusive)) {
+            return;
+        }
+        if (tierIndex < 0) {
+            for (MetricPoint point : metricPointRepository.findByServiceIdAndWindow(serviceId, fromInclusive, toExclusive)) {
+                rollups.add(MetricRollup.fromPoint(null, point));
+            }
+            return;
+        }
+
+        MetricRollupTier tier = TIERS[tierIndex];
+        Instant watermark = watermarks.get(tier);
+        Instant alignedStart = tier.ceil(fromInclusive);
+        Instant alignedEnd = tier.floor(toExclusive);
+        if (watermark != null && watermark.isBefore(alignedEnd)) {
+            alignedEnd = watermark;
+        }
+        if (watermark == null || !alignedStart.isBefore(alignedEnd)) {
+            collect(serviceId, fromInclusive, toExclusive, tierIndex - 1, watermarks, rollups);
+            return;
+        }
+
+        collect(serviceId, fromInclusive, alignedStart, tierIndex - 1, watermarks, rollups);
+        rollups.addAll(metricRollupRepository.findByServiceIdAndWindow(serviceId, tier, alignedStart, alignedEnd));
+        collect(serviceId, alignedEnd, toExclusive, tierIndex - 1, watermarks, rollups);
+    }
+}
@@ -0,0 +1,23 @@
+package com.aegispulse.application.metric;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메트릭 롤업/보존 스케줄러.
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricRollupScheduler {
+
+    private final MetricRollupService metricRollupService;
+
+    /**
+     * 기본 1분 주기로 닫힌 버킷을 롤업한다.
+     */
+    @Scheduled(fixedDelayString = "${aegispulse.metrics.rollup.interval-ms:60000}")
+    public void rollUpMetrics() {
+        metricRollupService.rollUp();
+    }
+}
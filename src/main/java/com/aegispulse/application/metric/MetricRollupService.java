@@ -0,0 +1,176 @@
+package com.aegispulse.application.metric;
+
+import com.aegispulse.domain.metric.model.LatencySketchAccumulator;
+import com.aegispulse.domain.metric.model.MetricRollup;
+import com.aegispulse.domain.metric.model.MetricRollupTier;
+import com.aegispulse.domain.metric.model.MetricRollupWatermark;
+import com.aegispulse.domain.metric.repository.MetricPointRepository;
+import com.aegispulse.domain.metric.repository.MetricRollupRepository;
+import com.aegispulse.domain.metric.repository.MetricRollupWatermarkRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 원본 메트릭 포인트를 5분/1시간 롤업으로 다운샘플링하고 보존 기간이 지난 데이터를 만료하는 서비스.
+ * 5분 롤업은 원본에서, 1시간 롤업은 5분 롤업에서 만들며 rps 가중 합계를 보관해 조회 집계 결과가 원본과 일치한다.
+ * 롤업 저장 후 진행 위치를 저장하므로 중간 실패 시 다음 실행에서 같은 버킷을 다시 계산(멱등 upsert)한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MetricRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(MetricRollupService.class);
+
+    // 한 번에 읽어 합치는 원천 구간. 따라잡기 구간 전체를 한 번에 적재하지 않도록 시간으로 나누지만,
+    // 한 구간은 전체 서비스의 원본을 함께 읽으므로 메모리 사용량은 이 구간의 서비스/축 수에 비례한다.
+    private static final Duration SOURCE_CHUNK = Duration.ofHours(1);
+
+    private final MetricPointRepository metricPointRepository;
+    private final MetricRollupRepository metricRollupRepository;
+    private final MetricRollupWatermarkRepository metricRollupWatermarkRepository;
+    private final MetricRollupProperties properties;
+
+    public void rollUp() {
+        rollUpAt(Instant.now());
+    }
+
+    void rollUpAt(Instant now) {
+        Instant closedBefore = now.minus(properties.getLateArrivalGrace());
+        Optional<Instant> fiveMinuteWatermark = rollUpTier(MetricRollupTier.FIVE_MINUTES, now, closedBefore);
+        // 1시간 버킷은 포함된 5분 버킷이 모두 롤업된 뒤에만 닫는다.
+        fiveMinuteWatermark.ifPresent(watermark -> rollUpTier(MetricRollupTier.ONE_HOUR, now, watermark));
+        expire(now);
+    }
+
+    /**
+     * 단위 하나의 늦은 변경 반영과 진행 위치 전진을 수행하고 갱신된 진행 위치를 반환한다.
+     */
+    private Optional<Instant> rollUpTier(MetricRollupTier tier, Instant now, Instant sourceCompleteBefore) {
+        Optional<MetricRollupWatermark> current = metricRollupWatermarkRepository.findByTier(tier);
+        Optional<Instant> initial = current.map(MetricRollupWatermark::getWatermark).or(() -> earliestSourceBucket(tier));
+        if (initial.isEmpty()) {
+            return Optional.empty();
+        }
+        Instant watermark = initial.get();
+
+        current.ifPresent(existing -> recomputeLateBuckets(tier, existing));
+
+        Duration bucket = tier.getBucketDuration();
+        Instant target = tier.floor(sourceCompleteBefore);
+        Instant runLimit = watermark.plus(bucket.multipliedBy(Math.max(1, properties.getMaxBucketsPerRun())));
+        if (runLimit.isBefore(target)) {
+            target = runLimit;
+        }
+        while (watermark.isBefore(target)) {
+            Instant chunkEnd = watermark.plus(SOURCE_CHUNK.compareTo(bucket) < 0 ? bucket : SOURCE_CHUNK);
+            if (chunkEnd.isAfter(target)) {
+                chunkEnd = target;
+            }
+            recompute(tier, watermark, chunkEnd);
+            watermark = chunkEnd;
+        }
+
+        metricRollupWatermarkRepository.save(MetricRollupWatermark.of(tier, watermark, now));
+        return Optional.of(watermark);
+    }
+
+    /**
+     * 직전 실행 이후 원천이 바뀐 이미 롤업된 버킷을 다시 계산한다.
+     * 직전 실행 시작 시각과 커밋 시점 사이 경합을 덮도록 지연 유예만큼 앞당겨 찾는다.
+     */
+    private void recomputeLateBuckets(MetricRollupTier tier, MetricRollupWatermark watermark) {
+        Instant updatedSince = watermark.getLastRunStartedAt().minus(properties.getLateArrivalGrace());
+        List<Instant> changedSourceStarts = tier == MetricRollupTier.FIVE_MINUTES
+            ? metricPointRepository.findWindowStartsUpdatedSince(updatedSince, watermark.getWatermark())
+            : metricRollupRepository.findBucketStartsUpdatedSince(
+                MetricRollupTier.FIVE_MINUTES,
+                updatedSince,
+                watermark.getWatermark()
+            );
+
+        TreeSet<Instant> bucketStarts = new TreeSet<>();
+        for (Instant sourceStart : changedSourceStarts) {
+            bucketStarts.add(tier.floor(sourceStart));
+        }
+        for (Instant bucketStart : bucketStarts) {
+            recompute(tier, bucketStart, bucketStart.plus(tier.getBucketDuration()));
+        }
+        if (!bucketStarts.isEmpty()) {
+            log.info("늦게 도착한 메트릭으로 롤업을 재계산했습니다. tier={}, buckets={}", tier, bucketStarts.size());
+        }
+    }
+
+    /**
+     * 구간의 원천을 롤업 키별로 묶은 뒤 키마다 한 번에 합친다.
+     * 스케치 누적기는 구간당 하나를 키 사이에 재사용하고 키마다 한 번만 인코딩하므로 원천 수만큼 할당하지 않는다.
+     */
+    private void recompute(MetricRollupTier tier, Instant fromInclusive, Instant toExclusive) {
+        Map<RollupKey, List<MetricRollup>> rollupsByKey = new LinkedHashMap<>();
+        if (tier == MetricRollupTier.FIVE_MINUTES) {
+            metricPointRepository.findByWindow(fromInclusive, toExclusive)
+                .forEach(point -> group(rollupsByKey, MetricRollup.fromPoint(tier, point)));
+        } else {
+            metricRollupRepository.findByWindow(MetricRollupTier.FIVE_MINUTES, fromInclusive, toExclusive)
+                .forEach(rollup -> group(rollupsByKey, rollup.rebucket(tier)));
+        }
+
+        LatencySketchAccumulator sketchAccumulator = new LatencySketchAccumulator();
+        List<MetricRollup> merged = new ArrayList<>(rollupsByKey.size());
+        for (List<MetricRollup> rollups : rollupsByKey.values()) {
+            merged.add(MetricRollup.mergeAll(rollups, sketchAccumulator));
+        }
+        metricRollupRepository.upsertAll(merged);
+    }
+
+    private void group(Map<RollupKey, List<MetricRollup>> rollupsByKey, MetricRollup rollup) {
+        rollupsByKey.computeIfAbsent(RollupKey.of(rollup), ignored -> new ArrayList<>()).add(rollup);
+    }
+
+    private Optional<Instant> earliestSourceBucket(MetricRollupTier tier) {
+        Optional<Instant> earliest = tier == MetricRollupTier.FIVE_MINUTES
+            ? metricPointRepository.findEarliestWindowStart()
+            : metricRollupRepository.findEarliestBucketStart(MetricRollupTier.FIVE_MINUTES);
+        return earliest.map(tier::floor);
+    }
+
+    /**
+     * 보존 기간이 지난 원본/5분 롤업을 만료한다. 상위 단위로 아직 롤업되지 않은 구간은 보존 기간이 지나도 남겨 둔다.
+     */
+    private void expire(Instant now) {
+        metricRollupWatermarkRepository.findByTier(MetricRollupTier.FIVE_MINUTES).ifPresent(watermark -> {
+            Instant rawCutoff = earlier(now.minus(properties.getRawRetention()), watermark.getWatermark());
+            int deleted = metricPointRepository.deleteByWindowStartBefore(rawCutoff);
+            if (deleted > 0) {
+                log.info("보존 기간이 지난 원본 메트릭을 삭제했습니다. before={}, deleted={}", rawCutoff, deleted);
+            }
+        });
+        metricRollupWatermarkRepository.findByTier(MetricRollupTier.ONE_HOUR).ifPresent(watermark -> {
+            Instant rollupCutoff = earlier(now.minus(properties.getFiveMinuteRetention()), watermark.getWatermark());
+            int deleted = metricRollupRepository.deleteByBucketStartBefore(MetricRollupTier.FIVE_MINUTES, rollupCutoff);
+            if (deleted > 0) {
+                log.info("보존 기간이 지난 5분 롤업을 삭제했습니다. before={}, deleted={}", rollupCutoff, deleted);
+            }
+        });
+    }
+
+    private static Instant earlier(Instant left, Instant right) {
+        return left.isBefore(right) ? left : right;
+    }
+
+    private record RollupKey(String serviceId, String routeId, String consumerId, Instant bucketStart) {
+
+        static RollupKey of(MetricRollup rollup) {
+            return new RollupKey(rollup.getServiceId(), rollup.getRouteId(), rollup.getConsumerId(), rollup.getBucketStart());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.aegispulse.application.metric;
+
+import com.aegispulse.domain.metric.model.MetricPoint;
+import java.util.List;
+
+/**
+ * 수집 검증을 통과해 저장소(또는 비동기 버퍼)에 넘겨진 서비스 축 포인트 묶음.
+ * 트랜잭션 안에서 발행되면 커밋 이후에만 리스너에 전달된다.
+ */
+public record ServiceAxisPointsAcceptedEvent(List<MetricPoint> points) {
+}
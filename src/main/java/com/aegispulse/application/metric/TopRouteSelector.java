@@ -0,0 +1,134 @@
+package com.aegispulse.application.metric;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 상위 K개 라우트를 고르는 고정 크기 최소 힙.
+ * 순위는 rps 내림차순, 5xx 비율 내림차순, routeId 오름차순이며, 힙 루트에는 보관 중 가장 낮은 순위가 온다.
+ * 후보가 루트보다 높은 순위일 때만 교체하므로 라우트 수 n에 대해 O(n log K) 비교와 K개 슬롯만 사용한다.
+ */
+final class TopRouteSelector<T> {
+
+    private final int limit;
+    private final String[] routeIds;
+    private final double[] rps;
+    private final double[] status5xxRates;
+    private final Object[] payloads;
+    private int size;
+
+    TopRouteSelector(int limit) {
+        this.limit = limit;
+        this.routeIds = new String[limit];
+        this.rps = new double[limit];
+        this.status5xxRates = new double[limit];
+        this.payloads = new Object[limit];
+    }
+
+    void offer(String routeId, double routeRps, double status5xxRate, T payload) {
+        if (limit == 0) {
+            return;
+        }
+        if (size < limit) {
+            set(size, routeId, routeRps, status5xxRate, payload);
+            siftUp(size++);
+            return;
+        }
+        if (ranksHigher(routeId, routeRps, status5xxRate, 0)) {
+            set(0, routeId, routeRps, status5xxRate, payload);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * 보관 중인 항목을 높은 순위부터 반환한다. 호출 후 선택기는 비워진다.
+     */
+    @SuppressWarnings("unchecked")
+    List<T> drainBestFirst() {
+        List<T> selected = new ArrayList<>(size);
+        while (size > 0) {
+            // 루트(최저 순위)부터 꺼내므로 마지막에 뒤집는다.
+            selected.add((T) payloads[0]);
+            size--;
+            if (size > 0) {
+                move(size, 0);
+                siftDown(0);
+            }
+            clear(size);
+        }
+        Collections.reverse(selected);
+        return selected;
+    }
+
+    private boolean ranksHigher(String routeId, double routeRps, double status5xxRate, int slot) {
+        int byRps = Double.compare(routeRps, rps[slot]);
+        if (byRps != 0) {
+            return byRps > 0;
+        }
+        int by5xx = Double.compare(status5xxRate, status5xxRates[slot]);
+        if (by5xx != 0) {
+            return by5xx > 0;
+        }
+        return routeId.compareTo(routeIds[slot]) < 0;
+    }
+
+    private boolean ranksLower(int left, int right) {
+        return ranksHigher(routeIds[right], rps[right], status5xxRates[right], left);
+    }
+
+    private void siftUp(int slot) {
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (!ranksLower(slot, parent)) {
+                return;
+            }
+            swap(slot, parent);
+            slot = parent;
+        }
+    }
+
+    private void siftDown(int slot) {
+        while (true) {
+            int lowest = slot;
+            int left = 2 * slot + 1;
+            int right = left + 1;
+            if (left < size && ranksLower(left, lowest)) {
+                lowest = left;
+            }
+            if (right < size && ranksLower(right, lowest)) {
+                lowest = right;
+            }
+            if (lowest == slot) {
+                return;
+            }
+            swap(slot, lowest);
+            slot = lowest;
+        }
+    }
+
+    private void set(int slot, String routeId, double routeRps, double status5xxRate, Object payload) {
+        routeIds[slot] = routeId;
+        rps[slot] = routeRps;
+        status5xxRates[slot] = status5xxRate;
+        payloads[slot] = payload;
+    }
+
+    private void move(int from, int to) {
+        set(to, routeIds[from], rps[from], status5xxRates[from], payloads[from]);
+    }
+
+    private void swap(int left, int right) {
+        String routeId = routeIds[left];
+        double routeRps = rps[left];
+        double status5xxRate = status5xxRates[left];
+        Object payload = payloads[left];
+        move(right, left);
+        set(right, routeId, routeRps, status5xxRate, payload);
+    }
+
+    private void clear(int slot) {
+        routeIds[slot] = null;
+        payloads[slot] = null;
+    }
+}
@@ -20,4 +20,6 @@ public class MetricPointIngestItem {
     private final double latencyP95;
     private final double status4xxRate;
     private final double status5xxRate;
+    // 선택 입력. LatencySketch 인코딩 바이트.
+    private final byte[] latencySketch;
 }
@@ -1,5 +1,6 @@
 package com.aegispulse.application.metric.command;
 
+import com.aegispulse.domain.metric.model.MetricQueryView;
 import com.aegispulse.domain.metric.model.MetricWindow;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,4 +14,7 @@ public class QueryServiceMetricsCommand {
 
     private final String serviceId;
     private final MetricWindow window;
+    // 미지정(null)이면 서비스 기본값을 사용한다.
+    private final Integer topK;
+    private final MetricQueryView view;
 }
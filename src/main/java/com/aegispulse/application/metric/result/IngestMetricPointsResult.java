@@ -10,5 +10,10 @@ import lombok.Getter;
 @Builder
 public class IngestMetricPointsResult {
 
+    // 배치 내 중복 키를 합친 뒤 실제 적재(또는 적재 예약)된 포인트 수이다.
     private final int ingestedCount;
+    // 같은 자연키가 중복되어 합쳐진 포인트 수(Collector 재전송 증폭 규모)이다.
+    private final int deduplicatedCount;
+    // true면 비동기 버퍼에 적재 예약만 된 상태(202 Accepted)이다.
+    private final boolean queued;
 }
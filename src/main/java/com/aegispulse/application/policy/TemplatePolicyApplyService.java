@@ -3,6 +3,7 @@ package com.aegispulse.application.policy;
 import com.aegispulse.api.common.exception.AegisPulseException;
 import com.aegispulse.api.common.exception.ErrorCode;
 import com.aegispulse.application.audit.AuditLogWriteUseCase;
+import com.aegispulse.application.consumer.key.ConsumerAuthorizationSnapshotCache;
 import com.aegispulse.domain.consumer.key.model.ConsumerKeyStatus;
 import com.aegispulse.domain.consumer.key.repository.ManagedConsumerKeyRepository;
 import com.aegispulse.domain.consumer.model.ConsumerType;
@@ -46,6 +47,7 @@ public class TemplatePolicyApplyService implements TemplatePolicyApplyUseCase {
     private final PolicyDeploymentPort policyDeploymentPort;
     private final AuditLogWriteUseCase auditLogWriteUseCase;
     private final ObjectMapper objectMapper;
+    private final ConsumerAuthorizationSnapshotCache consumerAuthorizationSnapshotCache;
 
     @Override
     @Transactional(noRollbackFor = AegisPulseException.class)
@@ -72,6 +74,8 @@ public class TemplatePolicyApplyService implements TemplatePolicyApplyUseCase {
             nextVersion
         );
 
+        // 적용/자동 롤백 어느 쪽으로 커밋되든 최신 템플릿이 바뀌므로 커밋 후 인증 스냅샷을 비운다.
+        consumerAuthorizationSnapshotCache.invalidateServiceAfterCommit(command.getServiceId());
         PolicyBinding saved = policyBindingRepository.save(candidate);
         try {
             policyDeploymentPort.apply(saved);
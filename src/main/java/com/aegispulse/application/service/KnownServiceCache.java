@@ -0,0 +1,54 @@
+package com.aegispulse.application.service;
+
+import com.aegispulse.domain.service.repository.ManagedServiceRepository;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 등록된 serviceId 존재 여부 캐시.
+ * 서비스는 삭제되지 않으므로 한 번 확인된 serviceId는 계속 유효하며, 미확인 ID만 저장소로 조회한다.
+ * 다른 인스턴스에서 등록된 서비스는 최초 조회 시 저장소 확인 후 캐시에 합류한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KnownServiceCache {
+
+    private final ManagedServiceRepository managedServiceRepository;
+    private final Set<String> knownServiceIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * serviceId 존재 여부를 반환한다.
+     * 존재하지 않는 결과는 이후 등록될 수 있으므로 캐시하지 않는다.
+     */
+    public boolean exists(String serviceId) {
+        if (knownServiceIds.contains(serviceId)) {
+            return true;
+        }
+        if (!managedServiceRepository.existsById(serviceId)) {
+            return false;
+        }
+        knownServiceIds.add(serviceId);
+        return true;
+    }
+
+    /**
+     * 신규 등록된 serviceId를 캐시에 반영한다.
+     * 등록 트랜잭션이 롤백되면 캐시에 남지 않도록 커밋 이후에 반영한다.
+     */
+    public void register(String serviceId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            knownServiceIds.add(serviceId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                knownServiceIds.add(serviceId);
+            }
+        });
+    }
+}
@@ -2,6 +2,7 @@ package com.aegispulse.application.service;
 
 import com.aegispulse.api.common.exception.AegisPulseException;
 import com.aegispulse.api.common.exception.ErrorCode;
+import com.aegispulse.application.consumer.key.ConsumerAuthorizationSnapshotCache;
 import com.aegispulse.application.service.command.RegisterServiceCommand;
 import com.aegispulse.application.service.result.RegisterServiceResult;
 import com.aegispulse.domain.service.model.ManagedService;
@@ -21,6 +22,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class ServiceRegistrationService implements ServiceRegistrationUseCase {
 
     private final ManagedServiceRepository managedServiceRepository;
+    private final KnownServiceCache knownServiceCache;
+    private final ConsumerAuthorizationSnapshotCache consumerAuthorizationSnapshotCache;
 
     @Override
     @Transactional
@@ -39,6 +42,9 @@ public class ServiceRegistrationService implements ServiceRegistrationUseCase {
 
         try {
             ManagedService saved = managedServiceRepository.save(candidate);
+            knownServiceCache.register(saved.getId());
+            // 인증 스냅샷은 서비스 조회 실패를 캐시하지 않지만, 서비스 쓰기마다 스냅샷을 비운다는 규칙을 등록에도 맞춘다.
+            consumerAuthorizationSnapshotCache.invalidateServiceAfterCommit(saved.getId());
             return RegisterServiceResult.builder()
                 .serviceId(saved.getId())
                 .name(saved.getName())
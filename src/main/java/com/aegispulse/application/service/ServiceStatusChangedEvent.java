@@ -0,0 +1,10 @@
+package com.aegispulse.application.service;
+
+import java.util.List;
+
+/**
+ * 격리 발동/해제 등으로 상태가 바뀐 서비스 ID 묶음.
+ * 트랜잭션 안에서 발행되면 커밋 이후에만 리스너에 전달된다.
+ */
+public record ServiceStatusChangedEvent(List<String> serviceIds) {
+}
@@ -0,0 +1,114 @@
+package com.aegispulse.domain.alert.model;
+
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 전이 외부 발송 outbox 항목.
+ * 알림 저장과 같은 트랜잭션에서 채널마다 하나씩 기록되며, 발송기는 PENDING 항목을 nextAttemptAt 순으로 꺼내 보낸다.
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE, toBuilder = true)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class AlertNotification {
+
+    private final String id;
+    private final String alertId;
+    private final String channel;
+    private final AlertType alertType;
+    private final String targetId;
+    private final AlertState alertState;
+    private final String payload;
+    private final AlertNotificationStatus status;
+    private final int attempts;
+    private final Instant nextAttemptAt;
+    private final Instant createdAt;
+    private final Instant sentAt;
+    private final String lastError;
+
+    /**
+     * 저장된 알림 전이로 발송 대기 항목을 만든다.
+     */
+    public static AlertNotification newPending(Alert alert, String channel, Instant createdAt) {
+        return AlertNotification.builder()
+            .alertId(alert.getId())
+            .channel(channel)
+            .alertType(alert.getAlertType())
+            .targetId(alert.getTargetId())
+            .alertState(alert.getState())
+            .payload(alert.getPayload())
+            .status(AlertNotificationStatus.PENDING)
+            .attempts(0)
+            .nextAttemptAt(createdAt)
+            .createdAt(createdAt)
+            .build();
+    }
+
+    /**
+     * 영속화 계층 복원을 위한 팩토리 메서드.
+     */
+    public static AlertNotification restore(
+        String id,
+        String alertId,
+        String channel,
+        AlertType alertType,
+        String targetId,
+        AlertState alertState,
+        String payload,
+        AlertNotificationStatus status,
+        int attempts,
+        Instant nextAttemptAt,
+        Instant createdAt,
+        Instant sentAt,
+        String lastError
+    ) {
+        return AlertNotification.builder()
+            .id(id)
+            .alertId(alertId)
+            .channel(channel)
+            .alertType(alertType)
+            .targetId(targetId)
+            .alertState(alertState)
+            .payload(payload)
+            .status(status)
+            .attempts(attempts)
+            .nextAttemptAt(nextAttemptAt)
+            .createdAt(createdAt)
+            .sentAt(sentAt)
+            .lastError(lastError)
+            .build();
+    }
+
+    public AlertNotification markSent(Instant sentAt) {
+        requirePending();
+        return toBuilder()
+            .status(AlertNotificationStatus.SENT)
+            .attempts(attempts + 1)
+            .sentAt(sentAt)
+            .lastError(null)
+            .build();
+    }
+
+    /**
+     * 발송 실패를 기록한다. 시도 횟수가 maxAttempts에 도달하면 DEAD로, 아니면 retryAt에 다시 시도한다.
+     */
+    public AlertNotification markFailed(String error, Instant retryAt, int maxAttempts) {
+        requirePending();
+        int nextAttempts = attempts + 1;
+        return toBuilder()
+            .status(nextAttempts >= maxAttempts ? AlertNotificationStatus.DEAD : AlertNotificationStatus.PENDING)
+            .attempts(nextAttempts)
+            .nextAttemptAt(retryAt)
+            .lastError(error)
+            .build();
+    }
+
+    private void requirePending() {
+        if (status != AlertNotificationStatus.PENDING) {
+            throw new IllegalStateException("PENDING 상태에서만 발송 결과를 기록할 수 있습니다.");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.aegispulse.domain.alert.model;
+
+/**
+ * 알림 외부 발송 상태.
+ */
+public enum AlertNotificationStatus {
+    PENDING,
+    SENT,
+    // 최대 재시도 횟수를 넘겨 더 이상 발송하지 않는다.
+    DEAD
+}
@@ -0,0 +1,67 @@
+package com.aegispulse.domain.alert.model;
+
+import java.time.Duration;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * FR-007 임계치 알림 규칙 도메인 모델.
+ * 서비스 축 지표 하나를 구간(window) 동안 관측해 임계치와 비교하고, 위반 시 alertType 알림을 연다.
+ * 구간 요청 수가 minRequestCount 미만이면 표본 부족으로 보고 상태를 바꾸지 않는다.
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class AlertRule {
+
+    private final AlertType alertType;
+    private final AlertRuleMetric metric;
+    private final AlertRuleComparator comparator;
+    private final double threshold;
+    private final Duration window;
+    private final Duration cooldown;
+    private final double minRequestCount;
+
+    /**
+     * 규칙을 생성한다. 구간은 1분 포인트 단위로 평가하므로 분 단위여야 한다.
+     */
+    public static AlertRule of(
+        AlertType alertType,
+        AlertRuleMetric metric,
+        AlertRuleComparator comparator,
+        double threshold,
+        Duration window,
+        Duration cooldown,
+        double minRequestCount
+    ) {
+        if (alertType == null || metric == null || comparator == null) {
+            throw new IllegalArgumentException("알림 규칙의 alertType, metric, comparator는 필수입니다.");
+        }
+        if (alertType == AlertType.SERVICE_ISOLATION_MODE) {
+            throw new IllegalArgumentException("격리 모드는 임계치 규칙으로 정의할 수 없습니다.");
+        }
+        if (!Double.isFinite(threshold)) {
+            throw new IllegalArgumentException("알림 규칙 임계치는 유한한 값이어야 합니다.");
+        }
+        if (window == null || window.toMinutes() < 1 || !window.equals(Duration.ofMinutes(window.toMinutes()))) {
+            throw new IllegalArgumentException("알림 규칙 구간은 1분 이상의 분 단위여야 합니다.");
+        }
+        if (cooldown == null || cooldown.isNegative()) {
+            throw new IllegalArgumentException("알림 규칙 cooldown은 0 이상이어야 합니다.");
+        }
+        if (!Double.isFinite(minRequestCount) || minRequestCount < 0) {
+            throw new IllegalArgumentException("알림 규칙 최소 요청 수는 0 이상이어야 합니다.");
+        }
+        return AlertRule.builder()
+            .alertType(alertType)
+            .metric(metric)
+            .comparator(comparator)
+            .threshold(threshold)
+            .window(window)
+            .cooldown(cooldown)
+            .minRequestCount(minRequestCount)
+            .build();
+    }
+}
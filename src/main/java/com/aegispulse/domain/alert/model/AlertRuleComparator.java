@@ -0,0 +1,16 @@
+package com.aegispulse.domain.alert.model;
+
+/**
+ * 관측값과 임계치의 위반 판정 방향.
+ */
+public enum AlertRuleComparator {
+    GREATER_THAN,
+    LESS_THAN;
+
+    /**
+     * 관측값이 임계치를 위반했는지 판정한다. 임계치와 같은 값은 위반으로 보지 않는다.
+     */
+    public boolean breached(double observedValue, double threshold) {
+        return this == GREATER_THAN ? observedValue > threshold : observedValue < threshold;
+    }
+}
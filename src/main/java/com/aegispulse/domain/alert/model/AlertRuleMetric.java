@@ -0,0 +1,13 @@
+package com.aegispulse.domain.alert.model;
+
+/**
+ * 알림 규칙이 관측하는 서비스 축 지표.
+ * 비율은 % 단위, 지연은 ms 단위, RPS는 구간 평균이다.
+ */
+public enum AlertRuleMetric {
+    STATUS_5XX_RATE,
+    STATUS_4XX_RATE,
+    LATENCY_P95,
+    LATENCY_P50,
+    RPS
+}
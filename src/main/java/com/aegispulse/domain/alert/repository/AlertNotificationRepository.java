@@ -0,0 +1,26 @@
+package com.aegispulse.domain.alert.repository;
+
+import com.aegispulse.domain.alert.model.AlertNotification;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 알림 발송 outbox 저장소 추상화.
+ */
+public interface AlertNotificationRepository {
+
+    /**
+     * 발송 항목을 한 번에 저장한다. 신규 항목과 발송 결과 갱신에 함께 사용한다.
+     */
+    List<AlertNotification> saveAll(List<AlertNotification> notifications);
+
+    /**
+     * 지정 시각까지 발송 시도 시각이 된 PENDING 항목을 오래된 순으로 limit개 조회한다.
+     */
+    List<AlertNotification> findDue(Instant now, int limit);
+
+    /**
+     * 발송이 끝난(SENT/DEAD) 항목 중 지정 시각 이전에 생성된 항목을 삭제하고 삭제 건수를 반환한다.
+     */
+    int deleteFinishedCreatedBefore(Instant createdBefore);
+}
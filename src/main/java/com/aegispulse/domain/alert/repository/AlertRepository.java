@@ -3,6 +3,8 @@ package com.aegispulse.domain.alert.repository;
 import com.aegispulse.domain.alert.model.Alert;
 import com.aegispulse.domain.alert.model.AlertState;
 import com.aegispulse.domain.alert.model.AlertType;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,11 +18,21 @@ public interface AlertRepository {
      */
     Alert save(Alert alert);
 
+    /**
+     * 여러 알림을 한 번에 저장한다.
+     */
+    List<Alert> saveAll(List<Alert> alerts);
+
     /**
      * 알림 ID 단건 조회.
      */
     Optional<Alert> findById(String alertId);
 
+    /**
+     * 알림의 타깃 ID만 조회한다. 알림을 영속성 컨텍스트에 올리지 않으므로 락을 잡기 전 대상 확인에 사용한다.
+     */
+    Optional<String> findTargetIdById(String alertId);
+
     /**
      * 동일 타깃/타입의 최신 알림을 조회한다.
      */
@@ -31,6 +43,26 @@ public interface AlertRepository {
      */
     Optional<Alert> findActiveByTargetAndType(String targetId, AlertType alertType);
 
+    /**
+     * 지정 타입의 OPEN/ACKED 활성 알림을 타깃 구분 없이 모두 조회한다.
+     */
+    List<Alert> findActiveByTypes(Collection<AlertType> alertTypes);
+
+    /**
+     * 지정 타깃들의 지정 타입 OPEN/ACKED 활성 알림을 조회한다.
+     */
+    List<Alert> findActiveByTargets(Collection<String> targetIds, Collection<AlertType> alertTypes);
+
+    /**
+     * 지정 시각 이후 RESOLVED로 전이된 알림을 조회한다. cooldown 판정 입력으로 사용한다.
+     */
+    List<Alert> findResolvedSince(Collection<AlertType> alertTypes, Instant resolvedSince);
+
+    /**
+     * 지정 타깃들 중 지정 시각 이후 RESOLVED로 전이된 알림을 조회한다.
+     */
+    List<Alert> findResolvedSince(Collection<String> targetIds, Collection<AlertType> alertTypes, Instant resolvedSince);
+
     /**
      * 상태/타깃/타입 필터로 최근 알림을 조회한다.
      */
@@ -3,6 +3,7 @@ package com.aegispulse.domain.consumer.key.repository;
 import com.aegispulse.domain.consumer.key.model.ConsumerKeyStatus;
 import com.aegispulse.domain.consumer.key.model.ManagedConsumerKey;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * ConsumerKey 도메인 저장소 추상화.
@@ -14,6 +15,11 @@ public interface ManagedConsumerKeyRepository {
      */
     List<ManagedConsumerKey> findAllByConsumerIdAndStatus(String consumerId, ConsumerKeyStatus status);
 
+    /**
+     * 키 ID 단건 조회.
+     */
+    Optional<ManagedConsumerKey> findById(String keyId);
+
     /**
      * ConsumerKey 도메인 모델을 저장한다.
      */
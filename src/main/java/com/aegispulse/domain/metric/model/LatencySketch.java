@@ -0,0 +1,176 @@
+package com.aegispulse.domain.metric.model;
+
+import java.util.Arrays;
+
+/**
+ * 분 단위 포인트의 지연 분포를 표현하는 병합 가능한 로그 버킷 스케치(DDSketch 방식).
+ * 버킷 i(1 이상)는 (MIN_VALUE_MS·γ^(i-1), MIN_VALUE_MS·γ^i] 구간의 요청 수를 세고, 버킷 0은 MIN_VALUE_MS 이하를 모은다.
+ * 버킷 경계가 고정되어 있으므로 여러 스케치의 병합은 같은 인덱스 카운트 합산이며, 분위수 상대 오차는 RELATIVE_ACCURACY 이내다.
+ *
+ * <pre>
+ * encoded := version:uint8 bucketCount:varint (indexDelta:varint count:varint){bucketCount}
+ * </pre>
+ * 비어 있지 않은 버킷만 인덱스 오름차순 차분으로 저장해 수백 바이트 수준의 바이너리 컬럼이 된다.
+ * 인스턴스는 검증된 인코딩 바이트를 그대로 보관하며, 병합은 LatencySketchAccumulator가 바이트에서 직접 읽어 수행한다.
+ */
+public final class LatencySketch {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+    public static final double MIN_VALUE_MS = 0.1;
+    public static final int BUCKET_COUNT = 1024;
+    // 모든 버킷이 최대 길이 varint로 채워져도 담기는 크기. 영속 컬럼 길이로도 사용한다.
+    public static final int MAX_ENCODED_BYTES = 16 * 1024;
+
+    static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    static final double LOG_GAMMA = Math.log(GAMMA);
+
+    static final int FORMAT_VERSION = 1;
+
+    private final byte[] encoded;
+    private final long totalCount;
+
+    private LatencySketch(byte[] encoded, long totalCount) {
+        this.encoded = encoded;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * 인코딩 바이트를 검증해 스케치를 만든다. 형식이 올바르지 않으면 IllegalArgumentException을 던진다.
+     */
+    public static LatencySketch fromBytes(byte[] encoded) {
+        if (encoded == null || encoded.length == 0 || encoded.length > MAX_ENCODED_BYTES) {
+            throw new IllegalArgumentException("latencySketch 크기가 허용 범위를 벗어났습니다.");
+        }
+        byte[] copy = Arrays.copyOf(encoded, encoded.length);
+        return new LatencySketch(copy, validate(copy));
+    }
+
+    /**
+     * 누적기가 직접 인코딩한 바이트로 만든다. 검증을 생략하므로 같은 패키지에서만 사용한다.
+     */
+    static LatencySketch trusted(byte[] encoded, long totalCount) {
+        return new LatencySketch(encoded, totalCount);
+    }
+
+    public byte[] toBytes() {
+        return Arrays.copyOf(encoded, encoded.length);
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * 지연(ms)이 속하는 버킷 인덱스를 반환한다. 상한을 넘는 값은 마지막 버킷에 모은다.
+     */
+    public static int bucketIndex(double latencyMs) {
+        if (!(latencyMs > MIN_VALUE_MS)) {
+            return 0;
+        }
+        double index = Math.ceil(Math.log(latencyMs / MIN_VALUE_MS) / LOG_GAMMA);
+        return (int) Math.min(BUCKET_COUNT - 1, Math.max(1, index));
+    }
+
+    /**
+     * 버킷 대표값. 버킷 구간 양 끝과의 상대 오차가 같아지는 지점을 사용한다.
+     */
+    static double bucketValue(int index) {
+        if (index == 0) {
+            return 0;
+        }
+        return MIN_VALUE_MS * 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+
+    /**
+     * 인코딩된 버킷 카운트를 호출자 배열에 더한다. 생성 시 검증을 마친 바이트이므로 경계 검사 없이 읽으며,
+     * 24시간 구간처럼 많은 스케치를 병합해도 호출당 할당이 없도록 varint를 지역 변수로 직접 해석한다.
+     */
+    void addTo(long[] counts) {
+        int position = 1;
+        byte current;
+        long bucketCount = 0;
+        int shift = 0;
+        do {
+            current = encoded[position++];
+            bucketCount |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while (current < 0);
+
+        int index = 0;
+        for (long bucket = 0; bucket < bucketCount; bucket++) {
+            long delta = 0;
+            shift = 0;
+            do {
+                current = encoded[position++];
+                delta |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while (current < 0);
+            index += (int) delta;
+
+            long count = 0;
+            shift = 0;
+            do {
+                current = encoded[position++];
+                count |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while (current < 0);
+            counts[index] += count;
+        }
+    }
+
+    private static long validate(byte[] encoded) {
+        if (encoded[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 latencySketch 버전입니다.");
+        }
+        int[] cursor = {1};
+        long bucketCount = readVarint(encoded, cursor);
+        if (bucketCount > BUCKET_COUNT) {
+            throw new IllegalArgumentException("latencySketch 버킷 수가 허용 범위를 벗어났습니다.");
+        }
+        long index = 0;
+        long totalCount = 0;
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            long delta = readVarint(encoded, cursor);
+            if (delta < 0 || (bucket > 0 && delta == 0)) {
+                throw new IllegalArgumentException("latencySketch 버킷 인덱스는 오름차순이어야 합니다.");
+            }
+            index += delta;
+            if (index >= BUCKET_COUNT) {
+                throw new IllegalArgumentException("latencySketch 버킷 인덱스가 허용 범위를 벗어났습니다.");
+            }
+            long count = readVarint(encoded, cursor);
+            if (count <= 0 || count > Long.MAX_VALUE - totalCount) {
+                throw new IllegalArgumentException("latencySketch 버킷 카운트가 허용 범위를 벗어났습니다.");
+            }
+            totalCount += count;
+        }
+        if (cursor[0] != encoded.length) {
+            throw new IllegalArgumentException("latencySketch 길이가 본문과 일치하지 않습니다.");
+        }
+        return totalCount;
+    }
+
+    private static long readVarint(byte[] encoded, int[] cursor) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            if (cursor[0] >= encoded.length) {
+                throw new IllegalArgumentException("latencySketch가 예상보다 짧습니다.");
+            }
+            byte current = encoded[cursor[0]++];
+            value |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("latencySketch varint 형식이 올바르지 않습니다.");
+    }
+
+    static int writeVarint(byte[] target, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            target[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[offset++] = (byte) value;
+        return offset;
+    }
+}
@@ -0,0 +1,91 @@
+package com.aegispulse.domain.metric.model;
+
+import java.util.Arrays;
+
+/**
+ * LatencySketch 여러 개를 고정 크기 long 배열 하나에 병합하는 누적기.
+ * 병합은 인코딩 바이트를 직접 읽어 카운트를 더하므로 스케치 수와 무관하게 누적기 생성 시 한 번만 할당한다.
+ * 스레드 안전하지 않으며 집계 호출 범위 안에서만 사용한다.
+ */
+public final class LatencySketchAccumulator {
+
+    private final long[] counts = new long[LatencySketch.BUCKET_COUNT];
+    private long totalCount;
+
+    public void add(LatencySketch sketch) {
+        sketch.addTo(counts);
+        totalCount += sketch.getTotalCount();
+    }
+
+    /**
+     * 다른 누적기의 카운트를 더한다. 인코딩/디코딩 없이 배열끼리 합산한다.
+     */
+    public void add(LatencySketchAccumulator other) {
+        for (int index = 0; index < counts.length; index++) {
+            counts[index] += other.counts[index];
+        }
+        totalCount += other.totalCount;
+    }
+
+    /**
+     * 지연(ms) 관측값을 count건 기록한다. Collector/테스트에서 원본 지연으로 스케치를 만들 때 사용한다.
+     */
+    public void record(double latencyMs, long count) {
+        if (!Double.isFinite(latencyMs) || latencyMs < 0 || count <= 0) {
+            throw new IllegalArgumentException("지연 값은 0 이상, 카운트는 1 이상이어야 합니다.");
+        }
+        counts[LatencySketch.bucketIndex(latencyMs)] += count;
+        totalCount += count;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * q(0~1) 분위수를 반환한다. 관측값이 없으면 0을 반환한다.
+     */
+    public double quantile(double q) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double rank = Math.min(1, Math.max(0, q)) * (totalCount - 1);
+        long cumulative = 0;
+        for (int index = 0; index < counts.length; index++) {
+            cumulative += counts[index];
+            if (cumulative > rank) {
+                return LatencySketch.bucketValue(index);
+            }
+        }
+        return LatencySketch.bucketValue(counts.length - 1);
+    }
+
+    public LatencySketch toSketch() {
+        int nonEmptyBuckets = 0;
+        for (long count : counts) {
+            if (count > 0) {
+                nonEmptyBuckets++;
+            }
+        }
+
+        // 버전 1바이트 + 버킷 수 varint(최대 2바이트) + 버킷당 인덱스 차분(최대 2바이트)과 카운트(최대 10바이트).
+        byte[] buffer = new byte[3 + nonEmptyBuckets * 12];
+        buffer[0] = (byte) LatencySketch.FORMAT_VERSION;
+        int offset = LatencySketch.writeVarint(buffer, 1, nonEmptyBuckets);
+        int previousIndex = 0;
+        for (int index = 0; index < counts.length; index++) {
+            if (counts[index] == 0) {
+                continue;
+            }
+            offset = LatencySketch.writeVarint(buffer, offset, index - previousIndex);
+            offset = LatencySketch.writeVarint(buffer, offset, counts[index]);
+            previousIndex = index;
+        }
+        return LatencySketch.trusted(Arrays.copyOf(buffer, offset), totalCount);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+    }
+}
@@ -25,6 +25,8 @@ public class MetricPoint {
     private final double latencyP95;
     private final double status4xxRate;
     private final double status5xxRate;
+    // 선택 입력. 있으면 구간 집계 시 p50/p95를 가중 평균 대신 스케치 병합으로 계산한다.
+    private final LatencySketch latencySketch;
 
     /**
      * 신규 메트릭 포인트를 생성한다.
@@ -40,6 +42,35 @@ public class MetricPoint {
         double latencyP95,
         double status4xxRate,
         double status5xxRate
+    ) {
+        return newPoint(
+            serviceId,
+            routeId,
+            consumerId,
+            windowStart,
+            rps,
+            latencyP50,
+            latencyP95,
+            status4xxRate,
+            status5xxRate,
+            null
+        );
+    }
+
+    /**
+     * 지연 분포 스케치를 포함한 신규 메트릭 포인트를 생성한다.
+     */
+    public static MetricPoint newPoint(
+        String serviceId,
+        String routeId,
+        String consumerId,
+        Instant windowStart,
+        double rps,
+        double latencyP50,
+        double latencyP95,
+        double status4xxRate,
+        double status5xxRate,
+        LatencySketch latencySketch
     ) {
         return MetricPoint.builder()
             .id(null)
@@ -52,6 +83,7 @@ public class MetricPoint {
             .latencyP95(latencyP95)
             .status4xxRate(status4xxRate)
             .status5xxRate(status5xxRate)
+            .latencySketch(latencySketch)
             .build();
     }
 
@@ -69,6 +101,37 @@ public class MetricPoint {
         double latencyP95,
         double status4xxRate,
         double status5xxRate
+    ) {
+        return restore(
+            id,
+            serviceId,
+            routeId,
+            consumerId,
+            windowStart,
+            rps,
+            latencyP50,
+            latencyP95,
+            status4xxRate,
+            status5xxRate,
+            null
+        );
+    }
+
+    /**
+     * 지연 분포 스케치를 포함해 영속화 계층에서 도메인 객체를 복원한다.
+     */
+    public static MetricPoint restore(
+        String id,
+        String serviceId,
+        String routeId,
+        String consumerId,
+        Instant windowStart,
+        double rps,
+        double latencyP50,
+        double latencyP95,
+        double status4xxRate,
+        double status5xxRate,
+        LatencySketch latencySketch
     ) {
         return MetricPoint.builder()
             .id(id)
@@ -81,6 +144,7 @@ public class MetricPoint {
             .latencyP95(latencyP95)
             .status4xxRate(status4xxRate)
             .status5xxRate(status5xxRate)
+            .latencySketch(latencySketch)
             .build();
     }
 }
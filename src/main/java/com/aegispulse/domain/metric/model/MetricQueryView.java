@@ -0,0 +1,45 @@
+package com.aegispulse.domain.metric.model;
+
+import com.aegispulse.api.common.exception.AegisPulseException;
+import com.aegispulse.api.common.exception.ErrorCode;
+
+/**
+ * 메트릭 조회 응답 범위.
+ * TOP_ROUTES는 대시보드 순위표처럼 상위 라우트만 필요한 경우 라우트/consumer별 전체 결과 생성을 생략한다.
+ */
+public enum MetricQueryView {
+    FULL("full"),
+    TOP_ROUTES("top-routes");
+
+    private final String queryValue;
+
+    MetricQueryView(String queryValue) {
+        this.queryValue = queryValue;
+    }
+
+    public String getQueryValue() {
+        return queryValue;
+    }
+
+    /**
+     * 쿼리스트링 값을 조회 범위 enum으로 변환한다.
+     * 미입력(null/blank)은 기본값 full을 사용한다.
+     */
+    public static MetricQueryView fromQuery(String rawView) {
+        if (rawView == null || rawView.isBlank()) {
+            return FULL;
+        }
+
+        String normalized = rawView.trim().toLowerCase();
+        for (MetricQueryView view : values()) {
+            if (view.queryValue.equals(normalized)) {
+                return view;
+            }
+        }
+
+        throw new AegisPulseException(
+            ErrorCode.INVALID_REQUEST,
+            "view는 full, top-routes 중 하나여야 합니다."
+        );
+    }
+}
@@ -0,0 +1,189 @@
+package com.aegispulse.domain.metric.model;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메트릭 롤업 도메인 모델.
+ * 버킷 안 원본 포인트의 합계(포인트 수, rps 합, rps 가중 합, 단순 합)를 보관해
+ * 여러 롤업을 합쳐도 원본 포인트로 계산한 rps 가중 평균과 같은 값을 얻을 수 있다.
+ * 버킷의 모든 포인트가 지연 스케치를 가진 경우 병합된 스케치도 함께 보관해 긴 구간에서도 실제 분위수를 계산한다.
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MetricRollup {
+
+    private final String serviceId;
+    private final String routeId;
+    private final String consumerId;
+    // 원본 포인트를 단일 포인트 롤업으로 변환한 경우 null이다.
+    private final MetricRollupTier tier;
+    private final Instant bucketStart;
+    private final long pointCount;
+    private final double rpsSum;
+    private final double latencyP50WeightedSum;
+    private final double latencyP95WeightedSum;
+    private final double status4xxWeightedSum;
+    private final double status5xxWeightedSum;
+    private final double latencyP50Sum;
+    private final double latencyP95Sum;
+    private final double status4xxSum;
+    private final double status5xxSum;
+    // 스케치가 없는 포인트가 하나라도 섞이면 null이다.
+    private final LatencySketch latencySketch;
+
+    /**
+     * 원본 포인트 하나를 버킷 롤업으로 변환한다. tier가 null이면 원본 분 단위 값을 그대로 표현한다.
+     */
+    public static MetricRollup fromPoint(MetricRollupTier tier, MetricPoint point) {
+        double rps = point.getRps();
+        return MetricRollup.builder()
+            .serviceId(point.getServiceId())
+            .routeId(point.getRouteId())
+            .consumerId(point.getConsumerId())
+            .tier(tier)
+            .bucketStart(tier == null ? point.getWindowStart() : tier.floor(point.getWindowStart()))
+            .pointCount(1)
+            .rpsSum(rps)
+            .latencyP50WeightedSum(point.getLatencyP50() * rps)
+            .latencyP95WeightedSum(point.getLatencyP95() * rps)
+            .status4xxWeightedSum(point.getStatus4xxRate() * rps)
+            .status5xxWeightedSum(point.getStatus5xxRate() * rps)
+            .latencyP50Sum(point.getLatencyP50())
+            .latencyP95Sum(point.getLatencyP95())
+            .status4xxSum(point.getStatus4xxRate())
+            .status5xxSum(point.getStatus5xxRate())
+            .latencySketch(point.getLatencySketch())
+            .build();
+    }
+
+    /**
+     * 하위 단위 롤업을 상위 단위 버킷으로 옮긴다.
+     */
+    public MetricRollup rebucket(MetricRollupTier targetTier) {
+        return toBuilder(targetTier, targetTier.floor(bucketStart)).build();
+    }
+
+    /**
+     * 같은 축/버킷 롤업 여러 개를 한 번에 합친다. 키(서비스/축/단위/버킷)는 첫 롤업을 따른다.
+     * 스케치는 호출자가 넘긴 누적기 하나에 모은 뒤 한 번만 인코딩하므로, 병합할 롤업 수와 무관하게 누적기/인코딩 버퍼를 새로 할당하지 않는다.
+     * 누적기는 호출 시작 시 비우므로 여러 키를 차례로 합칠 때 재사용할 수 있다.
+     */
+    public static MetricRollup mergeAll(List<MetricRollup> rollups, LatencySketchAccumulator sketchAccumulator) {
+        MetricRollup first = rollups.get(0);
+        if (rollups.size() == 1) {
+            return first;
+        }
+
+        long pointCount = 0;
+        double rpsSum = 0;
+        double latencyP50WeightedSum = 0;
+        double latencyP95WeightedSum = 0;
+        double status4xxWeightedSum = 0;
+        double status5xxWeightedSum = 0;
+        double latencyP50Sum = 0;
+        double latencyP95Sum = 0;
+        double status4xxSum = 0;
+        double status5xxSum = 0;
+        boolean sketchComplete = true;
+        sketchAccumulator.reset();
+        for (int index = 0; index < rollups.size(); index++) {
+            MetricRollup rollup = rollups.get(index);
+            pointCount += rollup.pointCount;
+            rpsSum += rollup.rpsSum;
+            latencyP50WeightedSum += rollup.latencyP50WeightedSum;
+            latencyP95WeightedSum += rollup.latencyP95WeightedSum;
+            status4xxWeightedSum += rollup.status4xxWeightedSum;
+            status5xxWeightedSum += rollup.status5xxWeightedSum;
+            latencyP50Sum += rollup.latencyP50Sum;
+            latencyP95Sum += rollup.latencyP95Sum;
+            status4xxSum += rollup.status4xxSum;
+            status5xxSum += rollup.status5xxSum;
+            if (sketchComplete && rollup.latencySketch != null) {
+                sketchAccumulator.add(rollup.latencySketch);
+            } else {
+                sketchComplete = false;
+            }
+        }
+
+        return first.toBuilder(first.tier, first.bucketStart)
+            .pointCount(pointCount)
+            .rpsSum(rpsSum)
+            .latencyP50WeightedSum(latencyP50WeightedSum)
+            .latencyP95WeightedSum(latencyP95WeightedSum)
+            .status4xxWeightedSum(status4xxWeightedSum)
+            .status5xxWeightedSum(status5xxWeightedSum)
+            .latencyP50Sum(latencyP50Sum)
+            .latencyP95Sum(latencyP95Sum)
+            .status4xxSum(status4xxSum)
+            .status5xxSum(status5xxSum)
+            .latencySketch(sketchComplete ? sketchAccumulator.toSketch() : null)
+            .build();
+    }
+
+    /**
+     * 영속화 계층에서 도메인 객체를 복원한다.
+     */
+    public static MetricRollup restore(
+        String serviceId,
+        String routeId,
+        String consumerId,
+        MetricRollupTier tier,
+        Instant bucketStart,
+        long pointCount,
+        double rpsSum,
+        double latencyP50WeightedSum,
+        double latencyP95WeightedSum,
+        double status4xxWeightedSum,
+        double status5xxWeightedSum,
+        double latencyP50Sum,
+        double latencyP95Sum,
+        double status4xxSum,
+        double status5xxSum,
+        LatencySketch latencySketch
+    ) {
+        return MetricRollup.builder()
+            .serviceId(serviceId)
+            .routeId(routeId)
+            .consumerId(consumerId)
+            .tier(tier)
+            .bucketStart(bucketStart)
+            .pointCount(pointCount)
+            .rpsSum(rpsSum)
+            .latencyP50WeightedSum(latencyP50WeightedSum)
+            .latencyP95WeightedSum(latencyP95WeightedSum)
+            .status4xxWeightedSum(status4xxWeightedSum)
+            .status5xxWeightedSum(status5xxWeightedSum)
+            .latencyP50Sum(latencyP50Sum)
+            .latencyP95Sum(latencyP95Sum)
+            .status4xxSum(status4xxSum)
+            .status5xxSum(status5xxSum)
+            .latencySketch(latencySketch)
+            .build();
+    }
+
+    private MetricRollupBuilder toBuilder(MetricRollupTier targetTier, Instant targetBucketStart) {
+        return MetricRollup.builder()
+            .serviceId(serviceId)
+            .routeId(routeId)
+            .consumerId(consumerId)
+            .tier(targetTier)
+            .bucketStart(targetBucketStart)
+            .pointCount(pointCount)
+            .rpsSum(rpsSum)
+            .latencyP50WeightedSum(latencyP50WeightedSum)
+            .latencyP95WeightedSum(latencyP95WeightedSum)
+            .status4xxWeightedSum(status4xxWeightedSum)
+            .status5xxWeightedSum(status5xxWeightedSum)
+            .latencyP50Sum(latencyP50Sum)
+            .latencyP95Sum(latencyP95Sum)
+            .status4xxSum(status4xxSum)
+            .status5xxSum(status5xxSum)
+            .latencySketch(latencySketch);
+    }
+}
@@ -0,0 +1,39 @@
+package com.aegispulse.domain.metric.model;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 메트릭 롤업 집계 단위.
+ * 선언 순서는 세밀한 단위에서 굵은 단위 순이며, 굵은 단위는 바로 앞 단위의 롤업을 다시 합쳐 만든다.
+ */
+public enum MetricRollupTier {
+    FIVE_MINUTES(Duration.ofMinutes(5)),
+    ONE_HOUR(Duration.ofHours(1));
+
+    private final Duration bucketDuration;
+
+    MetricRollupTier(Duration bucketDuration) {
+        this.bucketDuration = bucketDuration;
+    }
+
+    public Duration getBucketDuration() {
+        return bucketDuration;
+    }
+
+    /**
+     * 시각이 속한 버킷 시작 시각(내림)을 반환한다.
+     */
+    public Instant floor(Instant instant) {
+        long bucketSeconds = bucketDuration.toSeconds();
+        return Instant.ofEpochSecond(Math.floorDiv(instant.getEpochSecond(), bucketSeconds) * bucketSeconds);
+    }
+
+    /**
+     * 시각 이후 첫 버킷 경계(올림)를 반환한다. 이미 경계면 그대로 반환한다.
+     */
+    public Instant ceil(Instant instant) {
+        Instant floor = floor(instant);
+        return floor.equals(instant) ? floor : floor.plus(bucketDuration);
+    }
+}
@@ -0,0 +1,29 @@
+package com.aegispulse.domain.metric.model;
+
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 롤업 단위별 진행 위치.
+ * watermark 이전(배타) 버킷은 롤업이 완료되었고, lastRunStartedAt은 늦게 도착한 원본 변경을 찾는 기준 시각이다.
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MetricRollupWatermark {
+
+    private final MetricRollupTier tier;
+    private final Instant watermark;
+    private final Instant lastRunStartedAt;
+
+    public static MetricRollupWatermark of(MetricRollupTier tier, Instant watermark, Instant lastRunStartedAt) {
+        return MetricRollupWatermark.builder()
+            .tier(tier)
+            .watermark(watermark)
+            .lastRunStartedAt(lastRunStartedAt)
+            .build();
+    }
+}
@@ -2,7 +2,9 @@ package com.aegispulse.domain.metric.repository;
 
 import com.aegispulse.domain.metric.model.MetricPoint;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 메트릭 포인트 저장소 추상화.
@@ -18,4 +20,53 @@ public interface MetricPointRepository {
      * 특정 서비스의 조회 윈도우 내 메트릭 포인트를 조회한다.
      */
     List<MetricPoint> findByServiceIdAndWindow(String serviceId, Instant fromInclusive, Instant toExclusive);
+
+    /**
+     * 서비스 축(routeId/consumerId 모두 없음) 포인트만 windowStart 오름차순으로 조회한다.
+     */
+    List<MetricPoint> findServiceAxis(String serviceId, Instant fromInclusive, Instant toExclusive);
+
+    /**
+     * 라우트 축 포인트 전체를 windowStart 오름차순으로 조회한다.
+     */
+    List<MetricPoint> findRouteAxis(String serviceId, Instant fromInclusive, Instant toExclusive);
+
+    /**
+     * consumer 축 포인트 전체를 windowStart 오름차순으로 조회한다.
+     */
+    List<MetricPoint> findConsumerAxis(String serviceId, Instant fromInclusive, Instant toExclusive);
+
+    /**
+     * 모든 서비스의 서비스 축 포인트를 serviceId, windowStart 오름차순으로 한 번에 조회한다.
+     * 주기 알림 평가가 서비스마다 조회를 반복하지 않도록 사용한다.
+     */
+    List<MetricPoint> findServiceAxisByWindow(Instant fromInclusive, Instant toExclusive);
+
+    /**
+     * 지정 서비스들의 서비스 축 포인트를 serviceId, windowStart 오름차순으로 한 번에 조회한다.
+     * 서비스 shard 단위 알림 평가에서 사용한다.
+     */
+    List<MetricPoint> findServiceAxisByServiceIds(
+        Collection<String> serviceIds,
+        Instant fromInclusive,
+        Instant toExclusive
+    );
+
+    /**
+     * 모든 서비스의 구간 내 메트릭 포인트를 조회한다. 롤업 입력으로 사용한다.
+     */
+    List<MetricPoint> findByWindow(Instant fromInclusive, Instant toExclusive);
+
+    /**
+     * 지정 시각 이후 적재/갱신된 포인트의 windowStart를 중복 없이 조회한다.
+     * 이미 롤업된 구간에 늦게 도착한 포인트를 찾아 해당 버킷을 다시 계산하는 데 사용한다.
+     */
+    List<Instant> findWindowStartsUpdatedSince(Instant updatedSince, Instant windowBefore);
+
+    Optional<Instant> findEarliestWindowStart();
+
+    /**
+     * 보존 기간이 지난 포인트를 삭제하고 삭제 건수를 반환한다.
+     */
+    int deleteByWindowStartBefore(Instant windowBefore);
 }
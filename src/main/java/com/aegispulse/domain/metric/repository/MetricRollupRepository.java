@@ -0,0 +1,45 @@
+package com.aegispulse.domain.metric.repository;
+
+import com.aegispulse.domain.metric.model.MetricRollup;
+import com.aegispulse.domain.metric.model.MetricRollupTier;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 메트릭 롤업 저장소 추상화.
+ */
+public interface MetricRollupRepository {
+
+    /**
+     * 동일 키(tier/serviceId/routeId/consumerId/bucketStart) 기준으로 upsert 저장한다.
+     */
+    void upsertAll(List<MetricRollup> rollups);
+
+    /**
+     * 특정 서비스의 조회 구간 내 단위별 롤업을 조회한다.
+     */
+    List<MetricRollup> findByServiceIdAndWindow(
+        String serviceId,
+        MetricRollupTier tier,
+        Instant fromInclusive,
+        Instant toExclusive
+    );
+
+    /**
+     * 모든 서비스의 구간 내 단위별 롤업을 조회한다. 상위 단위 롤업 입력으로 사용한다.
+     */
+    List<MetricRollup> findByWindow(MetricRollupTier tier, Instant fromInclusive, Instant toExclusive);
+
+    /**
+     * 지정 시각 이후 갱신된 롤업의 버킷 시작 시각을 중복 없이 조회한다.
+     */
+    List<Instant> findBucketStartsUpdatedSince(MetricRollupTier tier, Instant updatedSince, Instant bucketBefore);
+
+    Optional<Instant> findEarliestBucketStart(MetricRollupTier tier);
+
+    /**
+     * 보존 기간이 지난 롤업을 삭제하고 삭제 건수를 반환한다.
+     */
+    int deleteByBucketStartBefore(MetricRollupTier tier, Instant bucketBefore);
+}
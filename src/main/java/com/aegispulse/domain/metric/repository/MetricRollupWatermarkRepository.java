@@ -0,0 +1,15 @@
+package com.aegispulse.domain.metric.repository;
+
+import com.aegispulse.domain.metric.model.MetricRollupTier;
+import com.aegispulse.domain.metric.model.MetricRollupWatermark;
+import java.util.Optional;
+
+/**
+ * 롤업 진행 위치 저장소 추상화.
+ */
+public interface MetricRollupWatermarkRepository {
+
+    Optional<MetricRollupWatermark> findByTier(MetricRollupTier tier);
+
+    MetricRollupWatermark save(MetricRollupWatermark watermark);
+}
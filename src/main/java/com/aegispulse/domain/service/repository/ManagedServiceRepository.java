@@ -31,8 +31,18 @@ public interface ManagedServiceRepository {
      */
     ManagedService save(ManagedService service);
 
+    /**
+     * 여러 서비스 상태 변경을 한 번에 저장한다.
+     */
+    List<ManagedService> saveAll(List<ManagedService> services);
+
     /**
      * 평가/배치 작업에 사용할 전체 서비스 목록을 조회한다.
      */
     List<ManagedService> findAll();
+
+    /**
+     * 서비스 ID 목록에 해당하는 서비스를 조회한다. 없는 ID는 결과에서 빠진다.
+     */
+    List<ManagedService> findAllByIds(List<String> serviceIds);
 }
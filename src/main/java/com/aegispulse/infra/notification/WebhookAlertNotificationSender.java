@@ -0,0 +1,77 @@
+package com.aegispulse.infra.notification;
+
+import com.aegispulse.application.alert.AlertNotificationProperties;
+import com.aegispulse.application.alert.AlertNotificationSender;
+import com.aegispulse.domain.alert.model.AlertNotification;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import java.net.http.HttpClient;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 웹훅 알림 채널.
+ * 채널 묶음을 JSON 배열 하나로 POST하고, 2xx가 아니거나 연결에 실패하면 예외로 묶음 전체를 재시도 대상으로 돌린다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "aegispulse.alerts.notifications.webhook", name = "url")
+public class WebhookAlertNotificationSender implements AlertNotificationSender {
+
+    static final String CHANNEL = "webhook";
+
+    private final RestClient restClient;
+
+    public WebhookAlertNotificationSender(RestClient.Builder restClientBuilder, AlertNotificationProperties properties) {
+        AlertNotificationProperties.Webhook webhook = properties.getWebhook();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+            HttpClient.newBuilder().connectTimeout(webhook.getTimeout()).build()
+        );
+        requestFactory.setReadTimeout(webhook.getTimeout());
+        this.restClient = restClientBuilder
+            .baseUrl(webhook.getUrl())
+            .requestFactory(requestFactory)
+            .build();
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public void send(List<AlertNotification> notifications) {
+        List<WebhookMessage> body = notifications.stream().map(WebhookMessage::from).toList();
+        restClient.post()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body)
+            .retrieve()
+            .toBodilessEntity();
+    }
+
+    /**
+     * 웹훅 본문 항목. payload는 이미 JSON 문자열이므로 다시 이스케이프하지 않고 그대로 포함한다.
+     */
+    record WebhookMessage(
+        String notificationId,
+        String alertId,
+        String alertType,
+        String targetId,
+        String state,
+        @JsonRawValue String payload
+    ) {
+
+        static WebhookMessage from(AlertNotification notification) {
+            return new WebhookMessage(
+                notification.getId(),
+                notification.getAlertId(),
+                notification.getAlertType().name(),
+                notification.getTargetId(),
+                notification.getAlertState().name(),
+                notification.getPayload()
+            );
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.aegispulse.infra.persistence.alert.entity;
+
+import com.aegispulse.domain.alert.model.AlertNotification;
+import com.aegispulse.domain.alert.model.AlertNotificationStatus;
+import com.aegispulse.domain.alert.model.AlertState;
+import com.aegispulse.domain.alert.model.AlertType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 알림 발송 outbox JPA 엔티티.
+ */
+@Entity
+@Table(
+    name = "alert_notifications",
+    indexes = {
+        @Index(name = "idx_alert_notifications_status_next_attempt_at", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_alert_notifications_status_created_at", columnList = "status, created_at")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AlertNotificationJpaEntity {
+
+    @Id
+    @Column(nullable = false, length = 40)
+    private String id;
+
+    @Column(name = "alert_id", nullable = false, length = 40)
+    private String alertId;
+
+    @Column(nullable = false, length = 40)
+    private String channel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_type", nullable = false, length = 60)
+    private AlertType alertType;
+
+    @Column(name = "target_id", nullable = false, length = 40)
+    private String targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_state", nullable = false, length = 20)
+    private AlertState alertState;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AlertNotificationStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @PrePersist
+    void prePersist() {
+        if (id == null) {
+            id = "ntf_" + UUID.randomUUID().toString().replace("-", "");
+        }
+    }
+
+    public static AlertNotificationJpaEntity fromDomain(AlertNotification notification) {
+        AlertNotificationJpaEntity entity = new AlertNotificationJpaEntity();
+        entity.setId(notification.getId());
+        entity.setAlertId(notification.getAlertId());
+        entity.setChannel(notification.getChannel());
+        entity.setAlertType(notification.getAlertType());
+        entity.setTargetId(notification.getTargetId());
+        entity.setAlertState(notification.getAlertState());
+        entity.setPayload(notification.getPayload());
+        entity.setStatus(notification.getStatus());
+        entity.setAttempts(notification.getAttempts());
+        entity.setNextAttemptAt(notification.getNextAttemptAt());
+        entity.setCreatedAt(notification.getCreatedAt());
+        entity.setSentAt(notification.getSentAt());
+        entity.setLastError(notification.getLastError());
+        return entity;
+    }
+
+    public AlertNotification toDomain() {
+        return AlertNotification.restore(
+            id,
+            alertId,
+            channel,
+            alertType,
+            targetId,
+            alertState,
+            payload,
+            status,
+            attempts,
+            nextAttemptAt,
+            createdAt,
+            sentAt,
+            lastError
+        );
+    }
+}
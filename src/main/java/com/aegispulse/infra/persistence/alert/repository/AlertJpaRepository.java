@@ -3,6 +3,8 @@ package com.aegispulse.infra.persistence.alert.repository;
 import com.aegispulse.domain.alert.model.AlertState;
 import com.aegispulse.domain.alert.model.AlertType;
 import com.aegispulse.infra.persistence.alert.entity.AlertJpaEntity;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +17,9 @@ import org.springframework.data.repository.query.Param;
  */
 public interface AlertJpaRepository extends JpaRepository<AlertJpaEntity, String> {
 
+    @Query("SELECT a.targetId FROM AlertJpaEntity a WHERE a.id = :alertId")
+    Optional<String> findTargetIdById(@Param("alertId") String alertId);
+
     Optional<AlertJpaEntity> findTopByTargetIdAndAlertTypeOrderByTriggeredAtDesc(String targetId, AlertType alertType);
 
     Optional<AlertJpaEntity> findTopByTargetIdAndAlertTypeAndStateInOrderByTriggeredAtDesc(
@@ -23,6 +28,27 @@ public interface AlertJpaRepository extends JpaRepository<AlertJpaEntity, String
         List<AlertState> states
     );
 
+    List<AlertJpaEntity> findAllByAlertTypeInAndStateIn(Collection<AlertType> alertTypes, Collection<AlertState> states);
+
+    List<AlertJpaEntity> findAllByAlertTypeInAndStateAndResolvedAtGreaterThan(
+        Collection<AlertType> alertTypes,
+        AlertState state,
+        Instant resolvedAfter
+    );
+
+    List<AlertJpaEntity> findAllByTargetIdInAndAlertTypeInAndStateIn(
+        Collection<String> targetIds,
+        Collection<AlertType> alertTypes,
+        Collection<AlertState> states
+    );
+
+    List<AlertJpaEntity> findAllByTargetIdInAndAlertTypeInAndStateAndResolvedAtGreaterThan(
+        Collection<String> targetIds,
+        Collection<AlertType> alertTypes,
+        AlertState state,
+        Instant resolvedAfter
+    );
+
     @Query(
         """
         SELECT a
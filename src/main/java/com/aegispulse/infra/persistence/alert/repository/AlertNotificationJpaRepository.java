@@ -0,0 +1,31 @@
+package com.aegispulse.infra.persistence.alert.repository;
+
+import com.aegispulse.domain.alert.model.AlertNotificationStatus;
+import com.aegispulse.infra.persistence.alert.entity.AlertNotificationJpaEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 알림 발송 outbox JPA 리포지토리.
+ */
+public interface AlertNotificationJpaRepository extends JpaRepository<AlertNotificationJpaEntity, String> {
+
+    List<AlertNotificationJpaEntity> findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+        AlertNotificationStatus status,
+        Instant nextAttemptAt,
+        Pageable pageable
+    );
+
+    @Modifying
+    @Query("DELETE FROM AlertNotificationJpaEntity n WHERE n.status IN :statuses AND n.createdAt < :createdBefore")
+    int deleteByStatusInAndCreatedAtBefore(
+        @Param("statuses") Collection<AlertNotificationStatus> statuses,
+        @Param("createdBefore") Instant createdBefore
+    );
+}
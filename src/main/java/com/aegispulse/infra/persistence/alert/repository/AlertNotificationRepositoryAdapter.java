@@ -0,0 +1,54 @@
+package com.aegispulse.infra.persistence.alert.repository;
+
+import com.aegispulse.domain.alert.model.AlertNotification;
+import com.aegispulse.domain.alert.model.AlertNotificationStatus;
+import com.aegispulse.domain.alert.repository.AlertNotificationRepository;
+import com.aegispulse.infra.persistence.alert.entity.AlertNotificationJpaEntity;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림 발송 outbox 저장소 포트를 JPA 구현체로 연결한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AlertNotificationRepositoryAdapter implements AlertNotificationRepository {
+
+    private final AlertNotificationJpaRepository alertNotificationJpaRepository;
+
+    @Override
+    public List<AlertNotification> saveAll(List<AlertNotification> notifications) {
+        return alertNotificationJpaRepository.saveAll(
+                notifications.stream().map(AlertNotificationJpaEntity::fromDomain).toList()
+            )
+            .stream()
+            .map(AlertNotificationJpaEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<AlertNotification> findDue(Instant now, int limit) {
+        return alertNotificationJpaRepository
+            .findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                AlertNotificationStatus.PENDING,
+                now,
+                PageRequest.of(0, limit)
+            )
+            .stream()
+            .map(AlertNotificationJpaEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public int deleteFinishedCreatedBefore(Instant createdBefore) {
+        return alertNotificationJpaRepository.deleteByStatusInAndCreatedAtBefore(
+            List.of(AlertNotificationStatus.SENT, AlertNotificationStatus.DEAD),
+            createdBefore
+        );
+    }
+}
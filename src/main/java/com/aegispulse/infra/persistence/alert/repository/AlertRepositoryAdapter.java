@@ -5,6 +5,8 @@ import com.aegispulse.domain.alert.model.AlertState;
 import com.aegispulse.domain.alert.model.AlertType;
 import com.aegispulse.domain.alert.repository.AlertRepository;
 import com.aegispulse.infra.persistence.alert.entity.AlertJpaEntity;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -27,11 +29,23 @@ public class AlertRepositoryAdapter implements AlertRepository {
         return alertJpaRepository.save(AlertJpaEntity.fromDomain(alert)).toDomain();
     }
 
+    @Override
+    public List<Alert> saveAll(List<Alert> alerts) {
+        return alertJpaRepository.saveAll(alerts.stream().map(AlertJpaEntity::fromDomain).toList()).stream()
+            .map(AlertJpaEntity::toDomain)
+            .toList();
+    }
+
     @Override
     public Optional<Alert> findById(String alertId) {
         return alertJpaRepository.findById(alertId).map(AlertJpaEntity::toDomain);
     }
 
+    @Override
+    public Optional<String> findTargetIdById(String alertId) {
+        return alertJpaRepository.findTargetIdById(alertId);
+    }
+
     @Override
     public Optional<Alert> findLatestByTargetAndType(String targetId, AlertType alertType) {
         return alertJpaRepository
@@ -46,6 +60,54 @@ public class AlertRepositoryAdapter implements AlertRepository {
             .map(AlertJpaEntity::toDomain);
     }
 
+    @Override
+    public List<Alert> findActiveByTypes(Collection<AlertType> alertTypes) {
+        return alertJpaRepository.findAllByAlertTypeInAndStateIn(alertTypes, ACTIVE_STATES).stream()
+            .map(AlertJpaEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<Alert> findActiveByTargets(Collection<String> targetIds, Collection<AlertType> alertTypes) {
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+        return alertJpaRepository.findAllByTargetIdInAndAlertTypeInAndStateIn(targetIds, alertTypes, ACTIVE_STATES)
+            .stream()
+            .map(AlertJpaEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<Alert> findResolvedSince(Collection<AlertType> alertTypes, Instant resolvedSince) {
+        return alertJpaRepository
+            .findAllByAlertTypeInAndStateAndResolvedAtGreaterThan(alertTypes, AlertState.RESOLVED, resolvedSince)
+            .stream()
+            .map(AlertJpaEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<Alert> findResolvedSince(
+        Collection<String> targetIds,
+        Collection<AlertType> alertTypes,
+        Instant resolvedSince
+    ) {
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+        return alertJpaRepository
+            .findAllByTargetIdInAndAlertTypeInAndStateAndResolvedAtGreaterThan(
+                targetIds,
+                alertTypes,
+                AlertState.RESOLVED,
+                resolvedSince
+            )
+            .stream()
+            .map(AlertJpaEntity::toDomain)
+            .toList();
+    }
+
     @Override
     public List<Alert> findRecent(AlertState state, String targetId, AlertType alertType, int limit) {
         return alertJpaRepository.findByFilters(state, targetId, alertType, PageRequest.of(0, limit)).stream()
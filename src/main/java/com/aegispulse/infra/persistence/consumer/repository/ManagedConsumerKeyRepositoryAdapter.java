@@ -5,6 +5,7 @@ import com.aegispulse.domain.consumer.key.model.ManagedConsumerKey;
 import com.aegispulse.domain.consumer.key.repository.ManagedConsumerKeyRepository;
 import com.aegispulse.infra.persistence.consumer.entity.ManagedConsumerKeyJpaEntity;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -25,6 +26,11 @@ public class ManagedConsumerKeyRepositoryAdapter implements ManagedConsumerKeyRe
             .toList();
     }
 
+    @Override
+    public Optional<ManagedConsumerKey> findById(String keyId) {
+        return managedConsumerKeyJpaRepository.findById(keyId).map(ManagedConsumerKeyJpaEntity::toDomain);
+    }
+
     @Override
     public ManagedConsumerKey save(ManagedConsumerKey consumerKey) {
         return managedConsumerKeyJpaRepository.save(ManagedConsumerKeyJpaEntity.fromDomain(consumerKey)).toDomain();
@@ -1,5 +1,6 @@
 package com.aegispulse.infra.persistence.metric.entity;
 
+import com.aegispulse.domain.metric.model.LatencySketch;
 import com.aegispulse.domain.metric.model.MetricPoint;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -19,6 +20,7 @@ import lombok.Setter;
 /**
  * 메트릭 포인트 JPA 엔티티.
  * PRD 권장 인덱스(MetricPoint(serviceId, windowStart))를 포함한다.
+ * 롤업/보존 작업이 매 분 실행하는 전 서비스 구간 조회/삭제와 늦은 변경 탐색을 위해 window_start, updated_at 단독 인덱스를 둔다.
  */
 @Entity
 @Table(
@@ -32,7 +34,10 @@ import lombok.Setter;
     indexes = {
         @Index(name = "idx_metric_points_service_window", columnList = "service_id, window_start"),
         @Index(name = "idx_metric_points_service_route_window", columnList = "service_id, route_id, window_start"),
-        @Index(name = "idx_metric_points_service_consumer_window", columnList = "service_id, consumer_id, window_start")
+        @Index(name = "idx_metric_points_service_consumer_window", columnList = "service_id, consumer_id, window_start"),
+        @Index(name = "idx_metric_points_axis_window", columnList = "route_id, consumer_id, window_start"),
+        @Index(name = "idx_metric_points_window", columnList = "window_start"),
+        @Index(name = "idx_metric_points_updated", columnList = "updated_at")
     }
 )
 @Getter
@@ -71,6 +76,9 @@ public class MetricPointJpaEntity {
     @Column(name = "rate_5xx", nullable = false)
     private double status5xxRate;
 
+    @Column(name = "latency_sketch", length = LatencySketch.MAX_ENCODED_BYTES)
+    private byte[] latencySketch;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -106,6 +114,7 @@ public class MetricPointJpaEntity {
         entity.setLatencyP95(point.getLatencyP95());
         entity.setStatus4xxRate(point.getStatus4xxRate());
         entity.setStatus5xxRate(point.getStatus5xxRate());
+        entity.setLatencySketch(encodeSketch(point.getLatencySketch()));
         return entity;
     }
 
@@ -120,10 +129,19 @@ public class MetricPointJpaEntity {
             latencyP50,
             latencyP95,
             status4xxRate,
-            status5xxRate
+            status5xxRate,
+            decodeSketch(latencySketch)
         );
     }
 
+    public static byte[] encodeSketch(LatencySketch sketch) {
+        return sketch == null ? null : sketch.toBytes();
+    }
+
+    public static LatencySketch decodeSketch(byte[] encoded) {
+        return encoded == null ? null : LatencySketch.fromBytes(encoded);
+    }
+
     private static String normalizeAxisId(String axisId) {
         return axisId == null ? "" : axisId;
     }
@@ -0,0 +1,179 @@
+package com.aegispulse.infra.persistence.metric.entity;
+
+import com.aegispulse.domain.metric.model.LatencySketch;
+import com.aegispulse.domain.metric.model.MetricRollup;
+import com.aegispulse.domain.metric.model.MetricRollupTier;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 메트릭 롤업 JPA 엔티티.
+ * 단위(tier)별 버킷 합계를 한 테이블에 두고 tier 컬럼으로 구분한다.
+ */
+@Entity
+@Table(
+    name = "metric_rollups",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_metric_rollups_tier_service_route_consumer_bucket",
+            columnNames = {"tier", "service_id", "route_id", "consumer_id", "bucket_start"}
+        )
+    },
+    indexes = {
+        @Index(name = "idx_metric_rollups_service_tier_bucket", columnList = "service_id, tier, bucket_start"),
+        @Index(name = "idx_metric_rollups_tier_bucket", columnList = "tier, bucket_start"),
+        @Index(name = "idx_metric_rollups_tier_updated", columnList = "tier, updated_at")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MetricRollupJpaEntity {
+
+    @Id
+    @Column(nullable = false, length = 40)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MetricRollupTier tier;
+
+    @Column(name = "service_id", nullable = false, length = 40)
+    private String serviceId;
+
+    @Column(name = "route_id", nullable = false, length = 40)
+    private String routeId;
+
+    @Column(name = "consumer_id", nullable = false, length = 40)
+    private String consumerId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private Instant bucketStart;
+
+    @Column(name = "point_count", nullable = false)
+    private long pointCount;
+
+    @Column(name = "rps_sum", nullable = false)
+    private double rpsSum;
+
+    @Column(name = "latency_p50_weighted_sum", nullable = false)
+    private double latencyP50WeightedSum;
+
+    @Column(name = "latency_p95_weighted_sum", nullable = false)
+    private double latencyP95WeightedSum;
+
+    @Column(name = "rate_4xx_weighted_sum", nullable = false)
+    private double status4xxWeightedSum;
+
+    @Column(name = "rate_5xx_weighted_sum", nullable = false)
+    private double status5xxWeightedSum;
+
+    @Column(name = "latency_p50_sum", nullable = false)
+    private double latencyP50Sum;
+
+    @Column(name = "latency_p95_sum", nullable = false)
+    private double latencyP95Sum;
+
+    @Column(name = "rate_4xx_sum", nullable = false)
+    private double status4xxSum;
+
+    @Column(name = "rate_5xx_sum", nullable = false)
+    private double status5xxSum;
+
+    @Column(name = "latency_sketch", length = LatencySketch.MAX_ENCODED_BYTES)
+    private byte[] latencySketch;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    void prePersist() {
+        Instant now = Instant.now();
+        if (id == null) {
+            id = "mru_" + UUID.randomUUID().toString().replace("-", "");
+        }
+        if (createdAt == null) {
+            createdAt = now;
+        }
+        updatedAt = now;
+    }
+
+    @PreUpdate
+    void preUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    public static MetricRollupJpaEntity fromDomain(MetricRollup rollup) {
+        MetricRollupJpaEntity entity = new MetricRollupJpaEntity();
+        entity.setTier(rollup.getTier());
+        entity.setServiceId(rollup.getServiceId());
+        entity.setRouteId(normalizeAxisId(rollup.getRouteId()));
+        entity.setConsumerId(normalizeAxisId(rollup.getConsumerId()));
+        entity.setBucketStart(rollup.getBucketStart());
+        entity.applySums(rollup);
+        return entity;
+    }
+
+    /**
+     * 재계산된 버킷 합계로 덮어쓴다.
+     */
+    public void applySums(MetricRollup rollup) {
+        pointCount = rollup.getPointCount();
+        rpsSum = rollup.getRpsSum();
+        latencyP50WeightedSum = rollup.getLatencyP50WeightedSum();
+        latencyP95WeightedSum = rollup.getLatencyP95WeightedSum();
+        status4xxWeightedSum = rollup.getStatus4xxWeightedSum();
+        status5xxWeightedSum = rollup.getStatus5xxWeightedSum();
+        latencyP50Sum = rollup.getLatencyP50Sum();
+        latencyP95Sum = rollup.getLatencyP95Sum();
+        status4xxSum = rollup.getStatus4xxSum();
+        status5xxSum = rollup.getStatus5xxSum();
+        latencySketch = MetricPointJpaEntity.encodeSketch(rollup.getLatencySketch());
+    }
+
+    public MetricRollup toDomain() {
+        return MetricRollup.restore(
+            serviceId,
+            restoreAxisId(routeId),
+            restoreAxisId(consumerId),
+            tier,
+            bucketStart,
+            pointCount,
+            rpsSum,
+            latencyP50WeightedSum,
+            latencyP95WeightedSum,
+            status4xxWeightedSum,
+            status5xxWeightedSum,
+            latencyP50Sum,
+            latencyP95Sum,
+            status4xxSum,
+            status5xxSum,
+            MetricPointJpaEntity.decodeSketch(latencySketch)
+        );
+    }
+
+    private static String normalizeAxisId(String axisId) {
+        return axisId == null ? "" : axisId;
+    }
+
+    private static String restoreAxisId(String axisId) {
+        return axisId == null || axisId.isBlank() ? null : axisId;
+    }
+}
@@ -0,0 +1,49 @@
+package com.aegispulse.infra.persistence.metric.entity;
+
+import com.aegispulse.domain.metric.model.MetricRollupTier;
+import com.aegispulse.domain.metric.model.MetricRollupWatermark;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 롤업 단위별 진행 위치 JPA 엔티티.
+ */
+@Entity
+@Table(name = "metric_rollup_watermarks")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MetricRollupWatermarkJpaEntity {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MetricRollupTier tier;
+
+    @Column(nullable = false)
+    private Instant watermark;
+
+    @Column(name = "last_run_started_at", nullable = false)
+    private Instant lastRunStartedAt;
+
+    public static MetricRollupWatermarkJpaEntity fromDomain(MetricRollupWatermark watermark) {
+        MetricRollupWatermarkJpaEntity entity = new MetricRollupWatermarkJpaEntity();
+        entity.setTier(watermark.getTier());
+        entity.setWatermark(watermark.getWatermark());
+        entity.setLastRunStartedAt(watermark.getLastRunStartedAt());
+        return entity;
+    }
+
+    public MetricRollupWatermark toDomain() {
+        return MetricRollupWatermark.of(tier, watermark, lastRunStartedAt);
+    }
+}
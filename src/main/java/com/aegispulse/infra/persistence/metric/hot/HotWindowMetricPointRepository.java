@@ -0,0 +1,302 @@
+package com.aegispulse.infra.persistence.metric.hot;
+
+import com.aegispulse.domain.metric.model.MetricPoint;
+import com.aegispulse.domain.metric.repository.MetricPointRepository;
+import com.aegispulse.infra.persistence.metric.repository.MetricPointRepositoryAdapter;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 최근 보존 구간(기본 2시간)을 서비스/축별 컬럼형 링 버퍼로 유지하는 메트릭 저장소.
+ * 쓰기는 JPA 어댑터로 write-through한 뒤 커밋 이후 메모리에 반영하고,
+ * 보존 구간 안의 조회(5m/1h)는 DB 왕복 없이 메모리에서 응답한다. 보존 구간을 벗어난 조회는 JPA로 위임한다.
+ * 보존 구간 동안 활동이 없는 서비스/축 링은 주기적으로 제거한다.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "aegispulse.metrics.hot-store", name = "enabled", havingValue = "true")
+public class HotWindowMetricPointRepository implements MetricPointRepository {
+
+    // Collector 시계 오차로 약간 앞선 분이 들어와도 보존 구간 슬롯을 덮어쓰지 않도록 링에 여유 슬롯을 둔다.
+    private static final int FUTURE_SLACK_MINUTES = 5;
+
+    private final MetricPointRepositoryAdapter delegate;
+    private final Clock clock;
+    private final int retentionMinutes;
+    private final int capacity;
+    private final Map<String, ServiceMetricSeries> seriesByService = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HotWindowMetricPointRepository(MetricPointRepositoryAdapter delegate, MetricHotStoreProperties properties) {
+        this(delegate, properties, Clock.systemUTC());
+    }
+
+    HotWindowMetricPointRepository(MetricPointRepositoryAdapter delegate, MetricHotStoreProperties properties, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.retentionMinutes = (int) Math.max(1, properties.getRetention().toMinutes());
+        // 보존 구간 첫 분이 허용된 가장 앞선 분(now + slack)의 쓰기로 덮어써지지 않도록 한 슬롯을 더 둔다.
+        this.capacity = retentionMinutes + FUTURE_SLACK_MINUTES + 1;
+    }
+
+    @Override
+    public void upsertAll(List<MetricPoint> points) {
+        delegate.upsertAll(points);
+        if (points.isEmpty()) {
+            return;
+        }
+        // 롤백된 쓰기가 메모리에 남지 않도록 트랜잭션 안이면 커밋 이후에 반영한다.
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyToMemory(points);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyToMemory(points);
+            }
+        });
+    }
+
+    @Override
+    public List<MetricPoint> findByServiceIdAndWindow(String serviceId, Instant fromInclusive, Instant toExclusive) {
+        return read(
+            serviceId,
+            fromInclusive,
+            toExclusive,
+            null,
+            () -> delegate.findByServiceIdAndWindow(serviceId, fromInclusive, toExclusive)
+        );
+    }
+
+    @Override
+    public List<MetricPoint> findServiceAxis(String serviceId, Instant fromInclusive, Instant toExclusive) {
+        return read(
+            serviceId,
+            fromInclusive,
+            toExclusive,
+            ring -> ring.routeId() == null && ring.consumerId() == null,
+            () -> delegate.findServiceAxis(serviceId, fromInclusive, toExclusive)
+        );
+    }
+
+    @Override
+    public List<MetricPoint> findRouteAxis(String serviceId, Instant fromInclusive, Instant toExclusive) {
+        return read(
+            serviceId,
+            fromInclusive,
+            toExclusive,
+            ring -> ring.routeId() != null && ring.consumerId() == null,
+            () -> delegate.findRouteAxis(serviceId, fromInclusive, toExclusive)
+        );
+    }
+
+    @Override
+    public List<MetricPoint> findConsumerAxis(String serviceId, Instant fromInclusive, Instant toExclusive) {
+        return read(
+            serviceId,
+            fromInclusive,
+            toExclusive,
+            ring -> ring.routeId() == null && ring.consumerId() != null,
+            () -> delegate.findConsumerAxis(serviceId, fromInclusive, toExclusive)
+        );
+    }
+
+    /**
+     * 보존 구간 안이면 메모리 링에서, 벗어나면 JPA 조회(fallback)로 응답한다.
+     * axisFilter가 null이면 모든 축 링을 읽는다.
+     */
+    private List<MetricPoint> read(
+        String serviceId,
+        Instant fromInclusive,
+        Instant toExclusive,
+        Predicate<MetricSeriesRing> axisFilter,
+        Supplier<List<MetricPoint>> fallback
+    ) {
+        long nowMinute = currentMinute();
+        long fromMinute = ceilToMinute(fromInclusive);
+        long toMinuteExclusive = ceilToMinute(toExclusive);
+        if (fromMinute < nowMinute - retentionMinutes || toMinuteExclusive > nowMinute + FUTURE_SLACK_MINUTES) {
+            return fallback.get();
+        }
+
+        ServiceMetricSeries series = seriesByService.computeIfAbsent(
+            serviceId,
+            ignored -> new ServiceMetricSeries(serviceId, capacity)
+        );
+        series.touch(nowMinute);
+        Lock readLock = series.lock().readLock();
+        readLock.lock();
+        try {
+            if (!series.needsWarmUp(nowMinute)) {
+                return readSeries(series, fromMinute, toMinuteExclusive, axisFilter);
+            }
+        } finally {
+            readLock.unlock();
+        }
+
+        Lock writeLock = series.lock().writeLock();
+        writeLock.lock();
+        try {
+            if (series.needsWarmUp(nowMinute)) {
+                warmUp(series, serviceId, nowMinute);
+            }
+            return readSeries(series, fromMinute, toMinuteExclusive, axisFilter);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static List<MetricPoint> readSeries(
+        ServiceMetricSeries series,
+        long fromMinute,
+        long toMinuteExclusive,
+        Predicate<MetricSeriesRing> axisFilter
+    ) {
+        if (axisFilter == null) {
+            return series.read(fromMinute, toMinuteExclusive);
+        }
+        return series.read(fromMinute, toMinuteExclusive, axisFilter);
+    }
+
+    /**
+     * 보존 구간을 JPA에서 적재한다. 쓰기 락을 보유한 상태에서 호출해야 한다.
+     * 커밋 이후 반영과 같은 락 아래에서 적재하므로, 적재 중 커밋된 쓰기도 이후 반영으로 누락 없이 합류한다.
+     */
+    private void warmUp(ServiceMetricSeries series, String serviceId, long nowMinute) {
+        series.reset();
+        Instant warmFrom = Instant.ofEpochSecond((nowMinute - retentionMinutes) * 60L);
+        Instant warmTo = Instant.ofEpochSecond((nowMinute + FUTURE_SLACK_MINUTES + 1) * 60L);
+        for (MetricPoint point : delegate.findByServiceIdAndWindow(serviceId, warmFrom, warmTo)) {
+            series.put(point);
+        }
+        series.markWarmed();
+    }
+
+    /**
+     * 메모리 링은 조회된 서비스만 적재하므로 전 서비스 조회는 JPA로 위임한다.
+     */
+    @Override
+    public List<MetricPoint> findServiceAxisByWindow(Instant fromInclusive, Instant toExclusive) {
+        return delegate.findServiceAxisByWindow(fromInclusive, toExclusive);
+    }
+
+    /**
+     * shard 단위 조회는 서비스마다 링을 적재하지 않도록 JPA 한 번으로 위임한다.
+     */
+    @Override
+    public List<MetricPoint> findServiceAxisByServiceIds(
+        Collection<String> serviceIds,
+        Instant fromInclusive,
+        Instant toExclusive
+    ) {
+        return delegate.findServiceAxisByServiceIds(serviceIds, fromInclusive, toExclusive);
+    }
+
+    @Override
+    public List<MetricPoint> findByWindow(Instant fromInclusive, Instant toExclusive) {
+        return delegate.findByWindow(fromInclusive, toExclusive);
+    }
+
+    @Override
+    public List<Instant> findWindowStartsUpdatedSince(Instant updatedSince, Instant windowBefore) {
+        return delegate.findWindowStartsUpdatedSince(updatedSince, windowBefore);
+    }
+
+    @Override
+    public Optional<Instant> findEarliestWindowStart() {
+        return delegate.findEarliestWindowStart();
+    }
+
+    /**
+     * 원본 보존 기간은 메모리 보존 구간보다 길게 두므로 메모리 링은 건드리지 않는다.
+     */
+    @Override
+    public int deleteByWindowStartBefore(Instant windowBefore) {
+        return delegate.deleteByWindowStartBefore(windowBefore);
+    }
+
+    /**
+     * 보존 구간 밖으로 밀려난 축 링을 제거하고, 보존 구간 동안 조회/쓰기가 없던 서비스는 링 묶음째 내려놓는다.
+     * 라우트/consumer가 바뀌어도 메모리가 보존 구간에 활동한 축 수에만 비례하도록 주기적으로 실행한다.
+     * 내려놓은 서비스는 다음 조회 시 DB에서 다시 적재한다.
+     */
+    @Scheduled(fixedDelayString = "${aegispulse.metrics.hot-store.eviction-interval-ms:60000}")
+    public void evictIdleSeries() {
+        long nowMinute = currentMinute();
+        long oldestRetainedMinute = nowMinute - retentionMinutes;
+        for (ServiceMetricSeries series : seriesByService.values()) {
+            Lock writeLock = series.lock().writeLock();
+            writeLock.lock();
+            try {
+                if (series.lastAccessMinute() < oldestRetainedMinute) {
+                    // 제거 직후 들어온 쓰기는 get에서 빠지므로 메모리에 반영되지 않고, 다음 조회의 재적재가 DB에서 읽는다.
+                    seriesByService.remove(series.serviceId(), series);
+                    continue;
+                }
+                series.evictRingsOlderThan(oldestRetainedMinute);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    int cachedServiceCount() {
+        return seriesByService.size();
+    }
+
+    private void applyToMemory(List<MetricPoint> points) {
+        long nowMinute = currentMinute();
+        for (MetricPoint point : points) {
+            // 아직 조회되지 않은 서비스는 최초 조회 시 DB에서 적재하므로 메모리 반영을 생략한다.
+            ServiceMetricSeries series = seriesByService.get(point.getServiceId());
+            if (series == null) {
+                continue;
+            }
+            long minute = ServiceMetricSeries.toEpochMinute(point.getWindowStart());
+            if (minute < nowMinute - retentionMinutes) {
+                continue;
+            }
+            Lock writeLock = series.lock().writeLock();
+            writeLock.lock();
+            try {
+                if (!series.isWarmed()) {
+                    continue;
+                }
+                if (minute > nowMinute + FUTURE_SLACK_MINUTES) {
+                    // 보존 슬롯을 덮어쓸 만큼 앞선 분은 링에 두지 않고, 해당 분이 링 범위에 들어올 때 DB에서 다시 적재한다.
+                    series.scheduleReloadAt(minute - FUTURE_SLACK_MINUTES);
+                    continue;
+                }
+                series.put(point);
+                series.touch(nowMinute);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private long currentMinute() {
+        return ServiceMetricSeries.toEpochMinute(clock.instant());
+    }
+
+    private static long ceilToMinute(Instant instant) {
+        // 분 경계가 아닌 시작 시각은 해당 분 포인트(windowStart < from)를 포함하지 않으므로 다음 분부터 읽는다.
+        return Math.floorDiv(instant.getEpochSecond() + 59 + (instant.getNano() > 0 ? 1 : 0), 60L);
+    }
+}
@@ -0,0 +1,20 @@
+package com.aegispulse.infra.persistence.metric.hot;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 최근 메트릭 구간 인메모리 저장소 설정.
+ * 메모리 상태는 프로세스 로컬이므로 같은 DB에 여러 인스턴스가 쓰는 배포에서는 비활성화해야 한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aegispulse.metrics.hot-store")
+public class MetricHotStoreProperties {
+
+    private boolean enabled = false;
+    // 메모리에 유지할 최근 구간. 이보다 오래된 구간을 포함한 조회는 JPA로 위임한다.
+    private Duration retention = Duration.ofHours(2);
+}
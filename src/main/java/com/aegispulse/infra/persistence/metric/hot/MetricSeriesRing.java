@@ -0,0 +1,108 @@
+package com.aegispulse.infra.persistence.metric.hot;
+
+import com.aegispulse.domain.metric.model.LatencySketch;
+import java.util.Arrays;
+
+/**
+ * 축 하나(서비스/라우트/consumer)의 분 단위 메트릭을 담는 컬럼형 링 버퍼.
+ * 슬롯은 epochMinute % capacity로 결정되며, 슬롯에 기록된 epochMinute가 조회 분과 같을 때만 유효한 값으로 본다.
+ * 동기화는 소유 ServiceMetricSeries의 락이 담당한다.
+ */
+final class MetricSeriesRing {
+
+    private static final long EMPTY_MINUTE = Long.MIN_VALUE;
+
+    private final String routeId;
+    private final String consumerId;
+    private final long[] epochMinutes;
+    private final double[] rps;
+    private final double[] latencyP50;
+    private final double[] latencyP95;
+    private final double[] status4xxRate;
+    private final double[] status5xxRate;
+    // 스케치는 불변 객체이므로 참조만 보관한다.
+    private final LatencySketch[] latencySketches;
+    // 가장 최근에 기록된 분. 보존 구간보다 오래되면 링 전체가 비어 있는 것과 같으므로 제거 대상이 된다.
+    private long latestMinute = EMPTY_MINUTE;
+
+    MetricSeriesRing(String routeId, String consumerId, int capacity) {
+        this.routeId = routeId;
+        this.consumerId = consumerId;
+        this.epochMinutes = new long[capacity];
+        this.rps = new double[capacity];
+        this.latencyP50 = new double[capacity];
+        this.latencyP95 = new double[capacity];
+        this.status4xxRate = new double[capacity];
+        this.status5xxRate = new double[capacity];
+        this.latencySketches = new LatencySketch[capacity];
+        Arrays.fill(epochMinutes, EMPTY_MINUTE);
+    }
+
+    String routeId() {
+        return routeId;
+    }
+
+    String consumerId() {
+        return consumerId;
+    }
+
+    void put(
+        long epochMinute,
+        double rps,
+        double latencyP50,
+        double latencyP95,
+        double status4xxRate,
+        double status5xxRate,
+        LatencySketch latencySketch
+    ) {
+        int slot = slotOf(epochMinute);
+        epochMinutes[slot] = epochMinute;
+        this.rps[slot] = rps;
+        this.latencyP50[slot] = latencyP50;
+        this.latencyP95[slot] = latencyP95;
+        this.status4xxRate[slot] = status4xxRate;
+        this.status5xxRate[slot] = status5xxRate;
+        this.latencySketches[slot] = latencySketch;
+        latestMinute = Math.max(latestMinute, epochMinute);
+    }
+
+    long latestMinute() {
+        return latestMinute;
+    }
+
+    /**
+     * 해당 분의 값이 있으면 슬롯 인덱스를, 없거나 다른 분으로 덮어써졌으면 -1을 반환한다.
+     */
+    int slotIfPresent(long epochMinute) {
+        int slot = slotOf(epochMinute);
+        return epochMinutes[slot] == epochMinute ? slot : -1;
+    }
+
+    double rps(int slot) {
+        return rps[slot];
+    }
+
+    double latencyP50(int slot) {
+        return latencyP50[slot];
+    }
+
+    double latencyP95(int slot) {
+        return latencyP95[slot];
+    }
+
+    double status4xxRate(int slot) {
+        return status4xxRate[slot];
+    }
+
+    double status5xxRate(int slot) {
+        return status5xxRate[slot];
+    }
+
+    LatencySketch latencySketch(int slot) {
+        return latencySketches[slot];
+    }
+
+    private int slotOf(long epochMinute) {
+        return (int) Math.floorMod(epochMinute, (long) epochMinutes.length);
+    }
+}
@@ -0,0 +1,197 @@
+package com.aegispulse.infra.persistence.metric.hot;
+
+import com.aegispulse.domain.metric.model.MetricPoint;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 서비스 하나의 축별 링 버퍼 묶음.
+ * 최초 조회 시 JPA에서 보존 구간을 한 번 적재(warm-up)한 뒤부터 메모리 값이 권위 있는 상태가 된다.
+ */
+final class ServiceMetricSeries {
+
+    private static final long SECONDS_PER_MINUTE = 60L;
+
+    private final String serviceId;
+    private final int capacity;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<AxisKey, MetricSeriesRing> ringsByAxis = new HashMap<>();
+    // 조회 시 반복자 할당 없이 인덱스로 순회하기 위한 링 목록.
+    private final List<MetricSeriesRing> rings = new ArrayList<>();
+    private boolean warmed;
+    // 링에 담지 못한 앞선 분이 보존 구간에 들어오는 시점. 이 분 이후 조회 시 DB에서 다시 적재한다.
+    private long reloadAtMinute = Long.MAX_VALUE;
+    // 마지막으로 조회/쓰기된 분. 락 밖에서 갱신되므로 volatile로 둔다.
+    private volatile long lastAccessMinute;
+
+    ServiceMetricSeries(String serviceId, int capacity) {
+        this.serviceId = serviceId;
+        this.capacity = capacity;
+    }
+
+    String serviceId() {
+        return serviceId;
+    }
+
+    ReadWriteLock lock() {
+        return lock;
+    }
+
+    void touch(long nowMinute) {
+        if (lastAccessMinute < nowMinute) {
+            lastAccessMinute = nowMinute;
+        }
+    }
+
+    long lastAccessMinute() {
+        return lastAccessMinute;
+    }
+
+    /**
+     * 쓰기 락을 보유한 상태에서 호출해야 한다.
+     */
+    boolean isWarmed() {
+        return warmed;
+    }
+
+    /**
+     * 읽기 또는 쓰기 락을 보유한 상태에서 호출해야 한다.
+     */
+    boolean needsWarmUp(long nowMinute) {
+        return !warmed || nowMinute >= reloadAtMinute;
+    }
+
+    /**
+     * 재적재 전에 기존 링을 비운다. 쓰기 락을 보유한 상태에서 호출해야 한다.
+     */
+    void reset() {
+        ringsByAxis.clear();
+        rings.clear();
+        reloadAtMinute = Long.MAX_VALUE;
+    }
+
+    /**
+     * 쓰기 락을 보유한 상태에서 호출해야 한다.
+     */
+    void markWarmed() {
+        this.warmed = true;
+    }
+
+    /**
+     * 링에 담지 못한 앞선 분이 보존 구간에 들어오면 다시 적재하도록 예약한다. 쓰기 락을 보유한 상태에서 호출해야 한다.
+     */
+    void scheduleReloadAt(long epochMinute) {
+        reloadAtMinute = Math.min(reloadAtMinute, epochMinute);
+    }
+
+    /**
+     * 쓰기 락을 보유한 상태에서 호출해야 한다.
+     */
+    void put(MetricPoint point) {
+        AxisKey axisKey = new AxisKey(point.getRouteId(), point.getConsumerId());
+        MetricSeriesRing ring = ringsByAxis.get(axisKey);
+        if (ring == null) {
+            ring = new MetricSeriesRing(point.getRouteId(), point.getConsumerId(), capacity);
+            ringsByAxis.put(axisKey, ring);
+            rings.add(ring);
+        }
+        ring.put(
+            toEpochMinute(point.getWindowStart()),
+            point.getRps(),
+            point.getLatencyP50(),
+            point.getLatencyP95(),
+            point.getStatus4xxRate(),
+            point.getStatus5xxRate(),
+            point.getLatencySketch()
+        );
+    }
+
+    /**
+     * 마지막 기록이 oldestRetainedMinute보다 오래된 축 링을 제거한다.
+     * 쓰기 락을 보유한 상태에서 호출해야 한다.
+     */
+    void evictRingsOlderThan(long oldestRetainedMinute) {
+        rings.removeIf(ring -> ring.latestMinute() < oldestRetainedMinute);
+        ringsByAxis.values().removeIf(ring -> ring.latestMinute() < oldestRetainedMinute);
+    }
+
+    /**
+     * [fromMinute, toMinuteExclusive) 구간 포인트를 windowStart 오름차순으로 반환한다.
+     * 읽기 락을 보유한 상태에서 호출해야 한다.
+     */
+    List<MetricPoint> read(long fromMinute, long toMinuteExclusive) {
+        return read(fromMinute, toMinuteExclusive, rings);
+    }
+
+    /**
+     * axisFilter를 만족하는 축 링만 골라 구간 포인트를 windowStart 오름차순으로 반환한다.
+     * 축 판정은 링 단위로 한 번만 수행하므로 분 단위 순회 비용은 선택된 링 수에만 비례한다.
+     * 읽기 락을 보유한 상태에서 호출해야 한다.
+     */
+    List<MetricPoint> read(long fromMinute, long toMinuteExclusive, Predicate<MetricSeriesRing> axisFilter) {
+        List<MetricSeriesRing> selected = new ArrayList<>();
+        for (int index = 0; index < rings.size(); index++) {
+            MetricSeriesRing ring = rings.get(index);
+            if (axisFilter.test(ring)) {
+                selected.add(ring);
+            }
+        }
+        return read(fromMinute, toMinuteExclusive, selected);
+    }
+
+    private List<MetricPoint> read(long fromMinute, long toMinuteExclusive, List<MetricSeriesRing> targetRings) {
+        int ringCount = targetRings.size();
+        // 결과 목록을 정확한 크기로 한 번만 할당하도록 먼저 개수를 센다.
+        int pointCount = 0;
+        for (long minute = fromMinute; minute < toMinuteExclusive; minute++) {
+            for (int index = 0; index < ringCount; index++) {
+                if (targetRings.get(index).slotIfPresent(minute) >= 0) {
+                    pointCount++;
+                }
+            }
+        }
+
+        List<MetricPoint> points = new ArrayList<>(pointCount);
+        for (long minute = fromMinute; minute < toMinuteExclusive && points.size() < pointCount; minute++) {
+            Instant windowStart = null;
+            for (int index = 0; index < ringCount; index++) {
+                MetricSeriesRing ring = targetRings.get(index);
+                int slot = ring.slotIfPresent(minute);
+                if (slot < 0) {
+                    continue;
+                }
+                if (windowStart == null) {
+                    windowStart = Instant.ofEpochSecond(minute * SECONDS_PER_MINUTE);
+                }
+                // 메모리 조회 결과는 영속 id를 보관하지 않으므로 id 없이 복원한다.
+                points.add(MetricPoint.restore(
+                    null,
+                    serviceId,
+                    ring.routeId(),
+                    ring.consumerId(),
+                    windowStart,
+                    ring.rps(slot),
+                    ring.latencyP50(slot),
+                    ring.latencyP95(slot),
+                    ring.status4xxRate(slot),
+                    ring.status5xxRate(slot),
+                    ring.latencySketch(slot)
+                ));
+            }
+        }
+        return points;
+    }
+
+    static long toEpochMinute(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), SECONDS_PER_MINUTE);
+    }
+
+    private record AxisKey(String routeId, String consumerId) {
+    }
+}
@@ -2,9 +2,13 @@ package com.aegispulse.infra.persistence.metric.repository;
 
 import com.aegispulse.infra.persistence.metric.entity.MetricPointJpaEntity;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * 메트릭 포인트 JPA 리포지토리.
@@ -18,9 +22,148 @@ public interface MetricPointJpaRepository extends JpaRepository<MetricPointJpaEn
         Instant windowStart
     );
 
+    /**
+     * 배치 upsert 대상 자연키 후보를 한 번에 선조회한다.
+     * 서비스/분 단위 IN 조건으로 좁혀 uk_metric_points_service_route_consumer_window 인덱스를 활용한다.
+     */
+    List<MetricPointJpaEntity> findAllByServiceIdInAndWindowStartIn(
+        Collection<String> serviceIds,
+        Collection<Instant> windowStarts
+    );
+
     List<MetricPointJpaEntity> findAllByServiceIdAndWindowStartGreaterThanEqualAndWindowStartLessThanOrderByWindowStartAsc(
         String serviceId,
         Instant fromInclusive,
         Instant toExclusive
     );
+
+    /**
+     * 서비스 축 조회. 축 ID 빈 문자열 동등 조건으로 idx_metric_points_service_route_window를 타고 window_start 범위만 읽는다.
+     */
+    @Query(
+        """
+        SELECT m
+        FROM MetricPointJpaEntity m
+        WHERE m.serviceId = :serviceId
+          AND m.routeId = ''
+          AND m.consumerId = ''
+          AND m.windowStart >= :fromInclusive
+          AND m.windowStart < :toExclusive
+        ORDER BY m.windowStart ASC
+        """
+    )
+    List<MetricPointJpaEntity> findServiceAxis(
+        @Param("serviceId") String serviceId,
+        @Param("fromInclusive") Instant fromInclusive,
+        @Param("toExclusive") Instant toExclusive
+    );
+
+    /**
+     * 라우트 축 전체 조회. consumer_id = '' 동등 조건으로 idx_metric_points_service_consumer_window 범위를 읽고
+     * 서비스 축 행만 걸러낸다.
+     */
+    @Query(
+        """
+        SELECT m
+        FROM MetricPointJpaEntity m
+        WHERE m.serviceId = :serviceId
+          AND m.consumerId = ''
+          AND m.routeId <> ''
+          AND m.windowStart >= :fromInclusive
+          AND m.windowStart < :toExclusive
+        ORDER BY m.windowStart ASC
+        """
+    )
+    List<MetricPointJpaEntity> findRouteAxis(
+        @Param("serviceId") String serviceId,
+        @Param("fromInclusive") Instant fromInclusive,
+        @Param("toExclusive") Instant toExclusive
+    );
+
+    /**
+     * consumer 축 전체 조회. route_id = '' 동등 조건으로 idx_metric_points_service_route_window 범위를 읽고
+     * 서비스 축 행만 걸러낸다.
+     */
+    @Query(
+        """
+        SELECT m
+        FROM MetricPointJpaEntity m
+        WHERE m.serviceId = :serviceId
+          AND m.routeId = ''
+          AND m.consumerId <> ''
+          AND m.windowStart >= :fromInclusive
+          AND m.windowStart < :toExclusive
+        ORDER BY m.windowStart ASC
+        """
+    )
+    List<MetricPointJpaEntity> findConsumerAxis(
+        @Param("serviceId") String serviceId,
+        @Param("fromInclusive") Instant fromInclusive,
+        @Param("toExclusive") Instant toExclusive
+    );
+
+    /**
+     * 전 서비스 서비스 축 조회. 축 ID 빈 문자열 동등 조건으로 idx_metric_points_axis_window의 window_start 범위만 읽는다.
+     */
+    @Query(
+        """
+        SELECT m
+        FROM MetricPointJpaEntity m
+        WHERE m.routeId = ''
+          AND m.consumerId = ''
+          AND m.windowStart >= :fromInclusive
+          AND m.windowStart < :toExclusive
+        ORDER BY m.serviceId ASC, m.windowStart ASC
+        """
+    )
+    List<MetricPointJpaEntity> findServiceAxisByWindow(
+        @Param("fromInclusive") Instant fromInclusive,
+        @Param("toExclusive") Instant toExclusive
+    );
+
+    /**
+     * 서비스 shard 서비스 축 조회. service_id IN 조건으로 idx_metric_points_service_route_window의 서비스별 범위만 읽는다.
+     */
+    @Query(
+        """
+        SELECT m
+        FROM MetricPointJpaEntity m
+        WHERE m.serviceId IN :serviceIds
+          AND m.routeId = ''
+          AND m.consumerId = ''
+          AND m.windowStart >= :fromInclusive
+          AND m.windowStart < :toExclusive
+        ORDER BY m.serviceId ASC, m.windowStart ASC
+        """
+    )
+    List<MetricPointJpaEntity> findServiceAxisByServiceIds(
+        @Param("serviceIds") Collection<String> serviceIds,
+        @Param("fromInclusive") Instant fromInclusive,
+        @Param("toExclusive") Instant toExclusive
+    );
+
+    List<MetricPointJpaEntity> findAllByWindowStartGreaterThanEqualAndWindowStartLessThan(
+        Instant fromInclusive,
+        Instant toExclusive
+    );
+
+    @Query(
+        """
+        SELECT DISTINCT m.windowStart
+        FROM MetricPointJpaEntity m
+        WHERE m.updatedAt >= :updatedSince
+          AND m.windowStart < :windowBefore
+        """
+    )
+    List<Instant> findDistinctWindowStartsUpdatedSince(
+        @Param("updatedSince") Instant updatedSince,
+        @Param("windowBefore") Instant windowBefore
+    );
+
+    @Query("SELECT MIN(m.windowStart) FROM MetricPointJpaEntity m")
+    Instant findEarliestWindowStart();
+
+    @Modifying
+    @Query("DELETE FROM MetricPointJpaEntity m WHERE m.windowStart < :windowBefore")
+    int deleteByWindowStartBefore(@Param("windowBefore") Instant windowBefore);
 }
@@ -4,9 +4,17 @@ import com.aegispulse.domain.metric.model.MetricPoint;
 import com.aegispulse.domain.metric.repository.MetricPointRepository;
 import com.aegispulse.infra.persistence.metric.entity.MetricPointJpaEntity;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 메트릭 저장소 포트를 JPA 구현으로 연결하는 어댑터.
@@ -17,33 +25,33 @@ public class MetricPointRepositoryAdapter implements MetricPointRepository {
 
     private final MetricPointJpaRepository metricPointJpaRepository;
 
+    /**
+     * 포인트 단건 조회/저장 반복 대신 기존 자연키를 한 번에 선조회한 뒤 신규/갱신을 일괄 반영한다.
+     * 신규 행은 saveAll로 JDBC 배치 insert되고, 기존 행은 영속성 컨텍스트 dirty checking으로 배치 update된다.
+     */
     @Override
+    @Transactional
     public void upsertAll(List<MetricPoint> points) {
+        if (points.isEmpty()) {
+            return;
+        }
+
+        Map<NaturalKey, MetricPointJpaEntity> entitiesByKey = prefetchExisting(points);
+        List<MetricPointJpaEntity> newEntities = new ArrayList<>();
         for (MetricPoint point : points) {
-            String routeId = normalizeAxisId(point.getRouteId());
-            String consumerId = normalizeAxisId(point.getConsumerId());
-
-            MetricPointJpaEntity entity = metricPointJpaRepository
-                .findByServiceIdAndRouteIdAndConsumerIdAndWindowStart(
-                    point.getServiceId(),
-                    routeId,
-                    consumerId,
-                    point.getWindowStart()
-                )
-                .orElseGet(() -> MetricPointJpaEntity.fromDomain(point));
-
-            entity.setServiceId(point.getServiceId());
-            entity.setRouteId(routeId);
-            entity.setConsumerId(consumerId);
-            entity.setWindowStart(point.getWindowStart());
-            entity.setRps(point.getRps());
-            entity.setLatencyP50(point.getLatencyP50());
-            entity.setLatencyP95(point.getLatencyP95());
-            entity.setStatus4xxRate(point.getStatus4xxRate());
-            entity.setStatus5xxRate(point.getStatus5xxRate());
-
-            metricPointJpaRepository.save(entity);
+            NaturalKey key = NaturalKey.of(point);
+            MetricPointJpaEntity entity = entitiesByKey.get(key);
+            if (entity == null) {
+                // 같은 배치 안에서 동일 자연키가 다시 나오면 insert 중복 대신 앞서 만든 엔티티를 갱신한다.
+                entity = MetricPointJpaEntity.fromDomain(point);
+                entitiesByKey.put(key, entity);
+                newEntities.add(entity);
+                continue;
+            }
+            applyMetrics(entity, point);
         }
+
+        metricPointJpaRepository.saveAll(newEntities);
     }
 
     @Override
@@ -59,7 +67,120 @@ public class MetricPointRepositoryAdapter implements MetricPointRepository {
             .toList();
     }
 
-    private String normalizeAxisId(String axisId) {
+    @Override
+    public List<MetricPoint> findServiceAxis(String serviceId, Instant fromInclusive, Instant toExclusive) {
+        return toDomain(metricPointJpaRepository.findServiceAxis(serviceId, fromInclusive, toExclusive));
+    }
+
+    @Override
+    public List<MetricPoint> findRouteAxis(String serviceId, Instant fromInclusive, Instant toExclusive) {
+        return toDomain(metricPointJpaRepository.findRouteAxis(serviceId, fromInclusive, toExclusive));
+    }
+
+    @Override
+    public List<MetricPoint> findConsumerAxis(String serviceId, Instant fromInclusive, Instant toExclusive) {
+        return toDomain(metricPointJpaRepository.findConsumerAxis(serviceId, fromInclusive, toExclusive));
+    }
+
+    @Override
+    public List<MetricPoint> findServiceAxisByWindow(Instant fromInclusive, Instant toExclusive) {
+        return toDomain(metricPointJpaRepository.findServiceAxisByWindow(fromInclusive, toExclusive));
+    }
+
+    @Override
+    public List<MetricPoint> findServiceAxisByServiceIds(
+        Collection<String> serviceIds,
+        Instant fromInclusive,
+        Instant toExclusive
+    ) {
+        if (serviceIds.isEmpty()) {
+            return List.of();
+        }
+        return toDomain(metricPointJpaRepository.findServiceAxisByServiceIds(serviceIds, fromInclusive, toExclusive));
+    }
+
+    @Override
+    public List<MetricPoint> findByWindow(Instant fromInclusive, Instant toExclusive) {
+        return metricPointJpaRepository
+            .findAllByWindowStartGreaterThanEqualAndWindowStartLessThan(fromInclusive, toExclusive)
+            .stream()
+            .map(MetricPointJpaEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<Instant> findWindowStartsUpdatedSince(Instant updatedSince, Instant windowBefore) {
+        return metricPointJpaRepository.findDistinctWindowStartsUpdatedSince(updatedSince, windowBefore);
+    }
+
+    @Override
+    public Optional<Instant> findEarliestWindowStart() {
+        return Optional.ofNullable(metricPointJpaRepository.findEarliestWindowStart());
+    }
+
+    @Override
+    @Transactional
+    public int deleteByWindowStartBefore(Instant windowBefore) {
+        return metricPointJpaRepository.deleteByWindowStartBefore(windowBefore);
+    }
+
+    private Map<NaturalKey, MetricPointJpaEntity> prefetchExisting(List<MetricPoint> points) {
+        Set<String> serviceIds = new HashSet<>();
+        Set<Instant> windowStarts = new HashSet<>();
+        for (MetricPoint point : points) {
+            serviceIds.add(point.getServiceId());
+            windowStarts.add(point.getWindowStart());
+        }
+
+        Map<NaturalKey, MetricPointJpaEntity> entitiesByKey = new HashMap<>(points.size() * 2);
+        for (MetricPointJpaEntity existing : metricPointJpaRepository.findAllByServiceIdInAndWindowStartIn(
+            serviceIds,
+            windowStarts
+        )) {
+            entitiesByKey.put(NaturalKey.of(existing), existing);
+        }
+        return entitiesByKey;
+    }
+
+    private static List<MetricPoint> toDomain(List<MetricPointJpaEntity> entities) {
+        return entities.stream().map(MetricPointJpaEntity::toDomain).toList();
+    }
+
+    private void applyMetrics(MetricPointJpaEntity entity, MetricPoint point) {
+        entity.setRps(point.getRps());
+        entity.setLatencyP50(point.getLatencyP50());
+        entity.setLatencyP95(point.getLatencyP95());
+        entity.setStatus4xxRate(point.getStatus4xxRate());
+        entity.setStatus5xxRate(point.getStatus5xxRate());
+        entity.setLatencySketch(MetricPointJpaEntity.encodeSketch(point.getLatencySketch()));
+    }
+
+    private static String normalizeAxisId(String axisId) {
         return axisId == null ? "" : axisId;
     }
+
+    /**
+     * uk_metric_points_service_route_consumer_window와 동일한 구성의 자연키.
+     * 축 ID는 저장 규약과 같이 빈 문자열로 정규화해 도메인/엔티티 양쪽 키가 일치하도록 한다.
+     */
+    private record NaturalKey(String serviceId, String routeId, String consumerId, Instant windowStart) {
+
+        static NaturalKey of(MetricPoint point) {
+            return new NaturalKey(
+                point.getServiceId(),
+                normalizeAxisId(point.getRouteId()),
+                normalizeAxisId(point.getConsumerId()),
+                point.getWindowStart()
+            );
+        }
+
+        static NaturalKey of(MetricPointJpaEntity entity) {
+            return new NaturalKey(
+                entity.getServiceId(),
+                normalizeAxisId(entity.getRouteId()),
+                normalizeAxisId(entity.getConsumerId()),
+                entity.getWindowStart()
+            );
+        }
+    }
 }
@@ -0,0 +1,64 @@
+package com.aegispulse.infra.persistence.metric.repository;
+
+import com.aegispulse.domain.metric.model.MetricRollupTier;
+import com.aegispulse.infra.persistence.metric.entity.MetricRollupJpaEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 메트릭 롤업 JPA 리포지토리.
+ */
+public interface MetricRollupJpaRepository extends JpaRepository<MetricRollupJpaEntity, String> {
+
+    /**
+     * 배치 upsert 대상 키 후보를 한 번에 선조회한다.
+     */
+    List<MetricRollupJpaEntity> findAllByTierAndServiceIdInAndBucketStartIn(
+        MetricRollupTier tier,
+        Collection<String> serviceIds,
+        Collection<Instant> bucketStarts
+    );
+
+    List<MetricRollupJpaEntity> findAllByServiceIdAndTierAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+        String serviceId,
+        MetricRollupTier tier,
+        Instant fromInclusive,
+        Instant toExclusive
+    );
+
+    List<MetricRollupJpaEntity> findAllByTierAndBucketStartGreaterThanEqualAndBucketStartLessThan(
+        MetricRollupTier tier,
+        Instant fromInclusive,
+        Instant toExclusive
+    );
+
+    @Query(
+        """
+        SELECT DISTINCT r.bucketStart
+        FROM MetricRollupJpaEntity r
+        WHERE r.tier = :tier
+          AND r.updatedAt >= :updatedSince
+          AND r.bucketStart < :bucketBefore
+        """
+    )
+    List<Instant> findDistinctBucketStartsUpdatedSince(
+        @Param("tier") MetricRollupTier tier,
+        @Param("updatedSince") Instant updatedSince,
+        @Param("bucketBefore") Instant bucketBefore
+    );
+
+    @Query("SELECT MIN(r.bucketStart) FROM MetricRollupJpaEntity r WHERE r.tier = :tier")
+    Instant findEarliestBucketStart(@Param("tier") MetricRollupTier tier);
+
+    @Modifying
+    @Query("DELETE FROM MetricRollupJpaEntity r WHERE r.tier = :tier AND r.bucketStart < :bucketBefore")
+    int deleteByTierAndBucketStartBefore(
+        @Param("tier") MetricRollupTier tier,
+        @Param("bucketBefore") Instant bucketBefore
+    );
+}
@@ -0,0 +1,152 @@
+package com.aegispulse.infra.persistence.metric.repository;
+
+import com.aegispulse.domain.metric.model.MetricRollup;
+import com.aegispulse.domain.metric.model.MetricRollupTier;
+import com.aegispulse.domain.metric.repository.MetricRollupRepository;
+import com.aegispulse.infra.persistence.metric.entity.MetricRollupJpaEntity;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메트릭 롤업 저장소 포트를 JPA 구현으로 연결하는 어댑터.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MetricRollupRepositoryAdapter implements MetricRollupRepository {
+
+    private final MetricRollupJpaRepository metricRollupJpaRepository;
+
+    /**
+     * 메트릭 포인트 upsert와 같이 기존 키를 단위별로 한 번에 선조회한 뒤 신규/갱신을 일괄 반영한다.
+     */
+    @Override
+    @Transactional
+    public void upsertAll(List<MetricRollup> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+
+        Map<MetricRollupTier, List<MetricRollup>> rollupsByTier = new HashMap<>();
+        for (MetricRollup rollup : rollups) {
+            rollupsByTier.computeIfAbsent(rollup.getTier(), ignored -> new ArrayList<>()).add(rollup);
+        }
+
+        List<MetricRollupJpaEntity> newEntities = new ArrayList<>();
+        for (Map.Entry<MetricRollupTier, List<MetricRollup>> entry : rollupsByTier.entrySet()) {
+            Map<RollupKey, MetricRollupJpaEntity> entitiesByKey = prefetchExisting(entry.getKey(), entry.getValue());
+            for (MetricRollup rollup : entry.getValue()) {
+                RollupKey key = RollupKey.of(rollup);
+                MetricRollupJpaEntity entity = entitiesByKey.get(key);
+                if (entity == null) {
+                    entity = MetricRollupJpaEntity.fromDomain(rollup);
+                    entitiesByKey.put(key, entity);
+                    newEntities.add(entity);
+                    continue;
+                }
+                entity.applySums(rollup);
+            }
+        }
+
+        metricRollupJpaRepository.saveAll(newEntities);
+    }
+
+    @Override
+    public List<MetricRollup> findByServiceIdAndWindow(
+        String serviceId,
+        MetricRollupTier tier,
+        Instant fromInclusive,
+        Instant toExclusive
+    ) {
+        return metricRollupJpaRepository
+            .findAllByServiceIdAndTierAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                serviceId,
+                tier,
+                fromInclusive,
+                toExclusive
+            )
+            .stream()
+            .map(MetricRollupJpaEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<MetricRollup> findByWindow(MetricRollupTier tier, Instant fromInclusive, Instant toExclusive) {
+        return metricRollupJpaRepository
+            .findAllByTierAndBucketStartGreaterThanEqualAndBucketStartLessThan(tier, fromInclusive, toExclusive)
+            .stream()
+            .map(MetricRollupJpaEntity::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<Instant> findBucketStartsUpdatedSince(MetricRollupTier tier, Instant updatedSince, Instant bucketBefore) {
+        return metricRollupJpaRepository.findDistinctBucketStartsUpdatedSince(tier, updatedSince, bucketBefore);
+    }
+
+    @Override
+    public Optional<Instant> findEarliestBucketStart(MetricRollupTier tier) {
+        return Optional.ofNullable(metricRollupJpaRepository.findEarliestBucketStart(tier));
+    }
+
+    @Override
+    @Transactional
+    public int deleteByBucketStartBefore(MetricRollupTier tier, Instant bucketBefore) {
+        return metricRollupJpaRepository.deleteByTierAndBucketStartBefore(tier, bucketBefore);
+    }
+
+    private Map<RollupKey, MetricRollupJpaEntity> prefetchExisting(MetricRollupTier tier, List<MetricRollup> rollups) {
+        Set<String> serviceIds = new HashSet<>();
+        Set<Instant> bucketStarts = new HashSet<>();
+        for (MetricRollup rollup : rollups) {
+            serviceIds.add(rollup.getServiceId());
+            bucketStarts.add(rollup.getBucketStart());
+        }
+
+        Map<RollupKey, MetricRollupJpaEntity> entitiesByKey = new HashMap<>(rollups.size() * 2);
+        for (MetricRollupJpaEntity existing : metricRollupJpaRepository.findAllByTierAndServiceIdInAndBucketStartIn(
+            tier,
+            serviceIds,
+            bucketStarts
+        )) {
+            entitiesByKey.put(RollupKey.of(existing), existing);
+        }
+        return entitiesByKey;
+    }
+
+    private static String normalizeAxisId(String axisId) {
+        return axisId == null ? "" : axisId;
+    }
+
+    /**
+     * uk_metric_rollups_tier_service_route_consumer_bucket에서 tier를 뺀 키. 단위별로 나누어 선조회하므로 tier는 생략한다.
+     */
+    private record RollupKey(String serviceId, String routeId, String consumerId, Instant bucketStart) {
+
+        static RollupKey of(MetricRollup rollup) {
+            return new RollupKey(
+                rollup.getServiceId(),
+                normalizeAxisId(rollup.getRouteId()),
+                normalizeAxisId(rollup.getConsumerId()),
+                rollup.getBucketStart()
+            );
+        }
+
+        static RollupKey of(MetricRollupJpaEntity entity) {
+            return new RollupKey(
+                entity.getServiceId(),
+                normalizeAxisId(entity.getRouteId()),
+                normalizeAxisId(entity.getConsumerId()),
+                entity.getBucketStart()
+            );
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.aegispulse.infra.persistence.metric.repository;
+
+import com.aegispulse.domain.metric.model.MetricRollupTier;
+import com.aegispulse.infra.persistence.metric.entity.MetricRollupWatermarkJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 롤업 진행 위치 JPA 리포지토리.
+ */
+public interface MetricRollupWatermarkJpaRepository extends JpaRepository<MetricRollupWatermarkJpaEntity, MetricRollupTier> {
+}
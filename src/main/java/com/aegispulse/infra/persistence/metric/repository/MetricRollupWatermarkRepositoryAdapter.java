@@ -0,0 +1,29 @@
+package com.aegispulse.infra.persistence.metric.repository;
+
+import com.aegispulse.domain.metric.model.MetricRollupTier;
+import com.aegispulse.domain.metric.model.MetricRollupWatermark;
+import com.aegispulse.domain.metric.repository.MetricRollupWatermarkRepository;
+import com.aegispulse.infra.persistence.metric.entity.MetricRollupWatermarkJpaEntity;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 롤업 진행 위치 저장소 포트를 JPA 구현으로 연결하는 어댑터.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MetricRollupWatermarkRepositoryAdapter implements MetricRollupWatermarkRepository {
+
+    private final MetricRollupWatermarkJpaRepository metricRollupWatermarkJpaRepository;
+
+    @Override
+    public Optional<MetricRollupWatermark> findByTier(MetricRollupTier tier) {
+        return metricRollupWatermarkJpaRepository.findById(tier).map(MetricRollupWatermarkJpaEntity::toDomain);
+    }
+
+    @Override
+    public MetricRollupWatermark save(MetricRollupWatermark watermark) {
+        return metricRollupWatermarkJpaRepository.save(MetricRollupWatermarkJpaEntity.fromDomain(watermark)).toDomain();
+    }
+}
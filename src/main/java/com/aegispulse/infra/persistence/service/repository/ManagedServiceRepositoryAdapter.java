@@ -38,10 +38,25 @@ public class ManagedServiceRepositoryAdapter implements ManagedServiceRepository
         return managedServiceJpaRepository.save(ManagedServiceJpaEntity.fromDomain(service)).toDomain();
     }
 
+    @Override
+    public List<ManagedService> saveAll(List<ManagedService> services) {
+        return managedServiceJpaRepository.saveAll(services.stream().map(ManagedServiceJpaEntity::fromDomain).toList())
+            .stream()
+            .map(ManagedServiceJpaEntity::toDomain)
+            .toList();
+    }
+
     @Override
     public List<ManagedService> findAll() {
         return managedServiceJpaRepository.findAll().stream()
             .map(ManagedServiceJpaEntity::toDomain)
             .toList();
     }
+
+    @Override
+    public List<ManagedService> findAllByIds(List<String> serviceIds) {
+        return managedServiceJpaRepository.findAllById(serviceIds).stream()
+            .map(ManagedServiceJpaEntity::toDomain)
+            .toList();
+    }
 }
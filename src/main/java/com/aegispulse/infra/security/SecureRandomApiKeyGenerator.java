@@ -1,5 +1,6 @@
 package com.aegispulse.infra.security;
 
+import com.aegispulse.application.consumer.key.ApiKeyFormat;
 import com.aegispulse.application.consumer.key.ApiKeyGenerator;
 import java.security.SecureRandom;
 import java.util.Base64;
@@ -15,9 +16,9 @@ public class SecureRandomApiKeyGenerator implements ApiKeyGenerator {
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
 
     @Override
-    public String generate() {
+    public String generate(String keyId) {
         byte[] randomBytes = new byte[KEY_BYTE_LENGTH];
         SECURE_RANDOM.nextBytes(randomBytes);
-        return "ak_" + Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+        return ApiKeyFormat.compose(keyId, Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes));
     }
 }
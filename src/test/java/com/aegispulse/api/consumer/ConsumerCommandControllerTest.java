@@ -327,6 +327,7 @@ class ConsumerCommandControllerTest {
         Assertions.assertThat(commandCaptor.getValue().getRouteId()).isEqualTo("rte_01JABCXYZ");
         Assertions.assertThat(commandCaptor.getValue().getConsumerId()).isEqualTo("csm_01JABCXYZ");
         Assertions.assertThat(commandCaptor.getValue().getApiKey()).isEqualTo("ak_plain_key_once");
+        Assertions.assertThat(commandCaptor.getValue().getClientIp()).isEqualTo("127.0.0.1");
     }
 
     @Test
@@ -0,0 +1,108 @@
+package com.aegispulse.api.metrics;
+
+import static org.hamcrest.Matchers.blankOrNullString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.aegispulse.application.alert.IsolationFastTripUseCase;
+import com.aegispulse.application.alert.command.RecordErrorCountersCommand;
+import com.aegispulse.application.alert.result.RecordErrorCountersResult;
+import com.aegispulse.infra.web.trace.TraceIdFilter;
+import com.aegispulse.infra.web.trace.TraceIdSupport;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = InternalErrorCountersIngestionController.class)
+@Import(TraceIdFilter.class)
+class InternalErrorCountersIngestionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private IsolationFastTripUseCase isolationFastTripUseCase;
+
+    @Test
+    @DisplayName("카운터 수집 성공 시 200과 격리된 서비스 목록을 반환한다")
+    void shouldRecordCountersWhenRequestIsValid() throws Exception {
+        given(isolationFastTripUseCase.record(any()))
+            .willReturn(RecordErrorCountersResult.builder().acceptedCount(1).isolatedServiceIds(List.of("svc_01")).build());
+
+        mockMvc.perform(
+            post("/api/v1/internal/metrics/error-counters:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(TraceIdSupport.TRACE_ID_HEADER, "trace-error-counters-001")
+                .content(
+                    """
+                    {
+                      "counters": [
+                        {
+                          "serviceId": " svc_01 ",
+                          "windowStart": "2026-02-27T01:02:30Z",
+                          "requestCount": 300,
+                          "status5xxCount": 40
+                        }
+                      ]
+                    }
+                    """
+                )
+        )
+            .andExpect(status().isOk())
+            .andExpect(header().string(TraceIdSupport.TRACE_ID_HEADER, "trace-error-counters-001"))
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.acceptedCount").value(1))
+            .andExpect(jsonPath("$.data.isolatedServiceIds[0]").value("svc_01"));
+
+        ArgumentCaptor<RecordErrorCountersCommand> commandCaptor = ArgumentCaptor.forClass(RecordErrorCountersCommand.class);
+        then(isolationFastTripUseCase).should().record(commandCaptor.capture());
+        Assertions.assertThat(commandCaptor.getValue().getCounters()).singleElement()
+            .satisfies(counter -> {
+                Assertions.assertThat(counter.getServiceId()).isEqualTo("svc_01");
+                Assertions.assertThat(counter.getStatus5xxCount()).isEqualTo(40);
+            });
+    }
+
+    @Test
+    @DisplayName("windowStart가 누락되면 400 INVALID_REQUEST를 반환한다")
+    void shouldReturnBadRequestWhenWindowStartMissing() throws Exception {
+        mockMvc.perform(
+            post("/api/v1/internal/metrics/error-counters:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    """
+                    {
+                      "counters": [
+                        {
+                          "serviceId": "svc_01",
+                          "requestCount": 10,
+                          "status5xxCount": 1
+                        }
+                      ]
+                    }
+                    """
+                )
+        )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.success").value(false))
+            .andExpect(jsonPath("$.error.code").value("INVALID_REQUEST"))
+            .andExpect(jsonPath("$.error.traceId", not(blankOrNullString())));
+
+        then(isolationFastTripUseCase).should(never()).record(any());
+    }
+}
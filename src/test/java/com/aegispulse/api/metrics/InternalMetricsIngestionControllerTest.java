@@ -49,7 +49,7 @@ class InternalMetricsIngestionControllerTest {
     @DisplayName("수집 요청 성공 시 200과 ingestedCount를 반환한다")
     void shouldIngestMetricsWhenRequestIsValid() throws Exception {
         given(metricIngestionUseCase.ingest(any()))
-            .willReturn(IngestMetricPointsResult.builder().ingestedCount(2).build());
+            .willReturn(IngestMetricPointsResult.builder().ingestedCount(2).deduplicatedCount(0).build());
 
         mockMvc.perform(
             post("/api/v1/internal/metrics/points:batch")
@@ -88,6 +88,7 @@ class InternalMetricsIngestionControllerTest {
             .andExpect(header().string(TraceIdSupport.TRACE_ID_HEADER, "trace-metric-ingest-001"))
             .andExpect(jsonPath("$.success").value(true))
             .andExpect(jsonPath("$.data.ingestedCount").value(2))
+            .andExpect(jsonPath("$.data.deduplicatedCount").value(0))
             .andExpect(jsonPath("$.traceId").value("trace-metric-ingest-001"));
 
         ArgumentCaptor<IngestMetricPointsCommand> commandCaptor = ArgumentCaptor.forClass(IngestMetricPointsCommand.class);
@@ -162,4 +163,68 @@ class InternalMetricsIngestionControllerTest {
             .andExpect(jsonPath("$.error.code").value("INVALID_REQUEST"))
             .andExpect(jsonPath("$.error.traceId").value("trace-metric-invalid-axis"));
     }
+
+    @Test
+    @DisplayName("비동기 버퍼에 적재 예약되면 202와 ingestedCount를 반환한다")
+    void shouldReturnAcceptedWhenPointsAreQueued() throws Exception {
+        given(metricIngestionUseCase.ingest(any()))
+            .willReturn(IngestMetricPointsResult.builder().ingestedCount(1).queued(true).build());
+
+        mockMvc.perform(
+            post("/api/v1/internal/metrics/points:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    """
+                    {
+                      "points": [
+                        {
+                          "serviceId": "svc_01",
+                          "windowStart": "2026-02-27T01:02:30Z",
+                          "rps": 11.0,
+                          "latencyP50": 20.0,
+                          "latencyP95": 50.0,
+                          "status4xxRate": 0.2,
+                          "status5xxRate": 0.1
+                        }
+                      ]
+                    }
+                    """
+                )
+        )
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.ingestedCount").value(1));
+    }
+
+    @Test
+    @DisplayName("수집 버퍼가 포화되면 429 TOO_MANY_REQUESTS를 반환한다")
+    void shouldReturnTooManyRequestsWhenBufferIsFull() throws Exception {
+        given(metricIngestionUseCase.ingest(any()))
+            .willThrow(new AegisPulseException(ErrorCode.TOO_MANY_REQUESTS, "메트릭 수집 버퍼가 가득 찼습니다."));
+
+        mockMvc.perform(
+            post("/api/v1/internal/metrics/points:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    """
+                    {
+                      "points": [
+                        {
+                          "serviceId": "svc_01",
+                          "windowStart": "2026-02-27T01:02:30Z",
+                          "rps": 11.0,
+                          "latencyP50": 20.0,
+                          "latencyP95": 50.0,
+                          "status4xxRate": 0.2,
+                          "status5xxRate": 0.1
+                        }
+                      ]
+                    }
+                    """
+                )
+        )
+            .andExpect(status().isTooManyRequests())
+            .andExpect(jsonPath("$.success").value(false))
+            .andExpect(jsonPath("$.error.code").value("TOO_MANY_REQUESTS"));
+    }
 }
@@ -0,0 +1,180 @@
+package com.aegispulse.api.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.aegispulse.application.metric.MetricIngestionUseCase;
+import com.aegispulse.application.metric.MetricPointIngestSource;
+import com.aegispulse.application.metric.command.MetricPointIngestItem;
+import com.aegispulse.application.metric.result.IngestMetricPointsResult;
+import com.aegispulse.infra.web.trace.TraceIdFilter;
+import com.aegispulse.infra.web.trace.TraceIdSupport;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = InternalMetricsStreamIngestionController.class)
+@Import(TraceIdFilter.class)
+class InternalMetricsStreamIngestionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private MetricIngestionUseCase metricIngestionUseCase;
+
+    @Test
+    @DisplayName("NDJSON 본문을 한 줄씩 파싱해 스트리밍 수집으로 전달한다")
+    void shouldIngestNdjsonStream() throws Exception {
+        List<MetricPointIngestItem> consumed = drainSourceAndReturn(2);
+
+        mockMvc.perform(
+            post("/api/v1/internal/metrics/points:stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(TraceIdSupport.TRACE_ID_HEADER, "trace-metric-stream-001")
+                .content(
+                    """
+                    {"serviceId":" svc_01 ","routeId":"rte_01","windowStart":"2026-02-27T01:02:30Z","rps":11,"latencyP50":20.0,"latencyP95":50.0,"status4xxRate":0.2,"status5xxRate":0.1,"extra":{"a":[1,2]}}
+                    {"serviceId":"svc_01","consumerId":"csm_01","windowStart":"2026-02-27T01:02:30Z","rps":9.0,"latencyP50":18.0,"latencyP95":45.0,"status4xxRate":0.1,"status5xxRate":0.05}
+                    """
+                )
+        )
+            .andExpect(status().isOk())
+            .andExpect(header().string(TraceIdSupport.TRACE_ID_HEADER, "trace-metric-stream-001"))
+            .andExpect(jsonPath("$.data.ingestedCount").value(2));
+
+        assertThat(consumed).hasSize(2);
+        assertThat(consumed.getFirst().getServiceId()).isEqualTo("svc_01");
+        assertThat(consumed.getFirst().getRps()).isEqualTo(11.0);
+        assertThat(consumed.get(1).getConsumerId()).isEqualTo("csm_01");
+        assertThat(consumed.get(1).getRouteId()).isNull();
+    }
+
+    @Test
+    @DisplayName("NDJSON 포인트에 음수 값이 있으면 400 INVALID_REQUEST를 반환한다")
+    void shouldReturnBadRequestWhenNdjsonPointIsInvalid() throws Exception {
+        drainSourceAndReturn(0);
+
+        mockMvc.perform(
+            post("/api/v1/internal/metrics/points:stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(
+                    """
+                    {"serviceId":"svc_01","windowStart":"2026-02-27T01:02:30Z","rps":-1}
+                    """
+                )
+        )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error.code").value("INVALID_REQUEST"));
+    }
+
+    @Test
+    @DisplayName("길이 접두 바이너리 본문을 레코드 단위로 파싱해 스트리밍 수집으로 전달한다")
+    void shouldIngestBinaryStream() throws Exception {
+        List<MetricPointIngestItem> consumed = drainSourceAndReturn(2);
+        Instant windowStart = Instant.parse("2026-02-27T01:02:00Z");
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeRecord(body, "svc_01", "rte_01", null, windowStart, 11.0);
+        writeRecord(body, "svc_01", null, "csm_01", windowStart, 9.0);
+
+        mockMvc.perform(
+            post("/api/v1/internal/metrics/points:stream")
+                .contentType(InternalMetricsStreamIngestionController.BINARY_MEDIA_TYPE)
+                .content(body.toByteArray())
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.ingestedCount").value(2));
+
+        assertThat(consumed).hasSize(2);
+        assertThat(consumed.getFirst().getRouteId()).isEqualTo("rte_01");
+        assertThat(consumed.getFirst().getConsumerId()).isNull();
+        assertThat(consumed.getFirst().getWindowStart()).isEqualTo(windowStart);
+        assertThat(consumed.get(1).getConsumerId()).isEqualTo("csm_01");
+        assertThat(consumed.get(1).getRps()).isEqualTo(9.0);
+    }
+
+    @Test
+    @DisplayName("바이너리 레코드가 선언 길이보다 짧으면 400 INVALID_REQUEST를 반환한다")
+    void shouldReturnBadRequestWhenBinaryRecordIsTruncated() throws Exception {
+        drainSourceAndReturn(0);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeRecord(body, "svc_01", null, null, Instant.parse("2026-02-27T01:02:00Z"), 1.0);
+        byte[] truncated = java.util.Arrays.copyOf(body.toByteArray(), body.size() - 3);
+
+        mockMvc.perform(
+            post("/api/v1/internal/metrics/points:stream")
+                .contentType(InternalMetricsStreamIngestionController.BINARY_MEDIA_TYPE)
+                .content(truncated)
+        )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error.code").value("INVALID_REQUEST"));
+    }
+
+    /**
+     * 실제 서비스처럼 소스를 끝까지 읽어 파서 동작을 검증할 수 있도록 유스케이스 목을 구성한다.
+     */
+    private List<MetricPointIngestItem> drainSourceAndReturn(int ingestedCount) {
+        List<MetricPointIngestItem> consumed = new ArrayList<>();
+        given(metricIngestionUseCase.ingestStream(any())).willAnswer(invocation -> {
+            MetricPointIngestSource source = invocation.getArgument(0);
+            MetricPointIngestItem item;
+            while ((item = source.next()) != null) {
+                consumed.add(item);
+            }
+            return IngestMetricPointsResult.builder().ingestedCount(ingestedCount).build();
+        });
+        return consumed;
+    }
+
+    private void writeRecord(
+        ByteArrayOutputStream target,
+        String serviceId,
+        String routeId,
+        String consumerId,
+        Instant windowStart,
+        double rps
+    ) throws IOException {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(record);
+        writeString(output, serviceId);
+        writeString(output, routeId);
+        writeString(output, consumerId);
+        output.writeLong(windowStart.toEpochMilli());
+        output.writeDouble(rps);
+        output.writeDouble(20.0);
+        output.writeDouble(50.0);
+        output.writeDouble(0.2);
+        output.writeDouble(0.1);
+        output.flush();
+
+        DataOutputStream framed = new DataOutputStream(target);
+        framed.writeInt(record.size());
+        framed.write(record.toByteArray());
+        framed.flush();
+    }
+
+    private void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        output.writeShort(bytes.length);
+        output.write(bytes);
+    }
+}
@@ -20,6 +20,7 @@ import com.aegispulse.application.metric.result.MetricAggregateResult;
 import com.aegispulse.application.metric.result.QueryServiceMetricsResult;
 import com.aegispulse.application.metric.result.RouteMetricResult;
 import com.aegispulse.application.metric.result.TopRouteMetricResult;
+import com.aegispulse.domain.metric.model.MetricQueryView;
 import com.aegispulse.infra.web.trace.TraceIdFilter;
 import com.aegispulse.infra.web.trace.TraceIdSupport;
 import java.util.List;
@@ -108,6 +109,8 @@ class MetricsQueryControllerTest {
         mockMvc.perform(
             get("/api/v1/metrics/services/svc_01")
                 .param("window", "1h")
+                .param("topK", "10")
+                .param("view", "top-routes")
                 .header(TraceIdSupport.TRACE_ID_HEADER, "trace-metric-001")
         )
             .andExpect(status().isOk())
@@ -123,6 +126,8 @@ class MetricsQueryControllerTest {
         then(metricQueryUseCase).should().queryServiceMetrics(commandCaptor.capture());
         Assertions.assertThat(commandCaptor.getValue().getServiceId()).isEqualTo("svc_01");
         Assertions.assertThat(commandCaptor.getValue().getWindow().getQueryValue()).isEqualTo("1h");
+        Assertions.assertThat(commandCaptor.getValue().getTopK()).isEqualTo(10);
+        Assertions.assertThat(commandCaptor.getValue().getView()).isEqualTo(MetricQueryView.TOP_ROUTES);
     }
 
     @Test
@@ -140,6 +145,26 @@ class MetricsQueryControllerTest {
         then(metricQueryUseCase).should(never()).queryServiceMetrics(any());
     }
 
+    @Test
+    @DisplayName("topK가 허용 범위를 벗어나면 400 INVALID_REQUEST를 반환한다")
+    void shouldReturnBadRequestWhenTopKIsOutOfRange() throws Exception {
+        mockMvc.perform(
+            get("/api/v1/metrics/services/svc_01")
+                .param("topK", "0")
+        )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error.code").value("INVALID_REQUEST"));
+
+        mockMvc.perform(
+            get("/api/v1/metrics/services/svc_01")
+                .param("view", "leaderboard")
+        )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error.code").value("INVALID_REQUEST"));
+
+        then(metricQueryUseCase).should(never()).queryServiceMetrics(any());
+    }
+
     @Test
     @DisplayName("서비스가 없으면 404 RESOURCE_NOT_FOUND를 반환한다")
     void shouldReturnNotFoundWhenServiceDoesNotExist() throws Exception {
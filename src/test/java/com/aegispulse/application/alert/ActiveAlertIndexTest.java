@@ -0,0 +1,79 @@
+package com.aegispulse.application.alert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.aegispulse.domain.alert.model.Alert;
+import com.aegispulse.domain.alert.model.AlertState;
+import com.aegispulse.domain.alert.model.AlertType;
+import com.aegispulse.domain.alert.repository.AlertRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveAlertIndexTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-27T06:00:00Z");
+
+    @Mock
+    private AlertRepository alertRepository;
+
+    private ActiveAlertIndex activeAlertIndex;
+
+    @BeforeEach
+    void setUp() {
+        activeAlertIndex = new ActiveAlertIndex(alertRepository);
+    }
+
+    @Test
+    @DisplayName("적재 전에 커밋된 알림은 적재 결과로 덮어쓰지 않는다")
+    void shouldKeepAlertsRecordedBeforeWarmUp() {
+        Alert staleOpen = openAlert("alt_01", "svc_01");
+        given(alertRepository.findActiveByTypes(any())).willReturn(List.of(staleOpen, openAlert("alt_02", "svc_02")));
+        given(alertRepository.findResolvedSince(any(), any())).willReturn(List.of());
+
+        activeAlertIndex.record(List.of(staleOpen.resolve(NOW.minusSeconds(30), "{}")));
+        activeAlertIndex.warmUp(NOW);
+
+        AlertEvaluationBatch batch = activeAlertIndex.newBatch();
+        assertThat(activeAlertIndex.isReady()).isTrue();
+        assertThat(batch.findActive("svc_01", AlertType.SERVICE_5XX_RATE_HIGH)).isEmpty();
+        assertThat(batch.isInCooldown("svc_01", AlertType.SERVICE_5XX_RATE_HIGH, Duration.ofMinutes(10), NOW)).isTrue();
+        assertThat(batch.findActive("svc_02", AlertType.SERVICE_5XX_RATE_HIGH)).isPresent();
+    }
+
+    @Test
+    @DisplayName("해제 알림은 같은 ID의 활성 알림만 지우고, 타깃 스냅샷은 요청한 타깃만 담는다")
+    void shouldRemoveOnlyMatchingActiveAlertOnResolve() {
+        Alert previous = openAlert("alt_01", "svc_01");
+        Alert reopened = openAlert("alt_03", "svc_01");
+        activeAlertIndex.record(List.of(reopened, openAlert("alt_02", "svc_02")));
+
+        activeAlertIndex.record(List.of(previous.resolve(NOW, "{}")));
+
+        AlertEvaluationBatch batch = activeAlertIndex.newBatch(List.of("svc_01"));
+        assertThat(batch.findActive("svc_01", AlertType.SERVICE_5XX_RATE_HIGH))
+            .hasValueSatisfying(alert -> assertThat(alert.getId()).isEqualTo("alt_03"));
+        assertThat(batch.findActive("svc_02", AlertType.SERVICE_5XX_RATE_HIGH)).isEmpty();
+    }
+
+    private Alert openAlert(String alertId, String serviceId) {
+        return Alert.restore(
+            alertId,
+            AlertType.SERVICE_5XX_RATE_HIGH,
+            serviceId,
+            AlertState.OPEN,
+            NOW.minusSeconds(300),
+            null,
+            "{}"
+        );
+    }
+}
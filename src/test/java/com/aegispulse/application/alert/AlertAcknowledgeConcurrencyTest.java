@@ -0,0 +1,94 @@
+package com.aegispulse.application.alert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.aegispulse.api.common.exception.AegisPulseException;
+import com.aegispulse.api.common.exception.ErrorCode;
+import com.aegispulse.application.alert.command.AcknowledgeAlertCommand;
+import com.aegispulse.domain.alert.model.Alert;
+import com.aegispulse.domain.alert.model.AlertState;
+import com.aegispulse.domain.alert.model.AlertType;
+import com.aegispulse.domain.alert.repository.AlertRepository;
+import com.aegispulse.infra.persistence.alert.repository.AlertJpaRepository;
+import com.aegispulse.infra.persistence.alert.repository.AlertRepositoryAdapter;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ACK 트랜잭션 도중 다른 트랜잭션이 커밋한 해제를 ACK가 덮어쓰지 않는지 실제 저장소로 확인한다.
+ * 서비스가 직접 트랜잭션을 열고 다른 스레드의 커밋을 볼 수 있도록 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+    AlertRepositoryAdapter.class,
+    AlertAcknowledgeService.class,
+    ActiveAlertIndex.class,
+    ServiceTransitionLocks.class
+})
+class AlertAcknowledgeConcurrencyTest {
+
+    @MockitoSpyBean
+    private AlertRepository alertRepository;
+
+    @Autowired
+    private AlertJpaRepository alertJpaRepository;
+
+    @Autowired
+    private AlertAcknowledgeService alertAcknowledgeService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        alertJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("ACK가 대상을 확인한 뒤 다른 트랜잭션이 커밋한 해제는 ACKED로 덮이지 않고 상태 충돌로 거절된다")
+    void shouldRejectAckWhenResolveCommitsAfterTargetLookup() {
+        Alert open = alertRepository.save(
+            Alert.newOpenAlert(
+                null,
+                AlertType.SERVICE_5XX_RATE_HIGH,
+                "svc_01",
+                Instant.parse("2026-02-27T01:00:00Z"),
+                "{\"transition\":\"OPEN\"}"
+            )
+        );
+        TransactionTemplate resolver = new TransactionTemplate(transactionManager);
+        // ACK 트랜잭션이 대상 서비스를 확인한 직후, 알림을 읽기 전에 평가가 같은 알림을 해제하고 커밋한다.
+        willAnswer(invocation -> {
+            Object targetId = invocation.callRealMethod();
+            CompletableFuture.runAsync(() -> resolver.executeWithoutResult(status -> alertRepository.save(
+                open.resolve(Instant.parse("2026-02-27T01:04:00Z"), "{\"transition\":\"RESOLVED\"}")
+            ))).join();
+            return targetId;
+        }).given(alertRepository).findTargetIdById(anyString());
+
+        assertThatThrownBy(
+            () -> alertAcknowledgeService.acknowledge(AcknowledgeAlertCommand.builder().alertId(open.getId()).build())
+        )
+            .isInstanceOf(AegisPulseException.class)
+            .satisfies(exception -> {
+                AegisPulseException aegisPulseException = (AegisPulseException) exception;
+                assertThat(aegisPulseException.getErrorCode()).isEqualTo(ErrorCode.ALERT_STATE_CONFLICT);
+            });
+        assertThat(alertJpaRepository.findById(open.getId()).orElseThrow().getState()).isEqualTo(AlertState.RESOLVED);
+    }
+}
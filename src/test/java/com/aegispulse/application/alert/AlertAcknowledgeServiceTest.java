@@ -3,6 +3,7 @@ package com.aegispulse.application.alert;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +31,12 @@ class AlertAcknowledgeServiceTest {
     @Mock
     private AlertRepository alertRepository;
 
+    @Mock
+    private ActiveAlertIndex activeAlertIndex;
+
+    @Spy
+    private ServiceTransitionLocks serviceTransitionLocks = new ServiceTransitionLocks();
+
     @InjectMocks
     private AlertAcknowledgeService alertAcknowledgeService;
 
@@ -44,6 +52,7 @@ class AlertAcknowledgeServiceTest {
             null,
             "{\"transition\":\"OPEN\"}"
         );
+        given(alertRepository.findTargetIdById("alt_01")).willReturn(Optional.of("svc_01"));
         given(alertRepository.findById("alt_01")).willReturn(Optional.of(openAlert));
         given(alertRepository.save(any(Alert.class))).willAnswer(invocation -> invocation.getArgument(0));
 
@@ -56,12 +65,13 @@ class AlertAcknowledgeServiceTest {
         assertThat(result.getAlertId()).isEqualTo("alt_01");
         assertThat(result.getState()).isEqualTo("ACKED");
         then(alertRepository).should().save(any(Alert.class));
+        then(activeAlertIndex).should().recordAfterCommit(anyList());
     }
 
     @Test
     @DisplayName("알림이 없으면 ALERT_NOT_FOUND 예외를 던진다")
     void shouldThrowNotFoundWhenAlertDoesNotExist() {
-        given(alertRepository.findById("alt_missing")).willReturn(Optional.empty());
+        given(alertRepository.findTargetIdById("alt_missing")).willReturn(Optional.empty());
 
         assertThatThrownBy(
             () -> alertAcknowledgeService.acknowledge(AcknowledgeAlertCommand.builder().alertId("alt_missing").build())
@@ -85,6 +95,7 @@ class AlertAcknowledgeServiceTest {
             null,
             "{\"transition\":\"OPEN\"}"
         );
+        given(alertRepository.findTargetIdById("alt_acked")).willReturn(Optional.of("svc_01"));
         given(alertRepository.findById("alt_acked")).willReturn(Optional.of(ackedAlert));
 
         assertThatThrownBy(
@@ -1,15 +1,21 @@
 package com.aegispulse.application.alert;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
+import com.aegispulse.application.service.ServiceStatusChangedEvent;
 import com.aegispulse.domain.alert.model.Alert;
+import com.aegispulse.domain.alert.model.AlertRuleMetric;
 import com.aegispulse.domain.alert.model.AlertState;
 import com.aegispulse.domain.alert.model.AlertType;
+import com.aegispulse.domain.alert.repository.AlertNotificationRepository;
 import com.aegispulse.domain.alert.repository.AlertRepository;
 import com.aegispulse.domain.metric.model.MetricPoint;
 import com.aegispulse.domain.metric.repository.MetricPointRepository;
@@ -22,6 +28,9 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +38,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class AlertEvaluationServiceTest {
@@ -42,15 +52,40 @@ class AlertEvaluationServiceTest {
     @Mock
     private AlertRepository alertRepository;
 
+    @Mock
+    private AlertNotificationRepository alertNotificationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ActiveAlertIndex activeAlertIndex;
+
+    private ServiceTransitionLocks serviceTransitionLocks;
+
+    private IsolationRecoveryTracker isolationRecoveryTracker;
+
     private AlertEvaluationService alertEvaluationService;
 
     @BeforeEach
     void setUp() {
-        alertEvaluationService = new AlertEvaluationService(
+        activeAlertIndex = new ActiveAlertIndex(alertRepository);
+        serviceTransitionLocks = new ServiceTransitionLocks();
+        isolationRecoveryTracker = new IsolationRecoveryTracker();
+        alertEvaluationService = newService(new AlertRuleProperties());
+    }
+
+    private AlertEvaluationService newService(AlertRuleProperties ruleProperties) {
+        return new AlertEvaluationService(
             managedServiceRepository,
             metricPointRepository,
             alertRepository,
-            new ObjectMapper()
+            new AlertPayloadWriter(new ObjectMapper()),
+            activeAlertIndex,
+            new AlertRulePlanRegistry(ruleProperties),
+            isolationRecoveryTracker,
+            new AlertNotificationOutbox(alertNotificationRepository, List.of()),
+            eventPublisher,
+            serviceTransitionLocks
         );
     }
 
@@ -59,24 +94,22 @@ class AlertEvaluationServiceTest {
     void shouldCreateOpenAlertWhen5xxThresholdExceeded() {
         Instant evaluatedAt = Instant.parse("2026-02-27T02:00:00Z");
         given(managedServiceRepository.findAll()).willReturn(List.of(managedService("svc_01")));
-        given(metricPointRepository.findByServiceIdAndWindow(eq("svc_01"), any(), eq(evaluatedAt)))
+        given(metricPointRepository.findServiceAxisByWindow(any(), eq(evaluatedAt)))
             .willReturn(
                 List.of(
                     MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T01:59:00Z"), 100, 200, 500, 0.3, 2.5)
                 )
             );
-        given(alertRepository.findActiveByTargetAndType(eq("svc_01"), any(AlertType.class))).willReturn(Optional.empty());
-        given(alertRepository.findLatestByTargetAndType(eq("svc_01"), any(AlertType.class))).willReturn(Optional.empty());
-        given(alertRepository.save(any(Alert.class))).willAnswer(invocation -> invocation.getArgument(0));
+        givenAlerts(List.of(), List.of());
 
         alertEvaluationService.evaluateAt(evaluatedAt);
 
-        ArgumentCaptor<Alert> alertCaptor = ArgumentCaptor.forClass(Alert.class);
-        then(alertRepository).should().save(alertCaptor.capture());
-        Alert saved = alertCaptor.getValue();
-        assertThat(saved.getTargetId()).isEqualTo("svc_01");
-        assertThat(saved.getAlertType()).isEqualTo(AlertType.SERVICE_5XX_RATE_HIGH);
-        assertThat(saved.getState()).isEqualTo(AlertState.OPEN);
+        List<Alert> saved = capturedAlerts();
+        assertThat(saved).singleElement().satisfies(alert -> {
+            assertThat(alert.getTargetId()).isEqualTo("svc_01");
+            assertThat(alert.getAlertType()).isEqualTo(AlertType.SERVICE_5XX_RATE_HIGH);
+            assertThat(alert.getState()).isEqualTo(AlertState.OPEN);
+        });
     }
 
     @Test
@@ -94,19 +127,17 @@ class AlertEvaluationServiceTest {
         );
 
         given(managedServiceRepository.findAll()).willReturn(List.of(managedService("svc_01")));
-        given(metricPointRepository.findByServiceIdAndWindow(eq("svc_01"), any(), eq(evaluatedAt)))
+        given(metricPointRepository.findServiceAxisByWindow(any(), eq(evaluatedAt)))
             .willReturn(
                 List.of(
                     MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T02:09:00Z"), 120, 100, 300, 0.4, 3.2)
                 )
             );
-        given(alertRepository.findActiveByTargetAndType(eq("svc_01"), any(AlertType.class))).willReturn(Optional.empty());
-        given(alertRepository.findLatestByTargetAndType("svc_01", AlertType.SERVICE_5XX_RATE_HIGH))
-            .willReturn(Optional.of(latestResolved));
+        givenAlerts(List.of(), List.of(latestResolved));
 
         alertEvaluationService.evaluateAt(evaluatedAt);
 
-        then(alertRepository).should(never()).save(any(Alert.class));
+        then(alertRepository).should(never()).saveAll(any());
     }
 
     @Test
@@ -124,26 +155,22 @@ class AlertEvaluationServiceTest {
         );
 
         given(managedServiceRepository.findAll()).willReturn(List.of(managedService("svc_01")));
-        given(metricPointRepository.findByServiceIdAndWindow(eq("svc_01"), any(), eq(evaluatedAt)))
+        given(metricPointRepository.findServiceAxisByWindow(any(), eq(evaluatedAt)))
             .willReturn(
                 List.of(
                     MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T02:59:00Z"), 140, 80, 300, 0.2, 1.2)
                 )
             );
-        given(alertRepository.findActiveByTargetAndType("svc_01", AlertType.SERVICE_5XX_RATE_HIGH))
-            .willReturn(Optional.of(activeAlert));
-        given(alertRepository.findActiveByTargetAndType("svc_01", AlertType.SERVICE_P95_LATENCY_HIGH))
-            .willReturn(Optional.empty());
-        given(alertRepository.save(any(Alert.class))).willAnswer(invocation -> invocation.getArgument(0));
+        givenAlerts(List.of(activeAlert), List.of());
 
         alertEvaluationService.evaluateAt(evaluatedAt);
 
-        ArgumentCaptor<Alert> alertCaptor = ArgumentCaptor.forClass(Alert.class);
-        then(alertRepository).should().save(alertCaptor.capture());
-        Alert saved = alertCaptor.getValue();
-        assertThat(saved.getId()).isEqualTo("alt_open");
-        assertThat(saved.getState()).isEqualTo(AlertState.RESOLVED);
-        assertThat(saved.getResolvedAt()).isEqualTo(evaluatedAt);
+        List<Alert> saved = capturedAlerts();
+        assertThat(saved).singleElement().satisfies(alert -> {
+            assertThat(alert.getId()).isEqualTo("alt_open");
+            assertThat(alert.getState()).isEqualTo(AlertState.RESOLVED);
+            assertThat(alert.getResolvedAt()).isEqualTo(evaluatedAt);
+        });
     }
 
     @Test
@@ -159,31 +186,23 @@ class AlertEvaluationServiceTest {
         );
 
         given(managedServiceRepository.findAll()).willReturn(List.of(managedService("svc_01")));
-        given(metricPointRepository.findByServiceIdAndWindow(eq("svc_01"), any(), eq(evaluatedAt)))
+        given(metricPointRepository.findServiceAxisByWindow(any(), eq(evaluatedAt)))
             .willReturn(
                 List.of(
                     MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T03:09:00Z"), 4.0, 100, 300, 0.2, 6.3)
                 )
             );
-        given(alertRepository.findActiveByTargetAndType("svc_01", AlertType.SERVICE_5XX_RATE_HIGH))
-            .willReturn(Optional.of(active5xxAlert));
-        given(alertRepository.findActiveByTargetAndType("svc_01", AlertType.SERVICE_P95_LATENCY_HIGH))
-            .willReturn(Optional.empty());
-        given(alertRepository.findActiveByTargetAndType("svc_01", AlertType.SERVICE_ISOLATION_MODE))
-            .willReturn(Optional.empty());
-        given(alertRepository.save(any(Alert.class))).willAnswer(invocation -> invocation.getArgument(0));
-        given(managedServiceRepository.save(any(ManagedService.class))).willAnswer(invocation -> invocation.getArgument(0));
+        givenAlerts(List.of(active5xxAlert), List.of());
 
         alertEvaluationService.evaluateAt(evaluatedAt);
 
-        ArgumentCaptor<ManagedService> serviceCaptor = ArgumentCaptor.forClass(ManagedService.class);
-        then(managedServiceRepository).should().save(serviceCaptor.capture());
-        assertThat(serviceCaptor.getValue().getStatus()).isEqualTo(ServiceStatus.ISOLATED);
-
-        ArgumentCaptor<Alert> alertCaptor = ArgumentCaptor.forClass(Alert.class);
-        then(alertRepository).should().save(alertCaptor.capture());
-        assertThat(alertCaptor.getValue().getAlertType()).isEqualTo(AlertType.SERVICE_ISOLATION_MODE);
-        assertThat(alertCaptor.getValue().getState()).isEqualTo(AlertState.OPEN);
+        assertThat(capturedServices()).singleElement()
+            .satisfies(service -> assertThat(service.getStatus()).isEqualTo(ServiceStatus.ISOLATED));
+        assertThat(capturedAlerts()).singleElement().satisfies(alert -> {
+            assertThat(alert.getAlertType()).isEqualTo(AlertType.SERVICE_ISOLATION_MODE);
+            assertThat(alert.getState()).isEqualTo(AlertState.OPEN);
+        });
+        then(eventPublisher).should().publishEvent(new ServiceStatusChangedEvent(List.of("svc_01")));
     }
 
     @Test
@@ -199,21 +218,18 @@ class AlertEvaluationServiceTest {
         );
 
         given(managedServiceRepository.findAll()).willReturn(List.of(managedService("svc_01")));
-        given(metricPointRepository.findByServiceIdAndWindow(eq("svc_01"), any(), eq(evaluatedAt)))
+        given(metricPointRepository.findServiceAxisByWindow(any(), eq(evaluatedAt)))
             .willReturn(
                 List.of(
                     MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T03:19:00Z"), 2.0, 100, 250, 0.1, 7.2)
                 )
             );
-        given(alertRepository.findActiveByTargetAndType("svc_01", AlertType.SERVICE_5XX_RATE_HIGH))
-            .willReturn(Optional.of(active5xxAlert));
-        given(alertRepository.findActiveByTargetAndType("svc_01", AlertType.SERVICE_P95_LATENCY_HIGH))
-            .willReturn(Optional.empty());
+        givenAlerts(List.of(active5xxAlert), List.of());
 
         alertEvaluationService.evaluateAt(evaluatedAt);
 
-        then(managedServiceRepository).should(never()).save(any(ManagedService.class));
-        then(alertRepository).should(never()).save(any(Alert.class));
+        then(managedServiceRepository).should(never()).saveAll(any());
+        then(alertRepository).should(never()).saveAll(any());
     }
 
     @Test
@@ -229,9 +245,6 @@ class AlertEvaluationServiceTest {
             "{\"transition\":\"OPEN\"}"
         );
 
-        List<MetricPoint> recentFiveMinutes = List.of(
-            MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T03:59:00Z"), 3.5, 90, 200, 0.1, 0.4)
-        );
         List<MetricPoint> recoveryWindow = List.of(
             MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T03:50:00Z"), 3.0, 90, 200, 0.1, 0.5),
             MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T03:51:00Z"), 3.0, 90, 200, 0.1, 0.5),
@@ -246,33 +259,18 @@ class AlertEvaluationServiceTest {
         );
 
         given(managedServiceRepository.findAll()).willReturn(List.of(isolatedService));
-        given(metricPointRepository.findByServiceIdAndWindow(eq("svc_01"), any(), eq(evaluatedAt)))
-            .willAnswer(invocation -> {
-                Instant fromInclusive = invocation.getArgument(1);
-                if (fromInclusive.equals(evaluatedAt.minus(Duration.ofMinutes(10)))) {
-                    return recoveryWindow;
-                }
-                return recentFiveMinutes;
-            });
-        given(alertRepository.findActiveByTargetAndType("svc_01", AlertType.SERVICE_5XX_RATE_HIGH))
-            .willReturn(Optional.empty());
-        given(alertRepository.findActiveByTargetAndType("svc_01", AlertType.SERVICE_P95_LATENCY_HIGH))
-            .willReturn(Optional.empty());
-        given(alertRepository.findActiveByTargetAndType("svc_01", AlertType.SERVICE_ISOLATION_MODE))
-            .willReturn(Optional.of(isolationOpenAlert));
-        given(alertRepository.save(any(Alert.class))).willAnswer(invocation -> invocation.getArgument(0));
-        given(managedServiceRepository.save(any(ManagedService.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(metricPointRepository.findServiceAxisByWindow(Instant.parse("2026-02-27T03:50:00Z"), evaluatedAt))
+            .willReturn(recoveryWindow);
+        givenAlerts(List.of(isolationOpenAlert), List.of());
 
         alertEvaluationService.evaluateAt(evaluatedAt);
 
-        ArgumentCaptor<ManagedService> serviceCaptor = ArgumentCaptor.forClass(ManagedService.class);
-        then(managedServiceRepository).should().save(serviceCaptor.capture());
-        assertThat(serviceCaptor.getValue().getStatus()).isEqualTo(ServiceStatus.ACTIVE);
-
-        ArgumentCaptor<Alert> alertCaptor = ArgumentCaptor.forClass(Alert.class);
-        then(alertRepository).should().save(alertCaptor.capture());
-        assertThat(alertCaptor.getValue().getAlertType()).isEqualTo(AlertType.SERVICE_ISOLATION_MODE);
-        assertThat(alertCaptor.getValue().getState()).isEqualTo(AlertState.RESOLVED);
+        assertThat(capturedServices()).singleElement()
+            .satisfies(service -> assertThat(service.getStatus()).isEqualTo(ServiceStatus.ACTIVE));
+        assertThat(capturedAlerts()).singleElement().satisfies(alert -> {
+            assertThat(alert.getAlertType()).isEqualTo(AlertType.SERVICE_ISOLATION_MODE);
+            assertThat(alert.getState()).isEqualTo(AlertState.RESOLVED);
+        });
     }
 
     @Test
@@ -281,9 +279,6 @@ class AlertEvaluationServiceTest {
         Instant evaluatedAt = Instant.parse("2026-02-27T04:10:00Z");
         ManagedService isolatedService = managedService("svc_01").isolate(Instant.parse("2026-02-27T03:40:00Z"));
 
-        List<MetricPoint> recentFiveMinutes = List.of(
-            MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T04:09:00Z"), 3.5, 90, 200, 0.1, 0.4)
-        );
         List<MetricPoint> recoveryWindowWithGap = List.of(
             MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T04:00:00Z"), 3.0, 90, 200, 0.1, 0.5),
             MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T04:01:00Z"), 3.0, 90, 200, 0.1, 0.5),
@@ -293,36 +288,285 @@ class AlertEvaluationServiceTest {
             MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T04:06:00Z"), 3.0, 90, 200, 0.1, 0.3),
             MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T04:07:00Z"), 3.0, 90, 200, 0.1, 0.2),
             MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T04:08:00Z"), 3.0, 90, 200, 0.1, 0.2),
-            MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T04:09:00Z"), 3.0, 90, 200, 0.1, 0.2),
-            MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T04:10:00Z"), 3.0, 90, 200, 0.1, 0.1)
+            MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T04:09:00Z"), 3.0, 90, 200, 0.1, 0.2)
         );
 
         given(managedServiceRepository.findAll()).willReturn(List.of(isolatedService));
-        given(metricPointRepository.findByServiceIdAndWindow(eq("svc_01"), any(), eq(evaluatedAt)))
-            .willAnswer(invocation -> {
-                Instant fromInclusive = invocation.getArgument(1);
-                if (fromInclusive.equals(evaluatedAt.minus(Duration.ofMinutes(10)))) {
-                    return recoveryWindowWithGap;
+        given(metricPointRepository.findServiceAxisByWindow(any(), eq(evaluatedAt))).willReturn(recoveryWindowWithGap);
+        givenAlerts(List.of(), List.of());
+
+        alertEvaluationService.evaluateAt(evaluatedAt);
+
+        then(managedServiceRepository).should(never()).saveAll(any());
+        then(alertRepository).should(never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("빠른 발동 격리는 발동 분 포인트가 들어온 주기 평가에서 5분 조건을 넘지 않으면 해제한다")
+    void shouldRecoverFastTripIsolationWhenFiveMinuteRuleDoesNotConfirm() {
+        Instant trippedAt = Instant.parse("2026-02-27T05:00:20Z");
+        given(managedServiceRepository.findById("svc_01")).willReturn(Optional.of(managedService("svc_01")));
+        assertThat(alertEvaluationService.isolateFastTrip("svc_01", 8.0, 250.0, Duration.ofSeconds(30), trippedAt))
+            .isTrue();
+        Alert fastTripAlert = allSavedAlerts().get(0);
+
+        ManagedService isolatedService = managedService("svc_01").isolate(trippedAt);
+        given(managedServiceRepository.findAll()).willReturn(List.of(isolatedService));
+        givenAlerts(List.of(fastTripAlert), List.of());
+        // 발동 분(05:00) 포인트가 아직 없으면 버스트가 빠진 구간이므로 판정을 미룬다.
+        Instant earlySweep = Instant.parse("2026-02-27T05:01:00Z");
+        given(metricPointRepository.findServiceAxisByWindow(any(), eq(earlySweep))).willReturn(List.of(
+            MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T04:59:00Z"), 3.0, 90, 200, 0.1, 0.2)
+        ));
+        alertEvaluationService.evaluateAt(earlySweep);
+        // 빠른 발동의 격리 저장 한 번만 있고 주기 평가는 아무것도 바꾸지 않는다.
+        then(managedServiceRepository).should(times(1)).saveAll(any());
+
+        Instant confirmingSweep = Instant.parse("2026-02-27T05:02:00Z");
+        given(metricPointRepository.findServiceAxisByWindow(any(), eq(confirmingSweep))).willReturn(List.of(
+            MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T04:59:00Z"), 3.0, 90, 200, 0.1, 0.2),
+            MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T05:00:00Z"), 3.0, 90, 200, 0.1, 1.5),
+            MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T05:01:00Z"), 3.0, 90, 200, 0.1, 0.3)
+        ));
+        alertEvaluationService.evaluateAt(confirmingSweep);
+
+        assertThat(allSavedServices()).last()
+            .satisfies(service -> assertThat(service.getStatus()).isEqualTo(ServiceStatus.ACTIVE));
+        assertThat(allSavedAlerts()).last().satisfies(alert -> {
+            assertThat(alert.getAlertType()).isEqualTo(AlertType.SERVICE_ISOLATION_MODE);
+            assertThat(alert.getState()).isEqualTo(AlertState.RESOLVED);
+        });
+        assertThat(isolationRecoveryTracker.unconfirmedFastTripMinute("svc_01")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("5분 조건도 넘으면 빠른 발동 격리를 확정하고 유지한다")
+    void shouldConfirmFastTripIsolationWhenFiveMinuteRuleHolds() {
+        Instant trippedAt = Instant.parse("2026-02-27T05:00:20Z");
+        isolationRecoveryTracker.trackFastTripAfterCommit("svc_01", trippedAt);
+        Alert fastTripAlert = Alert.newOpenAlert(
+            "alt_fast_trip",
+            AlertType.SERVICE_ISOLATION_MODE,
+            "svc_01",
+            trippedAt,
+            "{\"transition\":\"OPEN\"}"
+        );
+
+        Instant evaluatedAt = Instant.parse("2026-02-27T05:02:00Z");
+        given(managedServiceRepository.findAll()).willReturn(List.of(managedService("svc_01").isolate(trippedAt)));
+        given(metricPointRepository.findServiceAxisByWindow(any(), eq(evaluatedAt))).willReturn(List.of(
+            MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T05:00:00Z"), 4.0, 100, 300, 0.2, 6.3),
+            MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T05:01:00Z"), 4.0, 100, 300, 0.2, 6.1)
+        ));
+        givenAlerts(List.of(fastTripAlert), List.of());
+
+        alertEvaluationService.evaluateAt(evaluatedAt);
+
+        then(managedServiceRepository).should(never()).saveAll(any());
+        assertThat(isolationRecoveryTracker.unconfirmedFastTripMinute("svc_01")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 서비스를 평가해도 조회는 한 번씩만 수행하고 전이는 한 번에 저장한다")
+    void shouldEvaluateAllServicesWithConstantQueryCount() {
+        Instant evaluatedAt = Instant.parse("2026-02-27T05:00:00Z");
+        given(managedServiceRepository.findAll())
+            .willReturn(List.of(managedService("svc_01"), managedService("svc_02"), managedService("svc_03")));
+        given(metricPointRepository.findServiceAxisByWindow(any(), eq(evaluatedAt)))
+            .willReturn(
+                List.of(
+                    // 평가 구간(5분) 밖의 포인트는 격리 해제 판정에만 사용한다.
+                    MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T04:52:00Z"), 100, 100, 300, 0.1, 9.0),
+                    MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T04:58:00Z"), 100, 100, 300, 0.1, 0.5),
+                    MetricPoint.newPoint("svc_02", null, null, Instant.parse("2026-02-27T04:58:00Z"), 1, 100, 300, 0.1, 3.0),
+                    MetricPoint.newPoint("svc_03", null, null, Instant.parse("2026-02-27T04:58:00Z"), 1, 100, 900, 0.1, 0.1)
+                )
+            );
+        givenAlerts(List.of(), List.of());
+
+        alertEvaluationService.evaluateAt(evaluatedAt);
+
+        assertThat(capturedAlerts())
+            .extracting(Alert::getTargetId, Alert::getAlertType)
+            .containsExactly(
+                tuple("svc_02", AlertType.SERVICE_5XX_RATE_HIGH),
+                tuple("svc_03", AlertType.SERVICE_P95_LATENCY_HIGH)
+            );
+        then(metricPointRepository).should(times(1)).findServiceAxisByWindow(any(), eq(evaluatedAt));
+        then(alertRepository).should(times(1)).findActiveByTypes(any());
+        then(managedServiceRepository).should(never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("활성 알림 인덱스가 적재되면 평가 중 알림 테이블을 조회하지 않고 저장 결과로 상태를 이어간다")
+    void shouldEvaluateFromActiveAlertIndexWithoutAlertQueries() {
+        Alert activeAlert = Alert.restore(
+            "alt_open",
+            AlertType.SERVICE_5XX_RATE_HIGH,
+            "svc_01",
+            AlertState.OPEN,
+            Instant.parse("2026-02-27T05:50:00Z"),
+            null,
+            "{\"transition\":\"OPEN\"}"
+        );
+        givenAlerts(List.of(activeAlert), List.of());
+        activeAlertIndex.warmUp(Instant.parse("2026-02-27T06:00:00Z"));
+        given(alertRepository.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(managedServiceRepository.findAll()).willReturn(List.of(managedService("svc_01")));
+
+        // 1차: 정상화되어 활성 알림을 해제한다.
+        Instant firstEvaluatedAt = Instant.parse("2026-02-27T06:00:00Z");
+        given(metricPointRepository.findServiceAxisByWindow(any(), eq(firstEvaluatedAt)))
+            .willReturn(List.of(
+                MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T05:59:00Z"), 100, 80, 300, 0.2, 0.5)
+            ));
+        alertEvaluationService.evaluateAt(firstEvaluatedAt);
+
+        // 2차: 5분 뒤 재초과는 인덱스에 남은 해제 시각 기준 cooldown으로 억제한다.
+        Instant secondEvaluatedAt = Instant.parse("2026-02-27T06:05:00Z");
+        given(metricPointRepository.findServiceAxisByWindow(any(), eq(secondEvaluatedAt)))
+            .willReturn(List.of(
+                MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T06:04:00Z"), 100, 80, 300, 0.2, 3.5)
+            ));
+        alertEvaluationService.evaluateAt(secondEvaluatedAt);
+
+        assertThat(capturedAlerts()).singleElement().satisfies(alert -> {
+            assertThat(alert.getId()).isEqualTo("alt_open");
+            assertThat(alert.getState()).isEqualTo(AlertState.RESOLVED);
+        });
+        assertThat(activeAlertIndex.newBatch().findActive("svc_01", AlertType.SERVICE_5XX_RATE_HIGH)).isEmpty();
+        // 인덱스 적재 시 1회 외에는 알림 조회가 없어야 한다.
+        then(alertRepository).should(times(1)).findActiveByTypes(any());
+        then(alertRepository).should(times(1)).findResolvedSince(any(), any());
+    }
+
+    @Test
+    @DisplayName("환경별 규칙이 있으면 그 환경 서비스는 기본 규칙 대신 환경 규칙으로 평가한다")
+    void shouldApplyEnvironmentRulesInsteadOfDefaults() {
+        AlertRuleProperties ruleProperties = new AlertRuleProperties();
+        AlertRuleProperties.RuleSpec devRule = AlertRuleProperties.RuleSpec.of(
+            AlertType.SERVICE_5XX_RATE_HIGH,
+            AlertRuleMetric.STATUS_5XX_RATE,
+            10.0
+        );
+        devRule.setWindow(Duration.ofMinutes(2));
+        ruleProperties.getEnvironments().put(ServiceEnvironment.DEV, List.of(devRule));
+        alertEvaluationService = newService(ruleProperties);
+
+        Instant evaluatedAt = Instant.parse("2026-02-27T07:00:00Z");
+        given(managedServiceRepository.findAll())
+            .willReturn(List.of(managedService("svc_prod"), managedService("svc_dev", ServiceEnvironment.DEV)));
+        given(metricPointRepository.findServiceAxisByWindow(any(), eq(evaluatedAt)))
+            .willReturn(
+                List.of(
+                    MetricPoint.newPoint("svc_prod", null, null, Instant.parse("2026-02-27T06:59:00Z"), 1, 100, 900, 0.1, 3.5),
+                    // 2분 규칙 구간 밖의 급증은 DEV 규칙 판정에 포함하지 않는다.
+                    MetricPoint.newPoint("svc_dev", null, null, Instant.parse("2026-02-27T06:56:00Z"), 1, 100, 900, 0.1, 40.0),
+                    MetricPoint.newPoint("svc_dev", null, null, Instant.parse("2026-02-27T06:59:00Z"), 1, 100, 900, 0.1, 3.5)
+                )
+            );
+        givenAlerts(List.of(), List.of());
+
+        alertEvaluationService.evaluateAt(evaluatedAt);
+
+        assertThat(capturedAlerts())
+            .extracting(Alert::getTargetId, Alert::getAlertType)
+            .containsExactly(
+                tuple("svc_prod", AlertType.SERVICE_5XX_RATE_HIGH),
+                tuple("svc_prod", AlertType.SERVICE_P95_LATENCY_HIGH)
+            );
+    }
+
+    @Test
+    @DisplayName("주기 평가와 스트리밍 전이가 같은 서비스를 동시에 전이해도 OPEN 알림은 하나만 생성한다")
+    void shouldSerializeSweepAndStreamingTransitionsForSameService() throws Exception {
+        givenAlerts(List.of(), List.of());
+        activeAlertIndex.warmUp(Instant.parse("2026-02-27T08:00:00Z"));
+        Instant evaluatedAt = Instant.parse("2026-02-27T08:00:00Z");
+        MetricPoint breaching =
+            MetricPoint.newPoint("svc_01", null, null, Instant.parse("2026-02-27T07:59:00Z"), 100, 200, 500, 0.3, 2.5);
+        given(managedServiceRepository.findAll()).willReturn(List.of(managedService("svc_01")));
+        given(managedServiceRepository.findById("svc_01")).willReturn(Optional.of(managedService("svc_01")));
+        given(metricPointRepository.findServiceAxisByWindow(any(), eq(evaluatedAt))).willReturn(List.of(breaching));
+        AlertWindowSums streamWindow = new AlertWindowSums();
+        streamWindow.add(breaching);
+
+        // 주기 평가가 OPEN 저장 직전일 때 스트리밍 전이를 시작하고, 전이 락 대기에 들어갈 때까지 저장을 붙잡는다.
+        AtomicBoolean sweepSaving = new AtomicBoolean(true);
+        CompletableFuture<Void> stream = new CompletableFuture<>();
+        given(alertRepository.saveAll(any())).willAnswer(invocation -> {
+            if (sweepSaving.getAndSet(false)) {
+                CompletableFuture.runAsync(
+                    () -> alertEvaluationService.evaluateWindow("svc_01", streamWindow, evaluatedAt)
+                ).whenComplete((ignored, failure) -> {
+                    if (failure == null) {
+                        stream.complete(null);
+                    } else {
+                        stream.completeExceptionally(failure);
+                    }
+                });
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (!serviceTransitionLocks.hasQueuedThreads("svc_01") && System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
                 }
-                return recentFiveMinutes;
-            });
-        given(alertRepository.findActiveByTargetAndType("svc_01", AlertType.SERVICE_5XX_RATE_HIGH))
-            .willReturn(Optional.empty());
-        given(alertRepository.findActiveByTargetAndType("svc_01", AlertType.SERVICE_P95_LATENCY_HIGH))
-            .willReturn(Optional.empty());
+            }
+            return invocation.getArgument(0);
+        });
 
         alertEvaluationService.evaluateAt(evaluatedAt);
+        stream.get(5, TimeUnit.SECONDS);
+
+        List<Alert> opened = allSavedAlerts().stream()
+            .filter(alert -> alert.getAlertType() == AlertType.SERVICE_5XX_RATE_HIGH)
+            .filter(alert -> alert.getState() == AlertState.OPEN)
+            .toList();
+        assertThat(opened).hasSize(1);
+        assertThat(activeAlertIndex.newBatch().findActive("svc_01", AlertType.SERVICE_5XX_RATE_HIGH)).isPresent();
+    }
 
-        then(managedServiceRepository).should(never()).save(any(ManagedService.class));
-        then(alertRepository).should(never()).save(any(Alert.class));
+    private void givenAlerts(List<Alert> activeAlerts, List<Alert> recentlyResolvedAlerts) {
+        given(alertRepository.findActiveByTypes(any())).willReturn(activeAlerts);
+        given(alertRepository.findResolvedSince(any(), any())).willReturn(recentlyResolvedAlerts);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Alert> capturedAlerts() {
+        ArgumentCaptor<List<Alert>> alertCaptor = ArgumentCaptor.forClass(List.class);
+        then(alertRepository).should().saveAll(alertCaptor.capture());
+        return alertCaptor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Alert> allSavedAlerts() {
+        ArgumentCaptor<List<Alert>> alertCaptor = ArgumentCaptor.forClass(List.class);
+        then(alertRepository).should(atLeastOnce()).saveAll(alertCaptor.capture());
+        return alertCaptor.getAllValues().stream().flatMap(List::stream).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ManagedService> capturedServices() {
+        ArgumentCaptor<List<ManagedService>> serviceCaptor = ArgumentCaptor.forClass(List.class);
+        then(managedServiceRepository).should().saveAll(serviceCaptor.capture());
+        return serviceCaptor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ManagedService> allSavedServices() {
+        ArgumentCaptor<List<ManagedService>> serviceCaptor = ArgumentCaptor.forClass(List.class);
+        then(managedServiceRepository).should(atLeastOnce()).saveAll(serviceCaptor.capture());
+        return serviceCaptor.getAllValues().stream().flatMap(List::stream).toList();
     }
 
     private ManagedService managedService(String serviceId) {
+        return managedService(serviceId, ServiceEnvironment.PROD);
+    }
+
+    private ManagedService managedService(String serviceId, ServiceEnvironment environment) {
         return ManagedService.restore(
             serviceId,
             "payment-api",
             "https://payment.internal",
-            ServiceEnvironment.PROD,
+            environment,
             ServiceStatus.ACTIVE,
             Instant.parse("2026-02-27T00:00:00Z"),
             Instant.parse("2026-02-27T00:00:00Z")
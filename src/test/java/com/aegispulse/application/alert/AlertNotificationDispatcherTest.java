@@ -0,0 +1,149 @@
+package com.aegispulse.application.alert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.aegispulse.domain.alert.model.AlertNotification;
+import com.aegispulse.domain.alert.model.AlertNotificationStatus;
+import com.aegispulse.domain.alert.model.AlertState;
+import com.aegispulse.domain.alert.model.AlertType;
+import com.aegispulse.domain.alert.repository.AlertNotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AlertNotificationDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-27T02:00:00Z");
+
+    @Mock
+    private AlertNotificationRepository alertNotificationRepository;
+
+    @Test
+    @DisplayName("발송 시각이 된 항목을 채널별로 묶어 한 번씩 보내고 SENT로 기록한다")
+    void shouldSendDueNotificationsInOneBatchPerChannel() {
+        RecordingSender webhook = new RecordingSender("webhook");
+        RecordingSender pager = new RecordingSender("pager");
+        given(alertNotificationRepository.findDue(NOW, 100)).willReturn(List.of(
+            pending("alt_01", "webhook", 0),
+            pending("alt_01", "pager", 0),
+            pending("alt_02", "webhook", 0)
+        ));
+
+        int processed = newDispatcher(List.of(webhook, pager)).dispatchDue(NOW);
+
+        assertThat(processed).isEqualTo(3);
+        assertThat(webhook.batches).singleElement().satisfies(batch -> assertThat(batch).hasSize(2));
+        assertThat(pager.batches).singleElement().satisfies(batch -> assertThat(batch).hasSize(1));
+        assertThat(savedResults()).extracting(AlertNotification::getStatus)
+            .containsOnly(AlertNotificationStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("발송 실패 시 시도 횟수에 따라 두 배씩 늘어난 간격으로 재시도하고, 최대 횟수에 도달하면 DEAD로 남긴다")
+    void shouldBackOffExponentiallyAndGiveUpAfterMaxAttempts() {
+        RecordingSender webhook = new RecordingSender("webhook");
+        webhook.failure = new IllegalStateException("503 Service Unavailable");
+        given(alertNotificationRepository.findDue(NOW, 100)).willReturn(List.of(
+            pending("alt_01", "webhook", 2),
+            pending("alt_02", "webhook", 7)
+        ));
+
+        newDispatcher(List.of(webhook)).dispatchDue(NOW);
+
+        List<AlertNotification> results = savedResults();
+        assertThat(results.get(0).getStatus()).isEqualTo(AlertNotificationStatus.PENDING);
+        assertThat(results.get(0).getAttempts()).isEqualTo(3);
+        assertThat(results.get(0).getNextAttemptAt()).isEqualTo(NOW.plus(Duration.ofSeconds(20)));
+        assertThat(results.get(0).getLastError()).isEqualTo("503 Service Unavailable");
+        assertThat(results.get(1).getStatus()).isEqualTo(AlertNotificationStatus.DEAD);
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 maxBackoff를 넘지 않는다")
+    void shouldCapBackoff() {
+        AlertNotificationDispatcher dispatcher = newDispatcher(List.of());
+
+        assertThat(dispatcher.backoff(0)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(dispatcher.backoff(30)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 발송 완료 항목을 생성 시각 기준으로 삭제한다")
+    void shouldPurgeFinishedNotificationsOlderThanRetention() {
+        given(alertNotificationRepository.deleteFinishedCreatedBefore(NOW.minus(Duration.ofDays(7)))).willReturn(3);
+
+        int deleted = newDispatcher(List.of()).purgeFinished(NOW);
+
+        assertThat(deleted).isEqualTo(3);
+        then(alertNotificationRepository).should().deleteFinishedCreatedBefore(NOW.minus(Duration.ofDays(7)));
+    }
+
+    private AlertNotificationDispatcher newDispatcher(List<AlertNotificationSender> senders) {
+        return new AlertNotificationDispatcher(
+            alertNotificationRepository,
+            new AlertNotificationProperties(),
+            senders,
+            new SimpleMeterRegistry()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AlertNotification> savedResults() {
+        ArgumentCaptor<List<AlertNotification>> captor = ArgumentCaptor.forClass(List.class);
+        then(alertNotificationRepository).should().saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private AlertNotification pending(String alertId, String channel, int attempts) {
+        return AlertNotification.restore(
+            "ntf_" + alertId + "_" + channel,
+            alertId,
+            channel,
+            AlertType.SERVICE_5XX_RATE_HIGH,
+            "svc_01",
+            AlertState.OPEN,
+            "{}",
+            AlertNotificationStatus.PENDING,
+            attempts,
+            NOW,
+            NOW,
+            null,
+            null
+        );
+    }
+
+    private static final class RecordingSender implements AlertNotificationSender {
+
+        private final String channel;
+        private final List<List<AlertNotification>> batches = new ArrayList<>();
+        private RuntimeException failure;
+
+        private RecordingSender(String channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public String channel() {
+            return channel;
+        }
+
+        @Override
+        public void send(List<AlertNotification> notifications) {
+            batches.add(notifications);
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.aegispulse.application.alert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.aegispulse.domain.alert.model.Alert;
+import com.aegispulse.domain.alert.model.AlertNotification;
+import com.aegispulse.domain.alert.model.AlertNotificationStatus;
+import com.aegispulse.domain.alert.model.AlertType;
+import com.aegispulse.domain.alert.repository.AlertNotificationRepository;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AlertNotificationOutboxTest {
+
+    @Mock
+    private AlertNotificationRepository alertNotificationRepository;
+
+    @Test
+    @DisplayName("저장된 알림 전이마다 등록된 채널별 PENDING 항목을 기록한다")
+    void shouldEnqueueOneNotificationPerChannel() {
+        AlertNotificationOutbox outbox = new AlertNotificationOutbox(
+            alertNotificationRepository,
+            List.of(sender("webhook"), sender("pager"))
+        );
+
+        outbox.enqueue(List.of(alert("alt_01")));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AlertNotification>> captor = ArgumentCaptor.forClass(List.class);
+        then(alertNotificationRepository).should().saveAll(captor.capture());
+        assertThat(captor.getValue())
+            .extracting(AlertNotification::getAlertId, AlertNotification::getChannel, AlertNotification::getStatus)
+            .containsExactly(
+                tuple("alt_01", "webhook", AlertNotificationStatus.PENDING),
+                tuple("alt_01", "pager", AlertNotificationStatus.PENDING)
+            );
+    }
+
+    @Test
+    @DisplayName("등록된 채널이 없으면 outbox에 기록하지 않는다")
+    void shouldSkipWhenNoChannelRegistered() {
+        new AlertNotificationOutbox(alertNotificationRepository, List.of()).enqueue(List.of(alert("alt_01")));
+
+        then(alertNotificationRepository).should(never()).saveAll(anyList());
+    }
+
+    private Alert alert(String id) {
+        return Alert.newOpenAlert(
+            id,
+            AlertType.SERVICE_5XX_RATE_HIGH,
+            "svc_01",
+            Instant.parse("2026-02-27T02:00:00Z"),
+            "{}"
+        );
+    }
+
+    private AlertNotificationSender sender(String channel) {
+        return new AlertNotificationSender() {
+            @Override
+            public String channel() {
+                return channel;
+            }
+
+            @Override
+            public void send(List<AlertNotification> notifications) {
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.aegispulse.application.alert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AlertPayloadWriterTest {
+
+    private final AlertPayloadWriter alertPayloadWriter = new AlertPayloadWriter(new ObjectMapper());
+
+    @Test
+    @DisplayName("규칙 payload는 기존 필드 순서와 형식 그대로 직렬화한다")
+    void shouldWriteRulePayloadInDeclaredFieldOrder() {
+        String json = alertPayloadWriter.write(new AlertPayloadWriter.RulePayload(
+            "svc_01",
+            "SERVICE_5XX_RATE_HIGH",
+            "5m",
+            2.0,
+            3.5,
+            "OPEN",
+            10,
+            "2026-02-27T02:00:00Z"
+        ));
+
+        assertThat(json).isEqualTo(
+            "{\"serviceId\":\"svc_01\",\"alertType\":\"SERVICE_5XX_RATE_HIGH\",\"window\":\"5m\",\"threshold\":2.0,"
+                + "\"observedValue\":3.5,\"transition\":\"OPEN\",\"cooldownMinutes\":10,\"evaluatedAt\":\"2026-02-27T02:00:00Z\"}"
+        );
+    }
+
+    @Test
+    @DisplayName("격리 해제 payload는 관측값을 null로 기록한다")
+    void shouldWriteNullObservationsForIsolationRelease() {
+        String json = alertPayloadWriter.write(new AlertPayloadWriter.IsolationPayload(
+            "svc_01",
+            "SERVICE_ISOLATION_MODE",
+            "5m",
+            "RESOLVED",
+            5.0,
+            1.0,
+            200.0,
+            10,
+            null,
+            null,
+            "2026-02-27T02:00:00Z"
+        ));
+
+        assertThat(json)
+            .startsWith("{\"serviceId\":\"svc_01\",\"alertType\":\"SERVICE_ISOLATION_MODE\",\"window\":\"5m\"")
+            .contains("\"observedValue\":null,\"estimatedRequestCount\":null");
+    }
+}
@@ -0,0 +1,73 @@
+package com.aegispulse.application.alert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.aegispulse.domain.alert.model.AlertRule;
+import com.aegispulse.domain.alert.model.AlertRuleComparator;
+import com.aegispulse.domain.alert.model.AlertRuleMetric;
+import com.aegispulse.domain.alert.model.AlertType;
+import com.aegispulse.domain.metric.model.MetricPoint;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AlertRulePlanTest {
+
+    private static final Instant EVALUATED_AT = Instant.parse("2026-02-27T01:00:00Z");
+
+    @Test
+    @DisplayName("규칙마다 자기 구간과 최소 요청 수로 위반 여부를 판정한다")
+    void shouldEvaluateEachRuleWithItsOwnWindowAndMinimumTraffic() {
+        AlertRulePlan plan = AlertRulePlan.compile(List.of(
+            rule(AlertType.SERVICE_5XX_RATE_HIGH, AlertRuleMetric.STATUS_5XX_RATE, AlertRuleComparator.GREATER_THAN, 2.0, 1, 0),
+            rule(AlertType.SERVICE_P95_LATENCY_HIGH, AlertRuleMetric.LATENCY_P95, AlertRuleComparator.GREATER_THAN, 800, 5, 100_000)
+        ));
+        AlertWindowSums window = new AlertWindowSums();
+        window.add(point("2026-02-27T00:57:00Z", 0.5, 1_200));
+        window.add(point("2026-02-27T00:59:00Z", 3.0, 1_200));
+        long endMinute = AlertWindowSums.endMinuteOf(EVALUATED_AT);
+
+        // 5xx 규칙은 최근 1분(3.0%)만 보고 위반, p95 규칙은 구간 요청 수(12,000건)가 최소치에 못 미쳐 판정하지 않는다.
+        assertThat(plan.observe(0, window, endMinute, null)).isEqualTo(3.0);
+        assertThat(plan.isEvaluable(1, window, endMinute)).isFalse();
+        assertThat(plan.breachSignature(window, endMinute, null)).isEqualTo(0b01L);
+    }
+
+    @Test
+    @DisplayName("같은 알림 타입을 두 번 정의하거나 10분을 넘는 구간은 컴파일하지 않는다")
+    void shouldRejectDuplicateTypesAndOversizedWindows() {
+        AlertRule rule = rule(AlertType.SERVICE_5XX_RATE_HIGH, AlertRuleMetric.STATUS_5XX_RATE, AlertRuleComparator.GREATER_THAN, 2.0, 5, 0);
+
+        assertThatThrownBy(() -> AlertRulePlan.compile(List.of(rule, rule)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AlertRulePlan.compile(List.of(
+            rule(AlertType.SERVICE_5XX_RATE_HIGH, AlertRuleMetric.STATUS_5XX_RATE, AlertRuleComparator.GREATER_THAN, 2.0, 15, 0)
+        ))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AlertRule rule(
+        AlertType alertType,
+        AlertRuleMetric metric,
+        AlertRuleComparator comparator,
+        double threshold,
+        int windowMinutes,
+        double minRequestCount
+    ) {
+        return AlertRule.of(
+            alertType,
+            metric,
+            comparator,
+            threshold,
+            Duration.ofMinutes(windowMinutes),
+            Duration.ofMinutes(10),
+            minRequestCount
+        );
+    }
+
+    private MetricPoint point(String windowStart, double status5xxRate, double latencyP95) {
+        return MetricPoint.newPoint("svc_01", null, null, Instant.parse(windowStart), 100, 50, latencyP95, 0.1, status5xxRate);
+    }
+}
@@ -0,0 +1,181 @@
+package com.aegispulse.application.alert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.aegispulse.application.alert.command.ErrorCounterItem;
+import com.aegispulse.application.alert.command.RecordErrorCountersCommand;
+import com.aegispulse.application.alert.result.RecordErrorCountersResult;
+import com.aegispulse.application.service.KnownServiceCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IsolationFastTripServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-27T01:00:25Z");
+
+    @Mock
+    private AlertEvaluationService alertEvaluationService;
+
+    @Mock
+    private KnownServiceCache knownServiceCache;
+
+    private IsolationFastTripService isolationFastTripService;
+
+    @BeforeEach
+    void setUp() {
+        AlertEvaluationProperties properties = new AlertEvaluationProperties();
+        properties.getFastTrip().setEnabled(true);
+        isolationFastTripService = new IsolationFastTripService(
+            alertEvaluationService,
+            knownServiceCache,
+            properties,
+            new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    @DisplayName("30초 구간 합계가 발동 조건을 넘으면 즉시 격리하고, 조건이 유지되는 동안 다시 시도하지 않는다")
+    void shouldTripOnceWhenWindowSumsBreachIsolationCondition() {
+        given(knownServiceCache.exists("svc_01")).willReturn(true);
+        given(alertEvaluationService.isolateFastTrip(
+            eq("svc_01"),
+            doubleThat(rate -> Math.abs(rate - 8.0) < 0.001),
+            eq(250.0),
+            eq(Duration.ofSeconds(30)),
+            eq(NOW)
+        )).willReturn(true);
+
+        // 첫 두 버킷(요청 150건)은 최소 요청 수에 못 미쳐 발동하지 않는다.
+        RecordErrorCountersResult first = isolationFastTripService.record(command(
+            counter("2026-02-27T01:00:00Z", 50, 4),
+            counter("2026-02-27T01:00:10Z", 100, 8)
+        ), NOW);
+        RecordErrorCountersResult second = isolationFastTripService.record(command(
+            counter("2026-02-27T01:00:20Z", 100, 8)
+        ), NOW);
+        RecordErrorCountersResult third = isolationFastTripService.record(command(
+            counter("2026-02-27T01:00:20Z", 10, 1)
+        ), NOW);
+
+        assertThat(first.getIsolatedServiceIds()).isEmpty();
+        assertThat(second.getIsolatedServiceIds()).containsExactly("svc_01");
+        assertThat(third.getAcceptedCount()).isEqualTo(1);
+        assertThat(third.getIsolatedServiceIds()).isEmpty();
+        then(alertEvaluationService).should(times(1))
+            .isolateFastTrip(anyString(), anyDouble(), anyDouble(), any(), any());
+    }
+
+    @Test
+    @DisplayName("판정 구간을 벗어난 지연 카운터는 반영하지 않는다")
+    void shouldIgnoreCountersOlderThanWindow() {
+        given(knownServiceCache.exists("svc_01")).willReturn(true);
+
+        RecordErrorCountersResult result = isolationFastTripService.record(command(
+            counter("2026-02-27T00:59:50Z", 1_000, 900)
+        ), NOW);
+
+        assertThat(result.getAcceptedCount()).isZero();
+        then(alertEvaluationService).should(never())
+            .isolateFastTrip(anyString(), anyDouble(), anyDouble(), any(), any());
+    }
+
+    @Test
+    @DisplayName("허용 오차를 넘는 미래 카운터는 반영하지 않아 이후 실제 카운터로 계속 판정한다")
+    void shouldRejectFutureCountersBeyondSkew() {
+        given(knownServiceCache.exists("svc_01")).willReturn(true);
+        given(alertEvaluationService.isolateFastTrip(eq("svc_01"), anyDouble(), anyDouble(), any(), eq(NOW)))
+            .willReturn(true);
+
+        RecordErrorCountersResult future = isolationFastTripService.record(command(
+            counter("2026-02-27T02:00:00Z", 10, 0)
+        ), NOW);
+        RecordErrorCountersResult current = isolationFastTripService.record(command(
+            counter("2026-02-27T01:00:20Z", 300, 30)
+        ), NOW);
+
+        assertThat(future.getAcceptedCount()).isZero();
+        assertThat(current.getAcceptedCount()).isEqualTo(1);
+        assertThat(current.getIsolatedServiceIds()).containsExactly("svc_01");
+    }
+
+    @Test
+    @DisplayName("격리 발동이 실패하면 같은 위반 구간의 다음 카운터에서 다시 시도한다")
+    void shouldRetryTripWhenIsolationFails() {
+        given(knownServiceCache.exists("svc_01")).willReturn(true);
+        given(alertEvaluationService.isolateFastTrip(eq("svc_01"), anyDouble(), anyDouble(), any(), eq(NOW)))
+            .willThrow(new IllegalStateException("db down"))
+            .willReturn(true);
+
+        RecordErrorCountersResult failed = isolationFastTripService.record(command(
+            counter("2026-02-27T01:00:10Z", 300, 30)
+        ), NOW);
+        RecordErrorCountersResult retried = isolationFastTripService.record(command(
+            counter("2026-02-27T01:00:20Z", 10, 1)
+        ), NOW);
+
+        assertThat(failed.getIsolatedServiceIds()).isEmpty();
+        assertThat(retried.getIsolatedServiceIds()).containsExactly("svc_01");
+        then(alertEvaluationService).should(times(2))
+            .isolateFastTrip(anyString(), anyDouble(), anyDouble(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 10초 버킷 카운터는 합산해 비율을 계산한다")
+    void shouldSumCountersInSameBucket() {
+        IsolationFastTripService.CounterRing ring = new IsolationFastTripService.CounterRing(3);
+        ring.add(100, 150, 3);
+        ring.add(100, 50, 9);
+
+        assertThat(ring.requestCount(100)).isEqualTo(200.0);
+        assertThat(ring.status5xxRate(100)).isCloseTo(6.0, within(0.001));
+        assertThat(ring.checkTrip(100)).isTrue();
+        assertThat(ring.checkTrip(100)).isFalse();
+    }
+
+    @Test
+    @DisplayName("카운터가 끊기면 지난 버킷은 현재 시각 기준 구간에서 빠지고, 새 위반은 다시 발동한다")
+    void shouldAgeOutStaleBucketsByCurrentTime() {
+        IsolationFastTripService.CounterRing ring = new IsolationFastTripService.CounterRing(3);
+        ring.add(100, 300, 30);
+        assertThat(ring.checkTrip(100)).isTrue();
+
+        assertThat(ring.requestCount(102)).isEqualTo(300.0);
+        assertThat(ring.requestCount(103)).isZero();
+        assertThat(ring.status5xxRate(103)).isZero();
+
+        ring.add(110, 300, 30);
+        assertThat(ring.checkTrip(110)).isTrue();
+    }
+
+    private RecordErrorCountersCommand command(ErrorCounterItem... counters) {
+        return RecordErrorCountersCommand.builder().counters(List.of(counters)).build();
+    }
+
+    private ErrorCounterItem counter(String windowStart, long requestCount, long status5xxCount) {
+        return ErrorCounterItem.builder()
+            .serviceId("svc_01")
+            .windowStart(Instant.parse(windowStart))
+            .requestCount(requestCount)
+            .status5xxCount(status5xxCount)
+            .build();
+    }
+}
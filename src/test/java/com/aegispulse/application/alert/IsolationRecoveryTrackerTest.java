@@ -0,0 +1,83 @@
+package com.aegispulse.application.alert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aegispulse.application.metric.ServiceAxisPointsAcceptedEvent;
+import com.aegispulse.domain.metric.model.MetricPoint;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IsolationRecoveryTrackerTest {
+
+    private static final Instant ISOLATED_AT = Instant.parse("2026-02-27T04:00:00Z");
+
+    private final IsolationRecoveryTracker tracker = new IsolationRecoveryTracker();
+
+    @Test
+    @DisplayName("격리 이후 연속 10분이 모두 정상이면 해제 가능하고, 중간 비정상 분이 있으면 다시 센다")
+    void shouldRequireTenConsecutiveHealthyMinutes() {
+        tracker.track("svc_01");
+        tracker.onServiceAxisPointsAccepted(new ServiceAxisPointsAcceptedEvent(healthyMinutes(0, 9)));
+        long endMinute = endMinuteAfter(10);
+
+        assertThat(tracker.isRecoveryReady("svc_01", endMinute)).isFalse();
+
+        tracker.onServiceAxisPointsAccepted(new ServiceAxisPointsAcceptedEvent(List.of(point(9, 0.2))));
+        assertThat(tracker.isRecoveryReady("svc_01", endMinute)).isTrue();
+
+        // 재전송으로 과거 분이 비정상으로 바뀌면 최신 분부터 다시 센다.
+        tracker.onServiceAxisPointsAccepted(new ServiceAxisPointsAcceptedEvent(List.of(point(4, 2.0))));
+        assertThat(tracker.isRecoveryReady("svc_01", endMinute)).isFalse();
+    }
+
+    @Test
+    @DisplayName("추적하지 않던 격리 서비스는 복구 구간 포인트로 채우고, 공백이 있으면 해제하지 않는다")
+    void shouldSeedFromRecoveryWindowPointsAndRejectGaps() {
+        List<MetricPoint> withGap = new ArrayList<>(healthyMinutes(0, 5));
+        withGap.addAll(healthyMinutes(6, 11));
+
+        tracker.reconcile("svc_gap", withGap, ISOLATED_AT);
+        tracker.reconcile("svc_ok", healthyMinutes(1, 11), ISOLATED_AT);
+
+        assertThat(tracker.isRecoveryReady("svc_gap", endMinuteAfter(11))).isFalse();
+        assertThat(tracker.isRecoveryReady("svc_ok", endMinuteAfter(11))).isTrue();
+        // 최신 포인트가 평가 시각 직전 분이 아니면(수집 지연) 해제하지 않는다.
+        assertThat(tracker.isRecoveryReady("svc_ok", endMinuteAfter(13))).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 추적 중이어도 주기 평가 포인트로 놓친 분을 보정하고, 격리 이전 분 포인트는 쓰지 않는다")
+    void shouldReconcileMissedMinutesFromSweepPoints() {
+        tracker.track("svc_01");
+        // 다른 인스턴스로 수집되어 이벤트를 받지 못한 분이 섞여 있다.
+        tracker.onServiceAxisPointsAccepted(new ServiceAxisPointsAcceptedEvent(healthyMinutes(0, 4)));
+        long endMinute = endMinuteAfter(10);
+        assertThat(tracker.isRecoveryReady("svc_01", endMinute)).isFalse();
+
+        tracker.reconcile("svc_01", healthyMinutes(0, 10), ISOLATED_AT);
+        assertThat(tracker.isRecoveryReady("svc_01", endMinute)).isTrue();
+
+        IsolationRecoveryTracker restarted = new IsolationRecoveryTracker();
+        restarted.reconcile("svc_01", healthyMinutes(0, 10), ISOLATED_AT.plusSeconds(60));
+        assertThat(restarted.isRecoveryReady("svc_01", endMinute)).isFalse();
+    }
+
+    private List<MetricPoint> healthyMinutes(int fromMinute, int toMinuteExclusive) {
+        List<MetricPoint> points = new ArrayList<>();
+        for (int minute = fromMinute; minute < toMinuteExclusive; minute++) {
+            points.add(point(minute, 0.2));
+        }
+        return points;
+    }
+
+    private long endMinuteAfter(int minutes) {
+        return AlertWindowSums.endMinuteOf(ISOLATED_AT.plusSeconds(60L * minutes));
+    }
+
+    private MetricPoint point(int minute, double status5xxRate) {
+        return MetricPoint.newPoint("svc_01", null, null, ISOLATED_AT.plusSeconds(60L * minute), 100, 50, 200, 0.1, status5xxRate);
+    }
+}
@@ -0,0 +1,118 @@
+package com.aegispulse.application.alert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+
+import com.aegispulse.domain.service.model.ManagedService;
+import com.aegispulse.domain.service.model.ServiceEnvironment;
+import com.aegispulse.domain.service.model.ServiceStatus;
+import com.aegispulse.domain.service.repository.ManagedServiceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedAlertEvaluatorTest {
+
+    private static final Instant EVALUATED_AT = Instant.parse("2026-02-27T02:00:00Z");
+
+    @Mock
+    private AlertEvaluationService alertEvaluationService;
+
+    @Mock
+    private ManagedServiceRepository managedServiceRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ShardedAlertEvaluator evaluator;
+
+    @BeforeEach
+    void setUp() {
+        AlertEvaluationProperties properties = new AlertEvaluationProperties();
+        properties.setMode(AlertEvaluationProperties.Mode.SHARDED);
+        properties.setShardSize(2);
+        properties.setParallelism(2);
+        meterRegistry = new SimpleMeterRegistry();
+        evaluator = new ShardedAlertEvaluator(alertEvaluationService, managedServiceRepository, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("서비스를 shard 크기로 나눠 shard마다 평가하고 동시 실행 수를 parallelism 이하로 제한한다")
+    void shouldEvaluateEachShardWithinParallelismCap() {
+        given(managedServiceRepository.findAll()).willReturn(List.of(
+            managedService("svc_01"),
+            managedService("svc_02"),
+            managedService("svc_03"),
+            managedService("svc_04"),
+            managedService("svc_05")
+        ));
+        Set<String> evaluatedServiceIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        willAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            List<ManagedService> shard = invocation.getArgument(0);
+            shard.forEach(service -> evaluatedServiceIds.add(service.getId()));
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return null;
+        }).given(alertEvaluationService).evaluateShard(any(), eq(EVALUATED_AT));
+
+        evaluator.evaluateAt(EVALUATED_AT);
+
+        then(alertEvaluationService).should(times(3)).evaluateShard(any(), eq(EVALUATED_AT));
+        assertThat(evaluatedServiceIds).containsExactlyInAnyOrder("svc_01", "svc_02", "svc_03", "svc_04", "svc_05");
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        assertThat(meterRegistry.get("aegispulse.alerts.evaluation.shard.duration").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("aegispulse.alerts.evaluation.sweep.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 shard가 실패해도 나머지 shard 평가를 계속한다")
+    void shouldContinueWhenOneShardFails() {
+        given(managedServiceRepository.findAll()).willReturn(List.of(
+            managedService("svc_01"),
+            managedService("svc_02"),
+            managedService("svc_03")
+        ));
+        Set<String> evaluatedServiceIds = ConcurrentHashMap.newKeySet();
+        willAnswer(invocation -> {
+            List<ManagedService> shard = invocation.getArgument(0);
+            if (shard.getFirst().getId().equals("svc_01")) {
+                throw new IllegalStateException("shard failure");
+            }
+            shard.forEach(service -> evaluatedServiceIds.add(service.getId()));
+            return null;
+        }).given(alertEvaluationService).evaluateShard(any(), eq(EVALUATED_AT));
+
+        evaluator.evaluateAt(EVALUATED_AT);
+
+        assertThat(evaluatedServiceIds).containsExactly("svc_03");
+        assertThat(meterRegistry.get("aegispulse.alerts.evaluation.shard.failed").counter().count()).isEqualTo(1);
+    }
+
+    private ManagedService managedService(String serviceId) {
+        return ManagedService.restore(
+            serviceId,
+            "payment-api",
+            "https://payment.internal",
+            ServiceEnvironment.PROD,
+            ServiceStatus.ACTIVE,
+            Instant.parse("2026-02-27T00:00:00Z"),
+            Instant.parse("2026-02-27T00:00:00Z")
+        );
+    }
+}
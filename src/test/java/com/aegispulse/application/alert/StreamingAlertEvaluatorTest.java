@@ -0,0 +1,91 @@
+package com.aegispulse.application.alert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.aegispulse.application.metric.ServiceAxisPointsAcceptedEvent;
+import com.aegispulse.domain.alert.model.AlertRuleMetric;
+import com.aegispulse.domain.metric.model.MetricPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingAlertEvaluatorTest {
+
+    @Mock
+    private AlertEvaluationService alertEvaluationService;
+
+    private StreamingAlertEvaluator evaluator;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = new StreamingAlertEvaluator(
+            alertEvaluationService,
+            new AlertRulePlanRegistry(new AlertRuleProperties()),
+            new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    @DisplayName("정상 구간 포인트만 들어오면 전이를 요청하지 않는다")
+    void shouldNotSubmitTransitionWhileHealthy() {
+        evaluator.onServiceAxisPointsAccepted(new ServiceAxisPointsAcceptedEvent(List.of(
+            point("2026-02-27T01:00:00Z", 100, 0.5, 300),
+            point("2026-02-27T01:01:00Z", 100, 0.4, 310)
+        )));
+        evaluator.shutdown();
+
+        then(alertEvaluationService).should(never()).evaluateWindow(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("5xx 비율이 임계치를 넘는 순간 한 번만 전이를 요청하고, 위반 상태가 유지되면 다시 요청하지 않는다")
+    void shouldSubmitTransitionOnlyWhenBreachStateChanges() {
+        evaluator.accept(point("2026-02-27T01:00:00Z", 100, 0.5, 300));
+        evaluator.accept(point("2026-02-27T01:01:00Z", 100, 4.5, 300));
+        evaluator.accept(point("2026-02-27T01:02:00Z", 100, 4.0, 300));
+        evaluator.shutdown();
+
+        ArgumentCaptor<AlertWindowSums> windowCaptor = ArgumentCaptor.forClass(AlertWindowSums.class);
+        then(alertEvaluationService).should(times(1)).evaluateWindow(eq("svc_01"), windowCaptor.capture(), any());
+        AlertWindowSums window = windowCaptor.getValue();
+        long fromMinute = window.headMinute() + 1 - 5;
+        // 전이 시점(01:01) 복사본이므로 이후 포인트(01:02)는 포함하지 않는다. (0.5×100 + 4.5×100) / 200 = 2.5
+        assertThat(window.value(AlertRuleMetric.STATUS_5XX_RATE, fromMinute, null)).isEqualTo(2.5);
+        assertThat(window.requestCount(fromMinute)).isEqualTo(12_000);
+    }
+
+    @Test
+    @DisplayName("급증 포인트가 5분 규칙 구간에서 빠지면 정상화 전이를 요청한다")
+    void shouldSubmitRecoveryWhenSpikeSlidesOutOfWindow() {
+        evaluator.accept(point("2026-02-27T01:00:00Z", 100, 9.0, 300));
+        evaluator.accept(point("2026-02-27T01:05:00Z", 100, 0.1, 300));
+        evaluator.shutdown();
+
+        ArgumentCaptor<AlertWindowSums> windowCaptor = ArgumentCaptor.forClass(AlertWindowSums.class);
+        then(alertEvaluationService).should(times(2)).evaluateWindow(eq("svc_01"), windowCaptor.capture(), any());
+        assertThat(observed5xxRate(windowCaptor.getAllValues().getFirst())).isEqualTo(9.0);
+        assertThat(observed5xxRate(windowCaptor.getAllValues().getLast())).isCloseTo(0.1, within(1e-9));
+    }
+
+    private double observed5xxRate(AlertWindowSums window) {
+        return window.value(AlertRuleMetric.STATUS_5XX_RATE, window.headMinute() + 1 - 5, null);
+    }
+
+    private MetricPoint point(String windowStart, double rps, double status5xxRate, double latencyP95) {
+        return MetricPoint.newPoint("svc_01", null, null, Instant.parse(windowStart), rps, 50, latencyP95, 0.1, status5xxRate);
+    }
+}
@@ -0,0 +1,27 @@
+package com.aegispulse.application.consumer.key;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ApiKeyFormatTest {
+
+    @Test
+    @DisplayName("발급한 원문에서 키 ID를 다시 읽어낸다")
+    void shouldRoundTripKeyId() {
+        String keyId = ApiKeyFormat.newKeyId();
+
+        String plainKey = ApiKeyFormat.compose(keyId, "c2VjcmV0LXZhbHVl_-x");
+
+        assertThat(plainKey).startsWith("ak_").doesNotContain("key_");
+        assertThat(ApiKeyFormat.keyIdOf(plainKey)).contains(keyId);
+    }
+
+    @Test
+    @DisplayName("키 ID가 없는 이전 형식 원문은 빈 결과를 반환한다")
+    void shouldReturnEmptyForLegacyKeys() {
+        assertThat(ApiKeyFormat.keyIdOf("ak_Q2hhbmdlTWVQbGVhc2VDaGFuZ2VNZVBs")).isEmpty();
+        assertThat(ApiKeyFormat.keyIdOf("ak_0123456789ABCDEF0123456789abcdef_secret")).isEmpty();
+    }
+}
@@ -0,0 +1,132 @@
+package com.aegispulse.application.consumer.key;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.aegispulse.api.common.exception.AegisPulseException;
+import com.aegispulse.api.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ApiKeyHashingExecutorTest {
+
+    private final BlockingHasher hasher = new BlockingHasher();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ApiKeyHashingExecutor apiKeyHashingExecutor;
+
+    @AfterEach
+    void tearDown() {
+        hasher.release.countDown();
+        if (apiKeyHashingExecutor != null) {
+            apiKeyHashingExecutor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("실행 스레드와 대기열이 모두 차면 대기 없이 TOO_MANY_REQUESTS로 거절한다")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        apiKeyHashingExecutor = new ApiKeyHashingExecutor(hasher, properties(1, 1, 4), meterRegistry);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(
+            () -> apiKeyHashingExecutor.matches("csm_01", "ak_key", "hash")
+        );
+        assertThat(hasher.started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(
+            () -> apiKeyHashingExecutor.matches("csm_02", "ak_key", "hash")
+        );
+        awaitQueueDepth(1);
+
+        assertThatThrownBy(() -> apiKeyHashingExecutor.matches("csm_03", "ak_key", "hash"))
+            .isInstanceOf(AegisPulseException.class)
+            .satisfies(exception -> assertThat(((AegisPulseException) exception).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_REQUESTS));
+
+        hasher.release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("aegispulse.consumers.key-hashing.rejected").tag("reason", "queue-full").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("consumer별 동시 한도를 넘으면 다른 consumer 작업과 무관하게 거절한다")
+    void shouldRejectWhenConsumerLimitIsExceeded() throws Exception {
+        apiKeyHashingExecutor = new ApiKeyHashingExecutor(hasher, properties(2, 4, 1), meterRegistry);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(
+            () -> apiKeyHashingExecutor.matches("csm_01", "ak_key", "hash")
+        );
+        assertThat(hasher.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> apiKeyHashingExecutor.matches("csm_01", "ak_key", "hash"))
+            .isInstanceOf(AegisPulseException.class)
+            .satisfies(exception -> assertThat(((AegisPulseException) exception).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_REQUESTS));
+
+        hasher.release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(apiKeyHashingExecutor.hash("csm_01", "ak_key")).isEqualTo("hashed:ak_key");
+    }
+
+    @Test
+    @DisplayName("결과 대기가 wait-timeout을 넘으면 대기를 멈추고 TOO_MANY_REQUESTS로 거절한다")
+    void shouldRejectWhenWaitTimeoutElapses() {
+        ApiKeyHashingProperties properties = properties(1, 4, 4);
+        properties.setWaitTimeout(Duration.ofMillis(50));
+        apiKeyHashingExecutor = new ApiKeyHashingExecutor(hasher, properties, meterRegistry);
+
+        assertThatThrownBy(() -> apiKeyHashingExecutor.matches("csm_01", "ak_key", "hash"))
+            .isInstanceOf(AegisPulseException.class)
+            .satisfies(exception -> assertThat(((AegisPulseException) exception).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_REQUESTS));
+        assertThat(meterRegistry.get("aegispulse.consumers.key-hashing.rejected").tag("reason", "timeout").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    private void awaitQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (apiKeyHashingExecutor.queueDepth() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(apiKeyHashingExecutor.queueDepth()).isEqualTo(expected);
+    }
+
+    private ApiKeyHashingProperties properties(int threads, int queueCapacity, int perConsumerConcurrency) {
+        ApiKeyHashingProperties properties = new ApiKeyHashingProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setPerConsumerConcurrency(perConsumerConcurrency);
+        return properties;
+    }
+
+    /**
+     * release 전까지 검증 작업을 붙잡아 두는 해시기.
+     */
+    private static final class BlockingHasher implements ApiKeyHasher {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String hash(String plainKey) {
+            return "hashed:" + plainKey;
+        }
+
+        @Override
+        public boolean matches(String plainKey, String hashedKey) {
+            started.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.aegispulse.application.consumer.key;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aegispulse.application.consumer.key.ConsumerAuthorizationSnapshotCache.AuthorizationSnapshot;
+import com.aegispulse.application.service.ServiceStatusChangedEvent;
+import com.aegispulse.domain.consumer.model.ConsumerType;
+import com.aegispulse.domain.policy.model.TemplateType;
+import com.aegispulse.domain.service.model.ServiceStatus;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConsumerAuthorizationSnapshotCacheTest {
+
+    @Test
+    @DisplayName("서비스 무효화는 해당 서비스 스냅샷만, consumer 무효화는 해당 consumer 스냅샷만 비운다")
+    void shouldInvalidateOnlyMatchingSnapshots() {
+        ConsumerAuthorizationSnapshotCache cache = new ConsumerAuthorizationSnapshotCache(
+            new ConsumerAuthorizationSnapshotProperties()
+        );
+        long generation = cache.generation();
+        cache.put(snapshot("svc_01", "rte_01", "csm_01"), generation);
+        cache.put(snapshot("svc_01", null, "csm_02"), generation);
+        cache.put(snapshot("svc_02", "rte_02", "csm_01"), generation);
+
+        cache.invalidateServiceAfterCommit("svc_01");
+
+        assertThat(cache.find("svc_01", "rte_01", "csm_01")).isEmpty();
+        assertThat(cache.find("svc_01", null, "csm_02")).isEmpty();
+        assertThat(cache.find("svc_02", "rte_02", "csm_01")).isPresent();
+
+        cache.invalidateConsumerAfterCommit("csm_01");
+
+        assertThat(cache.find("svc_02", "rte_02", "csm_01")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무효화 이전 세대로 읽은 스냅샷은 기록하지 않는다")
+    void shouldRejectSnapshotLoadedBeforeInvalidation() {
+        ConsumerAuthorizationSnapshotCache cache = new ConsumerAuthorizationSnapshotCache(
+            new ConsumerAuthorizationSnapshotProperties()
+        );
+        long generation = cache.generation();
+
+        // 템플릿 변경 트랜잭션과 겹친 조회는 변경 이전 템플릿을 들고 있을 수 있다.
+        cache.invalidateServiceAfterCommit("svc_01");
+        cache.put(snapshot("svc_01", "rte_01", "csm_01"), generation);
+
+        assertThat(cache.find("svc_01", "rte_01", "csm_01")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서비스 상태 변경 이벤트를 받으면 해당 서비스 스냅샷만 비운다")
+    void shouldInvalidateServiceOnStatusChangedEvent() {
+        ConsumerAuthorizationSnapshotCache cache = new ConsumerAuthorizationSnapshotCache(
+            new ConsumerAuthorizationSnapshotProperties()
+        );
+        long generation = cache.generation();
+        cache.put(snapshot("svc_01", "rte_01", "csm_01"), generation);
+        cache.put(snapshot("svc_02", "rte_02", "csm_01"), generation);
+
+        cache.onServiceStatusChanged(new ServiceStatusChangedEvent(List.of("svc_01")));
+
+        assertThat(cache.find("svc_01", "rte_01", "csm_01")).isEmpty();
+        assertThat(cache.find("svc_02", "rte_02", "csm_01")).isPresent();
+    }
+
+    private AuthorizationSnapshot snapshot(String serviceId, String routeId, String consumerId) {
+        return new AuthorizationSnapshot(
+            serviceId,
+            routeId,
+            consumerId,
+            ServiceStatus.ACTIVE,
+            TemplateType.PARTNER,
+            ConsumerType.PARTNER,
+            List.of()
+        );
+    }
+}
@@ -2,9 +2,13 @@ package com.aegispulse.application.consumer.key;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 import com.aegispulse.api.common.exception.AegisPulseException;
 import com.aegispulse.api.common.exception.ErrorCode;
@@ -29,6 +33,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -49,7 +54,16 @@ class ConsumerKeyAuthenticationServiceTest {
     private ManagedServiceRepository managedServiceRepository;
 
     @Mock
-    private ApiKeyHasher apiKeyHasher;
+    private ApiKeyHashingExecutor apiKeyHashingExecutor;
+
+    @Mock
+    private ConsumerKeyVerificationCache consumerKeyVerificationCache;
+
+    @Mock
+    private ConsumerKeyFailureGuard consumerKeyFailureGuard;
+
+    @Mock
+    private ConsumerAuthorizationSnapshotCache consumerAuthorizationSnapshotCache;
 
     @InjectMocks
     private ConsumerKeyAuthenticationService consumerKeyAuthenticationService;
@@ -67,7 +81,7 @@ class ConsumerKeyAuthenticationServiceTest {
             .willReturn(Optional.of(partnerConsumer("csm_partner")));
         given(managedConsumerKeyRepository.findAllByConsumerIdAndStatus("csm_partner", ConsumerKeyStatus.ACTIVE))
             .willReturn(List.of(activeKey));
-        given(apiKeyHasher.matches("ak_active_key", "hash_active_01")).willReturn(true);
+        given(apiKeyHashingExecutor.matches("csm_partner", "ak_active_key", "hash_active_01")).willReturn(true);
 
         AuthenticateConsumerKeyResult result = consumerKeyAuthenticationService.authenticate(command);
 
@@ -75,6 +89,162 @@ class ConsumerKeyAuthenticationServiceTest {
         assertThat(result.getConsumerId()).isEqualTo("csm_partner");
         assertThat(result.getKeyId()).isEqualTo("key_active_01");
         then(managedConsumerKeyRepository).should(never()).findAllByConsumerIdAndStatus("csm_partner", ConsumerKeyStatus.REVOKED);
+        then(consumerKeyVerificationCache).should().put(
+            "csm_partner",
+            "ak_active_key",
+            new ConsumerKeyVerificationCache.VerifiedKey("key_active_01", ConsumerKeyStatus.ACTIVE),
+            0L
+        );
+        then(consumerAuthorizationSnapshotCache).should().put(
+            new ConsumerAuthorizationSnapshotCache.AuthorizationSnapshot(
+                "svc_01",
+                "rte_01",
+                "csm_partner",
+                ServiceStatus.ACTIVE,
+                TemplateType.PARTNER,
+                ConsumerType.PARTNER,
+                List.of(activeKey)
+            ),
+            0L
+        );
+    }
+
+    @Test
+    @DisplayName("인증 스냅샷과 검증 캐시가 모두 적중하면 저장소 조회와 해시 매칭 없이 판정한다")
+    void shouldUseCachedVerificationWithoutHashing() {
+        AuthenticateConsumerKeyCommand command = validCommand("ak_active_key");
+
+        given(consumerAuthorizationSnapshotCache.find("svc_01", "rte_01", "csm_partner"))
+            .willReturn(Optional.of(new ConsumerAuthorizationSnapshotCache.AuthorizationSnapshot(
+                "svc_01",
+                "rte_01",
+                "csm_partner",
+                ServiceStatus.ACTIVE,
+                TemplateType.PARTNER,
+                ConsumerType.PARTNER,
+                List.of(activeKey("key_active_01", "hash_active_01"))
+            )));
+        given(consumerKeyVerificationCache.find("csm_partner", "ak_active_key"))
+            .willReturn(Optional.of(new ConsumerKeyVerificationCache.VerifiedKey("key_active_01", ConsumerKeyStatus.ACTIVE)));
+
+        AuthenticateConsumerKeyResult result = consumerKeyAuthenticationService.authenticate(command);
+
+        assertThat(result.getKeyId()).isEqualTo("key_active_01");
+        then(managedServiceRepository).shouldHaveNoInteractions();
+        then(policyBindingRepository).shouldHaveNoInteractions();
+        then(managedConsumerRepository).shouldHaveNoInteractions();
+        then(managedConsumerKeyRepository).shouldHaveNoInteractions();
+        then(apiKeyHashingExecutor).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("검증 캐시 세대는 인증 스냅샷을 읽기 전에 읽어, 그 사이 폐기된 키가 ACTIVE로 기록되지 않게 한다")
+    void shouldReadVerificationGenerationBeforeSnapshot() {
+        AuthenticateConsumerKeyCommand command = validCommand("ak_active_key");
+        ManagedConsumerKey activeKey = activeKey("key_active_01", "hash_active_01");
+        given(consumerKeyVerificationCache.generation("csm_partner")).willReturn(4L);
+        given(consumerAuthorizationSnapshotCache.find("svc_01", "rte_01", "csm_partner"))
+            .willReturn(Optional.of(new ConsumerAuthorizationSnapshotCache.AuthorizationSnapshot(
+                "svc_01",
+                "rte_01",
+                "csm_partner",
+                ServiceStatus.ACTIVE,
+                TemplateType.PARTNER,
+                ConsumerType.PARTNER,
+                List.of(activeKey)
+            )));
+        given(apiKeyHashingExecutor.matches("csm_partner", "ak_active_key", "hash_active_01")).willReturn(true);
+
+        consumerKeyAuthenticationService.authenticate(command);
+
+        InOrder order = inOrder(consumerKeyVerificationCache, consumerAuthorizationSnapshotCache);
+        order.verify(consumerKeyVerificationCache).generation("csm_partner");
+        order.verify(consumerAuthorizationSnapshotCache).find("svc_01", "rte_01", "csm_partner");
+        then(consumerKeyVerificationCache).should().put(
+            "csm_partner",
+            "ak_active_key",
+            new ConsumerKeyVerificationCache.VerifiedKey("key_active_01", ConsumerKeyStatus.ACTIVE),
+            4L
+        );
+    }
+
+    @Test
+    @DisplayName("인증 스냅샷이 격리 상태면 저장소 조회 없이 SERVICE_ISOLATED 예외를 던진다")
+    void shouldThrowServiceIsolatedFromCachedSnapshot() {
+        AuthenticateConsumerKeyCommand command = validCommand("ak_active_key");
+
+        given(consumerAuthorizationSnapshotCache.find("svc_01", "rte_01", "csm_partner"))
+            .willReturn(Optional.of(new ConsumerAuthorizationSnapshotCache.AuthorizationSnapshot(
+                "svc_01",
+                "rte_01",
+                "csm_partner",
+                ServiceStatus.ISOLATED,
+                TemplateType.PARTNER,
+                ConsumerType.PARTNER,
+                List.of()
+            )));
+
+        assertThatThrownBy(() -> consumerKeyAuthenticationService.authenticate(command))
+            .isInstanceOf(AegisPulseException.class)
+            .satisfies(exception -> {
+                AegisPulseException aegisPulseException = (AegisPulseException) exception;
+                assertThat(aegisPulseException.getErrorCode()).isEqualTo(ErrorCode.SERVICE_ISOLATED);
+            });
+        then(managedServiceRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("키 ID가 포함된 키는 ACTIVE 키 중 해당 키 하나만 골라 해시를 한 번 검증한다")
+    void shouldAuthenticatePrefixedKeyWithSingleLookup() {
+        String apiKey = "ak_0123456789abcdef0123456789abcdef_secret";
+        AuthenticateConsumerKeyCommand command = validCommand(apiKey);
+        ManagedConsumerKey activeKey = activeKey("key_0123456789abcdef0123456789abcdef", "hash_active_01");
+
+        given(managedServiceRepository.findById("svc_01")).willReturn(Optional.of(activeService("svc_01")));
+        given(policyBindingRepository.findLatest("svc_01", "rte_01"))
+            .willReturn(Optional.of(partnerBinding("svc_01", "rte_01")));
+        given(managedConsumerRepository.findById("csm_partner"))
+            .willReturn(Optional.of(partnerConsumer("csm_partner")));
+        given(managedConsumerKeyRepository.findAllByConsumerIdAndStatus("csm_partner", ConsumerKeyStatus.ACTIVE))
+            .willReturn(List.of(activeKey("key_other_01", "hash_other_01"), activeKey));
+        given(apiKeyHashingExecutor.matches("csm_partner", apiKey, "hash_active_01")).willReturn(true);
+
+        AuthenticateConsumerKeyResult result = consumerKeyAuthenticationService.authenticate(command);
+
+        assertThat(result.getKeyId()).isEqualTo("key_0123456789abcdef0123456789abcdef");
+        then(apiKeyHashingExecutor).should(times(1)).matches(any(), any(), any());
+        then(managedConsumerKeyRepository).should(never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("키 ID가 다른 consumer의 키면 해시 검증 없이 UNAUTHORIZED 예외를 던진다")
+    void shouldThrowUnauthorizedWhenPrefixedKeyBelongsToAnotherConsumer() {
+        String apiKey = "ak_0123456789abcdef0123456789abcdef_secret";
+        AuthenticateConsumerKeyCommand command = validCommand(apiKey);
+        ManagedConsumerKey otherConsumerKey = ManagedConsumerKey.restore(
+            "key_0123456789abcdef0123456789abcdef",
+            "csm_other",
+            "hash_other_01",
+            ConsumerKeyStatus.ACTIVE,
+            Instant.parse("2026-02-20T12:00:00Z"),
+            null
+        );
+
+        given(managedServiceRepository.findById("svc_01")).willReturn(Optional.of(activeService("svc_01")));
+        given(policyBindingRepository.findLatest("svc_01", "rte_01"))
+            .willReturn(Optional.of(partnerBinding("svc_01", "rte_01")));
+        given(managedConsumerRepository.findById("csm_partner"))
+            .willReturn(Optional.of(partnerConsumer("csm_partner")));
+        given(managedConsumerKeyRepository.findById("key_0123456789abcdef0123456789abcdef"))
+            .willReturn(Optional.of(otherConsumerKey));
+
+        assertThatThrownBy(() -> consumerKeyAuthenticationService.authenticate(command))
+            .isInstanceOf(AegisPulseException.class)
+            .satisfies(exception -> {
+                AegisPulseException aegisPulseException = (AegisPulseException) exception;
+                assertThat(aegisPulseException.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED);
+            });
+        then(apiKeyHashingExecutor).shouldHaveNoInteractions();
     }
 
     @Test
@@ -128,8 +298,8 @@ class ConsumerKeyAuthenticationServiceTest {
             .willReturn(List.of(activeKey));
         given(managedConsumerKeyRepository.findAllByConsumerIdAndStatus("csm_partner", ConsumerKeyStatus.REVOKED))
             .willReturn(List.of(revokedKey));
-        given(apiKeyHasher.matches("ak_revoked_key", "hash_active_01")).willReturn(false);
-        given(apiKeyHasher.matches("ak_revoked_key", "hash_revoked_01")).willReturn(true);
+        given(apiKeyHashingExecutor.matches("csm_partner", "ak_revoked_key", "hash_active_01")).willReturn(false);
+        given(apiKeyHashingExecutor.matches("csm_partner", "ak_revoked_key", "hash_revoked_01")).willReturn(true);
 
         assertThatThrownBy(() -> consumerKeyAuthenticationService.authenticate(command))
             .isInstanceOf(AegisPulseException.class)
@@ -155,8 +325,29 @@ class ConsumerKeyAuthenticationServiceTest {
             .willReturn(List.of(activeKey));
         given(managedConsumerKeyRepository.findAllByConsumerIdAndStatus("csm_partner", ConsumerKeyStatus.REVOKED))
             .willReturn(List.of(revokedKey));
-        given(apiKeyHasher.matches("ak_unknown_key", "hash_active_01")).willReturn(false);
-        given(apiKeyHasher.matches("ak_unknown_key", "hash_revoked_01")).willReturn(false);
+        given(apiKeyHashingExecutor.matches("csm_partner", "ak_unknown_key", "hash_active_01")).willReturn(false);
+        given(apiKeyHashingExecutor.matches("csm_partner", "ak_unknown_key", "hash_revoked_01")).willReturn(false);
+
+        assertThatThrownBy(() -> consumerKeyAuthenticationService.authenticate(command))
+            .isInstanceOf(AegisPulseException.class)
+            .satisfies(exception -> {
+                AegisPulseException aegisPulseException = (AegisPulseException) exception;
+                assertThat(aegisPulseException.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED);
+            });
+        then(consumerKeyFailureGuard).should().recordFailure("csm_partner", "10.0.0.7", "ak_unknown_key");
+    }
+
+    @Test
+    @DisplayName("최근 실패한 키는 키 조회와 해시 매칭 없이 UNAUTHORIZED 예외를 던진다")
+    void shouldRejectRecentlyFailedKeyWithoutHashing() {
+        AuthenticateConsumerKeyCommand command = validCommand("ak_unknown_key");
+
+        given(managedServiceRepository.findById("svc_01")).willReturn(Optional.of(activeService("svc_01")));
+        given(policyBindingRepository.findLatest("svc_01", "rte_01"))
+            .willReturn(Optional.of(partnerBinding("svc_01", "rte_01")));
+        given(managedConsumerRepository.findById("csm_partner"))
+            .willReturn(Optional.of(partnerConsumer("csm_partner")));
+        given(consumerKeyFailureGuard.isRecentlyRejected("csm_partner", "ak_unknown_key")).willReturn(true);
 
         assertThatThrownBy(() -> consumerKeyAuthenticationService.authenticate(command))
             .isInstanceOf(AegisPulseException.class)
@@ -164,6 +355,31 @@ class ConsumerKeyAuthenticationServiceTest {
                 AegisPulseException aegisPulseException = (AegisPulseException) exception;
                 assertThat(aegisPulseException.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED);
             });
+        then(managedConsumerKeyRepository).should(never()).findAllByConsumerIdAndStatus("csm_partner", ConsumerKeyStatus.REVOKED);
+        then(apiKeyHashingExecutor).shouldHaveNoInteractions();
+        then(consumerKeyFailureGuard).should().recordFailure("csm_partner", "10.0.0.7", "ak_unknown_key");
+    }
+
+    @Test
+    @DisplayName("실패 차단 버킷이 비었으면 해시 매칭 전에 TOO_MANY_REQUESTS 예외를 전파한다")
+    void shouldThrowTooManyRequestsBeforeHashingWhenFailureBucketIsEmpty() {
+        AuthenticateConsumerKeyCommand command = validCommand("ak_unknown_key");
+
+        given(managedServiceRepository.findById("svc_01")).willReturn(Optional.of(activeService("svc_01")));
+        given(policyBindingRepository.findLatest("svc_01", "rte_01"))
+            .willReturn(Optional.of(partnerBinding("svc_01", "rte_01")));
+        given(managedConsumerRepository.findById("csm_partner"))
+            .willReturn(Optional.of(partnerConsumer("csm_partner")));
+        willThrow(new AegisPulseException(ErrorCode.TOO_MANY_REQUESTS, "API Key 인증 실패가 너무 많습니다."))
+            .given(consumerKeyFailureGuard).checkAdmission("csm_partner", "10.0.0.7");
+
+        assertThatThrownBy(() -> consumerKeyAuthenticationService.authenticate(command))
+            .isInstanceOf(AegisPulseException.class)
+            .satisfies(exception -> {
+                AegisPulseException aegisPulseException = (AegisPulseException) exception;
+                assertThat(aegisPulseException.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+            });
+        then(apiKeyHashingExecutor).shouldHaveNoInteractions();
     }
 
     @Test
@@ -208,6 +424,7 @@ class ConsumerKeyAuthenticationServiceTest {
             .routeId("rte_01")
             .consumerId("csm_partner")
             .apiKey(apiKey)
+            .clientIp("10.0.0.7")
             .build();
     }
 
@@ -0,0 +1,51 @@
+package com.aegispulse.application.consumer.key;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.aegispulse.api.common.exception.AegisPulseException;
+import com.aegispulse.api.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConsumerKeyFailureGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("실패한 키 지문은 같은 consumer에 대해서만 최근 실패로 판정한다")
+    void shouldRememberFailedKeyPerConsumer() {
+        ConsumerKeyFailureGuard guard = new ConsumerKeyFailureGuard(new ConsumerKeyFailureGuardProperties(), meterRegistry);
+
+        guard.recordFailure("csm_01", "10.0.0.7", "ak_garbage");
+
+        assertThat(guard.isRecentlyRejected("csm_01", "ak_garbage")).isTrue();
+        assertThat(guard.isRecentlyRejected("csm_02", "ak_garbage")).isFalse();
+        assertThat(guard.isRecentlyRejected("csm_01", "ak_other")).isFalse();
+        assertThat(meterRegistry.get("aegispulse.consumers.key-failure.negative-cache.hits").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("클라이언트 IP 버킷을 다 쓰면 다른 consumer 요청도 해시 전에 거절한다")
+    void shouldThrottleClientIpAfterBucketIsExhausted() {
+        ConsumerKeyFailureGuardProperties properties = new ConsumerKeyFailureGuardProperties();
+        properties.getClientIp().setCapacity(2);
+        properties.getClientIp().setRefillPerMinute(0);
+        ConsumerKeyFailureGuard guard = new ConsumerKeyFailureGuard(properties, meterRegistry);
+
+        guard.recordFailure("csm_01", "10.0.0.7", "ak_garbage_1");
+        assertThatCode(() -> guard.checkAdmission("csm_02", "10.0.0.7")).doesNotThrowAnyException();
+        guard.recordFailure("csm_02", "10.0.0.7", "ak_garbage_2");
+
+        assertThatThrownBy(() -> guard.checkAdmission("csm_03", "10.0.0.7"))
+            .isInstanceOf(AegisPulseException.class)
+            .satisfies(exception -> assertThat(((AegisPulseException) exception).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_REQUESTS));
+        assertThatCode(() -> guard.checkAdmission("csm_03", "10.0.0.8")).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("aegispulse.consumers.key-failure.throttled").tag("scope", "client-ip").counter().count())
+            .isEqualTo(1.0);
+    }
+}
@@ -3,8 +3,10 @@ package com.aegispulse.application.consumer.key;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
@@ -24,9 +26,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
 class ConsumerKeyIssueServiceTest {
@@ -41,7 +46,16 @@ class ConsumerKeyIssueServiceTest {
     private ApiKeyGenerator apiKeyGenerator;
 
     @Mock
-    private ApiKeyHasher apiKeyHasher;
+    private ApiKeyHashingExecutor apiKeyHashingExecutor;
+
+    @Mock
+    private ConsumerKeyVerificationCache consumerKeyVerificationCache;
+
+    @Mock
+    private ConsumerAuthorizationSnapshotCache consumerAuthorizationSnapshotCache;
+
+    @Mock
+    private TransactionOperations transactionOperations;
 
     @InjectMocks
     private ConsumerKeyIssueService consumerKeyIssueService;
@@ -88,10 +102,11 @@ class ConsumerKeyIssueServiceTest {
             .willReturn(Optional.of(ManagedConsumer.newConsumer("csm_partner", "partner-client-a", ConsumerType.PARTNER)));
         given(managedConsumerKeyRepository.findAllByConsumerIdAndStatus("csm_partner", ConsumerKeyStatus.ACTIVE))
             .willReturn(List.of());
-        given(apiKeyGenerator.generate()).willReturn("ak_plain_key_once");
-        given(apiKeyHasher.hash("ak_plain_key_once")).willReturn("pbkdf2$120000$salt$hash");
+        given(apiKeyGenerator.generate(anyString())).willReturn("ak_plain_key_once");
+        given(apiKeyHashingExecutor.hash("csm_partner", "ak_plain_key_once")).willReturn("pbkdf2$120000$salt$hash");
         given(managedConsumerKeyRepository.save(any(ManagedConsumerKey.class)))
             .willAnswer(invocation -> invocation.getArgument(0));
+        givenTransactionRuns();
 
         IssueConsumerKeyResult result = consumerKeyIssueService.issue(command);
 
@@ -105,6 +120,32 @@ class ConsumerKeyIssueServiceTest {
         assertThat(saved.getStatus()).isEqualTo(ConsumerKeyStatus.ACTIVE);
         assertThat(saved.getKeyHash()).isEqualTo("pbkdf2$120000$salt$hash");
         assertThat(saved.getRevokedAt()).isNull();
+        // 원문에는 저장된 키 ID가 조회 식별자로 들어간다.
+        then(apiKeyGenerator).should().generate(saved.getId());
+        // 해시는 트랜잭션을 열기 전에 끝난다.
+        InOrder order = inOrder(apiKeyHashingExecutor, transactionOperations);
+        order.verify(apiKeyHashingExecutor).hash("csm_partner", "ak_plain_key_once");
+        order.verify(transactionOperations).execute(any());
+    }
+
+    @Test
+    @DisplayName("해시 실행기가 요청을 거절하면 트랜잭션을 열지 않고 TOO_MANY_REQUESTS를 그대로 던진다")
+    void shouldNotOpenTransactionWhenHashingIsRejected() {
+        IssueConsumerKeyCommand command = IssueConsumerKeyCommand.builder().consumerId("csm_partner").build();
+
+        given(managedConsumerRepository.findById("csm_partner"))
+            .willReturn(Optional.of(ManagedConsumer.newConsumer("csm_partner", "partner-client-a", ConsumerType.PARTNER)));
+        given(apiKeyGenerator.generate(anyString())).willReturn("ak_plain_key_once");
+        given(apiKeyHashingExecutor.hash("csm_partner", "ak_plain_key_once"))
+            .willThrow(new AegisPulseException(ErrorCode.TOO_MANY_REQUESTS, "API Key 검증 요청이 많아 처리할 수 없습니다."));
+
+        assertThatThrownBy(() -> consumerKeyIssueService.issue(command))
+            .isInstanceOf(AegisPulseException.class)
+            .satisfies(exception -> assertThat(((AegisPulseException) exception).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_REQUESTS));
+
+        then(transactionOperations).should(never()).execute(any());
+        then(managedConsumerKeyRepository).should(never()).save(any());
     }
 
     @Test
@@ -119,10 +160,11 @@ class ConsumerKeyIssueServiceTest {
             .willReturn(Optional.of(ManagedConsumer.newConsumer("csm_partner", "partner-client-a", ConsumerType.PARTNER)));
         given(managedConsumerKeyRepository.findAllByConsumerIdAndStatus("csm_partner", ConsumerKeyStatus.ACTIVE))
             .willReturn(List.of(activeOne, activeTwo));
-        given(apiKeyGenerator.generate()).willReturn("ak_reissued_once");
-        given(apiKeyHasher.hash("ak_reissued_once")).willReturn("pbkdf2$new");
+        given(apiKeyGenerator.generate(anyString())).willReturn("ak_reissued_once");
+        given(apiKeyHashingExecutor.hash("csm_partner", "ak_reissued_once")).willReturn("pbkdf2$new");
         given(managedConsumerKeyRepository.save(any(ManagedConsumerKey.class)))
             .willAnswer(invocation -> invocation.getArgument(0));
+        givenTransactionRuns();
 
         IssueConsumerKeyResult result = consumerKeyIssueService.issue(command);
 
@@ -138,6 +180,13 @@ class ConsumerKeyIssueServiceTest {
         assertThat(savedKeys.get(1).getRevokedAt()).isNotNull();
         assertThat(savedKeys.get(2).getStatus()).isEqualTo(ConsumerKeyStatus.ACTIVE);
         assertThat(savedKeys.get(2).getRevokedAt()).isNull();
+        then(consumerKeyVerificationCache).should().invalidateAfterCommit("csm_partner");
+        then(consumerAuthorizationSnapshotCache).should().invalidateConsumerAfterCommit("csm_partner");
         assertThat(savedKeys.get(2).getKeyHash()).isEqualTo("pbkdf2$new");
     }
+
+    private void givenTransactionRuns() {
+        given(transactionOperations.execute(any()))
+            .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
 }
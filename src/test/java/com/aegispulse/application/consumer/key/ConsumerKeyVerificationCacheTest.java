@@ -0,0 +1,50 @@
+package com.aegispulse.application.consumer.key;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aegispulse.domain.consumer.key.model.ConsumerKeyStatus;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConsumerKeyVerificationCacheTest {
+
+    private static final ConsumerKeyVerificationCache.VerifiedKey ACTIVE_KEY =
+        new ConsumerKeyVerificationCache.VerifiedKey("key_01", ConsumerKeyStatus.ACTIVE);
+
+    @Test
+    @DisplayName("같은 consumer/키 조합만 적중하고, 무효화 이전 세대로는 다시 기록하지 않는다")
+    void shouldHitOnlySameConsumerAndRejectStaleGeneration() {
+        ConsumerKeyVerificationCache cache = new ConsumerKeyVerificationCache(new ConsumerKeyCacheProperties());
+        long generation = cache.generation("csm_01");
+        cache.put("csm_01", "ak_secret", ACTIVE_KEY, generation);
+
+        assertThat(cache.find("csm_01", "ak_secret")).contains(ACTIVE_KEY);
+        assertThat(cache.find("csm_02", "ak_secret")).isEmpty();
+
+        // 재발급 트랜잭션과 겹친 인증은 폐기 이전 세대를 들고 있으므로 결과를 남기지 않는다.
+        cache.invalidateAfterCommit("csm_01");
+        cache.put("csm_01", "ak_secret", ACTIVE_KEY, generation);
+
+        assertThat(cache.find("csm_01", "ak_secret")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 항목과 maxEntries를 넘어 밀려난 항목은 적중하지 않는다")
+    void shouldExpireAndEvictEntries() {
+        ConsumerKeyCacheProperties expiring = new ConsumerKeyCacheProperties();
+        expiring.setTtl(Duration.ZERO);
+        ConsumerKeyVerificationCache expiringCache = new ConsumerKeyVerificationCache(expiring);
+        expiringCache.put("csm_01", "ak_secret", ACTIVE_KEY, 0L);
+
+        ConsumerKeyCacheProperties bounded = new ConsumerKeyCacheProperties();
+        bounded.setMaxEntries(1);
+        ConsumerKeyVerificationCache boundedCache = new ConsumerKeyVerificationCache(bounded);
+        boundedCache.put("csm_01", "ak_first", ACTIVE_KEY, 0L);
+        boundedCache.put("csm_01", "ak_second", ACTIVE_KEY, 0L);
+
+        assertThat(expiringCache.find("csm_01", "ak_secret")).isEmpty();
+        assertThat(boundedCache.find("csm_01", "ak_first")).isEmpty();
+        assertThat(boundedCache.find("csm_01", "ak_second")).contains(ACTIVE_KEY);
+    }
+}
@@ -0,0 +1,54 @@
+package com.aegispulse.application.consumer.key;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IndexedExpiringEntriesTest {
+
+    @Test
+    @DisplayName("그룹 무효화는 그 그룹에 색인된 항목만 지우고, 다른 그룹에도 속한 항목은 색인에서 함께 빠진다")
+    void shouldInvalidateOnlyIndexedGroupEntries() {
+        IndexedExpiringEntries<String, String> entries = new IndexedExpiringEntries<>(Duration.ofMinutes(1), 100);
+        entries.put("svc_01:csm_01", "a", List.of("svc_01", "csm_01"));
+        entries.put("svc_01:csm_02", "b", List.of("svc_01", "csm_02"));
+        entries.put("svc_02:csm_01", "c", List.of("svc_02", "csm_01"));
+
+        entries.invalidateGroup("svc_01");
+        assertThat(entries.find("svc_01:csm_01")).isEmpty();
+        assertThat(entries.find("svc_01:csm_02")).isEmpty();
+        assertThat(entries.find("svc_02:csm_01")).contains("c");
+
+        entries.invalidateGroup("csm_01");
+        assertThat(entries.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("기록 토큰으로 되돌릴 때 그 사이 다시 기록된 항목은 남긴다")
+    void shouldRemoveOnlyMatchingWrite() {
+        IndexedExpiringEntries<String, String> entries = new IndexedExpiringEntries<>(Duration.ofMinutes(1), 100);
+        Object first = entries.put("key", "first", List.of("group"));
+        entries.put("key", "second", List.of("group"));
+
+        entries.remove("key", first);
+
+        assertThat(entries.find("key")).contains("second");
+    }
+
+    @Test
+    @DisplayName("maxEntries를 넘으면 가장 오래 기록된 항목부터 밀어낸다")
+    void shouldEvictOldestEntriesBeyondMaxEntries() {
+        IndexedExpiringEntries<String, String> entries = new IndexedExpiringEntries<>(Duration.ofMinutes(1), 2);
+        entries.put("first", "1", List.of("group"));
+        entries.put("second", "2", List.of("group"));
+        entries.put("third", "3", List.of("group"));
+
+        assertThat(entries.size()).isEqualTo(2);
+        assertThat(entries.find("first")).isEmpty();
+        assertThat(entries.find("second")).contains("2");
+        assertThat(entries.find("third")).contains("3");
+    }
+}
@@ -0,0 +1,94 @@
+package com.aegispulse.application.metric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aegispulse.application.metric.result.QueryServiceMetricsResult;
+import com.aegispulse.domain.metric.model.MetricPoint;
+import com.aegispulse.domain.metric.model.MetricQueryView;
+import com.aegispulse.domain.metric.model.MetricRollup;
+import com.aegispulse.domain.metric.model.MetricRollupTier;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MetricAggregationEngineTest {
+
+    private static final Instant WINDOW_START = Instant.parse("2026-02-27T01:00:00Z");
+
+    @Test
+    @DisplayName("서비스/라우트 축이 없으면 consumer 축 전체를 합쳐 서비스 요약으로 사용한다")
+    void shouldFallbackToConsumerAxisWhenServiceAndRouteAxisMissing() {
+        MetricAggregationEngine engine = new MetricAggregationEngine();
+        engine.add(MetricPoint.newPoint("svc_01", null, "csm_a", WINDOW_START, 40, 50, 100, 0.5, 0.1));
+        engine.add(MetricPoint.newPoint("svc_01", null, "csm_b", WINDOW_START, 60, 70, 300, 1.0, 0.6));
+
+        QueryServiceMetricsResult result = engine.toResult("svc_01", "5m", 5, MetricQueryView.FULL);
+
+        assertThat(result.getServiceMetrics().getRps()).isEqualTo(50.0);
+        assertThat(result.getServiceMetrics().getLatencyP95()).isEqualTo((100 * 40 + 300 * 60) / 100.0);
+        assertThat(result.getConsumerMetrics()).extracting(consumer -> consumer.getConsumerId())
+            .containsExactly("csm_a", "csm_b");
+        assertThat(result.getRouteMetrics()).isEmpty();
+        assertThat(result.getTopRoutes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("총 rps가 0이면 단순 평균으로 대체하고, 라우트와 consumer가 동시에 설정된 포인트는 무시한다")
+    void shouldUsePlainAverageWhenRpsIsZeroAndIgnoreMixedAxisPoints() {
+        MetricAggregationEngine engine = new MetricAggregationEngine();
+        engine.add(MetricPoint.newPoint("svc_01", null, null, WINDOW_START, 0, 10, 100, 0, 0));
+        engine.add(MetricPoint.newPoint("svc_01", null, null, WINDOW_START.plusSeconds(60), 0, 30, 300, 0, 0));
+        engine.add(MetricPoint.newPoint("svc_01", "rte_a", "csm_a", WINDOW_START, 999, 999, 999, 9, 9));
+
+        QueryServiceMetricsResult result = engine.toResult("svc_01", "5m", 5, MetricQueryView.FULL);
+
+        assertThat(result.getServiceMetrics().getRps()).isZero();
+        assertThat(result.getServiceMetrics().getLatencyP50()).isEqualTo(20.0);
+        assertThat(result.getServiceMetrics().getLatencyP95()).isEqualTo(200.0);
+        assertThat(result.getRouteMetrics()).isEmpty();
+        assertThat(result.getConsumerMetrics()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("원본 포인트와 같은 포인트로 만든 롤업을 누적하면 같은 결과를 반환한다")
+    void shouldProduceSameResultForPointsAndRollups() {
+        List<MetricPoint> points = List.of(
+            MetricPoint.newPoint("svc_01", null, null, WINDOW_START, 100, 50, 120, 0.5, 0.3),
+            MetricPoint.newPoint("svc_01", null, null, WINDOW_START.plusSeconds(60), 300, 70, 200, 0.1, 0.7),
+            MetricPoint.newPoint("svc_01", "rte_a", null, WINDOW_START, 30, 40, 90, 0.2, 0.1),
+            MetricPoint.newPoint("svc_01", "rte_b", null, WINDOW_START, 80, 45, 95, 0.3, 0.2)
+        );
+        MetricAggregationEngine fromPoints = new MetricAggregationEngine();
+        MetricAggregationEngine fromRollups = new MetricAggregationEngine();
+        for (MetricPoint point : points) {
+            fromPoints.add(point);
+            fromRollups.add(MetricRollup.fromPoint(MetricRollupTier.FIVE_MINUTES, point));
+        }
+
+        QueryServiceMetricsResult expected = fromPoints.toResult("svc_01", "5m", 5, MetricQueryView.FULL);
+        QueryServiceMetricsResult actual = fromRollups.toResult("svc_01", "5m", 5, MetricQueryView.FULL);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(actual.getTopRoutes()).extracting(route -> route.getRouteId()).containsExactly("rte_b", "rte_a");
+    }
+
+    @Test
+    @DisplayName("top-routes 조회는 라우트/consumer별 결과 없이 요청한 K개의 상위 라우트만 반환한다")
+    void shouldReturnOnlyTopRoutesInTopRoutesView() {
+        MetricAggregationEngine engine = new MetricAggregationEngine();
+        engine.add(MetricPoint.newPoint("svc_01", null, null, WINDOW_START, 100, 50, 120, 0.5, 0.3));
+        engine.add(MetricPoint.newPoint("svc_01", "rte_a", null, WINDOW_START, 30, 40, 90, 0.2, 0.1));
+        engine.add(MetricPoint.newPoint("svc_01", "rte_b", null, WINDOW_START, 80, 45, 95, 0.3, 0.2));
+        engine.add(MetricPoint.newPoint("svc_01", "rte_c", null, WINDOW_START, 80, 45, 140, 0.3, 0.9));
+        engine.add(MetricPoint.newPoint("svc_01", null, "csm_a", WINDOW_START, 40, 55, 140, 0.6, 0.2));
+
+        QueryServiceMetricsResult result = engine.toResult("svc_01", "5m", 2, MetricQueryView.TOP_ROUTES);
+
+        assertThat(result.getServiceMetrics().getRps()).isEqualTo(100.0);
+        assertThat(result.getRouteMetrics()).isEmpty();
+        assertThat(result.getConsumerMetrics()).isEmpty();
+        assertThat(result.getTopRoutes()).extracting(route -> route.getRouteId()).containsExactly("rte_c", "rte_b");
+        assertThat(result.getTopRoutes().getFirst().getLatencyP95()).isEqualTo(140.0);
+    }
+}
@@ -0,0 +1,119 @@
+package com.aegispulse.application.metric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+import com.aegispulse.api.common.exception.AegisPulseException;
+import com.aegispulse.api.common.exception.ErrorCode;
+import com.aegispulse.domain.metric.model.MetricPoint;
+import com.aegispulse.domain.metric.repository.MetricPointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MetricIngestionBufferTest {
+
+    @Mock
+    private MetricPointRepository metricPointRepository;
+
+    private MetricIngestionBuffer metricIngestionBuffer;
+
+    @AfterEach
+    void tearDown() {
+        if (metricIngestionBuffer != null) {
+            metricIngestionBuffer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("SYNC 모드에서는 버퍼가 포인트를 받지 않아 호출자가 동기 적재한다")
+    void shouldNotAcceptPointsInSyncMode() {
+        metricIngestionBuffer = new MetricIngestionBuffer(
+            metricPointRepository,
+            properties(MetricIngestionProperties.Mode.SYNC, 10),
+            new SimpleMeterRegistry()
+        );
+        metricIngestionBuffer.start();
+
+        boolean queued = metricIngestionBuffer.tryEnqueue(List.of(point("svc_01")));
+
+        assertThat(queued).isFalse();
+        then(metricPointRepository).should(never()).upsertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("ASYNC 모드에서는 적재 예약 후 writer 스레드가 저장소로 비운다")
+    void shouldDrainQueuedPointsToRepository() {
+        metricIngestionBuffer = new MetricIngestionBuffer(
+            metricPointRepository,
+            properties(MetricIngestionProperties.Mode.ASYNC, 10),
+            new SimpleMeterRegistry()
+        );
+        metricIngestionBuffer.start();
+
+        boolean queued = metricIngestionBuffer.tryEnqueue(List.of(point("svc_01"), point("svc_02")));
+
+        assertThat(queued).isTrue();
+        then(metricPointRepository).should(timeout(2_000).atLeastOnce()).upsertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("REJECT 정책에서 용량이 부족하면 TOO_MANY_REQUESTS 예외를 던지고 종료 시 잔여 포인트를 비운다")
+    void shouldRejectWhenBufferIsFullAndFlushOnStop() throws InterruptedException {
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            writerBlocked.countDown();
+            releaseWriter.await(2, TimeUnit.SECONDS);
+            return null;
+        }).given(metricPointRepository).upsertAll(anyList());
+
+        MetricIngestionProperties properties = properties(MetricIngestionProperties.Mode.ASYNC, 3);
+        properties.setWriterThreads(1);
+        metricIngestionBuffer = new MetricIngestionBuffer(metricPointRepository, properties, new SimpleMeterRegistry());
+        metricIngestionBuffer.start();
+
+        // 첫 배치는 writer가 꺼내 적재 중(블로킹) 상태가 되고, 다음 배치가 링을 가득 채운다.
+        metricIngestionBuffer.tryEnqueue(List.of(point("svc_01")));
+        assertThat(writerBlocked.await(2, TimeUnit.SECONDS)).isTrue();
+        metricIngestionBuffer.tryEnqueue(List.of(point("svc_01"), point("svc_01"), point("svc_01")));
+
+        assertThatThrownBy(() -> metricIngestionBuffer.tryEnqueue(List.of(point("svc_01"))))
+            .isInstanceOf(AegisPulseException.class)
+            .satisfies(exception -> {
+                AegisPulseException aegisPulseException = (AegisPulseException) exception;
+                assertThat(aegisPulseException.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+            });
+
+        releaseWriter.countDown();
+        metricIngestionBuffer.stop();
+
+        assertThat(metricIngestionBuffer.queueDepth()).isZero();
+        assertThat(metricIngestionBuffer.isRunning()).isFalse();
+    }
+
+    private MetricIngestionProperties properties(MetricIngestionProperties.Mode mode, int capacity) {
+        MetricIngestionProperties properties = new MetricIngestionProperties();
+        properties.setMode(mode);
+        properties.setBufferCapacity(capacity);
+        return properties;
+    }
+
+    private MetricPoint point(String serviceId) {
+        return MetricPoint.newPoint(serviceId, null, null, Instant.parse("2026-02-27T01:00:00Z"), 10, 20, 30, 0.1, 0.05);
+    }
+}
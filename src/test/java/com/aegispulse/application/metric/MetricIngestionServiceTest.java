@@ -5,25 +5,29 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 import com.aegispulse.api.common.exception.AegisPulseException;
 import com.aegispulse.api.common.exception.ErrorCode;
 import com.aegispulse.application.metric.command.IngestMetricPointsCommand;
 import com.aegispulse.application.metric.command.MetricPointIngestItem;
 import com.aegispulse.application.metric.result.IngestMetricPointsResult;
+import com.aegispulse.application.service.KnownServiceCache;
 import com.aegispulse.domain.metric.model.MetricPoint;
 import com.aegispulse.domain.metric.repository.MetricPointRepository;
 import com.aegispulse.domain.service.repository.ManagedServiceRepository;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
 import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class MetricIngestionServiceTest {
@@ -34,9 +38,28 @@ class MetricIngestionServiceTest {
     @Mock
     private ManagedServiceRepository managedServiceRepository;
 
-    @InjectMocks
+    @Mock
+    private MetricIngestionBuffer metricIngestionBuffer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private MetricIngestionService metricIngestionService;
 
+    @BeforeEach
+    void setUp() {
+        MetricIngestionProperties properties = new MetricIngestionProperties();
+        properties.setStreamChunkSize(2);
+        // 캐시는 실제 구현을 사용해 저장소 조회 횟수를 함께 검증한다.
+        metricIngestionService = new MetricIngestionService(
+            metricPointRepository,
+            new KnownServiceCache(managedServiceRepository),
+            metricIngestionBuffer,
+            properties,
+            eventPublisher
+        );
+    }
+
     @Test
     @DisplayName("routeId와 consumerId를 동시에 전달하면 INVALID_REQUEST 예외를 던진다")
     void shouldThrowInvalidRequestWhenRouteAndConsumerAxisExistTogether() {
@@ -135,4 +158,205 @@ class MetricIngestionServiceTest {
         assertThat(savedPoint.getConsumerId()).isNull();
         assertThat(savedPoint.getWindowStart()).isEqualTo(Instant.parse("2026-02-27T01:02:30Z").truncatedTo(ChronoUnit.MINUTES));
     }
+
+    @Test
+    @DisplayName("받아들인 포인트 중 서비스 축 포인트만 스트리밍 평가 이벤트로 발행한다")
+    void shouldPublishOnlyServiceAxisPoints() {
+        IngestMetricPointsCommand command = IngestMetricPointsCommand.builder()
+            .points(
+                List.of(
+                    MetricPointIngestItem.builder()
+                        .serviceId("svc_01")
+                        .windowStart(Instant.parse("2026-02-27T01:02:00Z"))
+                        .rps(10)
+                        .latencyP50(100)
+                        .latencyP95(230)
+                        .status4xxRate(0.2)
+                        .status5xxRate(0.1)
+                        .build(),
+                    MetricPointIngestItem.builder()
+                        .serviceId("svc_01")
+                        .routeId("rte_01")
+                        .windowStart(Instant.parse("2026-02-27T01:02:00Z"))
+                        .rps(4)
+                        .latencyP50(100)
+                        .latencyP95(230)
+                        .status4xxRate(0.2)
+                        .status5xxRate(0.1)
+                        .build()
+                )
+            )
+            .build();
+        given(managedServiceRepository.existsById("svc_01")).willReturn(true);
+
+        metricIngestionService.ingest(command);
+
+        ArgumentCaptor<ServiceAxisPointsAcceptedEvent> eventCaptor = ArgumentCaptor.forClass(ServiceAxisPointsAcceptedEvent.class);
+        then(eventPublisher).should().publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().points()).singleElement().satisfies(point -> {
+            assertThat(point.getRouteId()).isNull();
+            assertThat(point.getRps()).isEqualTo(10);
+        });
+    }
+
+    @Test
+    @DisplayName("비동기 버퍼가 포인트를 수락하면 동기 upsert 없이 queued 결과를 반환한다")
+    void shouldQueuePointsWhenBufferAcceptsBatch() {
+        IngestMetricPointsCommand command = IngestMetricPointsCommand.builder()
+            .points(
+                List.of(
+                    MetricPointIngestItem.builder()
+                        .serviceId("svc_01")
+                        .windowStart(Instant.parse("2026-02-27T01:02:30Z"))
+                        .rps(10)
+                        .latencyP50(100)
+                        .latencyP95(230)
+                        .status4xxRate(0.2)
+                        .status5xxRate(0.1)
+                        .build()
+                )
+            )
+            .build();
+
+        given(managedServiceRepository.existsById("svc_01")).willReturn(true);
+        given(metricIngestionBuffer.tryEnqueue(org.mockito.ArgumentMatchers.anyList())).willReturn(true);
+
+        IngestMetricPointsResult result = metricIngestionService.ingest(command);
+
+        assertThat(result.isQueued()).isTrue();
+        assertThat(result.getIngestedCount()).isEqualTo(1);
+        then(metricPointRepository).should(never()).upsertAll(org.mockito.ArgumentMatchers.anyList());
+    }
+
+    @Test
+    @DisplayName("같은 serviceId의 포인트가 여러 개여도 존재 여부는 배치당 한 번, 이후 배치에서는 캐시로 확인한다")
+    void shouldValidateEachServiceOncePerBatchAndCacheAcrossBatches() {
+        IngestMetricPointsCommand command = IngestMetricPointsCommand.builder()
+            .points(
+                List.of(
+                    pointItem("svc_01", "rte_01"),
+                    pointItem("svc_01", "rte_02"),
+                    pointItem("svc_01", null),
+                    pointItem("svc_02", null)
+                )
+            )
+            .build();
+
+        given(managedServiceRepository.existsById("svc_01")).willReturn(true);
+        given(managedServiceRepository.existsById("svc_02")).willReturn(true);
+
+        metricIngestionService.ingest(command);
+        metricIngestionService.ingest(command);
+
+        then(managedServiceRepository).should(times(1)).existsById("svc_01");
+        then(managedServiceRepository).should(times(1)).existsById("svc_02");
+        then(metricPointRepository).should(times(2)).upsertAll(org.mockito.ArgumentMatchers.anyList());
+    }
+
+    @Test
+    @DisplayName("같은 분 단위 자연키가 중복되면 마지막 포인트만 적재하고 deduplicatedCount로 보고한다")
+    void shouldCoalesceDuplicateKeysWithLastWriteWins() {
+        MetricPointIngestItem retried = MetricPointIngestItem.builder()
+            .serviceId("svc_01")
+            .routeId("rte_01")
+            .windowStart(Instant.parse("2026-02-27T01:02:59Z"))
+            .rps(42)
+            .latencyP50(100)
+            .latencyP95(230)
+            .status4xxRate(0.2)
+            .status5xxRate(0.1)
+            .build();
+        IngestMetricPointsCommand command = IngestMetricPointsCommand.builder()
+            .points(List.of(pointItem("svc_01", "rte_01"), pointItem("svc_01", null), retried))
+            .build();
+
+        given(managedServiceRepository.existsById("svc_01")).willReturn(true);
+
+        IngestMetricPointsResult result = metricIngestionService.ingest(command);
+
+        assertThat(result.getIngestedCount()).isEqualTo(2);
+        assertThat(result.getDeduplicatedCount()).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MetricPoint>> pointCaptor = ArgumentCaptor.forClass(List.class);
+        then(metricPointRepository).should().upsertAll(pointCaptor.capture());
+        assertThat(pointCaptor.getValue()).hasSize(2);
+        assertThat(pointCaptor.getValue().getFirst().getRouteId()).isEqualTo("rte_01");
+        assertThat(pointCaptor.getValue().getFirst().getRps()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("스트리밍 입력은 청크 크기마다 나누어 upsert하고 전체 건수를 합산한다")
+    void shouldWriteStreamInChunks() {
+        Iterator<MetricPointIngestItem> items = List.of(
+            pointItem("svc_01", "rte_01"),
+            pointItem("svc_01", "rte_02"),
+            pointItem("svc_01", "rte_03"),
+            pointItem("svc_01", "rte_03"),
+            pointItem("svc_01", null)
+        ).iterator();
+        MetricPointIngestSource source = () -> items.hasNext() ? items.next() : null;
+
+        given(managedServiceRepository.existsById("svc_01")).willReturn(true);
+
+        IngestMetricPointsResult result = metricIngestionService.ingestStream(source);
+
+        assertThat(result.getIngestedCount()).isEqualTo(4);
+        assertThat(result.getDeduplicatedCount()).isEqualTo(1);
+        assertThat(result.isQueued()).isFalse();
+        then(metricPointRepository).should(times(3)).upsertAll(org.mockito.ArgumentMatchers.anyList());
+        then(managedServiceRepository).should(times(1)).existsById("svc_01");
+    }
+
+    @Test
+    @DisplayName("스트리밍 입력이 비어 있으면 INVALID_REQUEST 예외를 던진다")
+    void shouldRejectEmptyStream() {
+        assertThatThrownBy(() -> metricIngestionService.ingestStream(() -> null))
+            .isInstanceOf(AegisPulseException.class)
+            .satisfies(exception -> {
+                AegisPulseException aegisPulseException = (AegisPulseException) exception;
+                assertThat(aegisPulseException.getErrorCode()).isEqualTo(ErrorCode.INVALID_REQUEST);
+            });
+    }
+
+    @Test
+    @DisplayName("지연 스케치 바이트가 올바르지 않으면 INVALID_REQUEST 예외를 던진다")
+    void shouldRejectMalformedLatencySketch() {
+        IngestMetricPointsCommand command = IngestMetricPointsCommand.builder()
+            .points(
+                List.of(
+                    MetricPointIngestItem.builder()
+                        .serviceId("svc_01")
+                        .windowStart(Instant.parse("2026-02-27T01:02:30Z"))
+                        .rps(10)
+                        .latencyP50(100)
+                        .latencyP95(230)
+                        .latencySketch(new byte[] {1, 3})
+                        .build()
+                )
+            )
+            .build();
+
+        assertThatThrownBy(() -> metricIngestionService.ingest(command))
+            .isInstanceOf(AegisPulseException.class)
+            .satisfies(exception -> {
+                AegisPulseException aegisPulseException = (AegisPulseException) exception;
+                assertThat(aegisPulseException.getErrorCode()).isEqualTo(ErrorCode.INVALID_REQUEST);
+            });
+
+        then(metricPointRepository).should(never()).upsertAll(org.mockito.ArgumentMatchers.anyList());
+    }
+
+    private MetricPointIngestItem pointItem(String serviceId, String routeId) {
+        return MetricPointIngestItem.builder()
+            .serviceId(serviceId)
+            .routeId(routeId)
+            .windowStart(Instant.parse("2026-02-27T01:02:30Z"))
+            .rps(10)
+            .latencyP50(100)
+            .latencyP95(230)
+            .status4xxRate(0.2)
+            .status5xxRate(0.1)
+            .build();
+    }
 }
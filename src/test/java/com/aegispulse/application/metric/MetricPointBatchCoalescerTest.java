@@ -0,0 +1,64 @@
+package com.aegispulse.application.metric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aegispulse.domain.metric.model.MetricPoint;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MetricPointBatchCoalescerTest {
+
+    private static final Instant WINDOW = Instant.parse("2026-02-27T01:00:00Z");
+
+    @Test
+    @DisplayName("중복이 없으면 입력 목록을 그대로 반환한다")
+    void shouldReturnSameListWhenNoDuplicates() {
+        List<MetricPoint> points = List.of(
+            point("svc_01", "rte_01", null, WINDOW, 1),
+            point("svc_01", null, "csm_01", WINDOW, 2),
+            point("svc_01", null, null, WINDOW.plusSeconds(60), 3)
+        );
+
+        assertThat(MetricPointBatchCoalescer.coalesce(points)).isSameAs(points);
+    }
+
+    @Test
+    @DisplayName("중복 키는 마지막 값으로 덮어쓰고 처음 등장한 순서를 유지한다")
+    void shouldKeepLastValueInFirstSeenOrder() {
+        List<MetricPoint> points = List.of(
+            point("svc_01", "rte_01", null, WINDOW, 1),
+            point("svc_02", null, null, WINDOW, 2),
+            point("svc_01", "rte_01", null, WINDOW, 3),
+            point("svc_01", null, null, WINDOW, 4),
+            point("svc_01", "rte_01", null, WINDOW, 5)
+        );
+
+        List<MetricPoint> coalesced = MetricPointBatchCoalescer.coalesce(points);
+
+        assertThat(coalesced).extracting(MetricPoint::getServiceId).containsExactly("svc_01", "svc_02", "svc_01");
+        assertThat(coalesced).extracting(MetricPoint::getRps).containsExactly(5.0, 2.0, 4.0);
+    }
+
+    @Test
+    @DisplayName("대량 배치에서도 고유 키 수만큼만 남긴다")
+    void shouldCoalesceLargeBatch() {
+        List<MetricPoint> points = new ArrayList<>();
+        for (int round = 0; round < 3; round++) {
+            for (int index = 0; index < 1_000; index++) {
+                points.add(point("svc_" + (index % 7), "rte_" + index, null, WINDOW.plusSeconds(60L * (index % 5)), round));
+            }
+        }
+
+        List<MetricPoint> coalesced = MetricPointBatchCoalescer.coalesce(points);
+
+        assertThat(coalesced).hasSize(1_000);
+        assertThat(coalesced).allSatisfy(point -> assertThat(point.getRps()).isEqualTo(2.0));
+    }
+
+    private MetricPoint point(String serviceId, String routeId, String consumerId, Instant windowStart, double rps) {
+        return MetricPoint.newPoint(serviceId, routeId, consumerId, windowStart, rps, 20, 30, 0.1, 0.05);
+    }
+}
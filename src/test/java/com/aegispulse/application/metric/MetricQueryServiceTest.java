@@ -2,13 +2,19 @@ package com.aegispulse.application.metric;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withinPercentage;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 import com.aegispulse.api.common.exception.AegisPulseException;
 import com.aegispulse.api.common.exception.ErrorCode;
 import com.aegispulse.application.metric.command.QueryServiceMetricsCommand;
 import com.aegispulse.application.metric.result.QueryServiceMetricsResult;
+import com.aegispulse.domain.metric.model.LatencySketchAccumulator;
 import com.aegispulse.domain.metric.model.MetricPoint;
+import com.aegispulse.domain.metric.model.MetricQueryView;
+import com.aegispulse.domain.metric.model.MetricRollup;
+import com.aegispulse.domain.metric.model.MetricRollupTier;
 import com.aegispulse.domain.metric.model.MetricWindow;
 import com.aegispulse.domain.metric.repository.MetricPointRepository;
 import com.aegispulse.domain.service.repository.ManagedServiceRepository;
@@ -30,6 +36,9 @@ class MetricQueryServiceTest {
     @Mock
     private MetricPointRepository metricPointRepository;
 
+    @Mock
+    private MetricRollupQueryPlanner metricRollupQueryPlanner;
+
     @InjectMocks
     private MetricQueryService metricQueryService;
 
@@ -108,4 +117,103 @@ class MetricQueryServiceTest {
         assertThat(result.getServiceMetrics().getRps()).isEqualTo(60.0);
         assertThat(result.getTopRoutes()).hasSize(2);
     }
+
+    @Test
+    @DisplayName("1시간을 넘는 윈도우는 롤업 조각 합계로 원본과 같은 가중 평균을 계산한다")
+    void shouldAggregateLongWindowFromRollups() {
+        String serviceId = "svc_01";
+        given(managedServiceRepository.existsById(serviceId)).willReturn(true);
+        MetricPoint first = MetricPoint.newPoint(serviceId, null, null, Instant.parse("2026-02-27T01:00:00Z"), 100, 50, 120, 0.5, 0.3);
+        MetricPoint second = MetricPoint.newPoint(serviceId, null, null, Instant.parse("2026-02-27T01:01:00Z"), 300, 70, 200, 0.1, 0.7);
+        MetricPoint route = MetricPoint.newPoint(serviceId, "rte_a", null, Instant.parse("2026-02-27T01:01:00Z"), 30, 40, 90, 0.2, 0.1);
+        given(metricRollupQueryPlanner.read(org.mockito.ArgumentMatchers.eq(serviceId), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any()))
+            .willReturn(
+                List.of(
+                    MetricRollup.mergeAll(
+                        List.of(
+                            MetricRollup.fromPoint(MetricRollupTier.ONE_HOUR, first),
+                            MetricRollup.fromPoint(MetricRollupTier.ONE_HOUR, second)
+                        ),
+                        new LatencySketchAccumulator()
+                    ),
+                    MetricRollup.fromPoint(MetricRollupTier.FIVE_MINUTES, route)
+                )
+            );
+
+        QueryServiceMetricsResult result = metricQueryService.queryServiceMetrics(
+            QueryServiceMetricsCommand.builder()
+                .serviceId(serviceId)
+                .window(MetricWindow.LAST_24_HOURS)
+                .build()
+        );
+
+        assertThat(result.getWindow()).isEqualTo("24h");
+        assertThat(result.getServiceMetrics().getRps()).isEqualTo(200.0);
+        assertThat(result.getServiceMetrics().getLatencyP95()).isEqualTo((120 * 100 + 200 * 300) / 400.0);
+        assertThat(result.getRouteMetrics()).singleElement().satisfies(routeMetric ->
+            assertThat(routeMetric.getMetrics().getRps()).isEqualTo(30.0));
+        then(metricPointRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("모든 포인트가 지연 스케치를 가지면 p95를 분 단위 p95 가중 평균 대신 병합 분포에서 계산한다")
+    void shouldComputeLatencyQuantilesFromMergedSketches() {
+        String serviceId = "svc_01";
+        given(managedServiceRepository.existsById(serviceId)).willReturn(true);
+        LatencySketchAccumulator fastMinute = new LatencySketchAccumulator();
+        fastMinute.record(20, 1_000);
+        LatencySketchAccumulator slowMinute = new LatencySketchAccumulator();
+        slowMinute.record(20, 800);
+        slowMinute.record(1_500, 200);
+        given(metricPointRepository.findByServiceIdAndWindow(org.mockito.ArgumentMatchers.eq(serviceId), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any()))
+            .willReturn(
+                List.of(
+                    MetricPoint.newPoint(serviceId, null, null, Instant.parse("2026-02-27T01:00:00Z"), 1_000 / 60.0, 20, 20, 0, 0, fastMinute.toSketch()),
+                    MetricPoint.newPoint(serviceId, null, null, Instant.parse("2026-02-27T01:01:00Z"), 1_000 / 60.0, 20, 1_500, 0, 0, slowMinute.toSketch())
+                )
+            );
+
+        QueryServiceMetricsResult result = metricQueryService.queryServiceMetrics(
+            QueryServiceMetricsCommand.builder()
+                .serviceId(serviceId)
+                .window(MetricWindow.LAST_5_MINUTES)
+                .build()
+        );
+
+        // 분 단위 p95 가중 평균이면 (20 + 1500) / 2 = 760ms지만, 전체 2000건 중 상위 5%는 모두 1500ms 요청이다.
+        assertThat(result.getServiceMetrics().getLatencyP95()).isCloseTo(1_500, withinPercentage(1.1));
+        assertThat(result.getServiceMetrics().getLatencyP50()).isCloseTo(20, withinPercentage(1.1));
+    }
+
+    @Test
+    @DisplayName("상위 라우트 조회는 서비스/라우트 축만 읽고, 둘 다 비어 있을 때만 consumer 축으로 서비스 메트릭을 대체한다")
+    void shouldReadOnlyRequiredAxesForTopRoutesView() {
+        String serviceId = "svc_01";
+        given(managedServiceRepository.existsById(serviceId)).willReturn(true);
+        given(metricPointRepository.findServiceAxis(org.mockito.ArgumentMatchers.eq(serviceId), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any()))
+            .willReturn(List.of());
+        given(metricPointRepository.findRouteAxis(org.mockito.ArgumentMatchers.eq(serviceId), org.mockito.ArgumentMatchers.<Instant>any(), org.mockito.ArgumentMatchers.any()))
+            .willReturn(List.of());
+        given(metricPointRepository.findConsumerAxis(org.mockito.ArgumentMatchers.eq(serviceId), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any()))
+            .willReturn(
+                List.of(
+                    MetricPoint.newPoint(serviceId, null, "csm_a", Instant.parse("2026-02-27T01:00:00Z"), 40, 55, 140, 0.6, 0.2),
+                    MetricPoint.newPoint(serviceId, null, "csm_b", Instant.parse("2026-02-27T01:00:00Z"), 60, 65, 200, 0.8, 0.5)
+                )
+            );
+
+        QueryServiceMetricsResult result = metricQueryService.queryServiceMetrics(
+            QueryServiceMetricsCommand.builder()
+                .serviceId(serviceId)
+                .window(MetricWindow.LAST_5_MINUTES)
+                .view(MetricQueryView.TOP_ROUTES)
+                .build()
+        );
+
+        assertThat(result.getServiceMetrics().getRps()).isEqualTo(50.0);
+        assertThat(result.getTopRoutes()).isEmpty();
+        assertThat(result.getConsumerMetrics()).isEmpty();
+        then(metricPointRepository).should(org.mockito.Mockito.never())
+            .findByServiceIdAndWindow(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any());
+    }
 }
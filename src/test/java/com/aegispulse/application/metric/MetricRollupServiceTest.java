@@ -0,0 +1,145 @@
+package com.aegispulse.application.metric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import com.aegispulse.domain.metric.model.MetricPoint;
+import com.aegispulse.domain.metric.model.MetricRollup;
+import com.aegispulse.domain.metric.model.MetricRollupTier;
+import com.aegispulse.domain.metric.model.MetricRollupWatermark;
+import com.aegispulse.domain.metric.repository.MetricPointRepository;
+import com.aegispulse.domain.metric.repository.MetricRollupWatermarkRepository;
+import com.aegispulse.infra.persistence.metric.repository.MetricPointRepositoryAdapter;
+import com.aegispulse.infra.persistence.metric.repository.MetricRollupRepositoryAdapter;
+import com.aegispulse.infra.persistence.metric.repository.MetricRollupWatermarkRepositoryAdapter;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({
+    MetricPointRepositoryAdapter.class,
+    MetricRollupRepositoryAdapter.class,
+    MetricRollupWatermarkRepositoryAdapter.class,
+    MetricRollupProperties.class,
+    MetricRollupService.class,
+    MetricRollupQueryPlanner.class
+})
+class MetricRollupServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-27T03:00:30Z");
+
+    @Autowired
+    private MetricPointRepository metricPointRepository;
+
+    @Autowired
+    private MetricRollupWatermarkRepository metricRollupWatermarkRepository;
+
+    @Autowired
+    private MetricRollupService metricRollupService;
+
+    @Autowired
+    private MetricRollupQueryPlanner metricRollupQueryPlanner;
+
+    @Test
+    @DisplayName("닫힌 버킷까지 5분/1시간 롤업을 만들고 진행 위치를 저장한다")
+    void shouldRollUpClosedBucketsAndAdvanceWatermarks() {
+        metricPointRepository.upsertAll(minutePoints("svc_01", null, Instant.parse("2026-02-27T00:50:00Z"), 130));
+
+        metricRollupService.rollUpAt(NOW);
+
+        // 지연 유예 2분을 뺀 02:58:30 기준으로 5분 버킷은 02:55, 1시간 버킷은 02:00까지 닫힌다.
+        assertThat(metricRollupWatermarkRepository.findByTier(MetricRollupTier.FIVE_MINUTES))
+            .map(MetricRollupWatermark::getWatermark)
+            .contains(Instant.parse("2026-02-27T02:55:00Z"));
+        assertThat(metricRollupWatermarkRepository.findByTier(MetricRollupTier.ONE_HOUR))
+            .map(MetricRollupWatermark::getWatermark)
+            .contains(Instant.parse("2026-02-27T02:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("롤업 조합으로 읽은 합계는 같은 구간 원본 포인트 합계와 일치한다")
+    void shouldMatchRawTotalsWhenReadThroughPlanner() {
+        Instant firstMinute = Instant.parse("2026-02-27T00:50:00Z");
+        metricPointRepository.upsertAll(minutePoints("svc_01", null, firstMinute, 130));
+        metricPointRepository.upsertAll(minutePoints("svc_01", "rte_a", firstMinute, 130));
+        metricRollupService.rollUpAt(NOW);
+
+        Instant from = Instant.parse("2026-02-27T00:57:30Z");
+        List<MetricRollup> pieces = metricRollupQueryPlanner.read("svc_01", from, NOW);
+        List<MetricPoint> raw = metricPointRepository.findByServiceIdAndWindow("svc_01", from, NOW);
+
+        assertThat(pieces).extracting(MetricRollup::getTier).contains(MetricRollupTier.ONE_HOUR, MetricRollupTier.FIVE_MINUTES, null);
+        assertThat(pieces.stream().mapToLong(MetricRollup::getPointCount).sum()).isEqualTo(raw.size());
+        assertThat(pieces.stream().mapToDouble(MetricRollup::getRpsSum).sum())
+            .isCloseTo(raw.stream().mapToDouble(MetricPoint::getRps).sum(), offset(1e-6));
+        assertThat(pieces.stream().mapToDouble(MetricRollup::getLatencyP95WeightedSum).sum())
+            .isCloseTo(
+                raw.stream().mapToDouble(point -> point.getLatencyP95() * point.getRps()).sum(),
+                offset(1e-6)
+            );
+    }
+
+    @Test
+    @DisplayName("이미 롤업된 구간에 늦게 도착한 포인트는 다음 실행에서 해당 버킷을 다시 계산한다")
+    void shouldRecomputeBucketWhenLatePointArrives() {
+        metricPointRepository.upsertAll(minutePoints("svc_01", null, Instant.parse("2026-02-27T00:50:00Z"), 130));
+        metricRollupService.rollUpAt(NOW);
+
+        metricPointRepository.upsertAll(List.of(
+            MetricPoint.newPoint("svc_01", "rte_late", null, Instant.parse("2026-02-27T01:12:00Z"), 77, 10, 20, 0, 0)
+        ));
+        metricRollupService.rollUpAt(NOW.plus(Duration.ofMinutes(1)));
+
+        List<MetricRollup> pieces = metricRollupQueryPlanner.read(
+            "svc_01",
+            Instant.parse("2026-02-27T01:00:00Z"),
+            Instant.parse("2026-02-27T02:00:00Z")
+        );
+        assertThat(pieces)
+            .filteredOn(piece -> "rte_late".equals(piece.getRouteId()))
+            .singleElement()
+            .satisfies(piece -> {
+                assertThat(piece.getTier()).isEqualTo(MetricRollupTier.ONE_HOUR);
+                assertThat(piece.getRpsSum()).isEqualTo(77);
+            });
+    }
+
+    @Test
+    @DisplayName("원본 보존 기간이 지난 포인트는 롤업된 뒤에만 삭제한다")
+    void shouldExpireRawPointsOnlyAfterRollup() {
+        Instant oldMinute = NOW.minus(Duration.ofDays(3)).truncatedTo(ChronoUnit.HOURS);
+        metricPointRepository.upsertAll(minutePoints("svc_01", null, oldMinute, 10));
+
+        metricRollupService.rollUpAt(NOW);
+
+        assertThat(metricPointRepository.findByWindow(oldMinute, oldMinute.plus(Duration.ofHours(1)))).isEmpty();
+        List<MetricRollup> pieces = metricRollupQueryPlanner.read("svc_01", oldMinute, oldMinute.plus(Duration.ofHours(1)));
+        assertThat(pieces.stream().mapToLong(MetricRollup::getPointCount).sum()).isEqualTo(10);
+    }
+
+    private List<MetricPoint> minutePoints(String serviceId, String routeId, Instant firstMinute, int minutes) {
+        List<MetricPoint> points = new ArrayList<>(minutes);
+        for (int index = 0; index < minutes; index++) {
+            points.add(MetricPoint.newPoint(
+                serviceId,
+                routeId,
+                null,
+                firstMinute.plus(Duration.ofMinutes(index)),
+                10 + index % 7,
+                40 + index % 5,
+                120 + index % 11,
+                0.2,
+                0.1 * (index % 3)
+            ));
+        }
+        return points;
+    }
+}
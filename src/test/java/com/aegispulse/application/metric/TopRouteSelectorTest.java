@@ -0,0 +1,48 @@
+package com.aegispulse.application.metric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TopRouteSelectorTest {
+
+    private static final Comparator<Candidate> RANKING = Comparator.comparingDouble(Candidate::rps).reversed()
+        .thenComparing(Comparator.comparingDouble(Candidate::status5xxRate).reversed())
+        .thenComparing(Candidate::routeId);
+
+    @Test
+    @DisplayName("전체 정렬 후 상위 K개를 자른 결과와 같은 순서로 상위 라우트를 고른다")
+    void shouldSelectSameRoutesAsFullSort() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<Candidate> candidates = new ArrayList<>();
+        for (int index = 0; index < 2_000; index++) {
+            // 동점 처리 규칙까지 검증하도록 rps/5xx 값을 좁은 범위에서 뽑는다.
+            candidates.add(new Candidate("rte_" + index, random.nextInt(20), random.nextInt(3)));
+        }
+
+        TopRouteSelector<Candidate> selector = new TopRouteSelector<>(10);
+        candidates.forEach(candidate -> selector.offer(candidate.routeId(), candidate.rps(), candidate.status5xxRate(), candidate));
+
+        assertThat(selector.drainBestFirst())
+            .containsExactlyElementsOf(candidates.stream().sorted(RANKING).limit(10).toList());
+    }
+
+    @Test
+    @DisplayName("후보 수가 K보다 적으면 모든 후보를 순위대로 반환한다")
+    void shouldReturnAllCandidatesWhenFewerThanLimit() {
+        TopRouteSelector<String> selector = new TopRouteSelector<>(5);
+        selector.offer("rte_b", 10, 0.1, "rte_b");
+        selector.offer("rte_a", 10, 0.1, "rte_a");
+        selector.offer("rte_c", 30, 0.0, "rte_c");
+
+        assertThat(selector.drainBestFirst()).containsExactly("rte_c", "rte_a", "rte_b");
+    }
+
+    private record Candidate(String routeId, double rps, double status5xxRate) {
+    }
+}
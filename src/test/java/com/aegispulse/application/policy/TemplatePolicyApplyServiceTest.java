@@ -14,6 +14,7 @@ import static org.mockito.Mockito.times;
 import com.aegispulse.api.common.exception.AegisPulseException;
 import com.aegispulse.api.common.exception.ErrorCode;
 import com.aegispulse.application.audit.AuditLogWriteUseCase;
+import com.aegispulse.application.consumer.key.ConsumerAuthorizationSnapshotCache;
 import com.aegispulse.application.policy.command.ApplyTemplatePolicyCommand;
 import com.aegispulse.application.policy.result.ApplyTemplatePolicyResult;
 import com.aegispulse.domain.consumer.key.model.ConsumerKeyStatus;
@@ -76,6 +77,9 @@ class TemplatePolicyApplyServiceTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private ConsumerAuthorizationSnapshotCache consumerAuthorizationSnapshotCache;
+
     @InjectMocks
     private TemplatePolicyApplyService templatePolicyApplyService;
 
@@ -170,6 +174,7 @@ class TemplatePolicyApplyServiceTest {
         assertThat(saveCaptor.getValue().getVersion()).isEqualTo(1);
 
         then(policyDeploymentPort).should().apply(any(PolicyBinding.class));
+        then(consumerAuthorizationSnapshotCache).should().invalidateServiceAfterCommit("svc_01");
         then(auditLogWriteUseCase).should()
             .record(
                 AuditAction.TEMPLATE_APPLIED,
@@ -0,0 +1,46 @@
+package com.aegispulse.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.aegispulse.domain.service.repository.ManagedServiceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KnownServiceCacheTest {
+
+    @Mock
+    private ManagedServiceRepository managedServiceRepository;
+
+    @InjectMocks
+    private KnownServiceCache knownServiceCache;
+
+    @Test
+    @DisplayName("존재하지 않는 serviceId는 캐시하지 않아 이후 등록되면 다시 조회된다")
+    void shouldNotCacheMissingService() {
+        given(managedServiceRepository.existsById("svc_01")).willReturn(false, true);
+
+        assertThat(knownServiceCache.exists("svc_01")).isFalse();
+        assertThat(knownServiceCache.exists("svc_01")).isTrue();
+        assertThat(knownServiceCache.exists("svc_01")).isTrue();
+
+        then(managedServiceRepository).should(times(2)).existsById("svc_01");
+    }
+
+    @Test
+    @DisplayName("등록된 serviceId는 저장소 조회 없이 존재로 판단한다")
+    void shouldReturnRegisteredServiceWithoutRepositoryLookup() {
+        knownServiceCache.register("svc_01");
+
+        assertThat(knownServiceCache.exists("svc_01")).isTrue();
+
+        then(managedServiceRepository).shouldHaveNoInteractions();
+    }
+}
@@ -8,6 +8,7 @@ import static org.mockito.BDDMockito.then;
 
 import com.aegispulse.api.common.exception.AegisPulseException;
 import com.aegispulse.api.common.exception.ErrorCode;
+import com.aegispulse.application.consumer.key.ConsumerAuthorizationSnapshotCache;
 import com.aegispulse.application.service.command.RegisterServiceCommand;
 import com.aegispulse.application.service.result.RegisterServiceResult;
 import com.aegispulse.domain.service.model.ManagedService;
@@ -28,6 +29,12 @@ class ServiceRegistrationServiceTest {
     @Mock
     private ManagedServiceRepository managedServiceRepository;
 
+    @Mock
+    private KnownServiceCache knownServiceCache;
+
+    @Mock
+    private ConsumerAuthorizationSnapshotCache consumerAuthorizationSnapshotCache;
+
     @InjectMocks
     private ServiceRegistrationService serviceRegistrationService;
 
@@ -80,6 +87,8 @@ class ServiceRegistrationServiceTest {
         then(managedServiceRepository).should().save(serviceCaptor.capture());
         assertThat(serviceCaptor.getValue().getName()).isEqualTo("partner-payment-api");
         assertThat(serviceCaptor.getValue().getEnvironment()).isEqualTo(ServiceEnvironment.STAGE);
+        then(knownServiceCache).should().register(result.getServiceId());
+        then(consumerAuthorizationSnapshotCache).should().invalidateServiceAfterCommit(result.getServiceId());
     }
 
     @Test
@@ -102,5 +111,6 @@ class ServiceRegistrationServiceTest {
                 AegisPulseException aegisPulseException = (AegisPulseException) exception;
                 assertThat(aegisPulseException.getErrorCode()).isEqualTo(ErrorCode.SERVICE_DUPLICATED);
             });
+        then(knownServiceCache).shouldHaveNoInteractions();
     }
 }
@@ -0,0 +1,72 @@
+package com.aegispulse.domain.metric.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencySketchTest {
+
+    @Test
+    @DisplayName("인코딩 후 복원한 스케치는 같은 분위수를 반환한다")
+    void shouldRoundTripEncodedBytes() {
+        LatencySketch sketch = sketchOf(10, 20, 30, 40, 2_000);
+
+        LatencySketch restored = LatencySketch.fromBytes(sketch.toBytes());
+
+        assertThat(restored.getTotalCount()).isEqualTo(5);
+        assertThat(quantile(restored, 0.5)).isEqualTo(quantile(sketch, 0.5));
+        assertThat(sketch.toBytes().length).isLessThan(32);
+    }
+
+    @Test
+    @DisplayName("병합한 스케치의 분위수는 분 단위 분위수 평균이 아닌 전체 분포의 분위수와 상대 오차 범위 안에서 일치한다")
+    void shouldComputeWindowQuantileFromMergedSketches() {
+        // 1분 동안은 모두 빠르고 다음 1분 동안 5%만 느린 경우, 분 단위 p95 평균은 구간 p95를 크게 과소평가한다.
+        LatencySketchAccumulator fastMinute = new LatencySketchAccumulator();
+        fastMinute.record(20, 1_000);
+        LatencySketchAccumulator slowMinute = new LatencySketchAccumulator();
+        slowMinute.record(20, 800);
+        slowMinute.record(1_500, 200);
+
+        LatencySketchAccumulator window = new LatencySketchAccumulator();
+        window.add(fastMinute.toSketch());
+        window.add(slowMinute.toSketch());
+
+        assertThat(window.getTotalCount()).isEqualTo(2_000);
+        assertThat(window.quantile(0.5)).isCloseTo(20, withinPercentage(1.1));
+        assertThat(window.quantile(0.95)).isCloseTo(1_500, withinPercentage(1.1));
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 바이트는 IllegalArgumentException으로 거절한다")
+    void shouldRejectMalformedBytes() {
+        assertThatThrownBy(() -> LatencySketch.fromBytes(new byte[] {9, 0}))
+            .isInstanceOf(IllegalArgumentException.class);
+        // 버킷 1개를 선언했지만 인덱스/카운트가 없다.
+        assertThatThrownBy(() -> LatencySketch.fromBytes(new byte[] {1, 1}))
+            .isInstanceOf(IllegalArgumentException.class);
+        // 인덱스가 버킷 범위를 넘는다(2000 = varint 0xD0 0x0F).
+        assertThatThrownBy(() -> LatencySketch.fromBytes(new byte[] {1, 1, (byte) 0xD0, 0x0F, 1}))
+            .isInstanceOf(IllegalArgumentException.class);
+        // 본문 뒤에 남는 바이트가 있다.
+        assertThatThrownBy(() -> LatencySketch.fromBytes(new byte[] {1, 0, 7}))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private LatencySketch sketchOf(double... latenciesMs) {
+        LatencySketchAccumulator accumulator = new LatencySketchAccumulator();
+        for (double latencyMs : latenciesMs) {
+            accumulator.record(latencyMs, 1);
+        }
+        return accumulator.toSketch();
+    }
+
+    private double quantile(LatencySketch sketch, double q) {
+        LatencySketchAccumulator accumulator = new LatencySketchAccumulator();
+        accumulator.add(sketch);
+        return accumulator.quantile(q);
+    }
+}
@@ -0,0 +1,74 @@
+package com.aegispulse.domain.metric.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MetricRollupTest {
+
+    private static final Instant WINDOW = Instant.parse("2026-02-27T00:00:00Z");
+
+    @Test
+    @DisplayName("여러 롤업을 한 번에 합치면 합계를 더하고 스케치는 모든 관측값을 담는다")
+    void shouldSumRollupsAndMergeSketches() {
+        List<MetricRollup> rollups = List.of(
+            rollupOf(0, 10, 40, sketchOf(20, 30)),
+            rollupOf(1, 20, 60, sketchOf(25)),
+            rollupOf(2, 5, 900, sketchOf(1_500, 1_600))
+        );
+
+        MetricRollup merged = MetricRollup.mergeAll(rollups, new LatencySketchAccumulator());
+
+        assertThat(merged.getBucketStart()).isEqualTo(WINDOW);
+        assertThat(merged.getPointCount()).isEqualTo(3);
+        assertThat(merged.getRpsSum()).isEqualTo(35.0);
+        assertThat(merged.getLatencyP95WeightedSum()).isEqualTo(10 * 40 + 20 * 60 + 5 * 900.0);
+        assertThat(merged.getLatencySketch().getTotalCount()).isEqualTo(5);
+        assertThat(merged.getLatencySketch().toBytes()).isEqualTo(sketchOf(20, 30, 25, 1_500, 1_600).toBytes());
+    }
+
+    @Test
+    @DisplayName("스케치가 없는 롤업이 섞이면 합친 결과에도 스케치를 두지 않고, 재사용한 누적기 값이 다음 키로 새지 않는다")
+    void shouldDropSketchWhenAnyIsMissingAndResetAccumulator() {
+        LatencySketchAccumulator accumulator = new LatencySketchAccumulator();
+
+        MetricRollup partial = MetricRollup.mergeAll(
+            List.of(rollupOf(0, 10, 40, sketchOf(20)), rollupOf(1, 10, 40, null)),
+            accumulator
+        );
+        MetricRollup next = MetricRollup.mergeAll(
+            List.of(rollupOf(0, 10, 40, sketchOf(50)), rollupOf(1, 10, 40, sketchOf(60))),
+            accumulator
+        );
+
+        assertThat(partial.getLatencySketch()).isNull();
+        assertThat(next.getLatencySketch().getTotalCount()).isEqualTo(2);
+    }
+
+    private MetricRollup rollupOf(int minute, double rps, double latencyP95, LatencySketch sketch) {
+        MetricPoint point = MetricPoint.newPoint(
+            "svc_01",
+            "rte_01",
+            null,
+            WINDOW.plusSeconds(60L * minute),
+            rps,
+            20,
+            latencyP95,
+            0.1,
+            0.05,
+            sketch
+        );
+        return MetricRollup.fromPoint(MetricRollupTier.FIVE_MINUTES, point);
+    }
+
+    private LatencySketch sketchOf(double... latenciesMs) {
+        LatencySketchAccumulator accumulator = new LatencySketchAccumulator();
+        for (double latencyMs : latenciesMs) {
+            accumulator.record(latencyMs, 1);
+        }
+        return accumulator.toSketch();
+    }
+}
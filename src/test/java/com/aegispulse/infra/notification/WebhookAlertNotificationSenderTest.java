@@ -0,0 +1,96 @@
+package com.aegispulse.infra.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.aegispulse.application.alert.AlertNotificationProperties;
+import com.aegispulse.domain.alert.model.AlertNotification;
+import com.aegispulse.domain.alert.model.AlertNotificationStatus;
+import com.aegispulse.domain.alert.model.AlertState;
+import com.aegispulse.domain.alert.model.AlertType;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+class WebhookAlertNotificationSenderTest {
+
+    private HttpServer server;
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+    private final AtomicInteger responseStatus = new AtomicInteger(204);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 로컬 웹훅 수신 스텁. 요청 본문을 기록하고 지정한 상태 코드로 응답한다.
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hooks", exchange -> {
+            receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(responseStatus.get(), -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("채널 묶음을 JSON 배열 하나로 보내고 payload는 원본 JSON 그대로 포함한다")
+    void shouldPostBatchAsJsonArray() {
+        WebhookAlertNotificationSender sender = newSender();
+
+        sender.send(List.of(notification("ntf_01"), notification("ntf_02")));
+
+        assertThat(receivedBody.get())
+            .startsWith("[{\"notificationId\":\"ntf_01\"")
+            .contains("\"payload\":{\"transition\":\"OPEN\"}")
+            .contains("\"notificationId\":\"ntf_02\"");
+    }
+
+    @Test
+    @DisplayName("수신 측이 2xx가 아닌 상태로 응답하면 예외로 실패를 알린다")
+    void shouldFailWhenReceiverRejects() {
+        responseStatus.set(503);
+        WebhookAlertNotificationSender sender = newSender();
+
+        assertThatThrownBy(() -> sender.send(List.of(notification("ntf_01"))))
+            .isInstanceOf(RestClientException.class);
+    }
+
+    private WebhookAlertNotificationSender newSender() {
+        AlertNotificationProperties properties = new AlertNotificationProperties();
+        properties.getWebhook().setUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/hooks");
+        return new WebhookAlertNotificationSender(RestClient.builder(), properties);
+    }
+
+    private AlertNotification notification(String id) {
+        Instant createdAt = Instant.parse("2026-02-27T02:00:00Z");
+        return AlertNotification.restore(
+            id,
+            "alt_01",
+            "webhook",
+            AlertType.SERVICE_5XX_RATE_HIGH,
+            "svc_01",
+            AlertState.OPEN,
+            "{\"transition\":\"OPEN\"}",
+            AlertNotificationStatus.PENDING,
+            0,
+            createdAt,
+            createdAt,
+            null,
+            null
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package com.aegispulse.infra.persistence.alert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aegispulse.domain.alert.model.Alert;
+import com.aegispulse.domain.alert.model.AlertNotification;
+import com.aegispulse.domain.alert.model.AlertType;
+import com.aegispulse.domain.alert.repository.AlertNotificationRepository;
+import com.aegispulse.infra.persistence.alert.repository.AlertNotificationRepositoryAdapter;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(AlertNotificationRepositoryAdapter.class)
+class AlertNotificationRepositoryAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-27T02:00:00Z");
+
+    @Autowired
+    private AlertNotificationRepository alertNotificationRepository;
+
+    @Test
+    @DisplayName("발송 시각이 된 PENDING 항목만 오래된 순으로 조회한다")
+    void shouldFindOnlyDuePendingNotifications() {
+        List<AlertNotification> saved = alertNotificationRepository.saveAll(List.of(
+            AlertNotification.newPending(alert("alt_01"), "webhook", NOW.minusSeconds(30)),
+            AlertNotification.newPending(alert("alt_02"), "webhook", NOW.minusSeconds(60)),
+            AlertNotification.newPending(alert("alt_03"), "webhook", NOW.minusSeconds(90))
+        ));
+        alertNotificationRepository.saveAll(List.of(
+            saved.get(0).markSent(NOW),
+            saved.get(1).markFailed("timeout", NOW.plusSeconds(5), 8)
+        ));
+
+        List<AlertNotification> due = alertNotificationRepository.findDue(NOW, 10);
+
+        assertThat(due).extracting(AlertNotification::getAlertId).containsExactly("alt_03");
+        assertThat(due.get(0).getId()).startsWith("ntf_");
+    }
+
+    private Alert alert(String id) {
+        return Alert.newOpenAlert(id, AlertType.SERVICE_5XX_RATE_HIGH, "svc_01", NOW, "{\"transition\":\"OPEN\"}");
+    }
+}
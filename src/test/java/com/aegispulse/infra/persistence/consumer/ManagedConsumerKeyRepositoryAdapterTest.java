@@ -39,4 +39,16 @@ class ManagedConsumerKeyRepositoryAdapterTest {
         assertThat(activeKeys.getFirst().getId()).isEqualTo("key_01aaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
         assertThat(activeKeys.getFirst().getStatus()).isEqualTo(ConsumerKeyStatus.ACTIVE);
     }
+
+    @Test
+    @DisplayName("키 ID로 단건 조회하고 없는 ID는 빈 결과를 반환한다")
+    void shouldFindKeyById() {
+        managedConsumerKeyRepository.save(
+            ManagedConsumerKey.newActiveKey("key_03cccccccccccccccccccccccccccccc", "csm_01", "pbkdf2$active")
+        );
+
+        assertThat(managedConsumerKeyRepository.findById("key_03cccccccccccccccccccccccccccccc"))
+            .hasValueSatisfying(key -> assertThat(key.getConsumerId()).isEqualTo("csm_01"));
+        assertThat(managedConsumerKeyRepository.findById("key_missing")).isEmpty();
+    }
 }
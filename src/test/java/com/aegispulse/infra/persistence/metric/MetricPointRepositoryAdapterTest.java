@@ -66,4 +66,68 @@ class MetricPointRepositoryAdapterTest {
         assertThat(points).hasSize(1);
         assertThat(points.getFirst().getWindowStart()).isEqualTo(Instant.parse("2026-02-27T01:00:00Z"));
     }
+
+    @Test
+    @DisplayName("한 배치에 신규/기존/중복 자연키가 섞여 있어도 키당 한 행으로 반영한다")
+    void shouldUpsertMixedBatchWithSingleRowPerNaturalKey() {
+        Instant windowStart = Instant.parse("2026-02-27T02:00:00Z");
+        metricPointRepository.upsertAll(
+            List.of(
+                MetricPoint.newPoint("svc_03", null, null, windowStart, 10, 20, 30, 0.1, 0.05)
+            )
+        );
+
+        metricPointRepository.upsertAll(
+            List.of(
+                MetricPoint.newPoint("svc_03", null, null, windowStart, 15, 25, 35, 0.2, 0.06),
+                MetricPoint.newPoint("svc_03", "rte_01", null, windowStart, 5, 10, 20, 0.1, 0.01),
+                MetricPoint.newPoint("svc_03", "rte_01", null, windowStart, 6, 11, 21, 0.1, 0.02)
+            )
+        );
+
+        List<MetricPoint> points = metricPointRepository.findByServiceIdAndWindow(
+            "svc_03",
+            Instant.parse("2026-02-27T01:59:00Z"),
+            Instant.parse("2026-02-27T02:01:00Z")
+        );
+
+        assertThat(points).hasSize(2);
+        assertThat(points)
+            .filteredOn(point -> point.getRouteId() == null)
+            .singleElement()
+            .satisfies(point -> assertThat(point.getRps()).isEqualTo(15));
+        assertThat(points)
+            .filteredOn(point -> "rte_01".equals(point.getRouteId()))
+            .singleElement()
+            .satisfies(point -> assertThat(point.getRps()).isEqualTo(6));
+    }
+
+    @Test
+    @DisplayName("축 조회는 요청한 축의 포인트만 windowStart 오름차순으로 반환한다")
+    void shouldReturnOnlyRequestedAxisPoints() {
+        Instant first = Instant.parse("2026-02-27T03:00:00Z");
+        Instant second = Instant.parse("2026-02-27T03:01:00Z");
+        metricPointRepository.upsertAll(
+            List.of(
+                MetricPoint.newPoint("svc_04", null, null, second, 20, 20, 30, 0.1, 0.05),
+                MetricPoint.newPoint("svc_04", null, null, first, 10, 20, 30, 0.1, 0.05),
+                MetricPoint.newPoint("svc_04", "rte_01", null, first, 5, 10, 20, 0.1, 0.01),
+                MetricPoint.newPoint("svc_04", "rte_02", null, first, 6, 10, 20, 0.1, 0.01),
+                MetricPoint.newPoint("svc_04", null, "csm_01", first, 7, 10, 20, 0.1, 0.01),
+                MetricPoint.newPoint("svc_04", "rte_01", "csm_01", first, 8, 10, 20, 0.1, 0.01)
+            )
+        );
+        Instant from = Instant.parse("2026-02-27T02:59:00Z");
+        Instant to = Instant.parse("2026-02-27T03:05:00Z");
+
+        assertThat(metricPointRepository.findServiceAxis("svc_04", from, to))
+            .extracting(MetricPoint::getWindowStart)
+            .containsExactly(first, second);
+        assertThat(metricPointRepository.findRouteAxis("svc_04", from, to))
+            .extracting(MetricPoint::getRouteId)
+            .containsExactlyInAnyOrder("rte_01", "rte_02");
+        assertThat(metricPointRepository.findConsumerAxis("svc_04", from, to))
+            .singleElement()
+            .satisfies(point -> assertThat(point.getConsumerId()).isEqualTo("csm_01"));
+    }
 }
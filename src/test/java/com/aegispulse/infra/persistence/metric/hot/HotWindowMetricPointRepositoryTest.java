@@ -0,0 +1,170 @@
+package com.aegispulse.infra.persistence.metric.hot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.aegispulse.domain.metric.model.MetricPoint;
+import com.aegispulse.infra.persistence.metric.repository.MetricPointRepositoryAdapter;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HotWindowMetricPointRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-27T02:00:30Z");
+
+    @Mock
+    private MetricPointRepositoryAdapter delegate;
+
+    private HotWindowMetricPointRepository repository;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        MetricHotStoreProperties properties = new MetricHotStoreProperties();
+        properties.setRetention(Duration.ofHours(2));
+        clock = new MutableClock(NOW);
+        repository = new HotWindowMetricPointRepository(delegate, properties, clock);
+    }
+
+    @Test
+    @DisplayName("최초 조회에서만 DB를 적재하고 이후 쓰기/조회는 메모리 링에서 처리한다")
+    void shouldWarmUpOnceAndServeFromMemory() {
+        MetricPoint persisted = point(null, "2026-02-27T01:58:00Z", 10);
+        given(delegate.findByServiceIdAndWindow(eq("svc_01"), any(Instant.class), any(Instant.class)))
+            .willReturn(List.of(persisted));
+
+        List<MetricPoint> first = repository.findByServiceIdAndWindow("svc_01", NOW.minus(Duration.ofMinutes(5)), NOW);
+        repository.upsertAll(List.of(point("rte_01", "2026-02-27T01:59:00Z", 20), point(null, "2026-02-27T01:58:00Z", 30)));
+        List<MetricPoint> second = repository.findByServiceIdAndWindow("svc_01", NOW.minus(Duration.ofMinutes(5)), NOW);
+
+        assertThat(first).singleElement().satisfies(point -> assertThat(point.getRps()).isEqualTo(10));
+        assertThat(second).extracting(MetricPoint::getRps).containsExactly(30.0, 20.0);
+        assertThat(second.get(1).getRouteId()).isEqualTo("rte_01");
+        assertThat(second.get(1).getWindowStart()).isEqualTo(Instant.parse("2026-02-27T01:59:00Z"));
+        then(delegate).should(times(1)).findByServiceIdAndWindow(eq("svc_01"), any(Instant.class), any(Instant.class));
+        then(delegate).should().upsertAll(any());
+    }
+
+    @Test
+    @DisplayName("보존 구간보다 오래된 구간을 포함한 조회는 JPA로 위임한다")
+    void shouldDelegateWhenWindowExceedsRetention() {
+        Instant from = NOW.minus(Duration.ofHours(24));
+        given(delegate.findByServiceIdAndWindow("svc_01", from, NOW)).willReturn(List.of());
+
+        repository.findByServiceIdAndWindow("svc_01", from, NOW);
+
+        then(delegate).should().findByServiceIdAndWindow("svc_01", from, NOW);
+    }
+
+    @Test
+    @DisplayName("조회 시작 시각이 분 경계가 아니면 해당 분 포인트는 제외한다")
+    void shouldExcludeMinuteBeforeUnalignedFrom() {
+        given(delegate.findByServiceIdAndWindow(eq("svc_01"), any(Instant.class), any(Instant.class)))
+            .willReturn(List.of(point(null, "2026-02-27T01:55:00Z", 1), point(null, "2026-02-27T01:56:00Z", 2)));
+
+        List<MetricPoint> points = repository.findByServiceIdAndWindow("svc_01", NOW.minus(Duration.ofMinutes(5)), NOW);
+
+        assertThat(points).extracting(MetricPoint::getRps).containsExactly(2.0);
+    }
+
+    @Test
+    @DisplayName("축 조회는 메모리 링 중 해당 축 링만 읽는다")
+    void shouldServeAxisQueriesFromMatchingRings() {
+        given(delegate.findByServiceIdAndWindow(eq("svc_01"), any(Instant.class), any(Instant.class)))
+            .willReturn(List.of(
+                point(null, "2026-02-27T01:58:00Z", 1),
+                point("rte_01", "2026-02-27T01:58:00Z", 2),
+                point("rte_02", "2026-02-27T01:59:00Z", 3),
+                MetricPoint.newPoint("svc_01", null, "csm_01", Instant.parse("2026-02-27T01:59:00Z"), 4, 20, 30, 0.1, 0.05)
+            ));
+        Instant from = NOW.minus(Duration.ofMinutes(5));
+
+        assertThat(repository.findServiceAxis("svc_01", from, NOW)).extracting(MetricPoint::getRps).containsExactly(1.0);
+        assertThat(repository.findRouteAxis("svc_01", from, NOW)).extracting(MetricPoint::getRps).containsExactly(2.0, 3.0);
+        assertThat(repository.findConsumerAxis("svc_01", from, NOW)).extracting(MetricPoint::getRps).containsExactly(4.0);
+        then(delegate).should(times(1)).findByServiceIdAndWindow(eq("svc_01"), any(Instant.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("보존 구간 동안 조회/쓰기가 없던 서비스는 제거하고 다음 조회에서 다시 적재한다")
+    void shouldEvictIdleSeriesAndWarmUpAgain() {
+        given(delegate.findByServiceIdAndWindow(eq("svc_01"), any(Instant.class), any(Instant.class)))
+            .willReturn(List.of());
+        repository.findByServiceIdAndWindow("svc_01", NOW.minus(Duration.ofMinutes(5)), NOW);
+
+        clock.advance(Duration.ofHours(1));
+        repository.evictIdleSeries();
+        assertThat(repository.cachedServiceCount()).isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(61));
+        repository.evictIdleSeries();
+        assertThat(repository.cachedServiceCount()).isZero();
+
+        Instant later = clock.instant();
+        repository.findByServiceIdAndWindow("svc_01", later.minus(Duration.ofMinutes(5)), later);
+        then(delegate).should(times(2)).findByServiceIdAndWindow(eq("svc_01"), any(Instant.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("보존 구간 밖으로 밀려난 축 링은 제거하고 최근 기록이 있는 축 링은 유지한다")
+    void shouldEvictRingsOutsideRetention() {
+        ServiceMetricSeries series = new ServiceMetricSeries("svc_01", 126);
+        series.put(point("rte_old", "2026-02-27T01:58:00Z", 1));
+        series.put(point("rte_new", "2026-02-27T03:59:00Z", 2));
+
+        series.evictRingsOlderThan(ServiceMetricSeries.toEpochMinute(Instant.parse("2026-02-27T02:01:00Z")));
+
+        List<MetricPoint> points = series.read(
+            ServiceMetricSeries.toEpochMinute(Instant.parse("2026-02-27T01:50:00Z")),
+            ServiceMetricSeries.toEpochMinute(Instant.parse("2026-02-27T04:00:00Z"))
+        );
+        assertThat(points).extracting(MetricPoint::getRouteId).containsExactly("rte_new");
+    }
+
+    private MetricPoint point(String routeId, String windowStart, double rps) {
+        return MetricPoint.newPoint("svc_01", routeId, null, Instant.parse(windowStart), rps, 20, 30, 0.1, 0.05);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}